@@ -0,0 +1,86 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.benchmark;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipselabs.garbagecat.domain.JvmRun;
+import org.eclipselabs.garbagecat.service.GcManager;
+import org.eclipselabs.garbagecat.util.Constants;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>
+ * {@link GcManager#getJvmRun(String, int)}, which calls {@link JvmRun#doAnalysis()}.
+ * </p>
+ * 
+ * <p>
+ * The analysis is added to the stored data, so the logging is stored again before each invocation.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+public class AnalysisBenchmark {
+
+    @Param({ "dataset57.txt", "dataset259.txt", "dataset282.txt" })
+    private String dataset;
+
+    /**
+     * The stored logging.
+     */
+    private GcManager gcManager;
+
+    /**
+     * The preprocessed logging.
+     */
+    private List<String> logLines;
+
+    @Param({ "10000" })
+    private int size;
+
+    @Benchmark
+    public JvmRun getJvmRun() {
+        return gcManager.getJvmRun(null, Constants.DEFAULT_BOTTLENECK_THROUGHPUT_THRESHOLD);
+    }
+
+    @Setup
+    public void setup() throws IOException {
+        logLines = BenchmarkData.preprocessed(dataset, size);
+    }
+
+    @Setup(Level.Invocation)
+    public void store() {
+        gcManager = new GcManager();
+        gcManager.store(logLines.iterator(), false);
+    }
+}
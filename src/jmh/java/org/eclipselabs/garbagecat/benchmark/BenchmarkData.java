@@ -0,0 +1,206 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.benchmark;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipselabs.garbagecat.service.GcManager;
+import org.eclipselabs.garbagecat.util.jdk.JdkRegEx;
+
+/**
+ * <p>
+ * Benchmark input. Synthetic logging is created by repeating a <code>src/test/resources/data</code> fixture to the
+ * requested number of lines, shifting the leading datestamps and timestamps of each repetition past the end of the
+ * prior one so the scaled logging is in timestamp order.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+final class BenchmarkData {
+
+    /**
+     * Fixtures by preprocessor:
+     * 
+     * <pre>
+     * dataset223: ApplicationStoppedTimePreprocessAction
+     * dataset141: CmsPreprocessAction
+     * dataset57: G1PreprocessAction
+     * dataset209: ParallelPreprocessAction
+     * dataset17: SerialPreprocessAction
+     * dataset259: ShenandoahPreprocessAction
+     * dataset283: UnifiedPreprocessAction
+     * </pre>
+     */
+    static final String[] DATASETS = { "dataset223.txt", "dataset141.txt", "dataset57.txt", "dataset209.txt",
+            "dataset17.txt", "dataset259.txt", "dataset283.txt" };
+
+    /**
+     * Datestamp format. For example: 2016-10-18T10:23:45.123-0400
+     */
+    private static final DateTimeFormatter DATESTAMP_FORMAT = DateTimeFormatter
+            .ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSZ");
+
+    /**
+     * A datestamp or a timestamp/uptime decorator. For example:
+     * 
+     * <pre>
+     * 2016-10-18T10:23:45.123-0400
+     * 2.185:
+     * [0.838s]
+     * </pre>
+     */
+    private static final Pattern PATTERN_TIME = Pattern.compile("(?<datestamp>" + JdkRegEx.DATESTAMP
+            + ")|(?<seconds>\\d+)[\\.,](?<millis>\\d{3})(?=s\\]|: )");
+
+    /**
+     * Separators between leading datestamps and timestamps.
+     */
+    private static final String SEPARATORS = " :[]";
+
+    /**
+     * @return The names of all fixtures.
+     */
+    static List<String> fixtures() {
+        List<String> fixtures = new ArrayList<String>();
+        // Fixtures are numbered, with gaps
+        for (int i = 1, missing = 0; missing < 100; i++) {
+            String dataset = "dataset" + i + ".txt";
+            if (BenchmarkData.class.getClassLoader().getResource("data/" + dataset) != null) {
+                fixtures.add(dataset);
+                missing = 0;
+            } else {
+                missing++;
+            }
+        }
+        return fixtures;
+    }
+
+    /**
+     * @param dataset
+     *            The fixture name (e.g. <code>dataset57.txt</code>).
+     * @return The fixture logging.
+     * @throws IOException
+     *             if the fixture cannot be read.
+     */
+    static List<String> load(String dataset) throws IOException {
+        InputStream in = BenchmarkData.class.getClassLoader().getResourceAsStream("data/" + dataset);
+        if (in == null) {
+            throw new IllegalArgumentException("Fixture not found: " + dataset);
+        }
+        List<String> lines = new ArrayList<String>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines.add(line);
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * @param dataset
+     *            The fixture name (e.g. <code>dataset57.txt</code>).
+     * @param size
+     *            The number of lines.
+     * @return The scaled and preprocessed fixture logging.
+     * @throws IOException
+     *             if the fixture cannot be read.
+     */
+    static List<String> preprocessed(String dataset, int size) throws IOException {
+        return new GcManager().preprocess(scale(load(dataset), size));
+    }
+
+    /**
+     * @param lines
+     *            The logging.
+     * @param size
+     *            The number of lines.
+     * @return The logging repeated to the number of lines, with the leading datestamps and timestamps of each
+     *         repetition shifted past the end of the prior repetition.
+     */
+    static List<String> scale(List<String> lines, int size) {
+        if (lines.isEmpty()) {
+            throw new IllegalArgumentException("No lines to scale.");
+        }
+        // maximum timestamp, minimum datestamp, maximum datestamp
+        long[] times = { 0, Long.MAX_VALUE, 0 };
+        for (String line : lines) {
+            shift(line, 0, times);
+        }
+        // Leave a 1 second gap between repetitions
+        long span = Math.max(times[0], times[1] == Long.MAX_VALUE ? 0 : times[2] - times[1]) + 1000;
+        List<String> scaled = new ArrayList<String>(size);
+        for (int i = 0; scaled.size() < size; i++) {
+            String line = lines.get(i % lines.size());
+            long offset = (i / lines.size()) * span;
+            scaled.add(offset > 0 ? shift(line, offset, times) : line);
+        }
+        return scaled;
+    }
+
+    /**
+     * @param line
+     *            The log line.
+     * @param offset
+     *            The milliseconds to add to the leading datestamps and timestamps.
+     * @param times
+     *            The maximum timestamp, minimum datestamp, and maximum datestamp seen (milliseconds), updated.
+     * @return The log line with the leading datestamps and timestamps shifted.
+     */
+    private static String shift(String line, long offset, long[] times) {
+        StringBuilder shifted = new StringBuilder(line.length() + 8);
+        Matcher matcher = PATTERN_TIME.matcher(line);
+        int position = 0;
+        while (matcher.find(position)) {
+            int start = position;
+            while (start < matcher.start() && SEPARATORS.indexOf(line.charAt(start)) >= 0) {
+                start++;
+            }
+            if (start != matcher.start()) {
+                break;
+            }
+            shifted.append(line, position, start);
+            if (matcher.group("datestamp") != null) {
+                OffsetDateTime datestamp = OffsetDateTime.parse(matcher.group("datestamp"), DATESTAMP_FORMAT);
+                long millis = datestamp.toInstant().toEpochMilli();
+                times[1] = Math.min(times[1], millis);
+                times[2] = Math.max(times[2], millis);
+                shifted.append(datestamp.plus(offset, ChronoUnit.MILLIS).format(DATESTAMP_FORMAT));
+            } else {
+                long millis = Long.parseLong(matcher.group("seconds")) * 1000 + Long.parseLong(matcher.group("millis"));
+                times[0] = Math.max(times[0], millis);
+                millis += offset;
+                shifted.append(millis / 1000).append('.').append(String.format("%03d", millis % 1000));
+            }
+            position = matcher.end();
+        }
+        return shifted.append(line, position, line.length()).toString();
+    }
+
+    private BenchmarkData() {
+        super();
+    }
+}
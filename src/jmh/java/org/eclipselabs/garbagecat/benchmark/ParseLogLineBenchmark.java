@@ -0,0 +1,126 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.benchmark;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipselabs.garbagecat.domain.LogEvent;
+import org.eclipselabs.garbagecat.domain.NullEvent;
+import org.eclipselabs.garbagecat.domain.jdk.unified.UnifiedHeaderEvent;
+import org.eclipselabs.garbagecat.service.GcManager;
+import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
+import org.eclipselabs.garbagecat.util.jdk.JdkUtil.CollectorFamily;
+import org.eclipselabs.garbagecat.util.jdk.JdkUtil.EventType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * <p>
+ * {@link JdkUtil#parseLogLine(String, LogEvent, CollectorFamily)} by event type. The sample lines of the event type
+ * are the preprocessed lines of all fixtures identified as that event type, each parsed with the prior event and
+ * collector family in effect when it was identified.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5)
+@OperationsPerInvocation(ParseLogLineBenchmark.SAMPLE_SIZE)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+public class ParseLogLineBenchmark {
+
+    /**
+     * The number of lines parsed per invocation.
+     */
+    static final int SAMPLE_SIZE = 1000;
+
+    /**
+     * The collector family in effect for each sample line.
+     */
+    private CollectorFamily[] collectorFamilies;
+
+    @Param({ "APPLICATION_STOPPED_TIME", "CMS_CONCURRENT", "CMS_REMARK", "G1_YOUNG_PAUSE", "PAR_NEW",
+            "PARALLEL_COMPACTING_OLD", "PARALLEL_SCAVENGE", "SHENANDOAH_CONCURRENT", "UNIFIED_CONCURRENT",
+            "UNIFIED_G1_YOUNG_PAUSE", "UNIFIED_HEADER", "UNIFIED_SAFEPOINT", "UNIFIED_SHENANDOAH_FINAL_MARK",
+            "UNKNOWN", "Z_MARK_END" })
+    private EventType eventType;
+
+    /**
+     * The sample lines.
+     */
+    private String[] logLines;
+
+    /**
+     * The prior event for each sample line.
+     */
+    private LogEvent[] priorEvents;
+
+    @Benchmark
+    public void parseLogLine(Blackhole blackhole) {
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            blackhole.consume(JdkUtil.parseLogLine(logLines[i], priorEvents[i], collectorFamilies[i]));
+        }
+    }
+
+    @Setup
+    public void setup() throws IOException {
+        List<String> lines = new ArrayList<String>();
+        List<LogEvent> priors = new ArrayList<LogEvent>();
+        List<CollectorFamily> families = new ArrayList<CollectorFamily>();
+        for (String dataset : BenchmarkData.fixtures()) {
+            LogEvent priorEvent = new NullEvent();
+            CollectorFamily collectorFamily = CollectorFamily.UNKNOWN;
+            for (String logLine : new GcManager().preprocess(BenchmarkData.load(dataset))) {
+                LogEvent event = JdkUtil.parseLogLine(logLine, priorEvent, collectorFamily);
+                if (event.getEventType() == eventType) {
+                    lines.add(logLine);
+                    priors.add(priorEvent);
+                    families.add(collectorFamily);
+                }
+                if (event instanceof UnifiedHeaderEvent && ((UnifiedHeaderEvent) event).isGarbageCollector()) {
+                    collectorFamily = ((UnifiedHeaderEvent) event).getCollectorFamily();
+                }
+                priorEvent = event;
+            }
+        }
+        if (lines.isEmpty()) {
+            throw new IllegalStateException("No " + eventType + " lines in fixtures.");
+        }
+        logLines = new String[SAMPLE_SIZE];
+        priorEvents = new LogEvent[SAMPLE_SIZE];
+        collectorFamilies = new CollectorFamily[SAMPLE_SIZE];
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            logLines[i] = lines.get(i % lines.size());
+            priorEvents[i] = priors.get(i % priors.size());
+            collectorFamilies[i] = families.get(i % families.size());
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.benchmark;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipselabs.garbagecat.service.GcManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>
+ * {@link GcManager#preprocess(List)} by preprocessor. Each fixture exercises one preprocessor (see
+ * {@link BenchmarkData#DATASETS}).
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+public class PreprocessBenchmark {
+
+    @Param({ "dataset223.txt", "dataset141.txt", "dataset57.txt", "dataset209.txt", "dataset17.txt",
+            "dataset259.txt", "dataset283.txt" })
+    private String dataset;
+
+    /**
+     * The raw logging.
+     */
+    private List<String> logLines;
+
+    @Param({ "10000" })
+    private int size;
+
+    @Benchmark
+    public List<String> preprocess() {
+        return new GcManager().preprocess(logLines);
+    }
+
+    @Setup
+    public void setup() throws IOException {
+        logLines = BenchmarkData.scale(BenchmarkData.load(dataset), size);
+    }
+}
@@ -0,0 +1,85 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipselabs.garbagecat.Main;
+import org.eclipselabs.garbagecat.domain.JvmRun;
+import org.eclipselabs.garbagecat.service.GcManager;
+import org.eclipselabs.garbagecat.util.Constants;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>
+ * {@link Main#createReport(JvmRun, boolean, File, String)} to a temporary file.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+public class ReportBenchmark {
+
+    @Param({ "dataset57.txt", "dataset259.txt", "dataset282.txt" })
+    private String dataset;
+
+    /**
+     * The JVM run data.
+     */
+    private JvmRun jvmRun;
+
+    /**
+     * The report file.
+     */
+    private File reportFile;
+
+    @Param({ "10000" })
+    private int size;
+
+    @Benchmark
+    public void createReport() {
+        Main.createReport(jvmRun, false, reportFile, dataset);
+    }
+
+    @Setup
+    public void setup() throws IOException {
+        GcManager gcManager = new GcManager();
+        gcManager.store(BenchmarkData.preprocessed(dataset, size).iterator(), false);
+        jvmRun = gcManager.getJvmRun(null, Constants.DEFAULT_BOTTLENECK_THROUGHPUT_THRESHOLD);
+        reportFile = File.createTempFile("garbagecat", ".txt");
+    }
+
+    @TearDown
+    public void tearDown() {
+        reportFile.delete();
+    }
+}
@@ -0,0 +1,73 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.benchmark;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipselabs.garbagecat.service.GcManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>
+ * {@link GcManager#store(java.util.Iterator, boolean, boolean)} of preprocessed logging, sequential and parallel.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+public class StoreBenchmark {
+
+    @Param({ "dataset141.txt", "dataset57.txt", "dataset259.txt", "dataset283.txt" })
+    private String dataset;
+
+    /**
+     * The preprocessed logging.
+     */
+    private List<String> logLines;
+
+    @Param({ "false", "true" })
+    private boolean parallel;
+
+    @Param({ "10000" })
+    private int size;
+
+    @Setup
+    public void setup() throws IOException {
+        logLines = BenchmarkData.preprocessed(dataset, size);
+    }
+
+    @Benchmark
+    public GcManager store() {
+        GcManager gcManager = new GcManager();
+        gcManager.store(logLines.iterator(), false, parallel);
+        return gcManager;
+    }
+}
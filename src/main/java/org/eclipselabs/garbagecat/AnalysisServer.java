@@ -0,0 +1,329 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.eclipselabs.garbagecat.util.Constants.DEFAULT_BOTTLENECK_THROUGHPUT_THRESHOLD;
+import static org.eclipselabs.garbagecat.util.Constants.LINE_SEPARATOR;
+import static org.eclipselabs.garbagecat.util.Constants.REPORT_FORMAT_CSV;
+import static org.eclipselabs.garbagecat.util.Constants.REPORT_FORMAT_JSON;
+import static org.eclipselabs.garbagecat.util.Constants.REPORT_FORMAT_TEXT;
+import static org.eclipselabs.garbagecat.util.GcUtil.isValidStartDateTime;
+import static org.eclipselabs.garbagecat.util.GcUtil.parseStartDateTime;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.io.UnsupportedEncodingException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPInputStream;
+
+import org.eclipselabs.garbagecat.domain.JvmRun;
+import org.eclipselabs.garbagecat.service.GcManager;
+import org.eclipselabs.garbagecat.util.OverheadWindow;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * <p>
+ * A local HTTP service that analyzes the gc logging posted to it. The parsers are loaded and compiled once and kept
+ * warm across analyses, instead of each analysis paying for a JVM start.
+ * </p>
+ * 
+ * <p>
+ * POST the gc logging of a JVM run to <code>/</code> (gzip compressed if sent with
+ * <code>Content-Encoding: gzip</code>). The logging is streamed through the analysis as it is received, and the report
+ * is returned as text, or as JSON or CSV with the <code>format=json</code> or <code>format=csv</code> query
+ * parameter. The other query parameters are the same as the command line options: <code>preprocess</code>,
+ * <code>reorder</code>, <code>compact</code>, <code>jvmoptions</code>, <code>startdatetime</code>,
+ * <code>threshold</code> and <code>windows</code>, plus <code>name</code> for the log file name in the report. For
+ * example:
+ * </p>
+ * 
+ * <pre>
+ * curl --data-binary @gc.log 'http://localhost:8080/?preprocess=true&amp;name=gc.log'
+ * </pre>
+ * 
+ * <p>
+ * Analyses run on a fixed number of threads to limit the heap used at once. Requests beyond that wait their turn, and
+ * their logging is not read until then.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class AnalysisServer implements Closeable {
+
+    /**
+     * Legacy logging analyzed before the first request.
+     */
+    static final String[] WARM_UP_LEGACY_LOG = new String[] {
+            "52.820: [GC 52.822: [ParNew: 966519K->96048K(1100288K), 0.5364770 secs] 966519K->96048K(2200576K), "
+                    + "0.5377870 secs]",
+            "52.830: Total time for which application threads were stopped: 0.0038240 seconds",
+            "60.012: [Full GC 60.012: [Tenured: 468292K->482213K(819200K), 1.9920590 secs] "
+                    + "824995K->482213K(1187840K), [Perm : 123092K->122684K(262144K)], 1.9924510 secs]" };
+
+    /**
+     * Unified logging analyzed before the first request.
+     */
+    static final String[] WARM_UP_UNIFIED_LOG = new String[] { "[0.010s][info][gc] Using G1",
+            "[0.068s][info][gc          ] GC(3) Pause Young (Normal) (G1 Evacuation Pause) 2M->2M(7M) 0.681ms",
+            "[1.703s][info][gc] GC(1) Pause Full (Metadata GC Threshold) 9M->9M(1963M) 30.723ms",
+            "[2.564s][info][safepoint] Safepoint \"CollectForMetadataAllocation\", Time since last: 166609148 ns, "
+                    + "Reaching safepoint: 3849 ns, Cleanup: 53621 ns, At safepoint: 9122390 ns, Total: 9179860 ns" };
+
+    /**
+     * @param parameters
+     *            The query parameters.
+     * @param name
+     *            The parameter name.
+     * @return True if the parameter is present and not <code>false</code>, false otherwise.
+     */
+    private static boolean getBoolean(Map<String, String> parameters, String name) {
+        return parameters.containsKey(name) && !parameters.get(name).equalsIgnoreCase("false");
+    }
+
+    /**
+     * @param query
+     *            The raw (encoded) query string, or null if none.
+     * @return The query parameters by name.
+     */
+    static Map<String, String> getParameters(String query) {
+        Map<String, String> parameters = new HashMap<String, String>();
+        if (query != null) {
+            try {
+                for (String parameter : query.split("&")) {
+                    int equals = parameter.indexOf('=');
+                    if (equals < 0) {
+                        parameters.put(URLDecoder.decode(parameter, "UTF-8"), "");
+                    } else {
+                        parameters.put(URLDecoder.decode(parameter.substring(0, equals), "UTF-8"),
+                                URLDecoder.decode(parameter.substring(equals + 1), "UTF-8"));
+                    }
+                }
+            } catch (UnsupportedEncodingException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        return parameters;
+    }
+
+    /**
+     * Send a text response.
+     */
+    private static void send(HttpExchange exchange, int status, String text) throws IOException {
+        byte[] bytes = (text + LINE_SEPARATOR).getBytes(UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=UTF-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+
+    /**
+     * Validate the query parameters before any logging is read, so only invalid parameters are client errors.
+     * 
+     * @param parameters
+     *            The query parameters.
+     * @throws IllegalArgumentException
+     *             if a parameter is not valid.
+     */
+    static void validateParameters(Map<String, String> parameters) {
+        if (parameters.containsKey("format") && !REPORT_FORMAT_TEXT.equals(parameters.get("format"))
+                && !REPORT_FORMAT_JSON.equals(parameters.get("format"))
+                && !REPORT_FORMAT_CSV.equals(parameters.get("format"))) {
+            throw new IllegalArgumentException("Invalid format: '" + parameters.get("format") + "'.");
+        }
+        if (getBoolean(parameters, "compact") && getBoolean(parameters, "reorder")) {
+            throw new IllegalArgumentException("Compact storage cannot reorder logging.");
+        }
+        if (parameters.containsKey("threshold") && !parameters.get("threshold").matches("^\\d{1,3}$")) {
+            throw new IllegalArgumentException("Invalid threshold: '" + parameters.get("threshold") + "'.");
+        }
+        if (parameters.containsKey("startdatetime") && !isValidStartDateTime(parameters.get("startdatetime"))) {
+            throw new IllegalArgumentException("Invalid startdatetime: '" + parameters.get("startdatetime") + "'.");
+        }
+        if (parameters.containsKey("windows")
+                && !parameters.get("windows").matches("^[1-9]\\d{0,5}(,[1-9]\\d{0,5})*$")) {
+            throw new IllegalArgumentException("Invalid windows: '" + parameters.get("windows") + "'.");
+        }
+    }
+
+    /**
+     * Analyze a small unified and a small legacy log, with and without preprocessing, so the event classes most
+     * logging has are loaded and their patterns compiled before the first request. Other event classes are still
+     * loaded on first use.
+     */
+    private static void warmUp() {
+        for (String[] log : new String[][] { WARM_UP_UNIFIED_LOG, WARM_UP_LEGACY_LOG }) {
+            GcManager gcManager = new GcManager();
+            gcManager.store(Arrays.asList(log), false);
+            gcManager.getJvmRun(null, DEFAULT_BOTTLENECK_THROUGHPUT_THRESHOLD);
+            gcManager = new GcManager();
+            gcManager.preprocessAndStore(Arrays.asList(log).iterator(), false);
+            gcManager.getJvmRun(null, DEFAULT_BOTTLENECK_THROUGHPUT_THRESHOLD);
+        }
+    }
+
+    /**
+     * The analysis threads.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * The HTTP server.
+     */
+    private final HttpServer server;
+
+    /**
+     * @param port
+     *            The port to listen on (on the loopback address only), or 0 for any free port.
+     * @param threads
+     *            The maximum number of concurrent analyses.
+     * @throws IOException
+     *             if the port cannot be bound.
+     */
+    public AnalysisServer(int port, int threads) throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.createContext("/", this::handle);
+        executor = Executors.newFixedThreadPool(threads, runnable -> new Thread(runnable, "garbagecat-http"));
+        server.setExecutor(executor);
+    }
+
+    /**
+     * Analyze the logging posted.
+     * 
+     * @param in
+     *            The gc logging.
+     * @param parameters
+     *            The query parameters, already validated.
+     * @return JVM run data.
+     * @throws IOException
+     *             if the logging cannot be read.
+     */
+    private JvmRun analyze(InputStream in, Map<String, String> parameters) throws IOException {
+        boolean compact = getBoolean(parameters, "compact");
+        boolean reorder = getBoolean(parameters, "reorder");
+        int throughputThreshold = parameters.containsKey("threshold") ? Integer.parseInt(parameters.get("threshold"))
+                : DEFAULT_BOTTLENECK_THROUGHPUT_THRESHOLD;
+        Date jvmStartDate = parameters.containsKey("startdatetime")
+                ? parseStartDateTime(parameters.get("startdatetime"))
+                : null;
+        GcManager gcManager = compact ? new GcManager(jvmStartDate, throughputThreshold) : new GcManager(jvmStartDate);
+        if (parameters.containsKey("windows")) {
+            gcManager.setOverheadWindows(OverheadWindow.parseWindows(parameters.get("windows")));
+        }
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, UTF_8))) {
+            Iterator<String> logLines = reader.lines().iterator();
+            if (getBoolean(parameters, "preprocess") || jvmStartDate != null) {
+                gcManager.preprocessAndStore(logLines, reorder);
+            } else {
+                gcManager.store(logLines, reorder);
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return gcManager.getJvmRun(parameters.get("jvmoptions"), throughputThreshold);
+    }
+
+    /**
+     * Stop listening and abandon analyses in progress.
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    /**
+     * @return The port listened on.
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Handle a request.
+     * 
+     * @param exchange
+     *            The request and response.
+     * @throws IOException
+     *             if the response cannot be sent.
+     */
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            if (!exchange.getRequestMethod().equals("POST")) {
+                exchange.getResponseHeaders().set("Allow", "POST");
+                send(exchange, 405, "POST the gc logging to analyze.");
+                return;
+            }
+            Map<String, String> parameters = getParameters(exchange.getRequestURI().getRawQuery());
+            try {
+                validateParameters(parameters);
+            } catch (IllegalArgumentException e) {
+                send(exchange, 400, e.getMessage());
+                return;
+            }
+            String format = parameters.containsKey("format") ? parameters.get("format") : REPORT_FORMAT_TEXT;
+            String gcLogFileName = parameters.containsKey("name") ? parameters.get("name") : "gc.log";
+            InputStream in = exchange.getRequestBody();
+            if ("gzip".equalsIgnoreCase(exchange.getRequestHeaders().getFirst("Content-Encoding"))) {
+                in = new GZIPInputStream(in);
+            }
+            JvmRun jvmRun = analyze(in, parameters);
+            String contentType;
+            if (REPORT_FORMAT_JSON.equals(format)) {
+                contentType = "application/json; charset=UTF-8";
+            } else if (REPORT_FORMAT_CSV.equals(format)) {
+                contentType = "text/csv; charset=UTF-8";
+            } else {
+                contentType = "text/plain; charset=UTF-8";
+            }
+            exchange.getResponseHeaders().set("Content-Type", contentType);
+            // Streamed (chunked)
+            exchange.sendResponseHeaders(200, 0);
+            PrintWriter printWriter = new PrintWriter(new OutputStreamWriter(exchange.getResponseBody(), UTF_8));
+            Main.createReport(jvmRun, printWriter, gcLogFileName, format);
+            printWriter.flush();
+        } catch (IOException | RuntimeException e) {
+            if (exchange.getResponseCode() < 0) {
+                send(exchange, 500, "Analysis failed: " + e);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Start listening, after analyzing some logging so the first request does not load and compile the parsers of
+     * the most common events.
+     */
+    public void start() {
+        warmUp();
+        server.start();
+    }
+}
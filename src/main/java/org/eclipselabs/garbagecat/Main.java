@@ -16,20 +16,37 @@ import static org.eclipselabs.garbagecat.OptionsParser.options;
 import static org.eclipselabs.garbagecat.OptionsParser.parseOptions;
 import static org.eclipselabs.garbagecat.util.Constants.DEFAULT_BOTTLENECK_THROUGHPUT_THRESHOLD;
 import static org.eclipselabs.garbagecat.util.Constants.LINE_SEPARATOR;
+import static org.eclipselabs.garbagecat.util.Constants.OPTION_BATCH_LONG;
+import static org.eclipselabs.garbagecat.util.Constants.OPTION_BATCH_SHORT;
+import static org.eclipselabs.garbagecat.util.Constants.OPTION_COMPACT_LONG;
+import static org.eclipselabs.garbagecat.util.Constants.OPTION_FOLLOW_LONG;
+import static org.eclipselabs.garbagecat.util.Constants.OPTION_FOLLOW_SHORT;
+import static org.eclipselabs.garbagecat.util.Constants.OPTION_FORMAT_LONG;
+import static org.eclipselabs.garbagecat.util.Constants.OPTION_FORMAT_SHORT;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_HELP_LONG;
+import static org.eclipselabs.garbagecat.util.Constants.OPTION_HTTP_LONG;
+import static org.eclipselabs.garbagecat.util.Constants.OPTION_HTTP_SHORT;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_JVMOPTIONS_LONG;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_JVMOPTIONS_SHORT;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_OUTPUT_LONG;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_OUTPUT_SHORT;
+import static org.eclipselabs.garbagecat.util.Constants.OPTION_PARALLEL_LONG;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_PREPROCESS_LONG;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_REORDER_LONG;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_REPORT_CONSOLE_LONG;
+import static org.eclipselabs.garbagecat.util.Constants.OPTION_SNAPSHOT_LONG;
+import static org.eclipselabs.garbagecat.util.Constants.OPTION_SNAPSHOT_SHORT;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_STARTDATETIME_LONG;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_STARTDATETIME_SHORT;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_THRESHOLD_LONG;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_THRESHOLD_SHORT;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_VERBOSE_LONG;
+import static org.eclipselabs.garbagecat.util.Constants.OPTION_WINDOWS_LONG;
+import static org.eclipselabs.garbagecat.util.Constants.OPTION_WINDOWS_SHORT;
 import static org.eclipselabs.garbagecat.util.Constants.OUTPUT_FILE_NAME;
+import static org.eclipselabs.garbagecat.util.Constants.REPORT_FORMAT_CSV;
+import static org.eclipselabs.garbagecat.util.Constants.REPORT_FORMAT_JSON;
+import static org.eclipselabs.garbagecat.util.Constants.REPORT_FORMAT_TEXT;
 import static org.eclipselabs.garbagecat.util.GcUtil.parseStartDateTime;
 import static org.eclipselabs.garbagecat.util.Memory.ZERO;
 import static org.eclipselabs.garbagecat.util.Memory.Unit.KILOBYTES;
@@ -40,11 +57,16 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.io.PrintWriter;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.net.URI;
+import java.nio.file.FileSystems;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Date;
@@ -52,13 +74,31 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.LongSummaryStatistics;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.HelpFormatter;
 import org.apache.commons.cli.ParseException;
 import org.eclipselabs.garbagecat.domain.JvmRun;
 import org.eclipselabs.garbagecat.service.GcManager;
+import org.eclipselabs.garbagecat.util.CsvWriter;
+import org.eclipselabs.garbagecat.util.FollowLogReader;
+import org.eclipselabs.garbagecat.util.JsonWriter;
 import org.eclipselabs.garbagecat.util.Memory;
+import org.eclipselabs.garbagecat.util.OverheadWindow;
+import org.eclipselabs.garbagecat.util.PauseHistogram;
+import org.eclipselabs.garbagecat.util.RotatedLogReader;
+import org.eclipselabs.garbagecat.util.UnidentifiedLogLines;
+import org.eclipselabs.garbagecat.util.UnidentifiedLogLines.Cluster;
+import org.eclipselabs.garbagecat.util.jdk.GcTrigger;
 import org.eclipselabs.garbagecat.util.jdk.JdkMath;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil.EventType;
@@ -77,6 +117,12 @@ import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedSafepoint.Trigger;
  */
 public class Main {
 
+    /**
+     * The suffix appended to the gc log name for the text report of each JVM run in batch mode. Structured reports
+     * end with the format instead (e.g. "-report.json").
+     */
+    public static final String BATCH_REPORT_SUFFIX = "-report.txt";
+
     /**
      * Report double line break
      */
@@ -90,11 +136,109 @@ public class Main {
             + "----" + LINE_SEPARATOR;
 
     /**
-     * The maximum number of rejected log lines to track. A throttle to limit memory consumption.
+     * Analyze the gc logging of many JVM runs concurrently, one JVM run per worker thread at a time, writing a report
+     * for each JVM run and a fleet summary of them all.
+     * 
+     * @param cmd
+     *            The command line options.
+     * @throws IOException
+     *             if the gc logging cannot be listed, or the fleet summary cannot be written.
      */
-    public static final int REJECT_LIMIT = 1000;
+    private static void createBatchReport(CommandLine cmd) throws IOException {
+        String logFileName = (String) cmd.getArgList().get(cmd.getArgList().size() - 1);
+        String outputFileName = cmd.hasOption(OPTION_OUTPUT_LONG) ? cmd.getOptionValue(OPTION_OUTPUT_SHORT)
+                : OUTPUT_FILE_NAME;
+        File summaryFile = new File(outputFileName);
+        // Reports are written next to the fleet summary
+        File reportDirectory = summaryFile.getAbsoluteFile().getParentFile();
+        Date jvmStartDate = cmd.hasOption(OPTION_STARTDATETIME_LONG)
+                ? parseStartDateTime(cmd.getOptionValue(OPTION_STARTDATETIME_SHORT))
+                : null;
+        String jvmOptions = cmd.hasOption(OPTION_JVMOPTIONS_LONG) ? cmd.getOptionValue(OPTION_JVMOPTIONS_SHORT) : null;
+        int throughputThreshold = cmd.hasOption(OPTION_THRESHOLD_LONG)
+                ? Integer.parseInt(cmd.getOptionValue(OPTION_THRESHOLD_SHORT))
+                : DEFAULT_BOTTLENECK_THROUGHPUT_THRESHOLD;
+        boolean verbose = cmd.hasOption(OPTION_VERBOSE_LONG);
+        String reportFormat = getFormat(cmd);
+
+        List<Path> logPaths = getBatchPaths(logFileName, summaryFile);
+        int threads = Math.min(Integer.parseInt(cmd.getOptionValue(OPTION_BATCH_SHORT)), logPaths.size());
+        List<Future<String[]>> rows = new ArrayList<Future<String[]>>();
+        if (!logPaths.isEmpty()) {
+            // Each worker analyzes one JVM run at a time, so memory is bounded by the number of threads
+            ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+                Thread thread = new Thread(runnable, "garbagecat-batch");
+                thread.setDaemon(true);
+                return thread;
+            });
+            try {
+                for (Path logPath : logPaths) {
+                    rows.add(executor.submit(() -> {
+                        String logName = logPath.getFileName().toString();
+                        if (verbose) {
+                            System.out.println("analyzing " + logName + "...");
+                        }
+                        GcManager gcManager = getGcManager(cmd, jvmStartDate, throughputThreshold, null, false);
+                        store(cmd, gcManager, logPath, null, false);
+                        JvmRun jvmRun = gcManager.getJvmRun(jvmOptions, throughputThreshold);
+                        File reportFile = new File(reportDirectory, logName + getBatchReportSuffix(reportFormat));
+                        // Unlike a single report, a failure to write it fails the JVM run
+                        try (PrintWriter printWriter = new PrintWriter(new FileWriter(reportFile))) {
+                            createReport(jvmRun, printWriter, logPath.toString(), reportFormat);
+                        }
+                        return getBatchSummary(logName, jvmRun);
+                    }));
+                }
+                executor.shutdown();
+                executor.awaitTermination(Long.MAX_VALUE, TimeUnit.DAYS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Batch interrupted.");
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        // Fleet summary, in log name order
+        int logNameWidth = "Log".length();
+        for (Path logPath : logPaths) {
+            logNameWidth = Math.max(logNameWidth, logPath.getFileName().toString().length());
+        }
+        String format = "%-" + logNameWidth + "s%11s%12s%14s  %s%n";
+        boolean reportConsole = cmd.hasOption(OPTION_REPORT_CONSOLE_LONG);
+        try (PrintWriter printWriter = reportConsole ? new PrintWriter(System.out)
+                : new PrintWriter(new FileWriter(summaryFile))) {
+            printWriter.write("FLEET SUMMARY: " + logPaths.size() + " JVM RUN(S)" + LINE_SEPARATOR);
+            printWriter.write(LINEBREAK_DOUBLE);
+            printWriter.printf(format, "Log", "GC Events", "Throughput", "Pause Max", "Analysis");
+            printWriter.write(LINEBREAK_SINGLE);
+            for (int i = 0; i < rows.size(); i++) {
+                String[] row;
+                try {
+                    row = rows.get(i).get();
+                } catch (ExecutionException e) {
+                    // Summarize any failure (including errors, e.g. StackOverflowError) with the rest of the fleet
+                    Throwable cause = e.getCause();
+                    String error = cause.getMessage() != null ? cause.getMessage() : cause.getClass().getName();
+                    row = new String[] { logPaths.get(i).getFileName().toString(), "", "", "", "error: " + error };
+                }
+                printWriter.printf(format, (Object[]) row);
+            }
+            printWriter.write(LINEBREAK_DOUBLE);
+        } catch (InterruptedException e) {
+            // Not possible, all done
+            throw new IllegalStateException(e);
+        }
+        if (verbose) {
+            System.out.println("done");
+        }
+    }
 
     public static void createReport(CommandLine cmd) throws IOException {
+        if (cmd.hasOption(OPTION_BATCH_LONG)) {
+            createBatchReport(cmd);
+            return;
+        }
         String logFileName = (String) cmd.getArgList().get(cmd.getArgList().size() - 1);
         File logFile = new File(logFileName);
         String outputFileName = cmd.hasOption(OPTION_OUTPUT_LONG) ? cmd.getOptionValue(OPTION_OUTPUT_SHORT)
@@ -119,32 +263,44 @@ public class Main {
         if (verbose) {
             System.out.println("reading gc logging...");
         }
-        List<String> logLines = Files.readAllLines(Paths.get(logFileUri));
+        int throughputThreshold = cmd.hasOption(OPTION_THRESHOLD_LONG)
+                ? Integer.parseInt(cmd.getOptionValue(OPTION_THRESHOLD_SHORT))
+                : DEFAULT_BOTTLENECK_THROUGHPUT_THRESHOLD;
+        // Resume from a snapshot of a prior run? Snapshots require compact storage.
+        Path snapshot = cmd.hasOption(OPTION_SNAPSHOT_LONG) ? Paths.get(cmd.getOptionValue(OPTION_SNAPSHOT_SHORT))
+                : null;
+        GcManager gcManager = getGcManager(cmd, jvmStartDate, throughputThreshold, snapshot, verbose);
 
-        GcManager gcManager = new GcManager(jvmStartDate);
+        boolean reportConsole = cmd.hasOption(OPTION_REPORT_CONSOLE_LONG);
+        String format = getFormat(cmd);
 
-        // Do preprocessing
-        if (cmd.hasOption(OPTION_PREPROCESS_LONG) || cmd.hasOption(OPTION_STARTDATETIME_LONG)) {
-            if (verbose) {
-                System.out.println("preprocessing...");
+        if (cmd.hasOption(OPTION_FOLLOW_LONG)) {
+            // Refresh the report from the events stored so far, between log lines
+            long refreshInterval = TimeUnit.SECONDS.toMillis(Long.parseLong(cmd.getOptionValue(OPTION_FOLLOW_SHORT)));
+            Runnable refresh = () -> {
+                JvmRun jvmRun = gcManager.getJvmRun(jvmOptions, throughputThreshold);
+                createReport(jvmRun, reportConsole, reportFile, logFileName, format);
+                if (!reportConsole) {
+                    System.out.println(getSummary(jvmRun));
+                }
+            };
+            try (FollowLogReader reader = new FollowLogReader(Paths.get(logFileUri), refresh, refreshInterval)) {
+                if (cmd.hasOption(OPTION_PREPROCESS_LONG) || cmd.hasOption(OPTION_STARTDATETIME_LONG)) {
+                    gcManager.preprocessAndStore(reader, false);
+                } else {
+                    gcManager.store(reader, false);
+                }
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
             }
-            logLines = gcManager.preprocess(logLines);
+            return;
         }
 
-        // Allow logging to be reordered?
-        boolean reorder = cmd.hasOption(OPTION_REORDER_LONG);
-
-        // Store garbage collection logging in data store.
-        gcManager.store(logLines, reorder);
+        store(cmd, gcManager, Paths.get(logFileUri), snapshot, verbose);
 
         // Create report
-        // Determine report options
-        int throughputThreshold = cmd.hasOption(OPTION_THRESHOLD_LONG)
-                ? Integer.parseInt(cmd.getOptionValue(OPTION_THRESHOLD_SHORT))
-                : DEFAULT_BOTTLENECK_THROUGHPUT_THRESHOLD;
         JvmRun jvmRun = gcManager.getJvmRun(jvmOptions, throughputThreshold);
-        boolean reportConsole = cmd.hasOption(OPTION_REPORT_CONSOLE_LONG);
-        createReport(jvmRun, reportConsole, reportFile, logFileName);
+        createReport(jvmRun, reportConsole, reportFile, logFileName, format);
         if (verbose) {
             System.out.println("done");
         }
@@ -163,6 +319,25 @@ public class Main {
      *            The gc log file analyzed.
      */
     public static void createReport(JvmRun jvmRun, boolean reportConsole, File reportFile, String gcLogFileName) {
+        createReport(jvmRun, reportConsole, reportFile, gcLogFileName, REPORT_FORMAT_TEXT);
+    }
+
+    /**
+     * Create Garbage Collection Analysis report in the given format.
+     *
+     * @param jvmRun
+     *            JVM run data.
+     * @param reportConsole
+     *            Whether print the report to the console or to a file.
+     * @param reportFile
+     *            Report file.
+     * @param gcLogFileName
+     *            The gc log file analyzed.
+     * @param format
+     *            The report format: text, json or csv.
+     */
+    public static void createReport(JvmRun jvmRun, boolean reportConsole, File reportFile, String gcLogFileName,
+            String format) {
         FileWriter fileWriter = null;
         PrintWriter printWriter = null;
         try {
@@ -172,487 +347,698 @@ public class Main {
             } else {
                 printWriter = new PrintWriter(fileWriter);
             }
-            File gcLogFile = new File(gcLogFileName);
-            printWriter.write(gcLogFile.getName());
-            printWriter.write(LINE_SEPARATOR);
-
-            // JVM information
-            if (jvmRun.getJvmOptions().getJvmContext().getVersionMajor() > 0
-                    || jvmRun.getJvmOptions().getJvmContext().getOptions() != null || jvmRun.getMemory() != null) {
-                printWriter.write(LINEBREAK_DOUBLE);
-                printWriter.write("JVM:" + LINE_SEPARATOR);
-                printWriter.write(LINEBREAK_SINGLE);
-                if (jvmRun.getVmInfo() != null) {
-                    printWriter.write("Version: " + jvmRun.getVmInfo() + LINE_SEPARATOR);
-                }
-                if (jvmRun.getJvmOptions().getJvmContext().getOptions() != null) {
-                    printWriter
-                            .write("Options: " + jvmRun.getJvmOptions().getJvmContext().getOptions() + LINE_SEPARATOR);
+            createReport(jvmRun, printWriter, gcLogFileName, format);
+        } catch (FileNotFoundException e) {
+            e.printStackTrace();
+        } catch (IOException e) {
+            e.printStackTrace();
+        } finally {
+            // Close streams
+            if (printWriter != null) {
+                try {
+                    printWriter.close();
+                } catch (Exception e) {
+                    e.printStackTrace();
                 }
-                if (jvmRun.getMemory() != null) {
-                    printWriter.write("Memory: " + jvmRun.getMemory() + LINE_SEPARATOR);
+            }
+            if (fileWriter != null) {
+                try {
+                    fileWriter.close();
+                } catch (IOException e) {
+                    e.printStackTrace();
                 }
             }
+        }
+    }
+
+    /**
+     * Write the Garbage Collection Analysis report in the given format.
+     *
+     * @param jvmRun
+     *            JVM run data.
+     * @param printWriter
+     *            The report writer.
+     * @param gcLogFileName
+     *            The gc log file analyzed.
+     * @param format
+     *            The report format: text, json or csv.
+     * @throws IOException
+     *             if the report cannot be written.
+     */
+    public static void createReport(JvmRun jvmRun, PrintWriter printWriter, String gcLogFileName, String format)
+            throws IOException {
+        if (REPORT_FORMAT_JSON.equals(format)) {
+            StructuredReport.write(jvmRun, new JsonWriter(printWriter), gcLogFileName);
+            printWriter.write(LINE_SEPARATOR);
+        } else if (REPORT_FORMAT_CSV.equals(format)) {
+            StructuredReport.write(jvmRun, new CsvWriter(printWriter), gcLogFileName);
+        } else {
+            createReport(jvmRun, printWriter, gcLogFileName);
+        }
+        if (printWriter.checkError()) {
+            throw new IOException("Report not written.");
+        }
+    }
 
-            // Summary
+    /**
+     * Write the Garbage Collection Analysis report.
+     *
+     * @param jvmRun
+     *            JVM run data.
+     * @param printWriter
+     *            The report writer.
+     * @param gcLogFileName
+     *            The gc log file analyzed.
+     */
+    public static void createReport(JvmRun jvmRun, PrintWriter printWriter, String gcLogFileName) {
+        File gcLogFile = new File(gcLogFileName);
+        printWriter.write(gcLogFile.getName());
+        printWriter.write(LINE_SEPARATOR);
+
+        // JVM information
+        if (jvmRun.getJvmOptions().getJvmContext().getVersionMajor() > 0
+                || jvmRun.getJvmOptions().getJvmContext().getOptions() != null || jvmRun.getMemory() != null) {
             printWriter.write(LINEBREAK_DOUBLE);
-            printWriter.write("SUMMARY:" + LINE_SEPARATOR);
+            printWriter.write("JVM:" + LINE_SEPARATOR);
             printWriter.write(LINEBREAK_SINGLE);
-
-            // First/last timestamps
-            if (jvmRun.getBlockingEventCount() > 0 || jvmRun.getStoppedTimeEventCount() > 0
-                    || jvmRun.getUnifiedSafepointEventCount() > 0) {
-                // First event
-                if (jvmRun.getFirstEventDatestamp() != null) {
-                    printWriter.write("Datestamp First: ");
-                    printWriter.write(jvmRun.getFirstEventDatestamp());
-                    printWriter.write(LINE_SEPARATOR);
-                }
-                if (!jvmRun.getFirstEvent().getLogEntry().matches(UnifiedRegEx.TIME_DECORATOR)) {
-                    printWriter.write("Timestamp First: ");
-                    BigDecimal firstEventTimestamp = JdkMath.convertMillisToSecs(jvmRun.getFirstEvent().getTimestamp());
-                    printWriter.write(firstEventTimestamp.toString());
-                    printWriter.write(" secs" + LINE_SEPARATOR);
-                }
-                // Last event
-                if (jvmRun.getLastEventDatestamp() != null) {
-                    printWriter.write("Datestamp Last: ");
-                    printWriter.write(jvmRun.getLastEventDatestamp());
-                    printWriter.write(LINE_SEPARATOR);
-                }
-                if (!jvmRun.getLastEvent().getLogEntry().matches(UnifiedRegEx.TIME_DECORATOR)) {
-                    printWriter.write("Timestamp Last: ");
-                    BigDecimal lastEventTimestamp = JdkMath.convertMillisToSecs(jvmRun.getLastEvent().getTimestamp());
-                    printWriter.write(lastEventTimestamp.toString());
-                    printWriter.write(" secs" + LINE_SEPARATOR);
-                }
+            if (jvmRun.getVmInfo() != null) {
+                printWriter.write("Version: " + jvmRun.getVmInfo() + LINE_SEPARATOR);
+            }
+            if (jvmRun.getJvmOptions().getJvmContext().getOptions() != null) {
+                printWriter
+                        .write("Options: " + jvmRun.getJvmOptions().getJvmContext().getOptions() + LINE_SEPARATOR);
             }
+            if (jvmRun.getMemory() != null) {
+                printWriter.write("Memory: " + jvmRun.getMemory() + LINE_SEPARATOR);
+            }
+        }
 
-            // GC stats
-            printWriter.write("# GC Events: " + jvmRun.getBlockingEventCount() + LINE_SEPARATOR);
-            if (jvmRun.getBlockingEventCount() > 0) {
-                printWriter.write("Event Types: ");
-                List<EventType> eventTypes = jvmRun.getEventTypes();
-                boolean firstEvent = true;
-                for (EventType eventType : eventTypes) {
-                    if (!firstEvent) {
-                        printWriter.write(", ");
-                    }
-                    printWriter.write(eventType.toString());
-                    firstEvent = false;
-                }
+        // Summary
+        printWriter.write(LINEBREAK_DOUBLE);
+        printWriter.write("SUMMARY:" + LINE_SEPARATOR);
+        printWriter.write(LINEBREAK_SINGLE);
+
+        // First/last timestamps
+        if (jvmRun.getBlockingEventCount() > 0 || jvmRun.getStoppedTimeEventCount() > 0
+                || jvmRun.getUnifiedSafepointEventCount() > 0) {
+            // First event
+            if (jvmRun.getFirstEventDatestamp() != null) {
+                printWriter.write("Datestamp First: ");
+                printWriter.write(jvmRun.getFirstEventDatestamp());
                 printWriter.write(LINE_SEPARATOR);
-                // Inverted parallelism
-                if (!jvmRun.getJvmOptions().getJvmContext().getGarbageCollectors().isEmpty()
-                        && jvmRun.getParallelCount() > 0) {
-                    printWriter.write("# Parallel Events: " + jvmRun.getParallelCount() + LINE_SEPARATOR);
-                    if (jvmRun.getInvertedParallelismCount() > 0) {
-                        printWriter.write(
-                                "# Inverted Parallelism: " + jvmRun.getInvertedParallelismCount() + LINE_SEPARATOR);
-                        printWriter.write("Inverted Parallelism Max: ");
-                        if (jvmRun.getStartDate() != null) {
-                            printWriter.write(JdkUtil.convertLogEntryTimestampsToDateStamp(
-                                    jvmRun.getWorstInvertedParallelismEvent().getLogEntry(), jvmRun.getStartDate()));
-                        } else {
-                            printWriter.write(jvmRun.getWorstInvertedParallelismEvent().getLogEntry());
-                        }
-                        printWriter.write(LINE_SEPARATOR);
-                    }
+            }
+            if (!jvmRun.getFirstEvent().getLogEntry().matches(UnifiedRegEx.TIME_DECORATOR)) {
+                printWriter.write("Timestamp First: ");
+                BigDecimal firstEventTimestamp = JdkMath.convertMillisToSecs(jvmRun.getFirstEvent().getTimestamp());
+                printWriter.write(firstEventTimestamp.toString());
+                printWriter.write(" secs" + LINE_SEPARATOR);
+            }
+            // Last event
+            if (jvmRun.getLastEventDatestamp() != null) {
+                printWriter.write("Datestamp Last: ");
+                printWriter.write(jvmRun.getLastEventDatestamp());
+                printWriter.write(LINE_SEPARATOR);
+            }
+            if (!jvmRun.getLastEvent().getLogEntry().matches(UnifiedRegEx.TIME_DECORATOR)) {
+                printWriter.write("Timestamp Last: ");
+                BigDecimal lastEventTimestamp = JdkMath.convertMillisToSecs(jvmRun.getLastEvent().getTimestamp());
+                printWriter.write(lastEventTimestamp.toString());
+                printWriter.write(" secs" + LINE_SEPARATOR);
+            }
+        }
+
+        // GC stats
+        printWriter.write("# GC Events: " + jvmRun.getBlockingEventCount() + LINE_SEPARATOR);
+        if (jvmRun.getBlockingEventCount() > 0) {
+            printWriter.write("Event Types: ");
+            List<EventType> eventTypes = jvmRun.getEventTypes();
+            boolean firstEvent = true;
+            for (EventType eventType : eventTypes) {
+                if (!firstEvent) {
+                    printWriter.write(", ");
                 }
-                // Inverted serialism
-                if (!jvmRun.getJvmOptions().getJvmContext().getGarbageCollectors().isEmpty()
-                        && jvmRun.getSerialCount() > 0) {
-                    printWriter.write("# Serial Events: " + jvmRun.getSerialCount() + LINE_SEPARATOR);
-                    if (jvmRun.getInvertedSerialismCount() > 0) {
-                        printWriter
-                                .write("# Inverted Serialism: " + jvmRun.getInvertedSerialismCount() + LINE_SEPARATOR);
-                        printWriter.write("Inverted Serialism Max: ");
-                        if (jvmRun.getStartDate() != null) {
-                            printWriter.write(JdkUtil.convertLogEntryTimestampsToDateStamp(
-                                    jvmRun.getWorstInvertedSerialismEvent().getLogEntry(), jvmRun.getStartDate()));
-                        } else {
-                            printWriter.write(jvmRun.getWorstInvertedSerialismEvent().getLogEntry());
-                        }
-                        printWriter.write(LINE_SEPARATOR);
+                printWriter.write(eventType.toString());
+                firstEvent = false;
+            }
+            printWriter.write(LINE_SEPARATOR);
+            // Inverted parallelism
+            if (!jvmRun.getJvmOptions().getJvmContext().getGarbageCollectors().isEmpty()
+                    && jvmRun.getParallelCount() > 0) {
+                printWriter.write("# Parallel Events: " + jvmRun.getParallelCount() + LINE_SEPARATOR);
+                if (jvmRun.getInvertedParallelismCount() > 0) {
+                    printWriter.write(
+                            "# Inverted Parallelism: " + jvmRun.getInvertedParallelismCount() + LINE_SEPARATOR);
+                    printWriter.write("Inverted Parallelism Max: ");
+                    if (jvmRun.getStartDate() != null) {
+                        printWriter.write(JdkUtil.convertLogEntryTimestampsToDateStamp(
+                                jvmRun.getWorstInvertedParallelismEvent().getLogEntry(), jvmRun.getStartDate()));
+                    } else {
+                        printWriter.write(jvmRun.getWorstInvertedParallelismEvent().getLogEntry());
                     }
+                    printWriter.write(LINE_SEPARATOR);
                 }
-                // sys > user
-                if (!jvmRun.getJvmOptions().getJvmContext().getGarbageCollectors().isEmpty()
-                        && jvmRun.getSysGtUserCount() > 0) {
-                    printWriter.write("# sys > user: " + jvmRun.getSysGtUserCount() + LINE_SEPARATOR);
-                    printWriter.write("sys > user Max: ");
+            }
+            // Inverted serialism
+            if (!jvmRun.getJvmOptions().getJvmContext().getGarbageCollectors().isEmpty()
+                    && jvmRun.getSerialCount() > 0) {
+                printWriter.write("# Serial Events: " + jvmRun.getSerialCount() + LINE_SEPARATOR);
+                if (jvmRun.getInvertedSerialismCount() > 0) {
+                    printWriter
+                            .write("# Inverted Serialism: " + jvmRun.getInvertedSerialismCount() + LINE_SEPARATOR);
+                    printWriter.write("Inverted Serialism Max: ");
                     if (jvmRun.getStartDate() != null) {
                         printWriter.write(JdkUtil.convertLogEntryTimestampsToDateStamp(
-                                jvmRun.getWorstSysGtUserEvent().getLogEntry(), jvmRun.getStartDate()));
+                                jvmRun.getWorstInvertedSerialismEvent().getLogEntry(), jvmRun.getStartDate()));
                     } else {
-                        printWriter.write(jvmRun.getWorstSysGtUserEvent().getLogEntry());
+                        printWriter.write(jvmRun.getWorstInvertedSerialismEvent().getLogEntry());
                     }
                     printWriter.write(LINE_SEPARATOR);
                 }
-                // NewRatio
-                if (jvmRun.getMaxYoungSpace() != null && jvmRun.getMaxOldSpace() != null
-                        && jvmRun.getMaxYoungSpace().getValue(KILOBYTES) > 0) {
-                    printWriter.write("NewRatio: " + jvmRun.getNewRatio() + LINE_SEPARATOR);
+            }
+            // sys > user
+            if (!jvmRun.getJvmOptions().getJvmContext().getGarbageCollectors().isEmpty()
+                    && jvmRun.getSysGtUserCount() > 0) {
+                printWriter.write("# sys > user: " + jvmRun.getSysGtUserCount() + LINE_SEPARATOR);
+                printWriter.write("sys > user Max: ");
+                if (jvmRun.getStartDate() != null) {
+                    printWriter.write(JdkUtil.convertLogEntryTimestampsToDateStamp(
+                            jvmRun.getWorstSysGtUserEvent().getLogEntry(), jvmRun.getStartDate()));
+                } else {
+                    printWriter.write(jvmRun.getWorstSysGtUserEvent().getLogEntry());
                 }
+                printWriter.write(LINE_SEPARATOR);
+            }
+            // NewRatio
+            if (jvmRun.getMaxYoungSpace() != null && jvmRun.getMaxOldSpace() != null
+                    && jvmRun.getMaxYoungSpace().getValue(KILOBYTES) > 0) {
+                printWriter.write("NewRatio: " + jvmRun.getNewRatio() + LINE_SEPARATOR);
+            }
 
-                // Heap stats
-                if (jvmRun.getMaxHeap().greaterThan(ZERO)) {
-                    printWriter.write(
-                            "Heap Used Max: " + jvmRun.getMaxHeapOccupancy().convertTo(KILOBYTES) + LINE_SEPARATOR);
-                    printWriter.write(
-                            "Heap After GC Max: " + jvmRun.getMaxHeapAfterGc().convertTo(KILOBYTES) + LINE_SEPARATOR);
-                    printWriter
-                            .write("Heap Allocation Max: " + jvmRun.getMaxHeap().convertTo(KILOBYTES) + LINE_SEPARATOR);
-                } else if (jvmRun.getMaxHeapNonBlocking().greaterThan(ZERO)) {
-                    printWriter.write("Heap Used Max: " + jvmRun.getMaxHeapOccupancyNonBlocking().convertTo(KILOBYTES)
-                            + LINE_SEPARATOR);
-                    printWriter.write("Heap After GC Max: " + jvmRun.getMaxHeapAfterGcNonBlocking().convertTo(KILOBYTES)
+            // Heap stats
+            if (jvmRun.getMaxHeap().greaterThan(ZERO)) {
+                printWriter.write(
+                        "Heap Used Max: " + jvmRun.getMaxHeapOccupancy().convertTo(KILOBYTES) + LINE_SEPARATOR);
+                printWriter.write(
+                        "Heap After GC Max: " + jvmRun.getMaxHeapAfterGc().convertTo(KILOBYTES) + LINE_SEPARATOR);
+                printWriter
+                        .write("Heap Allocation Max: " + jvmRun.getMaxHeap().convertTo(KILOBYTES) + LINE_SEPARATOR);
+            } else if (jvmRun.getMaxHeapNonBlocking().greaterThan(ZERO)) {
+                printWriter.write("Heap Used Max: " + jvmRun.getMaxHeapOccupancyNonBlocking().convertTo(KILOBYTES)
+                        + LINE_SEPARATOR);
+                printWriter.write("Heap After GC Max: " + jvmRun.getMaxHeapAfterGcNonBlocking().convertTo(KILOBYTES)
+                        + LINE_SEPARATOR);
+                printWriter.write("Heap Allocation Max: " + jvmRun.getMaxHeapNonBlocking().convertTo(KILOBYTES)
+                        + LINE_SEPARATOR);
+            }
+
+            // Perm/Metaspace stats
+            if (jvmRun.getMaxClassSpace().greaterThan(ZERO)) {
+                if (jvmRun.getAnalysis() != null && jvmRun.hasAnalysis(INFO_PERM_GEN.getKey())) {
+                    printWriter.write("Perm Gen Used Max: "
+                            + jvmRun.getMaxClassSpaceOccupancy().convertTo(KILOBYTES) + LINE_SEPARATOR);
+                    printWriter.write("Perm Gen After GC Max: "
+                            + jvmRun.getMaxClassSpaceAfterGc().convertTo(KILOBYTES) + LINE_SEPARATOR);
+                    printWriter.write("Perm Gen Allocation Max: " + jvmRun.getMaxClassSpace().convertTo(KILOBYTES)
                             + LINE_SEPARATOR);
-                    printWriter.write("Heap Allocation Max: " + jvmRun.getMaxHeapNonBlocking().convertTo(KILOBYTES)
+                } else {
+                    printWriter.write("Metaspace Used Max: "
+                            + jvmRun.getMaxClassSpaceOccupancy().convertTo(KILOBYTES) + LINE_SEPARATOR);
+                    printWriter.write("Metaspace After GC Max: "
+                            + jvmRun.getMaxClassSpaceAfterGc().convertTo(KILOBYTES) + LINE_SEPARATOR);
+                    printWriter.write("Metaspace Allocation Max: " + jvmRun.getMaxClassSpace().convertTo(KILOBYTES)
                             + LINE_SEPARATOR);
                 }
-
-                // Perm/Metaspace stats
-                if (jvmRun.getMaxClassSpace().greaterThan(ZERO)) {
-                    if (jvmRun.getAnalysis() != null && jvmRun.hasAnalysis(INFO_PERM_GEN.getKey())) {
-                        printWriter.write("Perm Gen Used Max: "
-                                + jvmRun.getMaxClassSpaceOccupancy().convertTo(KILOBYTES) + LINE_SEPARATOR);
-                        printWriter.write("Perm Gen After GC Max: "
-                                + jvmRun.getMaxClassSpaceAfterGc().convertTo(KILOBYTES) + LINE_SEPARATOR);
-                        printWriter.write("Perm Gen Allocation Max: " + jvmRun.getMaxClassSpace().convertTo(KILOBYTES)
-                                + LINE_SEPARATOR);
-                    } else {
-                        printWriter.write("Metaspace Used Max: "
-                                + jvmRun.getMaxClassSpaceOccupancy().convertTo(KILOBYTES) + LINE_SEPARATOR);
-                        printWriter.write("Metaspace After GC Max: "
-                                + jvmRun.getMaxClassSpaceAfterGc().convertTo(KILOBYTES) + LINE_SEPARATOR);
-                        printWriter.write("Metaspace Allocation Max: " + jvmRun.getMaxClassSpace().convertTo(KILOBYTES)
-                                + LINE_SEPARATOR);
-                    }
-                } else if (jvmRun.getMaxClassSpaceNonBlocking().greaterThan(ZERO)) {
-                    if (jvmRun.getAnalysis() != null && jvmRun.hasAnalysis(INFO_PERM_GEN.getKey())) {
-                        printWriter.write("Perm Gen Used Max: "
-                                + jvmRun.getMaxClassSpaceOccupancyNonBlocking().convertTo(KILOBYTES) + LINE_SEPARATOR);
-                        printWriter.write("Perm Gen After GC Max: "
-                                + jvmRun.getMaxClassSpaceAfterGcNonBlocking().convertTo(KILOBYTES) + LINE_SEPARATOR);
-                        printWriter.write("Perm Gen Allocation Max: "
-                                + jvmRun.getMaxClassSpaceNonBlocking().convertTo(KILOBYTES) + LINE_SEPARATOR);
-                    } else {
-                        printWriter.write("Metaspace Used Max: "
-                                + jvmRun.getMaxClassSpaceOccupancyNonBlocking().convertTo(KILOBYTES) + LINE_SEPARATOR);
-                        printWriter.write("Metaspace After GC Max: "
-                                + jvmRun.getMaxClassSpaceAfterGcNonBlocking().convertTo(KILOBYTES) + LINE_SEPARATOR);
-                        printWriter.write("Metaspace Allocation Max: "
-                                + jvmRun.getMaxClassSpaceNonBlocking().convertTo(KILOBYTES) + LINE_SEPARATOR);
-                    }
-                }
-                // GC throughput
-                printWriter.write("GC Throughput: ");
-                if ((jvmRun.getGcThroughput() == 100 || jvmRun.getGcThroughput() == 0)
-                        && jvmRun.getBlockingEventCount() > 0) {
-                    // Provide clue it's rounded to 100
-                    printWriter.write("~");
+            } else if (jvmRun.getMaxClassSpaceNonBlocking().greaterThan(ZERO)) {
+                if (jvmRun.getAnalysis() != null && jvmRun.hasAnalysis(INFO_PERM_GEN.getKey())) {
+                    printWriter.write("Perm Gen Used Max: "
+                            + jvmRun.getMaxClassSpaceOccupancyNonBlocking().convertTo(KILOBYTES) + LINE_SEPARATOR);
+                    printWriter.write("Perm Gen After GC Max: "
+                            + jvmRun.getMaxClassSpaceAfterGcNonBlocking().convertTo(KILOBYTES) + LINE_SEPARATOR);
+                    printWriter.write("Perm Gen Allocation Max: "
+                            + jvmRun.getMaxClassSpaceNonBlocking().convertTo(KILOBYTES) + LINE_SEPARATOR);
+                } else {
+                    printWriter.write("Metaspace Used Max: "
+                            + jvmRun.getMaxClassSpaceOccupancyNonBlocking().convertTo(KILOBYTES) + LINE_SEPARATOR);
+                    printWriter.write("Metaspace After GC Max: "
+                            + jvmRun.getMaxClassSpaceAfterGcNonBlocking().convertTo(KILOBYTES) + LINE_SEPARATOR);
+                    printWriter.write("Metaspace Allocation Max: "
+                            + jvmRun.getMaxClassSpaceNonBlocking().convertTo(KILOBYTES) + LINE_SEPARATOR);
                 }
-                printWriter.write(jvmRun.getGcThroughput() + "%" + LINE_SEPARATOR);
+            }
+            // GC throughput
+            printWriter.write("GC Throughput: ");
+            if ((jvmRun.getGcThroughput() == 100 || jvmRun.getGcThroughput() == 0)
+                    && jvmRun.getBlockingEventCount() > 0) {
+                // Provide clue it's rounded to 100
+                printWriter.write("~");
+            }
+            printWriter.write(jvmRun.getGcThroughput() + "%" + LINE_SEPARATOR);
 
-                // As of now the allocation rate is only implemented for G1GC collector.
-                if (jvmRun.getJvmOptions().getUseG1Gc() != null
-                        || jvmRun.getEventTypes().contains(EventType.G1_YOUNG_PAUSE)) {
-                    BigDecimal allocationRate = jvmRun.getAllocationRate();
-                    if (allocationRate.longValue() > 0) {
-                        Memory gbPerSec = Memory.memory(allocationRate.longValue(), KILOBYTES);
-                        printWriter.write("Allocation Rate: " + Long.toString(gbPerSec.getValue(MEGABYTES)) + " MB/sec"
-                                + LINE_SEPARATOR);
-                    }
+            // As of now the allocation rate is only implemented for G1GC collector.
+            if (jvmRun.getJvmOptions().getUseG1Gc() != null
+                    || jvmRun.getEventTypes().contains(EventType.G1_YOUNG_PAUSE)) {
+                BigDecimal allocationRate = jvmRun.getAllocationRate();
+                if (allocationRate.longValue() > 0) {
+                    Memory gbPerSec = Memory.memory(allocationRate.longValue(), KILOBYTES);
+                    printWriter.write("Allocation Rate: " + Long.toString(gbPerSec.getValue(MEGABYTES)) + " MB/sec"
+                            + LINE_SEPARATOR);
                 }
+            }
 
-                // GC max pause
-                BigDecimal maxGcPause = JdkMath.convertMicrosToSecs(jvmRun.getDurationMax());
-                printWriter.write("GC Pause Max: ");
-                if (maxGcPause.compareTo(BigDecimal.ZERO) == 0 && jvmRun.getBlockingEventCount() > 0) {
+            // GC max pause
+            BigDecimal maxGcPause = JdkMath.convertMicrosToSecs(jvmRun.getDurationMax());
+            printWriter.write("GC Pause Max: ");
+            if (maxGcPause.compareTo(BigDecimal.ZERO) == 0 && jvmRun.getBlockingEventCount() > 0) {
+                // Provide rounding clue
+                printWriter.write("~");
+            }
+            printWriter.write(maxGcPause.toString());
+            printWriter.write(" secs" + LINE_SEPARATOR);
+            // G1 external root scanning max
+            if (jvmRun.getExtRootScanningTimeMax() > 0) {
+                BigDecimal extRootScanningMax = JdkMath.convertMicrosToSecs(jvmRun.getExtRootScanningTimeMax());
+                printWriter.write("|--Ext Root Scanning: ");
+                if (extRootScanningMax.compareTo(BigDecimal.ZERO) == 0 && jvmRun.getBlockingEventCount() > 0) {
                     // Provide rounding clue
                     printWriter.write("~");
                 }
-                printWriter.write(maxGcPause.toString());
+                printWriter.write(extRootScanningMax.toString());
                 printWriter.write(" secs" + LINE_SEPARATOR);
-                // G1 external root scanning max
-                if (jvmRun.getExtRootScanningTimeMax() > 0) {
-                    BigDecimal extRootScanningMax = JdkMath.convertMicrosToSecs(jvmRun.getExtRootScanningTimeMax());
-                    printWriter.write("|--Ext Root Scanning: ");
-                    if (extRootScanningMax.compareTo(BigDecimal.ZERO) == 0 && jvmRun.getBlockingEventCount() > 0) {
-                        // Provide rounding clue
-                        printWriter.write("~");
-                    }
-                    printWriter.write(extRootScanningMax.toString());
-                    printWriter.write(" secs" + LINE_SEPARATOR);
-                }
-                // GC total pause time
-                BigDecimal totalGcPause = JdkMath.convertMicrosToSecs(jvmRun.getDurationTotal());
-                printWriter.write("GC Pause Total: ");
-                if (totalGcPause.compareTo(BigDecimal.ZERO) == 0 && jvmRun.getBlockingEventCount() > 0) {
+            }
+            // GC total pause time
+            BigDecimal totalGcPause = JdkMath.convertMicrosToSecs(jvmRun.getDurationTotal());
+            printWriter.write("GC Pause Total: ");
+            if (totalGcPause.compareTo(BigDecimal.ZERO) == 0 && jvmRun.getBlockingEventCount() > 0) {
+                // Provide rounding clue
+                printWriter.write("~");
+            }
+            printWriter.write(totalGcPause.toString());
+            printWriter.write(" secs" + LINE_SEPARATOR);
+            // G1 external root scanning total
+            if (jvmRun.getExtRootScanningTimeTotal() > 0) {
+                BigDecimal extRootScanningTotal = JdkMath.convertMicrosToSecs(jvmRun.getExtRootScanningTimeTotal());
+                printWriter.write("|--Ext Root Scanning: ");
+                if (extRootScanningTotal.compareTo(BigDecimal.ZERO) == 0 && jvmRun.getBlockingEventCount() > 0) {
                     // Provide rounding clue
                     printWriter.write("~");
                 }
-                printWriter.write(totalGcPause.toString());
+                printWriter.write(extRootScanningTotal.toString());
                 printWriter.write(" secs" + LINE_SEPARATOR);
-                // G1 external root scanning total
-                if (jvmRun.getExtRootScanningTimeTotal() > 0) {
-                    BigDecimal extRootScanningTotal = JdkMath.convertMicrosToSecs(jvmRun.getExtRootScanningTimeTotal());
-                    printWriter.write("|--Ext Root Scanning: ");
-                    if (extRootScanningTotal.compareTo(BigDecimal.ZERO) == 0 && jvmRun.getBlockingEventCount() > 0) {
-                        // Provide rounding clue
-                        printWriter.write("~");
-                    }
-                    printWriter.write(extRootScanningTotal.toString());
-                    printWriter.write(" secs" + LINE_SEPARATOR);
-                }
-                // G1 "Other"
-                if (jvmRun.getOtherTimeTotal() > 0) {
-                    // max
-                    BigDecimal otherMax = JdkMath.convertMicrosToSecs(jvmRun.getOtherTimeMax());
-                    printWriter.write("Other Max: ");
-                    if (otherMax.compareTo(BigDecimal.ZERO) == 0 && jvmRun.getBlockingEventCount() > 0) {
-                        // Provide rounding clue
-                        printWriter.write("~");
-                    }
-                    printWriter.write(otherMax.toString());
-                    printWriter.write(" secs" + LINE_SEPARATOR);
-                    // total
-                    BigDecimal otherTotal = JdkMath.convertMicrosToSecs(jvmRun.getOtherTimeTotal());
-                    printWriter.write("Other Total: ");
-                    if (otherTotal.compareTo(BigDecimal.ZERO) == 0 && jvmRun.getBlockingEventCount() > 0) {
-                        // Provide rounding clue
-                        printWriter.write("~");
-                    }
-                    printWriter.write(otherTotal.toString());
-                    printWriter.write(" secs" + LINE_SEPARATOR);
-                }
             }
-            if (jvmRun.getStoppedTimeEventCount() > 0) {
-                // Stopped time throughput
-                printWriter.write("Stopped Time Throughput: ");
-                if (jvmRun.getStoppedTimeThroughput() == 100 && jvmRun.getStoppedTimeEventCount() > 0) {
-                    // Provide clue it's rounded to 100
+            // G1 "Other"
+            if (jvmRun.getOtherTimeTotal() > 0) {
+                // max
+                BigDecimal otherMax = JdkMath.convertMicrosToSecs(jvmRun.getOtherTimeMax());
+                printWriter.write("Other Max: ");
+                if (otherMax.compareTo(BigDecimal.ZERO) == 0 && jvmRun.getBlockingEventCount() > 0) {
+                    // Provide rounding clue
                     printWriter.write("~");
                 }
-                printWriter.write(jvmRun.getStoppedTimeThroughput() + "%" + LINE_SEPARATOR);
-                // Max stopped time
-                BigDecimal maxStoppedPause = JdkMath.convertMicrosToSecs(jvmRun.getStoppedTimeMax());
-                printWriter.write("Stopped Time Max: " + maxStoppedPause.toString() + " secs" + LINE_SEPARATOR);
-                // Total stopped time
-                BigDecimal totalStoppedTime = JdkMath.convertMicrosToSecs(jvmRun.getStoppedTimeTotal());
-                printWriter.write("Stopped Time Total: " + totalStoppedTime.toString() + " secs" + LINE_SEPARATOR);
-                // Ratio of GC vs. stopped time. 100 means all stopped time due to GC.
-                if (jvmRun.getBlockingEventCount() > 0) {
-                    printWriter.write("GC/Stopped Ratio: " + jvmRun.getGcStoppedRatio() + "%" + LINE_SEPARATOR);
+                printWriter.write(otherMax.toString());
+                printWriter.write(" secs" + LINE_SEPARATOR);
+                // total
+                BigDecimal otherTotal = JdkMath.convertMicrosToSecs(jvmRun.getOtherTimeTotal());
+                printWriter.write("Other Total: ");
+                if (otherTotal.compareTo(BigDecimal.ZERO) == 0 && jvmRun.getBlockingEventCount() > 0) {
+                    // Provide rounding clue
+                    printWriter.write("~");
                 }
+                printWriter.write(otherTotal.toString());
+                printWriter.write(" secs" + LINE_SEPARATOR);
+            }
+        }
+        if (jvmRun.getStoppedTimeEventCount() > 0) {
+            // Stopped time throughput
+            printWriter.write("Stopped Time Throughput: ");
+            if (jvmRun.getStoppedTimeThroughput() == 100 && jvmRun.getStoppedTimeEventCount() > 0) {
+                // Provide clue it's rounded to 100
+                printWriter.write("~");
+            }
+            printWriter.write(jvmRun.getStoppedTimeThroughput() + "%" + LINE_SEPARATOR);
+            // Max stopped time
+            BigDecimal maxStoppedPause = JdkMath.convertMicrosToSecs(jvmRun.getStoppedTimeMax());
+            printWriter.write("Stopped Time Max: " + maxStoppedPause.toString() + " secs" + LINE_SEPARATOR);
+            // Total stopped time
+            BigDecimal totalStoppedTime = JdkMath.convertMicrosToSecs(jvmRun.getStoppedTimeTotal());
+            printWriter.write("Stopped Time Total: " + totalStoppedTime.toString() + " secs" + LINE_SEPARATOR);
+            // Ratio of GC vs. stopped time. 100 means all stopped time due to GC.
+            if (jvmRun.getBlockingEventCount() > 0) {
+                printWriter.write("GC/Stopped Ratio: " + jvmRun.getGcStoppedRatio() + "%" + LINE_SEPARATOR);
             }
+        }
 
-            if (jvmRun.getUnifiedSafepointEventCount() > 0) {
-                // Stopped time throughput
-                printWriter.write("Safepoint Throughput: ");
-                if (jvmRun.getUnifiedSafepointThroughput() == 100 && jvmRun.getUnifiedSafepointEventCount() > 0) {
-                    // Provide clue it's rounded to 100
-                    printWriter.write("~");
+        if (jvmRun.getUnifiedSafepointEventCount() > 0) {
+            // Stopped time throughput
+            printWriter.write("Safepoint Throughput: ");
+            if (jvmRun.getUnifiedSafepointThroughput() == 100 && jvmRun.getUnifiedSafepointEventCount() > 0) {
+                // Provide clue it's rounded to 100
+                printWriter.write("~");
+            }
+            printWriter.write(jvmRun.getUnifiedSafepointThroughput() + "%" + LINE_SEPARATOR);
+            // Max safepoint time
+            BigDecimal maxSafepointPause = JdkMath.convertNanosToSecs(jvmRun.getUnifiedSafepointTimeMax());
+            printWriter.write("Safepoint Pause Max: ");
+            if (maxSafepointPause.compareTo(BigDecimal.ZERO) == 0) {
+                // Provide rounding clue
+                printWriter.write("~");
+            }
+            printWriter.write(maxSafepointPause.toString());
+            printWriter.write(" secs" + LINE_SEPARATOR);
+            // Total safepoint time
+            BigDecimal totalSafepointTime = JdkMath.convertNanosToSecs(jvmRun.getUnifiedSafepointTimeTotal());
+            printWriter.write("Safepoint Pause Total: " + totalSafepointTime.toString() + " secs" + LINE_SEPARATOR);
+            // Ratio of GC vs. safepoint time. 100 means all stopped time due to GC.
+            if (jvmRun.getBlockingEventCount() > 0) {
+                printWriter
+                        .write("GC/Safepoint Ratio: " + jvmRun.getGcUnifiedSafepointRatio() + "%" + LINE_SEPARATOR);
+            }
+            // Safepoint summary
+            printWriter.write(LINEBREAK_DOUBLE);
+            printWriter.printf("%-30s%10s%12s%7s%12s%n", "SAFEPOINT:", "#", "Time (s)", "", "Max (s)");
+            printWriter.write(LINEBREAK_SINGLE);
+            List<Map.Entry<Trigger, LongSummaryStatistics>> metrics = jvmRun.getSafepointMetrics();
+            Iterator<Map.Entry<Trigger, LongSummaryStatistics>> iterator = metrics.iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<Trigger, LongSummaryStatistics> entry = iterator.next();
+                BigDecimal pauseTotal = JdkMath.convertMicrosToSecs(entry.getValue().getSum());
+                String pauseTotalString = null;
+                if (pauseTotal.toString().equals("0.000")) {
+                    // give rounding hint
+                    pauseTotalString = "~" + pauseTotal.toString();
+                } else {
+                    pauseTotalString = pauseTotal.toString();
                 }
-                printWriter.write(jvmRun.getUnifiedSafepointThroughput() + "%" + LINE_SEPARATOR);
-                // Max safepoint time
-                BigDecimal maxSafepointPause = JdkMath.convertNanosToSecs(jvmRun.getUnifiedSafepointTimeMax());
-                printWriter.write("Safepoint Pause Max: ");
-                if (maxSafepointPause.compareTo(BigDecimal.ZERO) == 0) {
-                    // Provide rounding clue
-                    printWriter.write("~");
+                BigDecimal percent;
+                if (jvmRun.getUnifiedSafepointTimeTotal() > 0) {
+                    percent = new BigDecimal(entry.getValue().getSum());
+                    percent = percent.divide(JdkMath.convertNanosToMicros(jvmRun.getUnifiedSafepointTimeTotal()), 2,
+                            RoundingMode.HALF_EVEN);
+                    percent = percent.movePointRight(2);
+                } else {
+                    percent = new BigDecimal(100);
                 }
-                printWriter.write(maxSafepointPause.toString());
-                printWriter.write(" secs" + LINE_SEPARATOR);
-                // Total safepoint time
-                BigDecimal totalSafepointTime = JdkMath.convertNanosToSecs(jvmRun.getUnifiedSafepointTimeTotal());
-                printWriter.write("Safepoint Pause Total: " + totalSafepointTime.toString() + " secs" + LINE_SEPARATOR);
-                // Ratio of GC vs. safepoint time. 100 means all stopped time due to GC.
-                if (jvmRun.getBlockingEventCount() > 0) {
-                    printWriter
-                            .write("GC/Safepoint Ratio: " + jvmRun.getGcUnifiedSafepointRatio() + "%" + LINE_SEPARATOR);
-                }
-                // Safepoint summary
-                printWriter.write(LINEBREAK_DOUBLE);
-                printWriter.printf("%-30s%10s%12s%7s%12s%n", "SAFEPOINT:", "#", "Time (s)", "", "Max (s)");
-                printWriter.write(LINEBREAK_SINGLE);
-                List<Map.Entry<Trigger, LongSummaryStatistics>> metrics = jvmRun.getSafepointMetrics();
-                Iterator<Map.Entry<Trigger, LongSummaryStatistics>> iterator = metrics.iterator();
-                while (iterator.hasNext()) {
-                    Map.Entry<Trigger, LongSummaryStatistics> entry = iterator.next();
-                    BigDecimal pauseTotal = JdkMath.convertMicrosToSecs(entry.getValue().getSum());
-                    String pauseTotalString = null;
-                    if (pauseTotal.toString().equals("0.000")) {
-                        // give rounding hint
-                        pauseTotalString = "~" + pauseTotal.toString();
-                    } else {
-                        pauseTotalString = pauseTotal.toString();
-                    }
-                    BigDecimal percent;
-                    if (jvmRun.getUnifiedSafepointTimeTotal() > 0) {
-                        percent = new BigDecimal(entry.getValue().getSum());
-                        percent = percent.divide(JdkMath.convertNanosToMicros(jvmRun.getUnifiedSafepointTimeTotal()), 2,
-                                RoundingMode.HALF_EVEN);
-                        percent = percent.movePointRight(2);
-                    } else {
-                        percent = new BigDecimal(100);
-                    }
-                    String percentString = null;
-                    if (percent.intValue() == 0) {
-                        // give rounding hint
-                        percentString = "~" + percent.toString();
-                    } else {
-                        percentString = percent.toString();
-                    }
-                    BigDecimal pauseMax = JdkMath.convertMicrosToSecs(entry.getValue().getMax());
-                    String pauseMaxString = null;
-                    if (pauseMax.toString().equals("0.000")) {
-                        // give rounding hint
-                        pauseMaxString = "~" + pauseMax.toString();
-                    } else {
-                        pauseMaxString = pauseMax.toString();
-                    }
-                    printWriter.printf("%-30s%10s%12s%6s%%%12s%n", UnifiedSafepoint.getTriggerLiteral(entry.getKey()),
-                            entry.getValue().getCount(), pauseTotalString, percentString, pauseMaxString);
-                }
-            }
-
-            // Analysis
-            List<String[]> analysis = jvmRun.getAnalysis();
-            if (!analysis.isEmpty()) {
-                printWriter.write(LINEBREAK_DOUBLE);
-
-                // Determine analysis levels
-                List<String[]> error = new ArrayList<String[]>();
-                List<String[]> warn = new ArrayList<String[]>();
-                List<String[]> info = new ArrayList<String[]>();
-
-                Iterator<String[]> iteratorAnalysis = analysis.iterator();
-                while (iteratorAnalysis.hasNext()) {
-                    String[] a = iteratorAnalysis.next();
-                    String level = a[0].split("\\.")[0];
-                    if (level.equals("error")) {
-                        error.add(a);
-                    } else if (level.equals("warn")) {
-                        warn.add(a);
-                    } else if (level.equals("info")) {
-                        info.add(a);
-                    }
+                String percentString = null;
+                if (percent.intValue() == 0) {
+                    // give rounding hint
+                    percentString = "~" + percent.toString();
+                } else {
+                    percentString = percent.toString();
+                }
+                BigDecimal pauseMax = JdkMath.convertMicrosToSecs(entry.getValue().getMax());
+                String pauseMaxString = null;
+                if (pauseMax.toString().equals("0.000")) {
+                    // give rounding hint
+                    pauseMaxString = "~" + pauseMax.toString();
+                } else {
+                    pauseMaxString = pauseMax.toString();
                 }
+                printWriter.printf("%-30s%10s%12s%6s%%%12s%n", UnifiedSafepoint.getTriggerLiteral(entry.getKey()),
+                        entry.getValue().getCount(), pauseTotalString, percentString, pauseMaxString);
+            }
+        }
 
-                printWriter.write("ANALYSIS:" + LINE_SEPARATOR);
+        // Worst overhead in sliding windows
+        printOverheads(printWriter, "GC", jvmRun.getGcOverheads());
+        printOverheads(printWriter, "Safepoint", jvmRun.getSafepointOverheads());
 
-                boolean printHeader = true;
-                // ERROR
-                for (String[] a : error) {
-                    if (printHeader) {
-                        printWriter.write(LINEBREAK_SINGLE);
-                        printWriter.write("error" + LINE_SEPARATOR);
-                        printWriter.write(LINEBREAK_SINGLE);
-                    }
-                    printHeader = false;
-                    printWriter.write("*");
-                    printWriter.write(a[1]);
-                    printWriter.write(LINE_SEPARATOR);
+        // Pause percentiles
+        printPercentiles(printWriter, "GC PAUSE (ms):", jvmRun.getEventTypeHistograms(), EventType::toString);
+        printPercentiles(printWriter, "GC TRIGGER (ms):", jvmRun.getGcTriggerHistograms(), GcTrigger::toString);
+        printPercentiles(printWriter, "SAFEPOINT (ms):", jvmRun.getSafepointHistograms(),
+                UnifiedSafepoint::getTriggerLiteral);
+
+        // Analysis
+        List<String[]> analysis = jvmRun.getAnalysis();
+        if (!analysis.isEmpty()) {
+            printWriter.write(LINEBREAK_DOUBLE);
+
+            // Determine analysis levels
+            List<String[]> error = new ArrayList<String[]>();
+            List<String[]> warn = new ArrayList<String[]>();
+            List<String[]> info = new ArrayList<String[]>();
+
+            Iterator<String[]> iteratorAnalysis = analysis.iterator();
+            while (iteratorAnalysis.hasNext()) {
+                String[] a = iteratorAnalysis.next();
+                String level = a[0].split("\\.")[0];
+                if (level.equals("error")) {
+                    error.add(a);
+                } else if (level.equals("warn")) {
+                    warn.add(a);
+                } else if (level.equals("info")) {
+                    info.add(a);
                 }
-                // WARN
-                printHeader = true;
-                for (String[] a : warn) {
-                    if (printHeader) {
-                        printWriter.write(LINEBREAK_SINGLE);
-                        printWriter.write("warn" + LINE_SEPARATOR);
-                        printWriter.write(LINEBREAK_SINGLE);
-                    }
-                    printHeader = false;
-                    printWriter.write("*");
-                    printWriter.write(a[1]);
-                    printWriter.write(LINE_SEPARATOR);
+            }
+
+            printWriter.write("ANALYSIS:" + LINE_SEPARATOR);
+
+            boolean printHeader = true;
+            // ERROR
+            for (String[] a : error) {
+                if (printHeader) {
+                    printWriter.write(LINEBREAK_SINGLE);
+                    printWriter.write("error" + LINE_SEPARATOR);
+                    printWriter.write(LINEBREAK_SINGLE);
                 }
-                // INFO
-                printHeader = true;
-                for (String[] a : info) {
-                    if (printHeader) {
-                        printWriter.write(LINEBREAK_SINGLE);
-                        printWriter.write("info" + LINE_SEPARATOR);
-                        printWriter.write(LINEBREAK_SINGLE);
-                    }
-                    printHeader = false;
-                    printWriter.write("*");
-                    printWriter.write(a[1]);
-                    printWriter.write(LINE_SEPARATOR);
+                printHeader = false;
+                printWriter.write("*");
+                printWriter.write(a[1]);
+                printWriter.write(LINE_SEPARATOR);
+            }
+            // WARN
+            printHeader = true;
+            for (String[] a : warn) {
+                if (printHeader) {
+                    printWriter.write(LINEBREAK_SINGLE);
+                    printWriter.write("warn" + LINE_SEPARATOR);
+                    printWriter.write(LINEBREAK_SINGLE);
                 }
+                printHeader = false;
+                printWriter.write("*");
+                printWriter.write(a[1]);
+                printWriter.write(LINE_SEPARATOR);
+            }
+            // INFO
+            printHeader = true;
+            for (String[] a : info) {
+                if (printHeader) {
+                    printWriter.write(LINEBREAK_SINGLE);
+                    printWriter.write("info" + LINE_SEPARATOR);
+                    printWriter.write(LINEBREAK_SINGLE);
+                }
+                printHeader = false;
+                printWriter.write("*");
+                printWriter.write(a[1]);
+                printWriter.write(LINE_SEPARATOR);
             }
+        }
 
-            // GC Bottlenecks
-            List<String> gcBottlenecks = jvmRun.getGcBottlenecks();
-            if (!gcBottlenecks.isEmpty()) {
-                printWriter.write(LINEBREAK_DOUBLE);
-                printWriter.write("GC throughput less than " + jvmRun.getThroughputThreshold() + "%" + LINE_SEPARATOR);
-                printWriter.write(LINEBREAK_SINGLE);
-                for (String gcBottleneck : gcBottlenecks) {
-                    if (jvmRun.getStartDate() != null) {
-                        printWriter
-                                .write(JdkUtil.convertLogEntryTimestampsToDateStamp(gcBottleneck, jvmRun.getStartDate())
-                                        + LINE_SEPARATOR);
-                    } else {
-                        printWriter.write(gcBottleneck + LINE_SEPARATOR);
-                    }
+        // GC Bottlenecks
+        List<String> gcBottlenecks = jvmRun.getGcBottlenecks();
+        if (!gcBottlenecks.isEmpty()) {
+            printWriter.write(LINEBREAK_DOUBLE);
+            printWriter.write("GC throughput less than " + jvmRun.getThroughputThreshold() + "%" + LINE_SEPARATOR);
+            printWriter.write(LINEBREAK_SINGLE);
+            for (String gcBottleneck : gcBottlenecks) {
+                if (jvmRun.getStartDate() != null) {
+                    printWriter
+                            .write(JdkUtil.convertLogEntryTimestampsToDateStamp(gcBottleneck, jvmRun.getStartDate())
+                                    + LINE_SEPARATOR);
+                } else {
+                    printWriter.write(gcBottleneck + LINE_SEPARATOR);
                 }
             }
+        }
 
-            // Safepoint Bottlenecks
-            List<String> safepointBottlenecks = jvmRun.getSafepointBottlenecks();
-            if (!safepointBottlenecks.isEmpty()) {
-                printWriter.write(LINEBREAK_DOUBLE);
-                printWriter.write(
-                        "Safepoint throughput less than " + jvmRun.getThroughputThreshold() + "%" + LINE_SEPARATOR);
-                printWriter.write(LINEBREAK_SINGLE);
-                for (String safepointBottleneck : safepointBottlenecks) {
-                    if (jvmRun.getStartDate() != null) {
-                        printWriter.write(
-                                JdkUtil.convertLogEntryTimestampsToDateStamp(safepointBottleneck, jvmRun.getStartDate())
-                                        + LINE_SEPARATOR);
-                    } else {
-                        printWriter.write(safepointBottleneck + LINE_SEPARATOR);
-                    }
+        // Safepoint Bottlenecks
+        List<String> safepointBottlenecks = jvmRun.getSafepointBottlenecks();
+        if (!safepointBottlenecks.isEmpty()) {
+            printWriter.write(LINEBREAK_DOUBLE);
+            printWriter.write(
+                    "Safepoint throughput less than " + jvmRun.getThroughputThreshold() + "%" + LINE_SEPARATOR);
+            printWriter.write(LINEBREAK_SINGLE);
+            for (String safepointBottleneck : safepointBottlenecks) {
+                if (jvmRun.getStartDate() != null) {
+                    printWriter.write(
+                            JdkUtil.convertLogEntryTimestampsToDateStamp(safepointBottleneck, jvmRun.getStartDate())
+                                    + LINE_SEPARATOR);
+                } else {
+                    printWriter.write(safepointBottleneck + LINE_SEPARATOR);
                 }
             }
+        }
 
-            // Unidentified log lines
-            List<String> unidentifiedLogLines = jvmRun.getUnidentifiedLogLines();
-            if (!unidentifiedLogLines.isEmpty()) {
-                printWriter.write(LINEBREAK_DOUBLE);
-                printWriter.write(unidentifiedLogLines.size() + " UNIDENTIFIED LOG LINE(S):" + LINE_SEPARATOR);
-                printWriter.write(LINEBREAK_SINGLE);
+        // Unidentified log lines
+        UnidentifiedLogLines unidentifiedLogLines = jvmRun.getUnidentifiedLogLines();
+        if (!unidentifiedLogLines.isEmpty()) {
+            printWriter.write(LINEBREAK_DOUBLE);
+            printWriter.write(unidentifiedLogLines.getCount() + " UNIDENTIFIED LOG LINE(S):" + LINE_SEPARATOR);
+            printWriter.write(LINEBREAK_SINGLE);
 
-                for (String unidentifiedLogLine : unidentifiedLogLines) {
+            for (Cluster cluster : unidentifiedLogLines.getClusters()) {
+                for (String unidentifiedLogLine : cluster.getExemplars()) {
                     printWriter.write(unidentifiedLogLine);
                     printWriter.write(LINE_SEPARATOR);
                 }
-            }
-            printWriter.write(LINEBREAK_DOUBLE);
-        } catch (FileNotFoundException e) {
-            e.printStackTrace();
-        } catch (IOException e) {
-            e.printStackTrace();
-        } finally {
-            // Close streams
-            if (printWriter != null) {
-                try {
-                    printWriter.close();
-                } catch (Exception e) {
-                    e.printStackTrace();
+                if (cluster.getCount() > cluster.getExemplars().size()) {
+                    printWriter.write("... " + (cluster.getCount() - cluster.getExemplars().size())
+                            + " more like: " + cluster.getSignature() + LINE_SEPARATOR);
                 }
             }
-            if (fileWriter != null) {
-                try {
-                    fileWriter.close();
-                } catch (IOException e) {
-                    e.printStackTrace();
-                }
+            if (unidentifiedLogLines.getOtherCount() > 0) {
+                printWriter.write("... " + unidentifiedLogLines.getOtherCount() + " more with other signatures"
+                        + LINE_SEPARATOR);
             }
         }
+        printWriter.write(LINEBREAK_DOUBLE);
+    }
+
+    /**
+     * @param logFileName
+     *            A directory, or a glob (e.g. <code>logs/*.log</code>).
+     * @param summaryFile
+     *            The fleet summary file, not analyzed.
+     * @return The gc logging of each JVM run in the directory, or matching the glob, in name order. A file is the gc
+     *         log of one JVM run, and a subdirectory has the log files of the rotation set of one JVM run. Hidden
+     *         files and reports from a prior batch are skipped.
+     * @throws IOException
+     *             if the directory cannot be listed.
+     */
+    static List<Path> getBatchPaths(String logFileName, File summaryFile) throws IOException {
+        File logFile = new File(logFileName);
+        Path directory;
+        PathMatcher matcher;
+        if (logFile.isDirectory()) {
+            directory = logFile.toPath();
+            matcher = path -> true;
+        } else {
+            directory = logFile.getAbsoluteFile().getParentFile().toPath();
+            matcher = FileSystems.getDefault().getPathMatcher("glob:" + logFile.getName());
+        }
+        Path summaryPath = summaryFile.getAbsoluteFile().toPath();
+        try (Stream<Path> stream = Files.list(directory)) {
+            return stream.filter(path -> matcher.matches(path.getFileName()))
+                    .filter(path -> !path.getFileName().toString().startsWith(".")
+                            && !isBatchReport(path.getFileName().toString())
+                            && !path.toAbsolutePath().equals(summaryPath))
+                    .sorted().collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * @param format
+     *            The report format.
+     * @return The suffix appended to the gc log name for the report of each JVM run in batch mode.
+     */
+    static String getBatchReportSuffix(String format) {
+        return REPORT_FORMAT_TEXT.equals(format) ? BATCH_REPORT_SUFFIX : "-report." + format;
+    }
+
+    /**
+     * @param logName
+     *            The gc log name.
+     * @param jvmRun
+     *            JVM run data.
+     * @return The fleet summary columns for the JVM run: log name, GC events, throughput, max pause and analysis
+     *         keys.
+     */
+    static String[] getBatchSummary(String logName, JvmRun jvmRun) {
+        String throughput = "";
+        String pauseMax = "";
+        if (jvmRun.getBlockingEventCount() > 0) {
+            throughput = jvmRun.getGcThroughput() + "%";
+            pauseMax = JdkMath.convertMicrosToSecs(jvmRun.getDurationMax()) + " secs";
+        }
+        StringBuilder analysis = new StringBuilder();
+        for (String[] a : jvmRun.getAnalysis()) {
+            if (analysis.length() > 0) {
+                analysis.append(", ");
+            }
+            analysis.append(a[0]);
+        }
+        return new String[] { logName, Long.toString(jvmRun.getBlockingEventCount()), throughput, pauseMax,
+                analysis.toString() };
+    }
+
+    /**
+     * @param cmd
+     *            The command line options.
+     * @return The report format (default text).
+     */
+    private static String getFormat(CommandLine cmd) {
+        return cmd.hasOption(OPTION_FORMAT_LONG) ? cmd.getOptionValue(OPTION_FORMAT_SHORT) : REPORT_FORMAT_TEXT;
+    }
+
+    /**
+     * @param cmd
+     *            The command line options.
+     * @param jvmStartDate
+     *            The JVM start date, or null if unknown.
+     * @param throughputThreshold
+     *            The bottleneck reporting throughput threshold.
+     * @param snapshot
+     *            The snapshot file to resume the analysis from if it exists, or null for none.
+     * @param verbose
+     *            Whether or not to output progress.
+     * @return The <code>GcManager</code> to store the logging of a JVM run in.
+     * @throws IOException
+     *             if the snapshot cannot be read.
+     */
+    private static GcManager getGcManager(CommandLine cmd, Date jvmStartDate, int throughputThreshold, Path snapshot,
+            boolean verbose) throws IOException {
+        GcManager gcManager;
+        if (snapshot != null && Files.exists(snapshot)) {
+            if (verbose) {
+                System.out.println("reading snapshot...");
+            }
+            gcManager = GcManager.readSnapshot(snapshot, jvmStartDate, throughputThreshold);
+        } else if (snapshot != null || cmd.hasOption(OPTION_COMPACT_LONG)) {
+            gcManager = new GcManager(jvmStartDate, throughputThreshold);
+        } else {
+            gcManager = new GcManager(jvmStartDate);
+        }
+        if (cmd.hasOption(OPTION_WINDOWS_LONG)) {
+            gcManager.setOverheadWindows(OverheadWindow.parseWindows(cmd.getOptionValue(OPTION_WINDOWS_SHORT)));
+        }
+        return gcManager;
+    }
+
+    /**
+     * @param jvmRun
+     *            JVM run data.
+     * @return A one line summary of the JVM run for follow mode, when the report is written to a file.
+     */
+    static String getSummary(JvmRun jvmRun) {
+        StringBuilder summary = new StringBuilder();
+        summary.append("GC Events: ").append(jvmRun.getBlockingEventCount());
+        if (jvmRun.getBlockingEventCount() > 0) {
+            summary.append(", GC Throughput: ").append(jvmRun.getGcThroughput()).append("%");
+            summary.append(", GC Pause Max: ").append(JdkMath.convertMicrosToSecs(jvmRun.getDurationMax()))
+                    .append(" secs");
+        }
+        if (jvmRun.getLastEvent() != null) {
+            summary.append(", Last Event: ");
+            if (jvmRun.getLastEventDatestamp() != null) {
+                summary.append(jvmRun.getLastEventDatestamp());
+            } else {
+                summary.append(JdkMath.convertMillisToSecs(jvmRun.getLastEvent().getTimestamp())).append(" secs");
+            }
+        }
+        return summary.toString();
+    }
+
+    /**
+     * @param fileName
+     *            The file name.
+     * @return Whether the file is the report of a JVM run written in batch mode, in any format.
+     */
+    private static boolean isBatchReport(String fileName) {
+        for (String format : new String[] { REPORT_FORMAT_CSV, REPORT_FORMAT_JSON, REPORT_FORMAT_TEXT }) {
+            if (fileName.endsWith(getBatchReportSuffix(format))) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -667,6 +1053,12 @@ public class Main {
             CommandLine cmd = parseOptions(args);
             if (cmd == null || cmd.hasOption(OPTION_HELP_LONG) || cmd.hasOption(OPTION_HELP_LONG)) {
                 usage();
+            } else if (cmd.hasOption(OPTION_HTTP_LONG)) {
+                // Analyze the logging posted until killed, limiting concurrent analyses to the number of processors
+                AnalysisServer server = new AnalysisServer(Integer.parseInt(cmd.getOptionValue(OPTION_HTTP_SHORT)),
+                        Runtime.getRuntime().availableProcessors());
+                server.start();
+                System.out.println("listening on http://localhost:" + server.getPort() + "/");
             } else {
                 createReport(cmd);
             }
@@ -676,13 +1068,136 @@ public class Main {
         }
     }
 
+    /**
+     * Print a table of pause time percentiles.
+     * 
+     * @param printWriter
+     *            The report output.
+     * @param heading
+     *            The table heading.
+     * @param histograms
+     *            The pause time (microseconds) histograms by key, or null if none.
+     * @param labels
+     *            The key labels.
+     */
+    private static <K extends Enum<K>> void printPercentiles(PrintWriter printWriter, String heading,
+            Map<K, PauseHistogram> histograms, Function<K, String> labels) {
+        if (histograms == null || histograms.isEmpty()) {
+            return;
+        }
+        String format = "%-26s%6s%10s%10s%10s%10s%n";
+        printWriter.write(LINEBREAK_DOUBLE);
+        printWriter.printf(format, heading, "#", "p50", "p99", "p99.9", "Max");
+        printWriter.write(LINEBREAK_SINGLE);
+        for (Map.Entry<K, PauseHistogram> entry : histograms.entrySet()) {
+            PauseHistogram histogram = entry.getValue();
+            printWriter.printf(format, labels.apply(entry.getKey()), histogram.getCount(),
+                    JdkMath.convertMicrosToMillis(histogram.getValueAtPercentile(50)),
+                    JdkMath.convertMicrosToMillis(histogram.getValueAtPercentile(99)),
+                    JdkMath.convertMicrosToMillis(histogram.getValueAtPercentile(99.9)),
+                    JdkMath.convertMicrosToMillis(histogram.getMax()));
+        }
+    }
+
+    /**
+     * Print the worst overhead (percent of time paused) in each sliding window.
+     * 
+     * @param printWriter
+     *            The report output.
+     * @param name
+     *            The pause name.
+     * @param overheads
+     *            The overhead windows, or null if none.
+     */
+    private static void printOverheads(PrintWriter printWriter, String name, List<OverheadWindow> overheads) {
+        if (overheads == null) {
+            return;
+        }
+        for (OverheadWindow overhead : overheads) {
+            if (overhead.getWorstPause() > 0) {
+                printWriter.write(name + " Overhead Max (" + overhead.getWindowSecs() + "s window): "
+                        + overhead.getWorstOverhead() + "% from "
+                        + JdkMath.convertMillisToSecs(overhead.getWorstStart()) + " to "
+                        + JdkMath.convertMillisToSecs(overhead.getWorstEnd()) + " secs" + LINE_SEPARATOR);
+            }
+        }
+    }
+
+    /**
+     * Store the garbage collection logging of a JVM run in the data store.
+     * 
+     * @param cmd
+     *            The command line options.
+     * @param gcManager
+     *            The <code>GcManager</code> to store the logging in.
+     * @param logPath
+     *            The gc log file, or a directory with the log files of a rotation set.
+     * @param snapshot
+     *            The snapshot file to save the analysis to, or null for none.
+     * @param verbose
+     *            Whether or not to output progress.
+     * @throws IOException
+     *             if the gc log file cannot be read, or the snapshot cannot be written.
+     */
+    private static void store(CommandLine cmd, GcManager gcManager, Path logPath, Path snapshot, boolean verbose)
+            throws IOException {
+        // Stream logging through preprocessing and into the data store one line at a time
+        // With a snapshot, only read the lines added to each log file since the snapshot
+        try (RotatedLogReader reader = new RotatedLogReader(RotatedLogReader.getPaths(logPath),
+                snapshot != null ? gcManager.getLogFileLines() : null)) {
+            // Allow logging to be reordered?
+            boolean reorder = cmd.hasOption(OPTION_REORDER_LONG);
+
+            // Parse logging in parallel?
+            boolean parallel = cmd.hasOption(OPTION_PARALLEL_LONG);
+
+            // Save a snapshot to resume from in the next run
+            LongConsumer checkpoint = null;
+            if (snapshot != null) {
+                checkpoint = lines -> {
+                    if (verbose) {
+                        System.out.println("writing snapshot...");
+                    }
+                    gcManager.setLogFileLines(reader.getLinesRead(lines));
+                    try {
+                        gcManager.writeSnapshot(snapshot);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                };
+            }
+
+            // Do preprocessing
+            if (cmd.hasOption(OPTION_PREPROCESS_LONG) || cmd.hasOption(OPTION_STARTDATETIME_LONG)) {
+                if (verbose) {
+                    System.out.println("preprocessing...");
+                }
+                if (parallel && snapshot == null) {
+                    gcManager.store(gcManager.preprocess(reader), reorder, true);
+                } else {
+                    // Preprocess and store in one pass, storing the events parsed during preprocessing. The snapshot
+                    // is taken before the last event, which may continue in logging not written yet.
+                    gcManager.preprocessAndStore(reader, reorder, checkpoint);
+                }
+            } else {
+                // Store garbage collection logging in data store.
+                gcManager.store(reader, reorder, parallel);
+                if (checkpoint != null) {
+                    checkpoint.accept(Long.MAX_VALUE);
+                }
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
     /**
      * Output usage help.
      */
     private static void usage() {
         // Use the built in formatter class
         HelpFormatter formatter = new HelpFormatter();
-        formatter.printHelp("garbagecat [OPTION]... [FILE]", options);
+        formatter.printHelp("garbagecat [OPTION]... [FILE|DIRECTORY]", options);
     }
 
 }
@@ -12,25 +12,45 @@
  *********************************************************************************************************************/
 package org.eclipselabs.garbagecat;
 
+import static org.eclipselabs.garbagecat.util.Constants.DEFAULT_OVERHEAD_WINDOWS;
+import static org.eclipselabs.garbagecat.util.Constants.OPTION_BATCH_LONG;
+import static org.eclipselabs.garbagecat.util.Constants.OPTION_BATCH_SHORT;
+import static org.eclipselabs.garbagecat.util.Constants.OPTION_COMPACT_LONG;
+import static org.eclipselabs.garbagecat.util.Constants.OPTION_COMPACT_SHORT;
+import static org.eclipselabs.garbagecat.util.Constants.OPTION_FOLLOW_LONG;
+import static org.eclipselabs.garbagecat.util.Constants.OPTION_FOLLOW_SHORT;
+import static org.eclipselabs.garbagecat.util.Constants.OPTION_FORMAT_LONG;
+import static org.eclipselabs.garbagecat.util.Constants.OPTION_FORMAT_SHORT;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_HELP_LONG;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_HELP_SHORT;
+import static org.eclipselabs.garbagecat.util.Constants.OPTION_HTTP_LONG;
+import static org.eclipselabs.garbagecat.util.Constants.OPTION_HTTP_SHORT;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_JVMOPTIONS_LONG;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_JVMOPTIONS_SHORT;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_OUTPUT_LONG;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_OUTPUT_SHORT;
+import static org.eclipselabs.garbagecat.util.Constants.OPTION_PARALLEL_LONG;
+import static org.eclipselabs.garbagecat.util.Constants.OPTION_PARALLEL_SHORT;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_PREPROCESS_LONG;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_PREPROCESS_SHORT;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_REORDER_LONG;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_REORDER_SHORT;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_REPORT_CONSOLE_LONG;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_REPORT_CONSOLE_SHORT;
+import static org.eclipselabs.garbagecat.util.Constants.OPTION_SNAPSHOT_LONG;
+import static org.eclipselabs.garbagecat.util.Constants.OPTION_SNAPSHOT_SHORT;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_STARTDATETIME_LONG;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_STARTDATETIME_SHORT;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_THRESHOLD_LONG;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_THRESHOLD_SHORT;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_VERBOSE_LONG;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_VERBOSE_SHORT;
+import static org.eclipselabs.garbagecat.util.Constants.OPTION_WINDOWS_LONG;
+import static org.eclipselabs.garbagecat.util.Constants.OPTION_WINDOWS_SHORT;
 import static org.eclipselabs.garbagecat.util.Constants.OUTPUT_FILE_NAME;
+import static org.eclipselabs.garbagecat.util.Constants.REPORT_FORMAT_CSV;
+import static org.eclipselabs.garbagecat.util.Constants.REPORT_FORMAT_JSON;
+import static org.eclipselabs.garbagecat.util.Constants.REPORT_FORMAT_TEXT;
 import static org.eclipselabs.garbagecat.util.GcUtil.isValidStartDateTime;
 
 import java.io.File;
@@ -64,8 +84,25 @@ public class OptionsParser {
         options.addOption(OPTION_REORDER_SHORT, OPTION_REORDER_LONG, false, "reorder logging by timestamp");
         options.addOption(OPTION_OUTPUT_SHORT, OPTION_OUTPUT_LONG, true,
                 "output file name (default " + OUTPUT_FILE_NAME + ")");
+        options.addOption(OPTION_FORMAT_SHORT, OPTION_FORMAT_LONG, true,
+                "report format: " + REPORT_FORMAT_TEXT + " (default), " + REPORT_FORMAT_JSON + " or "
+                        + REPORT_FORMAT_CSV);
         options.addOption(OPTION_REPORT_CONSOLE_SHORT, OPTION_REPORT_CONSOLE_LONG, false,
                 "print report to stdout instead of file");
+        options.addOption(OPTION_PARALLEL_SHORT, OPTION_PARALLEL_LONG, false, "parse logging in parallel");
+        options.addOption(OPTION_COMPACT_SHORT, OPTION_COMPACT_LONG, false,
+                "store events compactly to reduce memory (no reordering)");
+        options.addOption(OPTION_FOLLOW_SHORT, OPTION_FOLLOW_LONG, true,
+                "follow a growing log file, refreshing the report every N seconds");
+        options.addOption(OPTION_SNAPSHOT_SHORT, OPTION_SNAPSHOT_LONG, true,
+                "resume the analysis from a snapshot file, and save it to the file (compact storage)");
+        options.addOption(OPTION_BATCH_SHORT, OPTION_BATCH_LONG, true,
+                "analyze each gc log in a directory, or matching a glob, with N threads, and summarize the fleet");
+        options.addOption(OPTION_HTTP_SHORT, OPTION_HTTP_LONG, true,
+                "run a local HTTP service on port N that analyzes the gc logging posted to it");
+        options.addOption(OPTION_WINDOWS_SHORT, OPTION_WINDOWS_LONG, true,
+                "comma-separated sliding windows (seconds) for worst overhead reporting (default "
+                        + DEFAULT_OVERHEAD_WINDOWS + ")");
         options.addOption(OPTION_VERBOSE_SHORT, OPTION_VERBOSE_LONG, false, "verbose output");
     }
 
@@ -76,6 +113,15 @@ public class OptionsParser {
         return ResourceBundle.getBundle("META-INF/maven/garbagecat/garbagecat/pom").getString("version");
     }
 
+    /**
+     * @param fileName
+     *            The file name.
+     * @return True if the file name is a glob (e.g. <code>*.log</code>) for batch mode, false otherwise.
+     */
+    static boolean isGlob(String fileName) {
+        return fileName.matches(".*[*?\\[{].*");
+    }
+
     /**
      * Parse command line options.
      * 
@@ -107,6 +153,18 @@ public class OptionsParser {
      *             Command line options not valid.
      */
     private static void validateOptions(CommandLine cmd) throws ParseException {
+        // http (the logging is posted to the service)
+        if (cmd.hasOption(OPTION_HTTP_LONG)) {
+            String httpOptionValue = cmd.getOptionValue(OPTION_HTTP_SHORT);
+            if (!httpOptionValue.matches("^\\d{1,5}$") || Integer.parseInt(httpOptionValue) > 65535) {
+                throw new ParseException("Invalid http port: '" + httpOptionValue + "'");
+            }
+            if (cmd.hasOption(OPTION_BATCH_LONG) || cmd.hasOption(OPTION_FOLLOW_LONG)
+                    || cmd.hasOption(OPTION_SNAPSHOT_LONG)) {
+                throw new ParseException("The http service cannot batch, follow logging or use a snapshot");
+            }
+            return;
+        }
         // Ensure command line input.
         if (cmd.getArgList().size() == 0) {
             throw new ParseException("Missing input");
@@ -116,9 +174,10 @@ public class OptionsParser {
             if (logFileName == null) {
                 throw new ParseException("Missing file");
             } else {
-                // Ensure file exists.
+                // Ensure file exists. Batch mode also allows a glob in an existing directory.
                 File logFile = new File(logFileName);
-                if (!logFile.exists()) {
+                if (!logFile.exists() && !(cmd.hasOption(OPTION_BATCH_LONG) && isGlob(logFile.getName())
+                        && logFile.getAbsoluteFile().getParentFile().isDirectory())) {
                     throw new ParseException("Invalid file: '" + logFileName + "'");
                 }
             }
@@ -133,6 +192,58 @@ public class OptionsParser {
                 throw new ParseException("Invalid threshold: '" + thresholdOptionValue + "'");
             }
         }
+        // windows
+        if (cmd.hasOption(OPTION_WINDOWS_LONG)) {
+            String windowsOptionValue = cmd.getOptionValue(OPTION_WINDOWS_SHORT);
+            if (!windowsOptionValue.matches("^[1-9]\\d{0,5}(,[1-9]\\d{0,5})*$")) {
+                throw new ParseException("Invalid windows: '" + windowsOptionValue + "'");
+            }
+        }
+        // format
+        if (cmd.hasOption(OPTION_FORMAT_LONG)) {
+            String formatOptionValue = cmd.getOptionValue(OPTION_FORMAT_SHORT);
+            if (!formatOptionValue.equals(REPORT_FORMAT_TEXT) && !formatOptionValue.equals(REPORT_FORMAT_JSON)
+                    && !formatOptionValue.equals(REPORT_FORMAT_CSV)) {
+                throw new ParseException("Invalid format: '" + formatOptionValue + "'");
+            }
+        }
+        // batch
+        if (cmd.hasOption(OPTION_BATCH_LONG)) {
+            String batchOptionValue = cmd.getOptionValue(OPTION_BATCH_SHORT);
+            if (!batchOptionValue.matches("^[1-9]\\d{0,2}$")) {
+                throw new ParseException("Invalid batch thread count: '" + batchOptionValue + "'");
+            }
+            if (cmd.hasOption(OPTION_FOLLOW_LONG) || cmd.hasOption(OPTION_SNAPSHOT_LONG)) {
+                throw new ParseException("Batch mode cannot follow logging or use a snapshot");
+            }
+        }
+        // compact
+        if (cmd.hasOption(OPTION_COMPACT_LONG) && cmd.hasOption(OPTION_REORDER_LONG)) {
+            throw new ParseException("Compact storage cannot reorder logging");
+        }
+        // follow
+        if (cmd.hasOption(OPTION_FOLLOW_LONG)) {
+            String followOptionValue = cmd.getOptionValue(OPTION_FOLLOW_SHORT);
+            if (!followOptionValue.matches("^[1-9]\\d{0,5}$")) {
+                throw new ParseException("Invalid follow refresh interval: '" + followOptionValue + "'");
+            }
+            if (cmd.hasOption(OPTION_REORDER_LONG) || cmd.hasOption(OPTION_PARALLEL_LONG)) {
+                throw new ParseException("Following cannot reorder or parse logging in parallel");
+            }
+            if (cmd.hasOption(OPTION_REPORT_CONSOLE_LONG)) {
+                throw new ParseException("Following cannot print the report to the console");
+            }
+            String logFileName = (String) cmd.getArgList().get(cmd.getArgList().size() - 1);
+            if (new File(logFileName).isDirectory() || logFileName.endsWith(".gz")) {
+                throw new ParseException("Only an uncompressed log file can be followed: '" + logFileName + "'");
+            }
+        }
+        // snapshot
+        if (cmd.hasOption(OPTION_SNAPSHOT_LONG)) {
+            if (cmd.hasOption(OPTION_REORDER_LONG) || cmd.hasOption(OPTION_FOLLOW_LONG)) {
+                throw new ParseException("Snapshots cannot reorder or follow logging");
+            }
+        }
         // startdatetime
         if (cmd.hasOption(OPTION_STARTDATETIME_LONG)) {
             String startdatetimeOptionValue = cmd.getOptionValue(OPTION_STARTDATETIME_SHORT);
@@ -0,0 +1,216 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat;
+
+import static org.eclipselabs.garbagecat.util.Memory.ZERO;
+import static org.eclipselabs.garbagecat.util.Memory.Unit.KILOBYTES;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.LongSummaryStatistics;
+import java.util.Map;
+
+import org.eclipselabs.garbagecat.domain.JvmRun;
+import org.eclipselabs.garbagecat.util.ReportEncoder;
+import org.eclipselabs.garbagecat.util.jdk.JdkMath;
+import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
+import org.eclipselabs.garbagecat.util.jdk.JdkUtil.EventType;
+import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedRegEx;
+import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedSafepoint;
+import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedSafepoint.Trigger;
+
+/**
+ * <p>
+ * The Garbage Collection Analysis report for tools: the summary metrics, analysis, safepoint metrics and bottlenecks
+ * streamed to a {@link ReportEncoder} (e.g. JSON or CSV).
+ * </p>
+ * 
+ * <p>
+ * Times are in seconds, throughput and ratios in percent, and memory in kilobytes. Metrics that do not apply to the
+ * JVM run are left out.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class StructuredReport {
+
+    /**
+     * Write the Garbage Collection Analysis report.
+     * 
+     * @param jvmRun
+     *            JVM run data.
+     * @param encoder
+     *            The report encoder.
+     * @param gcLogFileName
+     *            The gc log file analyzed.
+     * @throws IOException
+     *             if the report cannot be written.
+     */
+    public static void write(JvmRun jvmRun, ReportEncoder encoder, String gcLogFileName) throws IOException {
+        encoder.beginObject(null);
+        encoder.value("name", new File(gcLogFileName).getName());
+
+        // JVM information
+        encoder.beginObject("jvm");
+        if (jvmRun.getVmInfo() != null) {
+            encoder.value("version", jvmRun.getVmInfo());
+        }
+        if (jvmRun.getJvmOptions().getJvmContext().getOptions() != null) {
+            encoder.value("options", jvmRun.getJvmOptions().getJvmContext().getOptions());
+        }
+        if (jvmRun.getMemory() != null) {
+            encoder.value("memory", jvmRun.getMemory());
+        }
+        encoder.endObject();
+
+        writeSummary(jvmRun, encoder);
+
+        // Safepoint metrics
+        encoder.beginArray("safepoints");
+        if (jvmRun.getUnifiedSafepointEventCount() > 0) {
+            for (Map.Entry<Trigger, LongSummaryStatistics> entry : jvmRun.getSafepointMetrics()) {
+                encoder.beginObject(null);
+                encoder.value("trigger", UnifiedSafepoint.getTriggerLiteral(entry.getKey()));
+                encoder.value("count", entry.getValue().getCount());
+                encoder.value("pauseTotal", JdkMath.convertMicrosToSecs(entry.getValue().getSum()));
+                encoder.value("pauseMax", JdkMath.convertMicrosToSecs(entry.getValue().getMax()));
+                encoder.endObject();
+            }
+        }
+        encoder.endArray();
+
+        // Analysis
+        encoder.beginArray("analysis");
+        for (String[] analysis : jvmRun.getAnalysis()) {
+            encoder.beginObject(null);
+            encoder.value("key", analysis[0]);
+            encoder.value("literal", analysis[1]);
+            encoder.endObject();
+        }
+        encoder.endArray();
+
+        writeBottlenecks(jvmRun, encoder, "gcBottlenecks", jvmRun.getGcBottlenecks());
+        writeBottlenecks(jvmRun, encoder, "safepointBottlenecks", jvmRun.getSafepointBottlenecks());
+        encoder.value("unidentifiedLogLines", jvmRun.getUnidentifiedLogLines().getCount());
+        encoder.endObject();
+    }
+
+    /**
+     * Write the bottlenecks, converting uptime to a datestamp when the JVM start date/time is known.
+     * 
+     * @param jvmRun
+     *            JVM run data.
+     * @param encoder
+     *            The report encoder.
+     * @param name
+     *            The bottlenecks name.
+     * @param bottlenecks
+     *            The bottlenecks.
+     * @throws IOException
+     *             if the report cannot be written.
+     */
+    private static void writeBottlenecks(JvmRun jvmRun, ReportEncoder encoder, String name, List<String> bottlenecks)
+            throws IOException {
+        encoder.beginArray(name);
+        for (String bottleneck : bottlenecks) {
+            encoder.value(null, jvmRun.getStartDate() != null
+                    ? JdkUtil.convertLogEntryTimestampsToDateStamp(bottleneck, jvmRun.getStartDate())
+                    : bottleneck);
+        }
+        encoder.endArray();
+    }
+
+    /**
+     * Write the summary metrics.
+     * 
+     * @param jvmRun
+     *            JVM run data.
+     * @param encoder
+     *            The report encoder.
+     * @throws IOException
+     *             if the report cannot be written.
+     */
+    private static void writeSummary(JvmRun jvmRun, ReportEncoder encoder) throws IOException {
+        encoder.beginObject("summary");
+        // First/last timestamps
+        if (jvmRun.getBlockingEventCount() > 0 || jvmRun.getStoppedTimeEventCount() > 0
+                || jvmRun.getUnifiedSafepointEventCount() > 0) {
+            if (jvmRun.getFirstEventDatestamp() != null) {
+                encoder.value("datestampFirst", jvmRun.getFirstEventDatestamp());
+            }
+            if (!jvmRun.getFirstEvent().getLogEntry().matches(UnifiedRegEx.TIME_DECORATOR)) {
+                encoder.value("timestampFirst", JdkMath.convertMillisToSecs(jvmRun.getFirstEvent().getTimestamp()));
+            }
+            if (jvmRun.getLastEventDatestamp() != null) {
+                encoder.value("datestampLast", jvmRun.getLastEventDatestamp());
+            }
+            if (!jvmRun.getLastEvent().getLogEntry().matches(UnifiedRegEx.TIME_DECORATOR)) {
+                encoder.value("timestampLast", JdkMath.convertMillisToSecs(jvmRun.getLastEvent().getTimestamp()));
+            }
+        }
+
+        // GC stats
+        encoder.value("gcEvents", jvmRun.getBlockingEventCount());
+        if (jvmRun.getBlockingEventCount() > 0) {
+            encoder.beginArray("eventTypes");
+            for (EventType eventType : jvmRun.getEventTypes()) {
+                encoder.value(null, eventType.toString());
+            }
+            encoder.endArray();
+            if (jvmRun.getMaxHeap().greaterThan(ZERO)) {
+                encoder.value("heapUsedMax", jvmRun.getMaxHeapOccupancy().getValue(KILOBYTES));
+                encoder.value("heapAfterGcMax", jvmRun.getMaxHeapAfterGc().getValue(KILOBYTES));
+                encoder.value("heapAllocationMax", jvmRun.getMaxHeap().getValue(KILOBYTES));
+            } else if (jvmRun.getMaxHeapNonBlocking().greaterThan(ZERO)) {
+                encoder.value("heapUsedMax", jvmRun.getMaxHeapOccupancyNonBlocking().getValue(KILOBYTES));
+                encoder.value("heapAfterGcMax", jvmRun.getMaxHeapAfterGcNonBlocking().getValue(KILOBYTES));
+                encoder.value("heapAllocationMax", jvmRun.getMaxHeapNonBlocking().getValue(KILOBYTES));
+            }
+            encoder.value("gcThroughput", jvmRun.getGcThroughput());
+            encoder.value("gcPauseMax", JdkMath.convertMicrosToSecs(jvmRun.getDurationMax()));
+            encoder.value("gcPauseTotal", JdkMath.convertMicrosToSecs(jvmRun.getDurationTotal()));
+        }
+
+        // Stopped time stats
+        if (jvmRun.getStoppedTimeEventCount() > 0) {
+            encoder.value("stoppedTimeEvents", jvmRun.getStoppedTimeEventCount());
+            encoder.value("stoppedTimeThroughput", jvmRun.getStoppedTimeThroughput());
+            encoder.value("stoppedTimeMax", JdkMath.convertMicrosToSecs(jvmRun.getStoppedTimeMax()));
+            encoder.value("stoppedTimeTotal", JdkMath.convertMicrosToSecs(jvmRun.getStoppedTimeTotal()));
+            if (jvmRun.getBlockingEventCount() > 0) {
+                encoder.value("gcStoppedRatio", jvmRun.getGcStoppedRatio());
+            }
+        }
+
+        // Safepoint stats
+        if (jvmRun.getUnifiedSafepointEventCount() > 0) {
+            encoder.value("safepointEvents", jvmRun.getUnifiedSafepointEventCount());
+            encoder.value("safepointThroughput", jvmRun.getUnifiedSafepointThroughput());
+            encoder.value("safepointPauseMax", JdkMath.convertNanosToSecs(jvmRun.getUnifiedSafepointTimeMax()));
+            encoder.value("safepointPauseTotal", JdkMath.convertNanosToSecs(jvmRun.getUnifiedSafepointTimeTotal()));
+            if (jvmRun.getBlockingEventCount() > 0) {
+                encoder.value("gcSafepointRatio", jvmRun.getGcUnifiedSafepointRatio());
+            }
+        }
+        encoder.endObject();
+    }
+
+    /**
+     * Make default constructor private so the class cannot be instantiated.
+     */
+    private StructuredReport() {
+        super();
+    }
+}
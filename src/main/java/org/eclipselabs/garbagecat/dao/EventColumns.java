@@ -0,0 +1,359 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.dao;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipselabs.garbagecat.domain.BlockingEvent;
+import org.eclipselabs.garbagecat.domain.SafepointEvent;
+import org.eclipselabs.garbagecat.domain.TimeWarpException;
+import org.eclipselabs.garbagecat.util.SnapshotUtil;
+import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
+import org.eclipselabs.garbagecat.util.jdk.JdkUtil.CollectorFamily;
+import org.eclipselabs.garbagecat.util.jdk.JdkUtil.EventType;
+import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedSafepoint.Trigger;
+
+/**
+ * <p>
+ * Compact storage for <code>SafepointEvent</code>s in log order. Each event is stored as primitive columns (timestamp,
+ * duration, event type ordinal, trigger ordinal) instead of an event object.
+ * </p>
+ * 
+ * <p>
+ * The log entry is only kept for the first and last events and for consecutive events that are a bottleneck (or a
+ * time warp) at the throughput threshold used for reporting, the only events whose log entries are reported.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ * @param <T>
+ *            The event type stored.
+ */
+class EventColumns<T extends SafepointEvent> {
+
+    /**
+     * A read-only view of a stored event.
+     * 
+     * Implements <code>BlockingEvent</code> so it can stand in for both blocking and safepoint events.
+     */
+    private class EventView implements BlockingEvent {
+
+        /**
+         * The column index.
+         */
+        private final int index;
+
+        private EventView(int index) {
+            this.index = index;
+        }
+
+        public long getDurationMicros() {
+            return durations[index];
+        }
+
+        public EventType getEventType() {
+            return EVENT_TYPES[eventTypes[index]];
+        }
+
+        public String getLogEntry() {
+            return logEntries[index];
+        }
+
+        public long getTimestamp() {
+            return timestamps[index];
+        }
+    }
+
+    /**
+     * The initial column capacity.
+     */
+    private static final int CAPACITY = 1024;
+
+    /**
+     * Event types by ordinal.
+     */
+    private static final EventType[] EVENT_TYPES = EventType.values();
+
+    /**
+     * Triggers by ordinal.
+     */
+    private static final Trigger[] TRIGGERS = Trigger.values();
+
+    /**
+     * Read columns from a snapshot (see {@link #write(DataOutput)}).
+     * 
+     * @param in
+     *            The snapshot input.
+     * @param collectorFamily
+     *            The collector family to parse the first and last events with.
+     * @param type
+     *            The class of the first and last events.
+     * @param <T>
+     *            The event type stored.
+     * @return The columns.
+     * @throws IOException
+     *             if the snapshot cannot be read.
+     */
+    static <T extends SafepointEvent> EventColumns<T> read(DataInput in, CollectorFamily collectorFamily,
+            Class<? extends T> type) throws IOException {
+        EventColumns<T> columns = new EventColumns<T>(in.readInt());
+        int size = in.readInt();
+        int capacity = Math.max(size, CAPACITY);
+        columns.durations = new long[capacity];
+        columns.eventTypes = new int[capacity];
+        columns.logEntries = new String[capacity];
+        columns.timestamps = new long[capacity];
+        columns.triggers = new int[capacity];
+        // Ordinals are mapped by name, in case enum constants are added
+        List<EventType> eventTypes = SnapshotUtil.readEnums(in, EventType.class);
+        List<Trigger> triggers = SnapshotUtil.readEnums(in, Trigger.class);
+        for (int i = 0; i < size; i++) {
+            columns.durations[i] = in.readLong();
+        }
+        for (int i = 0; i < size; i++) {
+            columns.eventTypes[i] = eventTypes.get(in.readInt()).ordinal();
+        }
+        for (int i = 0; i < size; i++) {
+            columns.logEntries[i] = SnapshotUtil.readString(in);
+        }
+        for (int i = 0; i < size; i++) {
+            columns.timestamps[i] = in.readLong();
+        }
+        for (int i = 0; i < size; i++) {
+            int trigger = in.readInt();
+            columns.triggers[i] = trigger < 0 ? trigger : triggers.get(trigger).ordinal();
+        }
+        columns.firstEvent = SnapshotUtil.readEvent(in, collectorFamily, type);
+        columns.lastEvent = SnapshotUtil.readEvent(in, collectorFamily, type);
+        columns.lastRetained = in.readBoolean();
+        columns.size = size;
+        return columns;
+    }
+
+    /**
+     * Event durations (microseconds).
+     */
+    private long[] durations = new long[CAPACITY];
+
+    /**
+     * Event type ordinals.
+     */
+    private int[] eventTypes = new int[CAPACITY];
+
+    /**
+     * The first event.
+     */
+    private T firstEvent;
+
+    /**
+     * The last event.
+     */
+    private T lastEvent;
+
+    /**
+     * Whether or not the last event log entry is kept because it is a bottleneck with the event before it.
+     */
+    private boolean lastRetained;
+
+    /**
+     * Event log entries, or null if not kept.
+     */
+    private String[] logEntries = new String[CAPACITY];
+
+    /**
+     * The number of events stored.
+     */
+    private int size;
+
+    /**
+     * The bottleneck reporting throughput threshold.
+     */
+    private final int throughputThreshold;
+
+    /**
+     * Event timestamps (milliseconds).
+     */
+    private long[] timestamps = new long[CAPACITY];
+
+    /**
+     * Event trigger ordinals, or -1 if none.
+     */
+    private int[] triggers = new int[CAPACITY];
+
+    /**
+     * @param throughputThreshold
+     *            The bottleneck reporting throughput threshold.
+     */
+    EventColumns(int throughputThreshold) {
+        this.throughputThreshold = throughputThreshold;
+    }
+
+    /**
+     * Add an event after the last event.
+     * 
+     * @param event
+     *            The event.
+     * @param trigger
+     *            The trigger ordinal, or -1 if none.
+     */
+    void add(T event, int trigger) {
+        if (size == timestamps.length) {
+            int capacity = size + (size >> 1);
+            durations = Arrays.copyOf(durations, capacity);
+            eventTypes = Arrays.copyOf(eventTypes, capacity);
+            logEntries = Arrays.copyOf(logEntries, capacity);
+            timestamps = Arrays.copyOf(timestamps, capacity);
+            triggers = Arrays.copyOf(triggers, capacity);
+        }
+        durations[size] = event.getDurationMicros();
+        eventTypes[size] = event.getEventType().ordinal();
+        logEntries[size] = event.getLogEntry();
+        timestamps[size] = event.getTimestamp();
+        triggers[size] = trigger;
+        if (size == 0) {
+            firstEvent = event;
+        } else {
+            boolean bottleneck;
+            try {
+                bottleneck = JdkUtil.isBottleneck(event, lastEvent, throughputThreshold);
+            } catch (TimeWarpException e) {
+                bottleneck = true;
+            }
+            if (!bottleneck && !lastRetained && size > 1) {
+                logEntries[size - 1] = null;
+            }
+            lastRetained = bottleneck;
+        }
+        lastEvent = event;
+        size++;
+    }
+
+    /**
+     * @param index
+     *            The column index.
+     * @return The event at the index, or a view of it.
+     */
+    @SuppressWarnings("unchecked")
+    T get(int index) {
+        if (index == 0) {
+            return firstEvent;
+        } else if (index == size - 1) {
+            return lastEvent;
+        } else {
+            return (T) new EventView(index);
+        }
+    }
+
+    /**
+     * @param index
+     *            The column index.
+     * @return The event duration (microseconds).
+     */
+    long getDurationMicros(int index) {
+        return durations[index];
+    }
+
+    /**
+     * @return The events, or views of them, in log order.
+     */
+    List<T> getEvents() {
+        return getEvents(0);
+    }
+
+    /**
+     * @param fromIndex
+     *            The number of events to skip.
+     * @return The events after the first <code>fromIndex</code> events, or views of them, in log order.
+     */
+    List<T> getEvents(int fromIndex) {
+        return getEvents(fromIndex, size);
+    }
+
+    /**
+     * @param fromIndex
+     *            The index of the first event.
+     * @param toIndex
+     *            The index after the last event.
+     * @return The events from <code>fromIndex</code> to <code>toIndex</code>, or views of them, in log order.
+     */
+    List<T> getEvents(int fromIndex, int toIndex) {
+        List<T> events = new ArrayList<T>(Math.max(toIndex - fromIndex, 0));
+        for (int i = fromIndex; i < toIndex; i++) {
+            events.add(get(i));
+        }
+        return events;
+    }
+
+    T getFirstEvent() {
+        return firstEvent;
+    }
+
+    T getLastEvent() {
+        return lastEvent;
+    }
+
+    /**
+     * @param index
+     *            The column index.
+     * @return The trigger ordinal, or -1 if none.
+     */
+    int getTrigger(int index) {
+        return triggers[index];
+    }
+
+    int getThroughputThreshold() {
+        return throughputThreshold;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Write the columns to a snapshot, one column at a time.
+     * 
+     * @param out
+     *            The snapshot output.
+     * @throws IOException
+     *             if the snapshot cannot be written.
+     */
+    void write(DataOutput out) throws IOException {
+        out.writeInt(throughputThreshold);
+        out.writeInt(size);
+        SnapshotUtil.writeEnums(out, Arrays.asList(EVENT_TYPES));
+        SnapshotUtil.writeEnums(out, Arrays.asList(TRIGGERS));
+        for (int i = 0; i < size; i++) {
+            out.writeLong(durations[i]);
+        }
+        for (int i = 0; i < size; i++) {
+            out.writeInt(eventTypes[i]);
+        }
+        for (int i = 0; i < size; i++) {
+            SnapshotUtil.writeString(out, logEntries[i]);
+        }
+        for (int i = 0; i < size; i++) {
+            out.writeLong(timestamps[i]);
+        }
+        for (int i = 0; i < size; i++) {
+            out.writeInt(triggers[i]);
+        }
+        SnapshotUtil.writeEvent(out, firstEvent);
+        SnapshotUtil.writeEvent(out, lastEvent);
+        out.writeBoolean(lastRetained);
+    }
+}
@@ -14,21 +14,24 @@ package org.eclipselabs.garbagecat.dao;
 
 import static java.util.Collections.binarySearch;
 import static java.util.Comparator.comparing;
-import static java.util.stream.Collectors.summingLong;
 import static java.util.stream.Collectors.toList;
 import static org.eclipselabs.garbagecat.util.Memory.ZERO;
 import static org.eclipselabs.garbagecat.util.Memory.Unit.KILOBYTES;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.Date;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.LongSummaryStatistics;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.Function;
 import java.util.stream.Collectors;
-import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import org.eclipselabs.garbagecat.domain.BlockingEvent;
@@ -37,17 +40,27 @@ import org.eclipselabs.garbagecat.domain.CombinedData;
 import org.eclipselabs.garbagecat.domain.LogEvent;
 import org.eclipselabs.garbagecat.domain.OldData;
 import org.eclipselabs.garbagecat.domain.SafepointEvent;
+import org.eclipselabs.garbagecat.domain.TriggerData;
 import org.eclipselabs.garbagecat.domain.YoungData;
 import org.eclipselabs.garbagecat.domain.jdk.ApplicationStoppedTimeEvent;
 import org.eclipselabs.garbagecat.domain.jdk.CmsIncrementalModeCollector;
 import org.eclipselabs.garbagecat.domain.jdk.unified.UnifiedSafepointEvent;
 import org.eclipselabs.garbagecat.preprocess.PreprocessAction.PreprocessEvent;
 import org.eclipselabs.garbagecat.util.Memory;
+import org.eclipselabs.garbagecat.util.PauseHistogram;
+import org.eclipselabs.garbagecat.util.SnapshotUtil;
+import org.eclipselabs.garbagecat.util.UnidentifiedLogLines;
 import org.eclipselabs.garbagecat.util.jdk.Analysis;
 import org.eclipselabs.garbagecat.util.jdk.GcTrigger;
+import org.eclipselabs.garbagecat.util.jdk.JdkUtil.CollectorFamily;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil.EventType;
 import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedSafepoint.Trigger;
+import org.github.joa.domain.Arch;
+import org.github.joa.domain.Bit;
+import org.github.joa.domain.BuiltBy;
+import org.github.joa.domain.GarbageCollector;
 import org.github.joa.domain.JvmContext;
+import org.github.joa.domain.Os;
 
 /**
  * <p>
@@ -85,14 +98,127 @@ public class JvmDao {
         return list.stream().map(function).filter(Objects::nonNull);
     }
 
-    private static <T> Stream<Long> longs(List<T> list, Function<T, Long> function) {
-        return list.stream().map(function).filter(Objects::nonNull);
+    /**
+     * @param max
+     *            The current maximum (kilobytes).
+     * @param memory
+     *            The <code>Memory</code> to compare, or null.
+     * @return The greater of the current maximum and the memory (kilobytes).
+     */
+    private static long max(long max, Memory memory) {
+        return memory == null ? max : Math.max(max, memory.getValue(KILOBYTES));
     }
 
     private static Memory nullSafe(Memory memory) {
         return memory == null ? ZERO : memory;
     }
 
+    /**
+     * Read a compact data store from a snapshot (see {@link #write(DataOutput)}).
+     * 
+     * @param in
+     *            The snapshot input.
+     * @param collectorFamily
+     *            The collector family to parse events with.
+     * @return The data store.
+     * @throws IOException
+     *             if the snapshot cannot be read.
+     */
+    public static JvmDao read(DataInput in, CollectorFamily collectorFamily) throws IOException {
+        JvmDao jvmDao = new JvmDao();
+        jvmDao.analysis = SnapshotUtil.readEnums(in, Analysis.class);
+        jvmDao.blockingEventColumns = EventColumns.read(in, collectorFamily, BlockingEvent.class);
+        jvmDao.cmsIncrementalModeCollectorEvent = SnapshotUtil.readEvent(in, collectorFamily, BlockingEvent.class);
+        jvmDao.durationMax = in.readLong();
+        jvmDao.durationTotal = in.readLong();
+        jvmDao.eventTypes = SnapshotUtil.readEnums(in, EventType.class);
+        jvmDao.eventTypeHistograms = readHistograms(in, EventType.class);
+        jvmDao.extRootScanningTimeMax = in.readLong();
+        jvmDao.extRootScanningTimeTotal = in.readLong();
+        jvmDao.firstLogEvent = SnapshotUtil.readEvent(in, collectorFamily, LogEvent.class);
+        jvmDao.gcTriggerHistograms = readHistograms(in, GcTrigger.class);
+        jvmDao.gcTriggers = SnapshotUtil.readEnums(in, GcTrigger.class);
+        jvmDao.invertedParallelismCount = in.readLong();
+        jvmDao.invertedSerialismCount = in.readLong();
+        JvmContext jvmContext = new JvmContext(SnapshotUtil.readString(in));
+        jvmContext.setArch(SnapshotUtil.readEnum(in, Arch.class));
+        jvmContext.setBit(SnapshotUtil.readEnum(in, Bit.class));
+        jvmContext.setBuildDate(SnapshotUtil.readDate(in));
+        jvmContext.setBuiltBy(SnapshotUtil.readEnum(in, BuiltBy.class));
+        jvmContext.setGarbageCollectors(SnapshotUtil.readEnums(in, GarbageCollector.class));
+        jvmContext.setMemory(in.readLong());
+        jvmContext.setOs(SnapshotUtil.readEnum(in, Os.class));
+        jvmContext.setReleaseString(SnapshotUtil.readString(in));
+        jvmContext.setVersionMajor(in.readInt());
+        jvmContext.setVersionMinor(in.readInt());
+        jvmDao.jvmContext = jvmContext;
+        jvmDao.logEndingUnidentified = in.readBoolean();
+        jvmDao.logFileDate = SnapshotUtil.readDate(in);
+        jvmDao.maxClassSpace = in.readLong();
+        jvmDao.maxClassSpaceAfterGc = in.readLong();
+        jvmDao.maxClassSpaceAfterGcNonBlocking = in.readInt();
+        jvmDao.maxClassSpaceNonBlocking = in.readInt();
+        jvmDao.maxClassSpaceOccupancy = in.readLong();
+        jvmDao.maxClassSpaceOccupancyNonBlocking = in.readInt();
+        jvmDao.maxHeap = in.readLong();
+        jvmDao.maxHeapAfterGc = in.readLong();
+        jvmDao.maxHeapAfterGcNonBlocking = in.readInt();
+        jvmDao.maxHeapNonBlocking = in.readInt();
+        jvmDao.maxHeapOccupancy = in.readLong();
+        jvmDao.maxHeapOccupancyNonBlocking = in.readInt();
+        jvmDao.maxOldSpace = in.readLong();
+        jvmDao.maxYoungSpace = in.readLong();
+        jvmDao.memory = SnapshotUtil.readString(in);
+        jvmDao.otherTimeMax = in.readLong();
+        jvmDao.otherTimeTotal = in.readLong();
+        jvmDao.parallelCount = in.readLong();
+        jvmDao.physicalMemory = in.readLong();
+        jvmDao.physicalMemoryFree = in.readLong();
+        jvmDao.preprocessEvents = SnapshotUtil.readEnums(in, PreprocessEvent.class);
+        jvmDao.safepointHistograms = readHistograms(in, Trigger.class);
+        jvmDao.serialCount = in.readLong();
+        jvmDao.stoppedTimeEventColumns = EventColumns.read(in, collectorFamily, ApplicationStoppedTimeEvent.class);
+        jvmDao.stoppedTimeMax = in.readLong();
+        jvmDao.stoppedTimeTotal = in.readLong();
+        jvmDao.swap = in.readLong();
+        jvmDao.swapFree = in.readLong();
+        jvmDao.sysGtUserCount = in.readLong();
+        jvmDao.unidentifiedLogLines = UnidentifiedLogLines.read(in);
+        jvmDao.unifiedSafepointEventColumns = EventColumns.read(in, collectorFamily, UnifiedSafepointEvent.class);
+        jvmDao.unifiedSafepointTimeMax = in.readLong();
+        jvmDao.unifiedSafepointTimeTotal = in.readLong();
+        jvmDao.vmInfo = SnapshotUtil.readString(in);
+        jvmDao.worstInvertedParallelismEvent = SnapshotUtil.readEvent(in, collectorFamily, LogEvent.class);
+        jvmDao.worstInvertedSerialismEvent = SnapshotUtil.readEvent(in, collectorFamily, LogEvent.class);
+        jvmDao.worstSysGtUserEvent = SnapshotUtil.readEvent(in, collectorFamily, LogEvent.class);
+        return jvmDao;
+    }
+
+    private static <E extends Enum<E>> Map<E, PauseHistogram> readHistograms(DataInput in, Class<E> type)
+            throws IOException {
+        Map<E, PauseHistogram> histograms = new EnumMap<E, PauseHistogram>(type);
+        for (E key : SnapshotUtil.readEnums(in, type)) {
+            histograms.put(key, PauseHistogram.read(in));
+        }
+        return histograms;
+    }
+
+    /**
+     * Record a pause in the histogram for a key.
+     * 
+     * @param histograms
+     *            The histograms by key.
+     * @param key
+     *            The key, or null if none.
+     * @param pause
+     *            The pause time (microseconds).
+     */
+    private static <E extends Enum<E>> void record(Map<E, PauseHistogram> histograms, E key, long pause) {
+        if (key != null) {
+            histograms.computeIfAbsent(key, k -> new PauseHistogram()).record(pause);
+        }
+    }
+
     private static BlockingEvent toBlockingEvent(BlockingEvent e) {
         return e;
     }
@@ -101,21 +227,55 @@ public class JvmDao {
         return e;
     }
 
+    private static <E extends Enum<E>> void writeHistograms(DataOutput out, Map<E, PauseHistogram> histograms)
+            throws IOException {
+        SnapshotUtil.writeEnums(out, new ArrayList<E>(histograms.keySet()));
+        for (PauseHistogram histogram : histograms.values()) {
+            histogram.write(out);
+        }
+    }
+
     /**
      * Analysis property keys.
      */
     private List<Analysis> analysis = new ArrayList<Analysis>();
 
+    /**
+     * GC events that are blocking, in compact storage, or null if not compact.
+     */
+    private EventColumns<BlockingEvent> blockingEventColumns;
+
     /**
      * GC events that are blocking.
      */
     private List<BlockingEvent> blockingEvents = new ArrayList<>();
 
+    /**
+     * The first <code>CmsIncrementalModeCollector</code> event, used in compact storage.
+     */
+    private BlockingEvent cmsIncrementalModeCollectorEvent;
+
+    /**
+     * Maximum <code>BlockingEvent</code> pause time (microseconds).
+     */
+    private long durationMax;
+
+    /**
+     * Total <code>BlockingEvent</code> pause time (microseconds).
+     */
+    private long durationTotal;
+
     /**
      * List of all event types associate with the JVM run.
      */
     List<EventType> eventTypes = new ArrayList<>();
 
+    /**
+     * <code>BlockingEvent</code> pause time (microseconds) histograms by event type.
+     */
+    private Map<EventType, PauseHistogram> eventTypeHistograms = new EnumMap<EventType, PauseHistogram>(
+            EventType.class);
+
     /**
      * Maximum external root scanning time (microseconds).
      */
@@ -131,6 +291,12 @@ public class JvmDao {
      */
     private LogEvent firstLogEvent;
 
+    /**
+     * <code>BlockingEvent</code> pause time (microseconds) histograms by GC trigger.
+     */
+    private Map<GcTrigger, PauseHistogram> gcTriggerHistograms = new EnumMap<GcTrigger, PauseHistogram>(
+            GcTrigger.class);
+
     /**
      * List of all GC triggers associate with the JVM run.
      */
@@ -161,16 +327,46 @@ public class JvmDao {
      */
     private Date logFileDate;
 
+    /**
+     * Maximum perm/metaspace size in <code>BlockingEvent</code>s (kilobytes).
+     */
+    private long maxClassSpace;
+
+    /**
+     * Maximum perm/metaspace after GC in <code>BlockingEvent</code>s (kilobytes).
+     */
+    private long maxClassSpaceAfterGc;
+
     /**
      * Used for tracking max perm space or metaspace outside of <code>BlockingEvent</code>s.
      */
     private int maxClassSpaceNonBlocking;
 
+    /**
+     * Maximum perm/metaspace occupancy in <code>BlockingEvent</code>s (kilobytes).
+     */
+    private long maxClassSpaceOccupancy;
+
     /**
      * Used for tracking max perm space or metaspace occupancy outside of <code>BlockingEvent</code>s.
      */
     private int maxClassSpaceOccupancyNonBlocking;
 
+    /**
+     * Maximum heap size in <code>BlockingEvent</code>s (kilobytes).
+     */
+    private long maxHeap;
+
+    /**
+     * Maximum heap after GC in <code>BlockingEvent</code>s (kilobytes).
+     */
+    private long maxHeapAfterGc;
+
+    /**
+     * Maximum heap occupancy in <code>BlockingEvent</code>s (kilobytes).
+     */
+    private long maxHeapOccupancy;
+
     /**
      * Used for tracking max heap occupancy outside of <code>BlockingEvent</code>s.
      */
@@ -191,6 +387,16 @@ public class JvmDao {
      */
     private int maxClassSpaceAfterGcNonBlocking;
 
+    /**
+     * Maximum old space size in <code>BlockingEvent</code>s (kilobytes).
+     */
+    private long maxOldSpace;
+
+    /**
+     * Maximum young space size in <code>BlockingEvent</code>s (kilobytes).
+     */
+    private long maxYoungSpace;
+
     /**
      * JVM memory information.
      */
@@ -226,6 +432,11 @@ public class JvmDao {
      */
     List<PreprocessEvent> preprocessEvents = new ArrayList<>();
 
+    /**
+     * <code>UnifiedSafepointEvent</code> pause time (microseconds) histograms by safepoint trigger.
+     */
+    private Map<Trigger, PauseHistogram> safepointHistograms = new EnumMap<Trigger, PauseHistogram>(Trigger.class);
+
     /**
      * Number of <code>SerialCollection</code> events.
      */
@@ -236,6 +447,21 @@ public class JvmDao {
      */
     private List<ApplicationStoppedTimeEvent> stoppedTimeEvents = new ArrayList<>();
 
+    /**
+     * Stopped time events, in compact storage, or null if not compact.
+     */
+    private EventColumns<SafepointEvent> stoppedTimeEventColumns;
+
+    /**
+     * Maximum stopped time event pause time (microseconds).
+     */
+    private long stoppedTimeMax;
+
+    /**
+     * Total stopped time event pause time (microseconds).
+     */
+    private long stoppedTimeTotal;
+
     /**
      * Swap size (bytes).
      * 
@@ -256,13 +482,28 @@ public class JvmDao {
     /**
      * Logging lines that do not match any known GC events.
      */
-    private List<String> unidentifiedLogLines = new ArrayList<>();
+    private UnidentifiedLogLines unidentifiedLogLines = new UnidentifiedLogLines();
 
     /**
      * Safepoint events.
      */
     private List<UnifiedSafepointEvent> unifiedSafepointEvents = new ArrayList<>();
 
+    /**
+     * Safepoint events, in compact storage, or null if not compact.
+     */
+    private EventColumns<SafepointEvent> unifiedSafepointEventColumns;
+
+    /**
+     * Maximum unified safepoint event pause time (nanoseconds).
+     */
+    private long unifiedSafepointTimeMax;
+
+    /**
+     * Total unified safepoint event pause time (nanoseconds).
+     */
+    private long unifiedSafepointTimeTotal;
+
     /**
      * Convenience field for vm_info.
      */
@@ -283,22 +524,111 @@ public class JvmDao {
      */
     private LogEvent worstSysGtUserEvent;
 
+    /**
+     * Default constructor.
+     */
+    public JvmDao() {
+    }
+
+    /**
+     * Compact constructor. Blocking, stopped time, and safepoint events are stored in primitive columns in log order,
+     * and log entries are only kept for the first and last events and for bottlenecks at the given throughput
+     * threshold. Logging cannot be reordered.
+     * 
+     * @param throughputThreshold
+     *            The bottleneck reporting throughput threshold.
+     */
+    public JvmDao(int throughputThreshold) {
+        blockingEventColumns = new EventColumns<BlockingEvent>(throughputThreshold);
+        stoppedTimeEventColumns = new EventColumns<SafepointEvent>(throughputThreshold);
+        unifiedSafepointEventColumns = new EventColumns<SafepointEvent>(throughputThreshold);
+    }
+
     public void addAnalysis(Analysis analysis) {
         if (!this.analysis.contains(analysis)) {
             this.analysis.add(analysis);
         }
     }
 
+    /**
+     * Add a <code>BlockingEvent</code> and update the running maximums, totals, and pause time histograms.
+     * 
+     * @param event
+     *            The <code>BlockingEvent</code>.
+     */
     public void addBlockingEvent(BlockingEvent event) {
-        blockingEvents.add(insertPosition(event), event);
+        if (blockingEventColumns != null) {
+            blockingEventColumns.add(event, -1);
+            if (cmsIncrementalModeCollectorEvent == null && event instanceof CmsIncrementalModeCollector) {
+                cmsIncrementalModeCollectorEvent = event;
+            }
+        } else {
+            blockingEvents.add(insertPosition(event), event);
+        }
+        durationMax = Math.max(durationMax, event.getDurationMicros());
+        durationTotal += event.getDurationMicros();
+        record(eventTypeHistograms, event.getEventType(), event.getDurationMicros());
+        if (event instanceof TriggerData) {
+            record(gcTriggerHistograms, ((TriggerData) event).getTrigger(), event.getDurationMicros());
+        }
+        if (event instanceof ClassData) {
+            ClassData classData = (ClassData) event;
+            maxClassSpace = max(maxClassSpace, classData.getClassSpace());
+            maxClassSpaceAfterGc = max(maxClassSpaceAfterGc, classData.getClassOccupancyEnd());
+            maxClassSpaceOccupancy = max(maxClassSpaceOccupancy, classData.getClassOccupancyInit());
+        }
+        if (event instanceof OldData) {
+            OldData old = (OldData) event;
+            maxHeap = max(maxHeap, add(old.getYoungSpace(), old.getOldSpace()));
+            maxHeapAfterGc = max(maxHeapAfterGc, add(old.getYoungOccupancyEnd(), old.getOldOccupancyEnd()));
+            maxHeapOccupancy = max(maxHeapOccupancy, add(old.getYoungOccupancyInit(), old.getOldOccupancyInit()));
+            maxOldSpace = max(maxOldSpace, old.getOldSpace());
+        }
+        if (event instanceof CombinedData) {
+            CombinedData combined = (CombinedData) event;
+            if (!(event instanceof OldData)) {
+                maxHeap = max(maxHeap, combined.getCombinedSpace());
+                maxHeapOccupancy = max(maxHeapOccupancy, combined.getCombinedOccupancyInit());
+            }
+            maxHeapAfterGc = max(maxHeapAfterGc, combined.getCombinedOccupancyEnd());
+        }
+        if (event instanceof YoungData) {
+            maxYoungSpace = max(maxYoungSpace, ((YoungData) event).getYoungSpace());
+        }
     }
 
+    /**
+     * Add a <code>UnifiedSafepointEvent</code> and update the running maximum, total, and pause time histogram.
+     * 
+     * @param event
+     *            The <code>UnifiedSafepointEvent</code>.
+     */
     public void addSafepointEvent(UnifiedSafepointEvent event) {
-        unifiedSafepointEvents.add(event);
+        if (unifiedSafepointEventColumns != null) {
+            unifiedSafepointEventColumns.add(event, event.getTrigger().ordinal());
+        } else {
+            unifiedSafepointEvents.add(event);
+        }
+        long durationNanos = event.getDurationNanos();
+        unifiedSafepointTimeMax = Math.max(unifiedSafepointTimeMax, durationNanos);
+        unifiedSafepointTimeTotal += durationNanos;
+        record(safepointHistograms, event.getTrigger(), durationNanos / 1000);
     }
 
+    /**
+     * Add an <code>ApplicationStoppedTimeEvent</code> and update the running maximum and total.
+     * 
+     * @param event
+     *            The <code>ApplicationStoppedTimeEvent</code>.
+     */
     public void addStoppedTimeEvent(ApplicationStoppedTimeEvent event) {
-        stoppedTimeEvents.add(event);
+        if (stoppedTimeEventColumns != null) {
+            stoppedTimeEventColumns.add(event, -1);
+        } else {
+            stoppedTimeEvents.add(event);
+        }
+        stoppedTimeMax = Math.max(stoppedTimeMax, event.getDurationMicros());
+        stoppedTimeTotal += event.getDurationMicros();
     }
 
     public List<Analysis> getAnalysis() {
@@ -311,7 +641,7 @@ public class JvmDao {
      * @return total number of blocking events.
      */
     public synchronized int getBlockingEventCount() {
-        return this.blockingEvents.size();
+        return blockingEventColumns != null ? blockingEventColumns.size() : this.blockingEvents.size();
     }
 
     /**
@@ -320,7 +650,35 @@ public class JvmDao {
      * @return <code>List</code> of events.
      */
     public synchronized List<BlockingEvent> getBlockingEvents() {
-        return this.blockingEvents.stream().map(JvmDao::toBlockingEvent).collect(toList());
+        return getBlockingEvents(0);
+    }
+
+    /**
+     * Retrieve the <code>BlockingEvent</code>s after the first <code>fromIndex</code> events.
+     * 
+     * @param fromIndex
+     *            The number of events to skip.
+     * @return <code>List</code> of events.
+     */
+    public synchronized List<BlockingEvent> getBlockingEvents(int fromIndex) {
+        return getBlockingEvents(fromIndex, getBlockingEventCount());
+    }
+
+    /**
+     * Retrieve the <code>BlockingEvent</code>s from <code>fromIndex</code> to <code>toIndex</code>.
+     * 
+     * @param fromIndex
+     *            The index of the first event.
+     * @param toIndex
+     *            The index after the last event.
+     * @return <code>List</code> of events.
+     */
+    public synchronized List<BlockingEvent> getBlockingEvents(int fromIndex, int toIndex) {
+        if (blockingEventColumns != null) {
+            return blockingEventColumns.getEvents(fromIndex, toIndex);
+        }
+        return this.blockingEvents.subList(fromIndex, toIndex).stream().map(JvmDao::toBlockingEvent)
+                .collect(toList());
     }
 
     /**
@@ -331,16 +689,21 @@ public class JvmDao {
      * @return <code>List</code> of events.
      */
     public synchronized List<BlockingEvent> getBlockingEvents(EventType eventType) {
-        return this.blockingEvents.stream().filter(e -> e.getEventType().equals(eventType.toString()))
-                .map(JvmDao::toBlockingEvent).collect(toList());
+        return getBlockingEvents().stream().filter(e -> e.getEventType().equals(eventType.toString()))
+                .collect(toList());
     }
 
     /**
-     * Retrieve all <code>CmsIncrementalModeCollector</code> events.
+     * Retrieve all <code>CmsIncrementalModeCollector</code> events. With compact storage, only the first event is
+     * retrieved.
      * 
      * @return <code>List</code> of <code>CmsIncrementalModeCollector</code> events.
      */
     public synchronized List<BlockingEvent> getCmsIncrementalModeCollectorEvents() {
+        if (blockingEventColumns != null) {
+            return cmsIncrementalModeCollectorEvent == null ? Collections.<BlockingEvent> emptyList()
+                    : Collections.singletonList(cmsIncrementalModeCollectorEvent);
+        }
         return this.blockingEvents.stream().filter(e -> e instanceof CmsIncrementalModeCollector)
                 .map(JvmDao::toBlockingEvent).collect(toList());
     }
@@ -350,8 +713,8 @@ public class JvmDao {
      * 
      * @return maximum pause duration (microseconds).
      */
-    public synchronized long getDurationMax() {
-        return longs(this.blockingEvents, BlockingEvent::getDurationMicros).mapToLong(Long::valueOf).max().orElse(0);
+    public long getDurationMax() {
+        return durationMax;
     }
 
     /**
@@ -359,8 +722,15 @@ public class JvmDao {
      * 
      * @return total pause duration (microseconds).
      */
-    public synchronized long getDurationTotal() {
-        return longs(this.blockingEvents, BlockingEvent::getDurationMicros).collect(summingLong(Long::valueOf));
+    public long getDurationTotal() {
+        return durationTotal;
+    }
+
+    /**
+     * @return <code>BlockingEvent</code> pause time (microseconds) histograms by event type.
+     */
+    public Map<EventType, PauseHistogram> getEventTypeHistograms() {
+        return eventTypeHistograms;
     }
 
     public List<EventType> getEventTypes() {
@@ -375,12 +745,22 @@ public class JvmDao {
         return extRootScanningTimeTotal;
     }
 
+    /**
+     * @return The bottleneck reporting throughput threshold log entries are kept for in compact storage.
+     */
+    public int getCompactThroughputThreshold() {
+        return blockingEventColumns == null ? -1 : blockingEventColumns.getThroughputThreshold();
+    }
+
     /**
      * The first blocking event.
      * 
      * @return The first blocking event.
      */
     public synchronized BlockingEvent getFirstBlockingEvent() {
+        if (blockingEventColumns != null) {
+            return blockingEventColumns.getFirstEvent();
+        }
         return this.blockingEvents.isEmpty() ? null : this.blockingEvents.get(0);
     }
 
@@ -395,9 +775,9 @@ public class JvmDao {
      */
     public synchronized SafepointEvent getFirstSafepointEvent() {
         SafepointEvent firstSafepointEvent = null;
-        if (!unifiedSafepointEvents.isEmpty()) {
+        if (getUnifiedSafepointEventCount() > 0) {
             firstSafepointEvent = getFirstUnifiedSafepointEvent();
-        } else if (!stoppedTimeEvents.isEmpty()) {
+        } else if (getStoppedTimeEventCount() > 0) {
             firstSafepointEvent = getFirstStoppedEvent();
         }
         return firstSafepointEvent;
@@ -409,6 +789,9 @@ public class JvmDao {
      * @return The first stopped event.
      */
     private synchronized ApplicationStoppedTimeEvent getFirstStoppedEvent() {
+        if (stoppedTimeEventColumns != null) {
+            return (ApplicationStoppedTimeEvent) stoppedTimeEventColumns.getFirstEvent();
+        }
         return stoppedTimeEvents.isEmpty() ? null : stoppedTimeEvents.get(0);
     }
 
@@ -418,9 +801,19 @@ public class JvmDao {
      * @return The first unified safepoint event.
      */
     private synchronized UnifiedSafepointEvent getFirstUnifiedSafepointEvent() {
+        if (unifiedSafepointEventColumns != null) {
+            return (UnifiedSafepointEvent) unifiedSafepointEventColumns.getFirstEvent();
+        }
         return unifiedSafepointEvents.isEmpty() ? null : unifiedSafepointEvents.get(0);
     }
 
+    /**
+     * @return <code>BlockingEvent</code> pause time (microseconds) histograms by GC trigger.
+     */
+    public Map<GcTrigger, PauseHistogram> getGcTriggerHistograms() {
+        return gcTriggerHistograms;
+    }
+
     public List<GcTrigger> getGcTriggers() {
         return gcTriggers;
     }
@@ -443,12 +836,36 @@ public class JvmDao {
         return jvmContext;
     }
 
+    /**
+     * @param options
+     *            The JVM options.
+     * @return A copy of the JVM context with the given JVM options, leaving the JVM context found in the logging
+     *         unchanged.
+     */
+    public JvmContext getJvmContext(String options) {
+        JvmContext copy = new JvmContext(options);
+        copy.setArch(jvmContext.getArch());
+        copy.setBit(jvmContext.getBit());
+        copy.setBuildDate(jvmContext.getBuildDate());
+        copy.setBuiltBy(jvmContext.getBuiltBy());
+        copy.setGarbageCollectors(new ArrayList<GarbageCollector>(jvmContext.getGarbageCollectors()));
+        copy.setMemory(jvmContext.getMemory());
+        copy.setOs(jvmContext.getOs());
+        copy.setReleaseString(jvmContext.getReleaseString());
+        copy.setVersionMajor(jvmContext.getVersionMajor());
+        copy.setVersionMinor(jvmContext.getVersionMinor());
+        return copy;
+    }
+
     /**
      * Retrieve the last blocking event.
      * 
      * @return The last blocking event.
      */
     public synchronized BlockingEvent getLastBlockingEvent() {
+        if (blockingEventColumns != null) {
+            return blockingEventColumns.getLastEvent();
+        }
         return this.blockingEvents.isEmpty() ? null : this.blockingEvents.get(blockingEvents.size() - 1);
     }
 
@@ -459,9 +876,9 @@ public class JvmDao {
      */
     public synchronized SafepointEvent getLastSafepointEvent() {
         SafepointEvent lastSafepointEvent = null;
-        if (!unifiedSafepointEvents.isEmpty()) {
+        if (getUnifiedSafepointEventCount() > 0) {
             lastSafepointEvent = getLastUnifiedSafepointEvent();
-        } else if (!stoppedTimeEvents.isEmpty()) {
+        } else if (getStoppedTimeEventCount() > 0) {
             lastSafepointEvent = getLastStoppedEvent();
         }
         return lastSafepointEvent;
@@ -473,6 +890,9 @@ public class JvmDao {
      * @return The last stopped event.
      */
     private synchronized ApplicationStoppedTimeEvent getLastStoppedEvent() {
+        if (stoppedTimeEventColumns != null) {
+            return (ApplicationStoppedTimeEvent) stoppedTimeEventColumns.getLastEvent();
+        }
         return stoppedTimeEvents.isEmpty() ? null : stoppedTimeEvents.get(stoppedTimeEvents.size() - 1);
     }
 
@@ -482,6 +902,9 @@ public class JvmDao {
      * @return The last safepoint event.
      */
     private synchronized UnifiedSafepointEvent getLastUnifiedSafepointEvent() {
+        if (unifiedSafepointEventColumns != null) {
+            return (UnifiedSafepointEvent) unifiedSafepointEventColumns.getLastEvent();
+        }
         return unifiedSafepointEvents.isEmpty() ? null : unifiedSafepointEvents.get(unifiedSafepointEvents.size() - 1);
     }
 
@@ -494,8 +917,8 @@ public class JvmDao {
      * 
      * @return maximum perm/metaspace footprint (kilobytes).
      */
-    public synchronized int getMaxClassSpace() {
-        return (int) kilobytes(ClassData.class, ClassData::getClassSpace).max().orElse(0);
+    public int getMaxClassSpace() {
+        return (int) maxClassSpace;
     }
 
     /**
@@ -503,8 +926,8 @@ public class JvmDao {
      * 
      * @return maximum perm/metaspac after GC (kilobytes).
      */
-    public synchronized int getMaxClassSpaceAfterGc() {
-        return (int) kilobytes(ClassData.class, ClassData::getClassOccupancyEnd).max().orElse(0);
+    public int getMaxClassSpaceAfterGc() {
+        return (int) maxClassSpaceAfterGc;
     }
 
     public int getMaxClassSpaceAfterGcNonBlocking() {
@@ -523,8 +946,8 @@ public class JvmDao {
      * 
      * @return maximum perm/metaspace occupancy (kilobytes).
      */
-    public synchronized int getMaxClassSpaceOccupancy() {
-        return (int) kilobytes(ClassData.class, ClassData::getClassOccupancyInit).max().orElse(0);
+    public int getMaxClassSpaceOccupancy() {
+        return (int) maxClassSpaceOccupancy;
     }
 
     /**
@@ -539,20 +962,8 @@ public class JvmDao {
      * 
      * @return maximum heap size (kilobytes).
      */
-    public synchronized int getMaxHeap() {
-        return (int) this.blockingEvents.stream() //
-                .map(e -> {
-                    if (e instanceof OldData) {
-                        OldData old = (OldData) e;
-                        return add(old.getYoungSpace(), old.getOldSpace());
-                    } else if (e instanceof CombinedData) {
-                        return ((CombinedData) e).getCombinedSpace();
-                    } else {
-                        return ZERO;
-                    }
-                }) //
-                .filter(Objects::nonNull) //
-                .mapToLong(m -> m.getValue(KILOBYTES)).max().orElse(0);
+    public int getMaxHeap() {
+        return (int) maxHeap;
     }
 
     /**
@@ -560,12 +971,8 @@ public class JvmDao {
      * 
      * @return maximum heap after GC (kilobytes).
      */
-    public synchronized int getMaxHeapAfterGc() {
-        int oldMaxHeapAfterGc = (int) kilobytes(OldData.class,
-                t -> add(t.getYoungOccupancyEnd(), t.getOldOccupancyEnd())).max().orElse(0);
-        int combinedMaxHeapAfterGc = (int) kilobytes(CombinedData.class, CombinedData::getCombinedOccupancyEnd).max()
-                .orElse(0);
-        return Math.max(oldMaxHeapAfterGc, combinedMaxHeapAfterGc);
+    public int getMaxHeapAfterGc() {
+        return (int) maxHeapAfterGc;
     }
 
     public int getMaxHeapAfterGcNonBlocking() {
@@ -584,20 +991,8 @@ public class JvmDao {
      * 
      * @return maximum heap occupancy (kilobytes).
      */
-    public synchronized int getMaxHeapOccupancy() {
-        return (int) this.blockingEvents.stream() //
-                .map(e -> {
-                    if (e instanceof OldData) {
-                        OldData old = (OldData) e;
-                        return add(old.getYoungOccupancyInit(), old.getOldOccupancyInit());
-                    } else if (e instanceof CombinedData) {
-                        return ((CombinedData) e).getCombinedOccupancyInit();
-                    } else {
-                        return ZERO;
-                    }
-                }) //
-                .filter(Objects::nonNull) //
-                .mapToLong(m -> m.getValue(KILOBYTES)).max().orElse(0);
+    public int getMaxHeapOccupancy() {
+        return (int) maxHeapOccupancy;
     }
 
     /**
@@ -612,8 +1007,8 @@ public class JvmDao {
      * 
      * @return maximum old space size (kilobytes).
      */
-    public synchronized int getMaxOldSpace() {
-        return (int) kilobytes(OldData.class, OldData::getOldSpace).max().orElse(0);
+    public int getMaxOldSpace() {
+        return (int) maxOldSpace;
     }
 
     /**
@@ -621,8 +1016,8 @@ public class JvmDao {
      * 
      * @return maximum young space size (kilobytes).
      */
-    public synchronized int getMaxYoungSpace() {
-        return (int) kilobytes(YoungData.class, YoungData::getYoungSpace).max().orElse(0);
+    public int getMaxYoungSpace() {
+        return (int) maxYoungSpace;
     }
 
     /**
@@ -671,20 +1066,69 @@ public class JvmDao {
      * @return <code>List</code> of events.
      */
     public synchronized List<SafepointEvent> getSafepointEvents() {
+        return getSafepointEvents(0);
+    }
+
+    /**
+     * Retrieve the <code>SafepointEvent</code>s after the first <code>fromIndex</code> events. The events are
+     * <code>ApplicationStoppedTimeEvent</code>s if there are any, otherwise <code>UnifiedSafepointEvent</code>s.
+     * 
+     * @param fromIndex
+     *            The number of events to skip.
+     * @return <code>List</code> of events.
+     */
+    public synchronized List<SafepointEvent> getSafepointEvents(int fromIndex) {
+        return getSafepointEvents(fromIndex, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Retrieve the <code>SafepointEvent</code>s from <code>fromIndex</code> to <code>toIndex</code> (see
+     * {@link #getSafepointEvents(int)}).
+     * 
+     * @param fromIndex
+     *            The index of the first event.
+     * @param toIndex
+     *            The index after the last event, limited to the number of events.
+     * @return <code>List</code> of events.
+     */
+    public synchronized List<SafepointEvent> getSafepointEvents(int fromIndex, int toIndex) {
+        if (stoppedTimeEventColumns != null) {
+            EventColumns<SafepointEvent> columns = stoppedTimeEventColumns.size() > 0 ? stoppedTimeEventColumns
+                    : unifiedSafepointEventColumns;
+            return columns.getEvents(fromIndex, Math.min(toIndex, columns.size()));
+        }
         if (!this.stoppedTimeEvents.isEmpty()) {
-            return this.stoppedTimeEvents.stream().map(JvmDao::toSafepointEvent).collect(toList());
+            return this.stoppedTimeEvents.subList(fromIndex, Math.min(toIndex, stoppedTimeEvents.size())).stream()
+                    .map(JvmDao::toSafepointEvent).collect(toList());
         } else {
-            return this.unifiedSafepointEvents.stream().map(JvmDao::toSafepointEvent).collect(toList());
+            return this.unifiedSafepointEvents.subList(fromIndex, Math.min(toIndex, unifiedSafepointEvents.size()))
+                    .stream().map(JvmDao::toSafepointEvent).collect(toList());
         }
     }
 
+    /**
+     * @return <code>UnifiedSafepointEvent</code> pause time (microseconds) histograms by safepoint trigger.
+     */
+    public Map<Trigger, PauseHistogram> getSafepointHistograms() {
+        return safepointHistograms;
+    }
+
     /**
      * @return <code>UnifiedSafepointEvent</code> metrics.
      */
     public synchronized List<Map.Entry<Trigger, LongSummaryStatistics>> getSafepointMetrics() {
-        Map<Trigger, LongSummaryStatistics> summaries = unifiedSafepointEvents.stream()
-                .collect(Collectors.groupingBy(UnifiedSafepointEvent::getTrigger,
-                        Collectors.summarizingLong(UnifiedSafepointEvent::getDurationMicros)));
+        Map<Trigger, LongSummaryStatistics> summaries;
+        if (unifiedSafepointEventColumns != null) {
+            summaries = new EnumMap<Trigger, LongSummaryStatistics>(Trigger.class);
+            Trigger[] triggers = Trigger.values();
+            for (int i = 0; i < unifiedSafepointEventColumns.size(); i++) {
+                summaries.computeIfAbsent(triggers[unifiedSafepointEventColumns.getTrigger(i)],
+                        t -> new LongSummaryStatistics()).accept(unifiedSafepointEventColumns.getDurationMicros(i));
+            }
+        } else {
+            summaries = unifiedSafepointEvents.stream().collect(Collectors.groupingBy(UnifiedSafepointEvent::getTrigger,
+                    Collectors.summarizingLong(UnifiedSafepointEvent::getDurationMicros)));
+        }
         List<Map.Entry<Trigger, LongSummaryStatistics>> metrics =
                 //
                 new ArrayList<Map.Entry<Trigger, LongSummaryStatistics>>();
@@ -706,7 +1150,7 @@ public class JvmDao {
      * @return total number of stopped time events.
      */
     public synchronized int getStoppedTimeEventCount() {
-        return this.stoppedTimeEvents.size();
+        return stoppedTimeEventColumns != null ? stoppedTimeEventColumns.size() : this.stoppedTimeEvents.size();
     }
 
     /**
@@ -714,9 +1158,8 @@ public class JvmDao {
      * 
      * @return maximum pause duration (microseconds).
      */
-    public synchronized long getStoppedTimeMax() {
-        return longs(this.stoppedTimeEvents, ApplicationStoppedTimeEvent::getDurationMicros).mapToLong(Long::valueOf)
-                .max().orElse(0);
+    public long getStoppedTimeMax() {
+        return stoppedTimeMax;
     }
 
     /**
@@ -724,9 +1167,8 @@ public class JvmDao {
      * 
      * @return total pause duration (microseconds).
      */
-    public synchronized long getStoppedTimeTotal() {
-        return longs(this.stoppedTimeEvents, ApplicationStoppedTimeEvent::getDurationMicros)
-                .collect(summingLong(Long::valueOf));
+    public long getStoppedTimeTotal() {
+        return stoppedTimeTotal;
     }
 
     /**
@@ -750,7 +1192,7 @@ public class JvmDao {
         return sysGtUserCount;
     }
 
-    public List<String> getUnidentifiedLogLines() {
+    public UnidentifiedLogLines getUnidentifiedLogLines() {
         return unidentifiedLogLines;
     }
 
@@ -760,7 +1202,8 @@ public class JvmDao {
      * @return total number of unified safepoint time events.
      */
     public synchronized int getUnifiedSafepointEventCount() {
-        return this.unifiedSafepointEvents.size();
+        return unifiedSafepointEventColumns != null ? unifiedSafepointEventColumns.size()
+                : this.unifiedSafepointEvents.size();
     }
 
     /**
@@ -768,9 +1211,8 @@ public class JvmDao {
      * 
      * @return maximum pause duration (nanoseconds).
      */
-    public synchronized long getUnifiedSafepointTimeMax() {
-        return longs(this.unifiedSafepointEvents, UnifiedSafepointEvent::getDurationNanos).mapToLong(Long::valueOf)
-                .max().orElse(0);
+    public long getUnifiedSafepointTimeMax() {
+        return unifiedSafepointTimeMax;
     }
 
     /**
@@ -778,9 +1220,8 @@ public class JvmDao {
      * 
      * @return total pause duration (nanoseconds).
      */
-    public synchronized long getUnifiedSafepointTimeTotal() {
-        return longs(this.unifiedSafepointEvents, UnifiedSafepointEvent::getDurationNanos)
-                .collect(summingLong(Long::valueOf));
+    public long getUnifiedSafepointTimeTotal() {
+        return unifiedSafepointTimeTotal;
     }
 
     public String getVmInfo() {
@@ -815,19 +1256,26 @@ public class JvmDao {
         }
         // here we could raise an Exception: Add param boolean reorderingAllowed to method
         // if (!reorderingAllowed) throw new TimeWarpException("bad order")
-        return -binarySearch(blockingEvents, event, COMPARE_BY_TIMESTAMP) - 1;
+        int index = binarySearch(blockingEvents, event, COMPARE_BY_TIMESTAMP);
+        if (index < 0) {
+            return -index - 1;
+        }
+        // After the events with the same timestamp, so they stay in log order
+        while (index < size && COMPARE_BY_TIMESTAMP.compare(blockingEvents.get(index), event) == 0) {
+            index++;
+        }
+        return index;
     }
 
-    public boolean isLogEndingUnidentified() {
-        return logEndingUnidentified;
+    /**
+     * @return True if events are stored in compact storage, false otherwise.
+     */
+    public boolean isCompact() {
+        return blockingEventColumns != null;
     }
 
-    private <T> LongStream kilobytes(Class<T> clazz, Function<T, Memory> func) {
-        return this.blockingEvents.stream() //
-                .filter(clazz::isInstance) //
-                .map(clazz::cast).map(func) //
-                .filter(Objects::nonNull) //
-                .mapToLong(m -> m.getValue(KILOBYTES));
+    public boolean isLogEndingUnidentified() {
+        return logEndingUnidentified;
     }
 
     public void setExtRootScanningTimeMax(long extRootScanningTimeMax) {
@@ -1005,4 +1453,85 @@ public class JvmDao {
     public void setWorstSysGtUserEvent(LogEvent worstSysGtUserEvent) {
         this.worstSysGtUserEvent = worstSysGtUserEvent;
     }
+
+    /**
+     * Write the data store to a snapshot. Only compact storage can be written, since events are written as primitive
+     * columns. The few events kept whole (e.g. the first and last events) are written as log entries and parsed again
+     * when read.
+     * 
+     * @param out
+     *            The snapshot output.
+     * @throws IOException
+     *             if the snapshot cannot be written.
+     */
+    public synchronized void write(DataOutput out) throws IOException {
+        if (!isCompact()) {
+            throw new IllegalStateException("Snapshots require compact storage.");
+        }
+        SnapshotUtil.writeEnums(out, analysis);
+        blockingEventColumns.write(out);
+        SnapshotUtil.writeEvent(out, cmsIncrementalModeCollectorEvent);
+        out.writeLong(durationMax);
+        out.writeLong(durationTotal);
+        SnapshotUtil.writeEnums(out, eventTypes);
+        writeHistograms(out, eventTypeHistograms);
+        out.writeLong(extRootScanningTimeMax);
+        out.writeLong(extRootScanningTimeTotal);
+        SnapshotUtil.writeEvent(out, firstLogEvent);
+        writeHistograms(out, gcTriggerHistograms);
+        SnapshotUtil.writeEnums(out, gcTriggers);
+        out.writeLong(invertedParallelismCount);
+        out.writeLong(invertedSerialismCount);
+        SnapshotUtil.writeString(out, jvmContext.getOptions());
+        SnapshotUtil.writeEnum(out, jvmContext.getArch());
+        SnapshotUtil.writeEnum(out, jvmContext.getBit());
+        SnapshotUtil.writeDate(out, jvmContext.getBuildDate());
+        SnapshotUtil.writeEnum(out, jvmContext.getBuiltBy());
+        SnapshotUtil.writeEnums(out, jvmContext.getGarbageCollectors());
+        out.writeLong(jvmContext.getMemory());
+        SnapshotUtil.writeEnum(out, jvmContext.getOs());
+        SnapshotUtil.writeString(out, jvmContext.getReleaseString());
+        out.writeInt(jvmContext.getVersionMajor());
+        out.writeInt(jvmContext.getVersionMinor());
+        out.writeBoolean(logEndingUnidentified);
+        SnapshotUtil.writeDate(out, logFileDate);
+        out.writeLong(maxClassSpace);
+        out.writeLong(maxClassSpaceAfterGc);
+        out.writeInt(maxClassSpaceAfterGcNonBlocking);
+        out.writeInt(maxClassSpaceNonBlocking);
+        out.writeLong(maxClassSpaceOccupancy);
+        out.writeInt(maxClassSpaceOccupancyNonBlocking);
+        out.writeLong(maxHeap);
+        out.writeLong(maxHeapAfterGc);
+        out.writeInt(maxHeapAfterGcNonBlocking);
+        out.writeInt(maxHeapNonBlocking);
+        out.writeLong(maxHeapOccupancy);
+        out.writeInt(maxHeapOccupancyNonBlocking);
+        out.writeLong(maxOldSpace);
+        out.writeLong(maxYoungSpace);
+        SnapshotUtil.writeString(out, memory);
+        out.writeLong(otherTimeMax);
+        out.writeLong(otherTimeTotal);
+        out.writeLong(parallelCount);
+        out.writeLong(physicalMemory);
+        out.writeLong(physicalMemoryFree);
+        SnapshotUtil.writeEnums(out, preprocessEvents);
+        writeHistograms(out, safepointHistograms);
+        out.writeLong(serialCount);
+        stoppedTimeEventColumns.write(out);
+        out.writeLong(stoppedTimeMax);
+        out.writeLong(stoppedTimeTotal);
+        out.writeLong(swap);
+        out.writeLong(swapFree);
+        out.writeLong(sysGtUserCount);
+        unidentifiedLogLines.write(out);
+        unifiedSafepointEventColumns.write(out);
+        out.writeLong(unifiedSafepointTimeMax);
+        out.writeLong(unifiedSafepointTimeTotal);
+        SnapshotUtil.writeString(out, vmInfo);
+        SnapshotUtil.writeEvent(out, worstInvertedParallelismEvent);
+        SnapshotUtil.writeEvent(out, worstInvertedSerialismEvent);
+        SnapshotUtil.writeEvent(out, worstSysGtUserEvent);
+    }
+
 }
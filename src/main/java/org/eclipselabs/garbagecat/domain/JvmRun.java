@@ -65,9 +65,11 @@ import org.eclipselabs.garbagecat.preprocess.jdk.unified.UnifiedPreprocessAction
 import org.eclipselabs.garbagecat.util.Constants;
 import org.eclipselabs.garbagecat.util.GcUtil;
 import org.eclipselabs.garbagecat.util.Memory;
+import org.eclipselabs.garbagecat.util.OverheadWindow;
+import org.eclipselabs.garbagecat.util.PauseHistogram;
+import org.eclipselabs.garbagecat.util.UnidentifiedLogLines;
 import org.eclipselabs.garbagecat.util.jdk.Analysis;
 import org.eclipselabs.garbagecat.util.jdk.GcTrigger;
-import org.eclipselabs.garbagecat.util.jdk.JdkMath;
 import org.eclipselabs.garbagecat.util.jdk.JdkRegEx;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil.EventType;
@@ -112,6 +114,11 @@ public class JvmRun {
      */
     private long durationTotal;
 
+    /**
+     * <code>BlockingEvent</code> pause time (microseconds) histograms by event type.
+     */
+    private Map<EventType, PauseHistogram> eventTypeHistograms;
+
     /**
      * Event types.
      */
@@ -147,6 +154,16 @@ public class JvmRun {
      */
     private List<String> gcBottlenecks;
 
+    /**
+     * The worst <code>BlockingEvent</code> overhead in each sliding window.
+     */
+    private List<OverheadWindow> gcOverheads;
+
+    /**
+     * <code>BlockingEvent</code> pause time (microseconds) histograms by GC trigger.
+     */
+    private Map<GcTrigger, PauseHistogram> gcTriggerHistograms;
+
     /**
      * GC triggers.
      */
@@ -317,6 +334,16 @@ public class JvmRun {
      */
     private List<String> safepointBottlenecks;
 
+    /**
+     * The worst <code>SafepointEvent</code> overhead in each sliding window.
+     */
+    private List<OverheadWindow> safepointOverheads;
+
+    /**
+     * <code>UnifiedSafepointEvent</code> pause time (microseconds) histograms by safepoint trigger.
+     */
+    private Map<Trigger, PauseHistogram> safepointHistograms;
+
     /**
      * Number of <code>SerialCollection</code> events.
      */
@@ -366,7 +393,7 @@ public class JvmRun {
     /**
      * Log lines that do not match any existing logging patterns.
      */
-    private List<String> unidentifiedLogLines;
+    private UnidentifiedLogLines unidentifiedLogLines;
 
     /**
      * Total number of {@link org.eclipselabs.garbagecat.domain.jdk.unified.UnifiedSafepointEvent}.
@@ -422,15 +449,15 @@ public class JvmRun {
             jvmOptions.doAnalysis();
         }
         // Check for OOME with -XX:+ExitOnOutOfMemoryError
-        if (!getUnidentifiedLogLines().isEmpty()) {
-            String lastUnidentifiedLogLine = getUnidentifiedLogLines().get(getUnidentifiedLogLines().size() - 1);
+        String lastUnidentifiedLogLine = getUnidentifiedLogLines().getLast();
+        if (lastUnidentifiedLogLine != null) {
             Matcher matcher = UnifiedPreprocessAction.REGEX_RETAIN_BEGINNING_SAFEPOINT_PATTERN
                     .matcher(lastUnidentifiedLogLine);
             if (matcher.find()) {
                 Trigger trigger = UnifiedSafepoint.getTrigger(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 2));
                 if (trigger == Trigger.REPORT_JAVA_OUT_OF_MEMORY) {
                     analysis.add(0, ERROR_OOME_EXIT);
-                    getUnidentifiedLogLines().remove(getUnidentifiedLogLines().size() - 1);
+                    getUnidentifiedLogLines().removeLast();
                     if (getUnidentifiedLogLines().isEmpty()) {
                         getEventTypes().remove(JdkUtil.EventType.UNKNOWN);
                     }
@@ -441,7 +468,7 @@ public class JvmRun {
         if (!getUnidentifiedLogLines().isEmpty()) {
             if (!preprocessed) {
                 analysis.add(ERROR_UNIDENTIFIED_LOG_LINES_PREPARSE);
-            } else if (getUnidentifiedLogLines().size() == 1 && isLogEndingUnidentified()) {
+            } else if (getUnidentifiedLogLines().getCount() == 1 && isLogEndingUnidentified()) {
                 analysis.add(INFO_UNIDENTIFIED_LOG_LINE_LAST);
             } else {
                 analysis.add(0, WARN_UNIDENTIFIED_LOG_LINE_REPORT);
@@ -810,6 +837,10 @@ public class JvmRun {
         return durationTotal;
     }
 
+    public Map<EventType, PauseHistogram> getEventTypeHistograms() {
+        return eventTypeHistograms;
+    }
+
     public List<EventType> getEventTypes() {
         return eventTypes;
     }
@@ -917,12 +948,20 @@ public class JvmRun {
         if (blockingEventCount <= 0 || getJvmRunDuration() == 0) {
             return 100L;
         }
-        long timeNotGc = getJvmRunDuration() - JdkMath.convertMicrosToMillis(durationTotal).longValue();
+        long timeNotGc = getJvmRunDuration() - durationTotal / 1000;
         BigDecimal throughput = new BigDecimal(timeNotGc);
         throughput = throughput.divide(new BigDecimal(getJvmRunDuration()), 2, HALF_EVEN);
         return throughput.movePointRight(2).longValue();
     }
 
+    public List<OverheadWindow> getGcOverheads() {
+        return gcOverheads;
+    }
+
+    public Map<GcTrigger, PauseHistogram> getGcTriggerHistograms() {
+        return gcTriggerHistograms;
+    }
+
     public List<GcTrigger> getGcTriggers() {
         return gcTriggers;
     }
@@ -933,7 +972,7 @@ public class JvmRun {
      *         integer. 100 means all safepoint time spent doing GC. 0 means none of the safepoint time was due to GC.
      */
     public long getGcUnifiedSafepointRatio() {
-        long unifiedSafepointTimeTotalMicros = JdkMath.convertNanosToMicros(unifiedSafepointTimeTotal).longValue();
+        long unifiedSafepointTimeTotalMicros = unifiedSafepointTimeTotal / 1000;
         if (durationTotal <= 0 || unifiedSafepointTimeTotalMicros <= 0) {
             return 100L;
         }
@@ -982,8 +1021,8 @@ public class JvmRun {
         }
 
         long end = lastStoppedEventTimestamp > lastBlockingEventTimeStamp
-                ? lastStoppedEventTimestamp + JdkMath.convertMicrosToMillis(lastStoppedEventDuration).longValue()
-                : lastBlockingEventTimeStamp + JdkMath.convertMicrosToMillis(lastBlockingEventDuration).longValue();
+                ? lastStoppedEventTimestamp + lastStoppedEventDuration / 1000
+                : lastBlockingEventTimeStamp + lastBlockingEventDuration / 1000;
         return end - start;
     }
 
@@ -1177,10 +1216,18 @@ public class JvmRun {
         return safepointBottlenecks;
     }
 
+    public Map<Trigger, PauseHistogram> getSafepointHistograms() {
+        return safepointHistograms;
+    }
+
     public List<Map.Entry<Trigger, LongSummaryStatistics>> getSafepointMetrics() {
         return safepointMetrics;
     }
 
+    public List<OverheadWindow> getSafepointOverheads() {
+        return safepointOverheads;
+    }
+
     public long getSerialCount() {
         return serialCount;
     }
@@ -1212,7 +1259,7 @@ public class JvmRun {
         if (getJvmRunDuration() <= 0) {
             return 0L;
         }
-        long timeNotStopped = getJvmRunDuration() - JdkMath.convertMicrosToMillis(stoppedTimeTotal).longValue();
+        long timeNotStopped = getJvmRunDuration() - stoppedTimeTotal / 1000;
         BigDecimal throughput = new BigDecimal(timeNotStopped);
         throughput = throughput.divide(new BigDecimal(getJvmRunDuration()), 2, HALF_EVEN);
         return throughput.movePointRight(2).longValue();
@@ -1238,7 +1285,7 @@ public class JvmRun {
         return throughputThreshold;
     }
 
-    public List<String> getUnidentifiedLogLines() {
+    public UnidentifiedLogLines getUnidentifiedLogLines() {
         return unidentifiedLogLines;
     }
 
@@ -1259,7 +1306,7 @@ public class JvmRun {
             return 0L;
         }
         long timeNotSafepoint = getJvmRunDuration()
-                - JdkMath.convertNanosToMillis(unifiedSafepointTimeTotal).longValue();
+                - unifiedSafepointTimeTotal / 1000000;
         BigDecimal throughput = new BigDecimal(timeNotSafepoint);
         throughput = throughput.divide(new BigDecimal(getJvmRunDuration()), 2, HALF_EVEN);
         return throughput.movePointRight(2).longValue();
@@ -1350,6 +1397,10 @@ public class JvmRun {
         this.blockingEventCount = blockingEventCount;
     }
 
+    public void setEventTypeHistograms(Map<EventType, PauseHistogram> eventTypeHistograms) {
+        this.eventTypeHistograms = eventTypeHistograms;
+    }
+
     public void setEventTypes(List<EventType> eventTypes) {
         this.eventTypes = eventTypes;
     }
@@ -1386,6 +1437,14 @@ public class JvmRun {
         this.durationTotal = gcPauseTotal;
     }
 
+    public void setGcOverheads(List<OverheadWindow> gcOverheads) {
+        this.gcOverheads = gcOverheads;
+    }
+
+    public void setGcTriggerHistograms(Map<GcTrigger, PauseHistogram> gcTriggerHistograms) {
+        this.gcTriggerHistograms = gcTriggerHistograms;
+    }
+
     public void setGcTriggers(List<GcTrigger> gcTriggers) {
         this.gcTriggers = gcTriggers;
     }
@@ -1522,10 +1581,18 @@ public class JvmRun {
         this.safepointBottlenecks = safepointBottlenecks;
     }
 
+    public void setSafepointHistograms(Map<Trigger, PauseHistogram> safepointHistograms) {
+        this.safepointHistograms = safepointHistograms;
+    }
+
     public void setSafepointMetrics(List<Map.Entry<Trigger, LongSummaryStatistics>> safepointMetrics) {
         this.safepointMetrics = safepointMetrics;
     }
 
+    public void setSafepointOverheads(List<OverheadWindow> safepointOverheads) {
+        this.safepointOverheads = safepointOverheads;
+    }
+
     public void setSerialCount(long serialCount) {
         this.serialCount = serialCount;
     }
@@ -1562,7 +1629,7 @@ public class JvmRun {
         this.throughputThreshold = throughputThreshold;
     }
 
-    public void setUnidentifiedLogLines(List<String> unidentifiedLogLines) {
+    public void setUnidentifiedLogLines(UnidentifiedLogLines unidentifiedLogLines) {
         this.unidentifiedLogLines = unidentifiedLogLines;
     }
 
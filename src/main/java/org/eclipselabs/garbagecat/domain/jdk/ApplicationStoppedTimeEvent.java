@@ -150,21 +150,21 @@ public class ApplicationStoppedTimeEvent implements SafepointEvent {
         if (matcher.find()) {
             long endTimestamp = 0;
             if (matcher.group(14) != null && matcher.group(14).matches(JdkRegEx.TIMESTAMP)) {
-                endTimestamp = JdkMath.convertSecsToMillis(matcher.group(14)).longValue();
+                endTimestamp = JdkMath.parseSecsToMillis(matcher.group(14));
             } else if (matcher.group(2) != null) {
                 if (matcher.group(2).matches(JdkRegEx.TIMESTAMP)) {
-                    endTimestamp = JdkMath.convertSecsToMillis(matcher.group(2)).longValue();
+                    endTimestamp = JdkMath.parseSecsToMillis(matcher.group(2));
                 } else {
                     // Datestamp only.
                     endTimestamp = JdkUtil.convertDatestampToMillis(matcher.group(2));
                 }
             }
-            timeThreadsStopped = JdkMath.convertSecsToMicros(matcher.group(15)).intValue();
+            timeThreadsStopped = JdkMath.parseSecsToMicros(matcher.group(15));
             if (matcher.group(18) != null) {
-                timeToStopThreads = JdkMath.convertSecsToMicros(matcher.group(18)).intValue();
+                timeToStopThreads = JdkMath.parseSecsToMicros(matcher.group(18));
             }
             if (endTimestamp > 0) {
-                timestamp = endTimestamp - JdkMath.convertMicrosToMillis(getDurationMicros()).longValue();
+                timestamp = endTimestamp - getDurationMicros() / 1000;
             }
         }
     }
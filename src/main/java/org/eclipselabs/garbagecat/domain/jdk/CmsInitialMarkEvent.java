@@ -127,19 +127,19 @@ public class CmsInitialMarkEvent extends CmsCollector implements BlockingEvent,
             Matcher matcher = PATTERN.matcher(logEntry);
             if (matcher.find()) {
                 if (matcher.group(13) != null && matcher.group(13).matches(JdkRegEx.TIMESTAMP)) {
-                    timestamp = JdkMath.convertSecsToMillis(matcher.group(13)).longValue();
+                    timestamp = JdkMath.parseSecsToMillis(matcher.group(13));
                 } else if (matcher.group(1).matches(JdkRegEx.TIMESTAMP)) {
-                    timestamp = JdkMath.convertSecsToMillis(matcher.group(1)).longValue();
+                    timestamp = JdkMath.parseSecsToMillis(matcher.group(1));
                 } else {
                     // Datestamp only.
                     timestamp = JdkUtil.convertDatestampToMillis(matcher.group(2));
                 }
                 trigger = GcTrigger.getTrigger(matcher.group(15));
-                duration = JdkMath.convertSecsToMicros(matcher.group(28)).intValue();
+                duration = JdkMath.parseSecsToMicros(matcher.group(28));
                 if (matcher.group(31) != null) {
-                    timeUser = JdkMath.convertSecsToCentis(matcher.group(32)).intValue();
-                    timeSys = JdkMath.convertSecsToCentis(matcher.group(33)).intValue();
-                    timeReal = JdkMath.convertSecsToCentis(matcher.group(34)).intValue();
+                    timeUser = JdkMath.parseSecsToCentis(matcher.group(32));
+                    timeSys = JdkMath.parseSecsToCentis(matcher.group(33));
+                    timeReal = JdkMath.parseSecsToCentis(matcher.group(34));
                 }
             }
         }
@@ -243,9 +243,9 @@ public class CmsRemarkEvent extends CmsIncrementalModeCollector
                 if (matcher.group(1) != null) {
                     // Initial GC[YG block exists
                     if (matcher.group(14) != null && matcher.group(14).matches(JdkRegEx.TIMESTAMP)) {
-                        timestamp = JdkMath.convertSecsToMillis(matcher.group(14)).longValue();
+                        timestamp = JdkMath.parseSecsToMillis(matcher.group(14));
                     } else if (matcher.group(2).matches(JdkRegEx.TIMESTAMP)) {
-                        timestamp = JdkMath.convertSecsToMillis(matcher.group(2)).longValue();
+                        timestamp = JdkMath.parseSecsToMillis(matcher.group(2));
                     } else {
                         // Datestamp only.
                         timestamp = JdkUtil.convertDatestampToMillis(matcher.group(2));
@@ -254,20 +254,20 @@ public class CmsRemarkEvent extends CmsIncrementalModeCollector
                 } else {
                     // Initial GC[YG block missing
                     if (matcher.group(33) != null && matcher.group(33).matches(JdkRegEx.TIMESTAMP)) {
-                        timestamp = JdkMath.convertSecsToMillis(matcher.group(33)).longValue();
+                        timestamp = JdkMath.parseSecsToMillis(matcher.group(33));
                     } else if (matcher.group(21).matches(JdkRegEx.TIMESTAMP)) {
-                        timestamp = JdkMath.convertSecsToMillis(matcher.group(21)).longValue();
+                        timestamp = JdkMath.parseSecsToMillis(matcher.group(21));
                     } else {
                         // Datestamp only.
                         timestamp = JdkUtil.convertDatestampToMillis(matcher.group(21));
                     }
                 }
                 // The last duration is the total duration for the phase.
-                duration = JdkMath.convertSecsToMicros(matcher.group(84)).intValue();
+                duration = JdkMath.parseSecsToMicros(matcher.group(84));
                 if (matcher.group(87) != null) {
-                    timeUser = JdkMath.convertSecsToCentis(matcher.group(88)).intValue();
-                    timeSys = JdkMath.convertSecsToCentis(matcher.group(89)).intValue();
-                    timeReal = JdkMath.convertSecsToCentis(matcher.group(90)).intValue();
+                    timeUser = JdkMath.parseSecsToCentis(matcher.group(88));
+                    timeSys = JdkMath.parseSecsToCentis(matcher.group(89));
+                    timeReal = JdkMath.parseSecsToCentis(matcher.group(90));
                 }
             }
             classUnloading = false;
@@ -278,9 +278,9 @@ public class CmsRemarkEvent extends CmsIncrementalModeCollector
                 if (matcher.group(1) != null) {
                     // Initial GC[YG block exists
                     if (matcher.group(14) != null && matcher.group(14).matches(JdkRegEx.TIMESTAMP)) {
-                        timestamp = JdkMath.convertSecsToMillis(matcher.group(14)).longValue();
+                        timestamp = JdkMath.parseSecsToMillis(matcher.group(14));
                     } else if (matcher.group(2).matches(JdkRegEx.TIMESTAMP)) {
-                        timestamp = JdkMath.convertSecsToMillis(matcher.group(2)).longValue();
+                        timestamp = JdkMath.parseSecsToMillis(matcher.group(2));
                     } else {
                         // Datestamp only.
                         timestamp = JdkUtil.convertDatestampToMillis(matcher.group(2));
@@ -289,20 +289,20 @@ public class CmsRemarkEvent extends CmsIncrementalModeCollector
                 } else {
                     // Initial GC[YG block missing
                     if (matcher.group(33) != null && matcher.group(33).matches(JdkRegEx.TIMESTAMP)) {
-                        timestamp = JdkMath.convertSecsToMillis(matcher.group(33)).longValue();
+                        timestamp = JdkMath.parseSecsToMillis(matcher.group(33));
                     } else if (matcher.group(23).matches(JdkRegEx.TIMESTAMP)) {
-                        timestamp = JdkMath.convertSecsToMillis(matcher.group(23)).longValue();
+                        timestamp = JdkMath.parseSecsToMillis(matcher.group(23));
                     } else {
                         // Datestamp only.
                         timestamp = JdkUtil.convertDatestampToMillis(matcher.group(23));
                     }
                 }
                 // The last duration is the total duration for the phase.
-                duration = JdkMath.convertSecsToMicros(matcher.group(190)).intValue();
+                duration = JdkMath.parseSecsToMicros(matcher.group(190));
                 if (matcher.group(193) != null) {
-                    timeUser = JdkMath.convertSecsToCentis(matcher.group(194)).intValue();
-                    timeSys = JdkMath.convertSecsToCentis(matcher.group(195)).intValue();
-                    timeReal = JdkMath.convertSecsToCentis(matcher.group(196)).intValue();
+                    timeUser = JdkMath.parseSecsToCentis(matcher.group(194));
+                    timeSys = JdkMath.parseSecsToCentis(matcher.group(195));
+                    timeReal = JdkMath.parseSecsToCentis(matcher.group(196));
                 }
             }
             classUnloading = true;
@@ -311,9 +311,9 @@ public class CmsRemarkEvent extends CmsIncrementalModeCollector
             Matcher matcher = pattern.matcher(logEntry);
             if (matcher.find()) {
                 if (matcher.group(13) != null && matcher.group(13).matches(JdkRegEx.TIMESTAMP)) {
-                    timestamp = JdkMath.convertSecsToMillis(matcher.group(13)).longValue();
+                    timestamp = JdkMath.parseSecsToMillis(matcher.group(13));
                 } else if (matcher.group(2).matches(JdkRegEx.TIMESTAMP)) {
-                    timestamp = JdkMath.convertSecsToMillis(matcher.group(1)).longValue();
+                    timestamp = JdkMath.parseSecsToMillis(matcher.group(1));
                 } else {
                     // Datestamp only.
                     timestamp = JdkUtil.convertDatestampToMillis(matcher.group(2));
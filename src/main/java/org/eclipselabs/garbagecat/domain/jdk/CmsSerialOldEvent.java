@@ -319,9 +319,9 @@ public class CmsSerialOldEvent extends CmsIncrementalModeCollector implements Bl
             Matcher matcher = pattern.matcher(logEntry);
             if (matcher.find()) {
                 if (matcher.group(13) != null && matcher.group(13).matches(JdkRegEx.TIMESTAMP)) {
-                    timestamp = JdkMath.convertSecsToMillis(matcher.group(13)).longValue();
+                    timestamp = JdkMath.parseSecsToMillis(matcher.group(13));
                 } else if (matcher.group(1).matches(JdkRegEx.TIMESTAMP)) {
-                    timestamp = JdkMath.convertSecsToMillis(matcher.group(1)).longValue();
+                    timestamp = JdkMath.parseSecsToMillis(matcher.group(1));
                 } else {
                     // Datestamp only.
                     timestamp = JdkUtil.convertDatestampToMillis(matcher.group(2));
@@ -351,11 +351,11 @@ public class CmsSerialOldEvent extends CmsIncrementalModeCollector implements Bl
                 if (matcher.group(177) != null) {
                     super.setIncrementalMode(true);
                 }
-                duration = JdkMath.convertSecsToMicros(matcher.group(178)).intValue();
+                duration = JdkMath.parseSecsToMicros(matcher.group(178));
                 if (matcher.group(181) != null) {
-                    timeUser = JdkMath.convertSecsToCentis(matcher.group(182)).intValue();
-                    timeSys = JdkMath.convertSecsToCentis(matcher.group(183)).intValue();
-                    timeReal = JdkMath.convertSecsToCentis(matcher.group(184)).intValue();
+                    timeUser = JdkMath.parseSecsToCentis(matcher.group(182));
+                    timeSys = JdkMath.parseSecsToCentis(matcher.group(183));
+                    timeReal = JdkMath.parseSecsToCentis(matcher.group(184));
                 }
             }
         } else if (logEntry.matches(REGEX_GC)) {
@@ -363,9 +363,9 @@ public class CmsSerialOldEvent extends CmsIncrementalModeCollector implements Bl
             Matcher matcher = pattern.matcher(logEntry);
             if (matcher.find()) {
                 if (matcher.group(13) != null && matcher.group(13).matches(JdkRegEx.TIMESTAMP)) {
-                    timestamp = JdkMath.convertSecsToMillis(matcher.group(13)).longValue();
+                    timestamp = JdkMath.parseSecsToMillis(matcher.group(13));
                 } else if (matcher.group(1).matches(JdkRegEx.TIMESTAMP)) {
-                    timestamp = JdkMath.convertSecsToMillis(matcher.group(1)).longValue();
+                    timestamp = JdkMath.parseSecsToMillis(matcher.group(1));
                 } else {
                     // Datestamp only.
                     timestamp = JdkUtil.convertDatestampToMillis(matcher.group(2));
@@ -388,7 +388,7 @@ public class CmsSerialOldEvent extends CmsIncrementalModeCollector implements Bl
 
                 // use young block duration for truncated events
                 if (matcher.group(116) == null) {
-                    duration = JdkMath.convertSecsToMicros(matcher.group(42)).intValue();
+                    duration = JdkMath.parseSecsToMicros(matcher.group(42));
                 }
 
                 // old block after young
@@ -420,12 +420,12 @@ public class CmsSerialOldEvent extends CmsIncrementalModeCollector implements Bl
                     super.setIncrementalMode(true);
                 }
                 if (matcher.group(140) != null) {
-                    this.duration = JdkMath.convertSecsToMicros(matcher.group(140)).intValue();
+                    this.duration = JdkMath.parseSecsToMicros(matcher.group(140));
                 }
                 if (matcher.group(143) != null) {
-                    timeUser = JdkMath.convertSecsToCentis(matcher.group(144)).intValue();
-                    timeSys = JdkMath.convertSecsToCentis(matcher.group(145)).intValue();
-                    timeReal = JdkMath.convertSecsToCentis(matcher.group(146)).intValue();
+                    timeUser = JdkMath.parseSecsToCentis(matcher.group(144));
+                    timeSys = JdkMath.parseSecsToCentis(matcher.group(145));
+                    timeReal = JdkMath.parseSecsToCentis(matcher.group(146));
                 }
             }
         }
@@ -184,6 +184,8 @@ public class FooterStatsEvent implements HeaderEvent, ThrowAwayEvent {
      * Regular expression for the header.
      */
     public static final String _REGEX_HEADER = "^GC STATISTICS:$";
+
+    private static final Pattern PATTERN_HEADER = Pattern.compile(_REGEX_HEADER);
     /**
      * Regular expression defining standard logging.
      */
@@ -302,6 +304,17 @@ public class FooterStatsEvent implements HeaderEvent, ThrowAwayEvent {
         }
     }
 
+    /**
+     * Determine if the logLine matches the logging pattern for the header of this event.
+     * 
+     * @param logLine
+     *            The log line to test.
+     * @return true if the log line matches the event header pattern, false otherwise.
+     */
+    public static final boolean matchHeader(String logLine) {
+        return PATTERN_HEADER.matcher(logLine).matches();
+    }
+
     /**
      * Determine if the logLine matches the logging pattern(s) for this event.
      * 
@@ -358,7 +371,7 @@ public class FooterStatsEvent implements HeaderEvent, ThrowAwayEvent {
     public boolean isHeader() {
         boolean isHeader = false;
         if (this.logEntry != null) {
-            isHeader = logEntry.matches(_REGEX_HEADER);
+            isHeader = PATTERN_HEADER.matcher(logEntry).matches();
         }
         return isHeader;
     }
@@ -148,9 +148,9 @@ public class G1CleanupEvent extends G1Collector implements BlockingEvent, Parall
         Matcher matcher = PATTERN.matcher(logEntry);
         if (matcher.find()) {
             if (matcher.group(13) != null && matcher.group(13).matches(JdkRegEx.TIMESTAMP)) {
-                timestamp = JdkMath.convertSecsToMillis(matcher.group(13)).longValue();
+                timestamp = JdkMath.parseSecsToMillis(matcher.group(13));
             } else if (matcher.group(1).matches(JdkRegEx.TIMESTAMP)) {
-                timestamp = JdkMath.convertSecsToMillis(matcher.group(1)).longValue();
+                timestamp = JdkMath.parseSecsToMillis(matcher.group(1));
             } else {
                 // Datestamp only.
                 timestamp = JdkUtil.convertDatestampToMillis(matcher.group(2));
@@ -160,11 +160,11 @@ public class G1CleanupEvent extends G1Collector implements BlockingEvent, Parall
                 combinedOccupancyEnd = memory(matcher.group(23), matcher.group(25).charAt(0)).convertTo(KILOBYTES);
                 combinedSpace = memory(matcher.group(26), matcher.group(28).charAt(0)).convertTo(KILOBYTES);
             }
-            duration = JdkMath.convertSecsToMicros(matcher.group(29)).intValue();
+            duration = JdkMath.parseSecsToMicros(matcher.group(29));
             if (matcher.group(32) != null) {
-                timeUser = JdkMath.convertSecsToCentis(matcher.group(33)).intValue();
-                timeSys = JdkMath.convertSecsToCentis(matcher.group(34)).intValue();
-                timeReal = JdkMath.convertSecsToCentis(matcher.group(35)).intValue();
+                timeUser = JdkMath.parseSecsToCentis(matcher.group(33));
+                timeSys = JdkMath.parseSecsToCentis(matcher.group(34));
+                timeReal = JdkMath.parseSecsToCentis(matcher.group(35));
             }
         }
     }
@@ -204,9 +204,9 @@ public class G1FullGcEvent extends G1Collector implements BlockingEvent, YoungCo
             matcher.reset();
             if (matcher.find()) {
                 if (matcher.group(13) != null && matcher.group(13).matches(JdkRegEx.TIMESTAMP)) {
-                    timestamp = JdkMath.convertSecsToMillis(matcher.group(13)).longValue();
+                    timestamp = JdkMath.parseSecsToMillis(matcher.group(13));
                 } else if (matcher.group(1).matches(JdkRegEx.TIMESTAMP)) {
-                    timestamp = JdkMath.convertSecsToMillis(matcher.group(1)).longValue();
+                    timestamp = JdkMath.parseSecsToMillis(matcher.group(1));
                 } else {
                     // Datestamp only.
                     timestamp = JdkUtil.convertDatestampToMillis(matcher.group(2));
@@ -215,20 +215,20 @@ public class G1FullGcEvent extends G1Collector implements BlockingEvent, YoungCo
                 combinedOccupancyInit = memory(matcher.group(17), matcher.group(19).charAt(0)).convertTo(KILOBYTES);
                 combinedOccupancyEnd = memory(matcher.group(20), matcher.group(22).charAt(0)).convertTo(KILOBYTES);
                 combinedSpace = memory(matcher.group(23), matcher.group(25).charAt(0)).convertTo(KILOBYTES);
-                duration = JdkMath.convertSecsToMicros(matcher.group(26)).intValue();
+                duration = JdkMath.parseSecsToMicros(matcher.group(26));
                 if (matcher.group(29) != null) {
-                    timeUser = JdkMath.convertSecsToCentis(matcher.group(30)).intValue();
-                    timeSys = JdkMath.convertSecsToCentis(matcher.group(31)).intValue();
-                    timeReal = JdkMath.convertSecsToCentis(matcher.group(32)).intValue();
+                    timeUser = JdkMath.parseSecsToCentis(matcher.group(30));
+                    timeSys = JdkMath.parseSecsToCentis(matcher.group(31));
+                    timeReal = JdkMath.parseSecsToCentis(matcher.group(32));
                 }
             }
         } else if ((matcher = PATTERN_PREPROCESSED.matcher(logEntry)).matches()) {
             matcher.reset();
             if (matcher.find()) {
                 if (matcher.group(13) != null && matcher.group(13).matches(JdkRegEx.TIMESTAMP)) {
-                    timestamp = JdkMath.convertSecsToMillis(matcher.group(13)).longValue();
+                    timestamp = JdkMath.parseSecsToMillis(matcher.group(13));
                 } else if (matcher.group(1).matches(JdkRegEx.TIMESTAMP)) {
-                    timestamp = JdkMath.convertSecsToMillis(matcher.group(1)).longValue();
+                    timestamp = JdkMath.parseSecsToMillis(matcher.group(1));
                 } else {
                     // Datestamp only.
                     timestamp = JdkUtil.convertDatestampToMillis(matcher.group(2));
@@ -245,16 +245,16 @@ public class G1FullGcEvent extends G1Collector implements BlockingEvent, YoungCo
             combinedOccupancyInit = JdkMath.convertSizeToKilobytes(matcher.group(67), matcher.group(69).charAt(0));
             combinedOccupancyEnd = JdkMath.convertSizeToKilobytes(matcher.group(73), matcher.group(75).charAt(0));
             combinedSpace = JdkMath.convertSizeToKilobytes(matcher.group(76), matcher.group(78).charAt(0));
-            duration = JdkMath.convertSecsToMicros(matcher.group(46)).intValue();
+            duration = JdkMath.parseSecsToMicros(matcher.group(46));
             if (matcher.group(79) != null) {
                 classOccupancyInit = memory(matcher.group(81), matcher.group(83).charAt(0)).convertTo(KILOBYTES);
                 classOccupancyEnd = memory(matcher.group(84), matcher.group(86).charAt(0)).convertTo(KILOBYTES);
                 classSpace = memory(matcher.group(87), matcher.group(89).charAt(0)).convertTo(KILOBYTES);
             }
             if (matcher.group(110) != null) {
-                timeUser = JdkMath.convertSecsToCentis(matcher.group(111)).intValue();
-                timeSys = JdkMath.convertSecsToCentis(matcher.group(112)).intValue();
-                timeReal = JdkMath.convertSecsToCentis(matcher.group(113)).intValue();
+                timeUser = JdkMath.parseSecsToCentis(matcher.group(111));
+                timeSys = JdkMath.parseSecsToCentis(matcher.group(112));
+                timeReal = JdkMath.parseSecsToCentis(matcher.group(113));
             }
         }
     }
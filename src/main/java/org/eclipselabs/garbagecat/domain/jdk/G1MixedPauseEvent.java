@@ -194,9 +194,9 @@ public class G1MixedPauseEvent extends G1Collector implements BlockingEvent, Par
             matcher.reset();
             if (matcher.find()) {
                 if (matcher.group(13) != null && matcher.group(13).matches(JdkRegEx.TIMESTAMP)) {
-                    timestamp = JdkMath.convertSecsToMillis(matcher.group(13)).longValue();
+                    timestamp = JdkMath.parseSecsToMillis(matcher.group(13));
                 } else if (matcher.group(1).matches(JdkRegEx.TIMESTAMP)) {
-                    timestamp = JdkMath.convertSecsToMillis(matcher.group(1)).longValue();
+                    timestamp = JdkMath.parseSecsToMillis(matcher.group(1));
                 } else {
                     // Datestamp only.
                     timestamp = JdkUtil.convertDatestampToMillis(matcher.group(2));
@@ -205,11 +205,11 @@ public class G1MixedPauseEvent extends G1Collector implements BlockingEvent, Par
                 combinedOccupancyInit = memory(matcher.group(17), matcher.group(19).charAt(0)).convertTo(KILOBYTES);
                 combinedOccupancyEnd = memory(matcher.group(20), matcher.group(22).charAt(0)).convertTo(KILOBYTES);
                 combinedSpace = memory(matcher.group(23), matcher.group(25).charAt(0)).convertTo(KILOBYTES);
-                eventTime = JdkMath.convertSecsToMicros(matcher.group(26)).intValue();
+                eventTime = JdkMath.parseSecsToMicros(matcher.group(26));
                 if (matcher.group(29) != null) {
-                    timeUser = JdkMath.convertSecsToCentis(matcher.group(30)).intValue();
-                    timeSys = JdkMath.convertSecsToCentis(matcher.group(31)).intValue();
-                    timeReal = JdkMath.convertSecsToCentis(matcher.group(32)).intValue();
+                    timeUser = JdkMath.parseSecsToCentis(matcher.group(30));
+                    timeSys = JdkMath.parseSecsToCentis(matcher.group(31));
+                    timeReal = JdkMath.parseSecsToCentis(matcher.group(32));
                 }
             }
         } else if ((matcher = REGEX_PREPROCESSED_PATTERN.matcher(logEntry)).matches()) {
@@ -217,9 +217,9 @@ public class G1MixedPauseEvent extends G1Collector implements BlockingEvent, Par
             matcher.reset();
             if (matcher.find()) {
                 if (matcher.group(13) != null && matcher.group(13).matches(JdkRegEx.TIMESTAMP)) {
-                    timestamp = JdkMath.convertSecsToMillis(matcher.group(13)).longValue();
+                    timestamp = JdkMath.parseSecsToMillis(matcher.group(13));
                 } else if (matcher.group(1).matches(JdkRegEx.TIMESTAMP)) {
-                    timestamp = JdkMath.convertSecsToMillis(matcher.group(1)).longValue();
+                    timestamp = JdkMath.parseSecsToMillis(matcher.group(1));
                 } else {
                     // Datestamp only.
                     timestamp = JdkUtil.convertDatestampToMillis(matcher.group(2));
@@ -232,14 +232,14 @@ public class G1MixedPauseEvent extends G1Collector implements BlockingEvent, Par
                 } else {
                     trigger = GcTrigger.NONE;
                 }
-                eventTime = JdkMath.convertSecsToMicros(matcher.group(18)).intValue();
+                eventTime = JdkMath.parseSecsToMicros(matcher.group(18));
                 if (matcher.group(21) != null) {
-                    extRootScanningTime = JdkMath.convertMillisToMicros(matcher.group(22)).intValue();
+                    extRootScanningTime = JdkMath.parseMillisToMicros(matcher.group(22));
                 } else {
                     extRootScanningTime = G1ExtRootScanningData.NO_DATA;
                 }
                 if (matcher.group(23) != null) {
-                    otherTime = JdkMath.convertMillisToMicros(matcher.group(24)).intValue();
+                    otherTime = JdkMath.parseMillisToMicros(matcher.group(24));
                 } else {
                     otherTime = OtherTime.NO_DATA;
                 }
@@ -247,9 +247,9 @@ public class G1MixedPauseEvent extends G1Collector implements BlockingEvent, Par
                 combinedOccupancyEnd = JdkMath.convertSizeToKilobytes(matcher.group(49), matcher.group(51).charAt(0));
                 combinedSpace = JdkMath.convertSizeToKilobytes(matcher.group(52), matcher.group(54).charAt(0));
                 if (matcher.group(55) != null) {
-                    timeUser = JdkMath.convertSecsToCentis(matcher.group(56)).intValue();
-                    timeSys = JdkMath.convertSecsToCentis(matcher.group(57)).intValue();
-                    timeReal = JdkMath.convertSecsToCentis(matcher.group(58)).intValue();
+                    timeUser = JdkMath.parseSecsToCentis(matcher.group(56));
+                    timeSys = JdkMath.parseSecsToCentis(matcher.group(57));
+                    timeReal = JdkMath.parseSecsToCentis(matcher.group(58));
                 }
             }
         }
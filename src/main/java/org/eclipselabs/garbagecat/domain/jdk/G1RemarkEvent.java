@@ -115,18 +115,18 @@ public class G1RemarkEvent extends G1Collector implements BlockingEvent, Paralle
         Matcher matcher = PATTERN.matcher(logEntry);
         if (matcher.find()) {
             if (matcher.group(13) != null && matcher.group(13).matches(JdkRegEx.TIMESTAMP)) {
-                timestamp = JdkMath.convertSecsToMillis(matcher.group(13)).longValue();
+                timestamp = JdkMath.parseSecsToMillis(matcher.group(13));
             } else if (matcher.group(1).matches(JdkRegEx.TIMESTAMP)) {
-                timestamp = JdkMath.convertSecsToMillis(matcher.group(1)).longValue();
+                timestamp = JdkMath.parseSecsToMillis(matcher.group(1));
             } else {
                 // Datestamp only.
                 timestamp = JdkUtil.convertDatestampToMillis(matcher.group(2));
             }
-            duration = JdkMath.convertSecsToMicros(matcher.group(14)).intValue();
+            duration = JdkMath.parseSecsToMicros(matcher.group(14));
             if (matcher.group(17) != null) {
-                timeUser = JdkMath.convertSecsToCentis(matcher.group(18)).intValue();
-                timeSys = JdkMath.convertSecsToCentis(matcher.group(19)).intValue();
-                timeReal = JdkMath.convertSecsToCentis(matcher.group(20)).intValue();
+                timeUser = JdkMath.parseSecsToCentis(matcher.group(18));
+                timeSys = JdkMath.parseSecsToCentis(matcher.group(19));
+                timeReal = JdkMath.parseSecsToCentis(matcher.group(20));
             }
         }
     }
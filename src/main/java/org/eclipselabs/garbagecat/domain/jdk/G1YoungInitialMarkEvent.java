@@ -196,9 +196,9 @@ public class G1YoungInitialMarkEvent extends G1Collector implements BlockingEven
             matcher.reset();
             if (matcher.find()) {
                 if (matcher.group(13) != null && matcher.group(13).matches(JdkRegEx.TIMESTAMP)) {
-                    timestamp = JdkMath.convertSecsToMillis(matcher.group(13)).longValue();
+                    timestamp = JdkMath.parseSecsToMillis(matcher.group(13));
                 } else if (matcher.group(1).matches(JdkRegEx.TIMESTAMP)) {
-                    timestamp = JdkMath.convertSecsToMillis(matcher.group(1)).longValue();
+                    timestamp = JdkMath.parseSecsToMillis(matcher.group(1));
                 } else {
                     // Datestamp only.
                     timestamp = JdkUtil.convertDatestampToMillis(matcher.group(2));
@@ -207,11 +207,11 @@ public class G1YoungInitialMarkEvent extends G1Collector implements BlockingEven
                 combinedOccupancyInit = memory(matcher.group(17), matcher.group(19).charAt(0)).convertTo(KILOBYTES);
                 combinedOccupancyEnd = memory(matcher.group(20), matcher.group(22).charAt(0)).convertTo(KILOBYTES);
                 combinedSpace = memory(matcher.group(23), matcher.group(25).charAt(0)).convertTo(KILOBYTES);
-                eventTime = JdkMath.convertSecsToMicros(matcher.group(26)).intValue();
+                eventTime = JdkMath.parseSecsToMicros(matcher.group(26));
                 if (matcher.group(29) != null) {
-                    timeUser = JdkMath.convertSecsToCentis(matcher.group(30)).intValue();
-                    timeSys = JdkMath.convertSecsToCentis(matcher.group(31)).intValue();
-                    timeReal = JdkMath.convertSecsToCentis(matcher.group(32)).intValue();
+                    timeUser = JdkMath.parseSecsToCentis(matcher.group(30));
+                    timeSys = JdkMath.parseSecsToCentis(matcher.group(31));
+                    timeReal = JdkMath.parseSecsToCentis(matcher.group(32));
                 }
             }
         } else if ((matcher = REGEX_PREPROCESSED_PATTERN.matcher(logEntry)).matches()) {
@@ -219,9 +219,9 @@ public class G1YoungInitialMarkEvent extends G1Collector implements BlockingEven
             matcher.reset();
             if (matcher.find()) {
                 if (matcher.group(13) != null && matcher.group(13).matches(JdkRegEx.TIMESTAMP)) {
-                    timestamp = JdkMath.convertSecsToMillis(matcher.group(13)).longValue();
+                    timestamp = JdkMath.parseSecsToMillis(matcher.group(13));
                 } else if (matcher.group(1).matches(JdkRegEx.TIMESTAMP)) {
-                    timestamp = JdkMath.convertSecsToMillis(matcher.group(1)).longValue();
+                    timestamp = JdkMath.parseSecsToMillis(matcher.group(1));
                 } else {
                     // Datestamp only.
                     timestamp = JdkUtil.convertDatestampToMillis(matcher.group(2));
@@ -234,21 +234,21 @@ public class G1YoungInitialMarkEvent extends G1Collector implements BlockingEven
                     trigger = GcTrigger.NONE;
                 }
                 if (matcher.group(24) != null) {
-                    extRootScanningTime = JdkMath.convertMillisToMicros(matcher.group(25)).intValue();
+                    extRootScanningTime = JdkMath.parseMillisToMicros(matcher.group(25));
                 } else {
                     extRootScanningTime = G1ExtRootScanningData.NO_DATA;
                 }
                 if (matcher.group(26) != null) {
-                    otherTime = JdkMath.convertMillisToMicros(matcher.group(27)).intValue();
+                    otherTime = JdkMath.parseMillisToMicros(matcher.group(27));
                 } else {
                     otherTime = OtherTime.NO_DATA;
                 }
                 if (matcher.group(20) != null) {
-                    eventTime = JdkMath.convertSecsToMicros(matcher.group(21)).intValue();
+                    eventTime = JdkMath.parseSecsToMicros(matcher.group(21));
                 } else {
                     if (matcher.group(59) != null) {
                         // Use Times block duration
-                        eventTime = JdkMath.convertSecsToMicros(matcher.group(61)).intValue();
+                        eventTime = JdkMath.parseSecsToMicros(matcher.group(61));
                     }
                 }
                 if (matcher.group(28) != null) {
@@ -259,9 +259,9 @@ public class G1YoungInitialMarkEvent extends G1Collector implements BlockingEven
                     combinedSpace = JdkMath.convertSizeToKilobytes(matcher.group(56), matcher.group(58).charAt(0));
                 }
                 if (matcher.group(59) != null) {
-                    timeUser = JdkMath.convertSecsToCentis(matcher.group(60)).intValue();
-                    timeSys = JdkMath.convertSecsToCentis(matcher.group(61)).intValue();
-                    timeReal = JdkMath.convertSecsToCentis(matcher.group(62)).intValue();
+                    timeUser = JdkMath.parseSecsToCentis(matcher.group(60));
+                    timeSys = JdkMath.parseSecsToCentis(matcher.group(61));
+                    timeReal = JdkMath.parseSecsToCentis(matcher.group(62));
                 }
             }
         }
@@ -255,9 +255,9 @@ public class G1YoungPauseEvent extends G1Collector implements BlockingEvent, You
             matcher.reset();
             if (matcher.find()) {
                 if (matcher.group(13) != null && matcher.group(13).matches(JdkRegEx.TIMESTAMP)) {
-                    timestamp = JdkMath.convertSecsToMillis(matcher.group(13)).longValue();
+                    timestamp = JdkMath.parseSecsToMillis(matcher.group(13));
                 } else if (matcher.group(1).matches(JdkRegEx.TIMESTAMP)) {
-                    timestamp = JdkMath.convertSecsToMillis(matcher.group(1)).longValue();
+                    timestamp = JdkMath.parseSecsToMillis(matcher.group(1));
                 } else {
                     // Datestamp only.
                     timestamp = JdkUtil.convertDatestampToMillis(matcher.group(2));
@@ -266,20 +266,20 @@ public class G1YoungPauseEvent extends G1Collector implements BlockingEvent, You
                 combinedOccupancyInit = memory(matcher.group(17), matcher.group(19).charAt(0)).convertTo(KILOBYTES);
                 combinedOccupancyEnd = memory(matcher.group(20), matcher.group(22).charAt(0)).convertTo(KILOBYTES);
                 combinedSpace = memory(matcher.group(23), matcher.group(25).charAt(0)).convertTo(KILOBYTES);
-                eventTime = JdkMath.convertSecsToMicros(matcher.group(26)).intValue();
+                eventTime = JdkMath.parseSecsToMicros(matcher.group(26));
                 if (matcher.group(29) != null) {
-                    timeUser = JdkMath.convertSecsToCentis(matcher.group(30)).intValue();
-                    timeSys = JdkMath.convertSecsToCentis(matcher.group(31)).intValue();
-                    timeReal = JdkMath.convertSecsToCentis(matcher.group(32)).intValue();
+                    timeUser = JdkMath.parseSecsToCentis(matcher.group(30));
+                    timeSys = JdkMath.parseSecsToCentis(matcher.group(31));
+                    timeReal = JdkMath.parseSecsToCentis(matcher.group(32));
                 }
             }
         } else if ((matcher = REGEX_PREPROCESSED_DETAILS_PATTERN.matcher(logEntry)).matches()) {
             matcher.reset();
             if (matcher.find()) {
                 if (matcher.group(13) != null && matcher.group(13).matches(JdkRegEx.TIMESTAMP)) {
-                    timestamp = JdkMath.convertSecsToMillis(matcher.group(13)).longValue();
+                    timestamp = JdkMath.parseSecsToMillis(matcher.group(13));
                 } else if (matcher.group(1).matches(JdkRegEx.TIMESTAMP)) {
-                    timestamp = JdkMath.convertSecsToMillis(matcher.group(1)).longValue();
+                    timestamp = JdkMath.parseSecsToMillis(matcher.group(1));
                 } else {
                     // Datestamp only.
                     timestamp = JdkUtil.convertDatestampToMillis(matcher.group(2));
@@ -291,14 +291,14 @@ public class G1YoungPauseEvent extends G1Collector implements BlockingEvent, You
                     // trigger before (young):
                     trigger = GcTrigger.getTrigger(matcher.group(15));
                 }
-                eventTime = JdkMath.convertSecsToMicros(matcher.group(18)).intValue();
+                eventTime = JdkMath.parseSecsToMicros(matcher.group(18));
                 if (matcher.group(21) != null) {
-                    extRootScanningTime = JdkMath.convertMillisToMicros(matcher.group(22)).intValue();
+                    extRootScanningTime = JdkMath.parseMillisToMicros(matcher.group(22));
                 } else {
                     extRootScanningTime = G1ExtRootScanningData.NO_DATA;
                 }
                 if (matcher.group(24) != null) {
-                    otherTime = JdkMath.convertMillisToMicros(matcher.group(24)).intValue();
+                    otherTime = JdkMath.parseMillisToMicros(matcher.group(24));
                 } else {
                     otherTime = OtherTime.NO_DATA;
                 }
@@ -308,30 +308,30 @@ public class G1YoungPauseEvent extends G1Collector implements BlockingEvent, You
                 combinedOccupancyEnd = JdkMath.convertSizeToKilobytes(matcher.group(49), matcher.group(51).charAt(0));
                 combinedSpace = JdkMath.convertSizeToKilobytes(matcher.group(52), matcher.group(54).charAt(0));
                 if (matcher.group(55) != null) {
-                    timeUser = JdkMath.convertSecsToCentis(matcher.group(56)).intValue();
-                    timeSys = JdkMath.convertSecsToCentis(matcher.group(57)).intValue();
-                    timeReal = JdkMath.convertSecsToCentis(matcher.group(58)).intValue();
+                    timeUser = JdkMath.parseSecsToCentis(matcher.group(56));
+                    timeSys = JdkMath.parseSecsToCentis(matcher.group(57));
+                    timeReal = JdkMath.parseSecsToCentis(matcher.group(58));
                 }
             }
         } else if ((matcher = REGEX_PREPROCESSED_PATTERN.matcher(logEntry)).matches()) {
             matcher.reset();
             if (matcher.find()) {
                 if (matcher.group(13) != null && matcher.group(13).matches(JdkRegEx.TIMESTAMP)) {
-                    timestamp = JdkMath.convertSecsToMillis(matcher.group(13)).longValue();
+                    timestamp = JdkMath.parseSecsToMillis(matcher.group(13));
                 } else if (matcher.group(1).matches(JdkRegEx.TIMESTAMP)) {
-                    timestamp = JdkMath.convertSecsToMillis(matcher.group(1)).longValue();
+                    timestamp = JdkMath.parseSecsToMillis(matcher.group(1));
                 } else {
                     // Datestamp only.
                     timestamp = JdkUtil.convertDatestampToMillis(matcher.group(2));
                 }
-                eventTime = JdkMath.convertSecsToMicros(matcher.group(14)).intValue();
+                eventTime = JdkMath.parseSecsToMicros(matcher.group(14));
                 combinedOccupancyInit = memory(matcher.group(19), matcher.group(21).charAt(0)).convertTo(KILOBYTES);
                 combinedOccupancyEnd = memory(matcher.group(22), matcher.group(24).charAt(0)).convertTo(KILOBYTES);
                 combinedSpace = memory(matcher.group(25), matcher.group(27).charAt(0)).convertTo(KILOBYTES);
                 if (matcher.group(28) != null) {
-                    timeUser = JdkMath.convertSecsToCentis(matcher.group(29)).intValue();
-                    timeSys = JdkMath.convertSecsToCentis(matcher.group(30)).intValue();
-                    timeReal = JdkMath.convertSecsToCentis(matcher.group(31)).intValue();
+                    timeUser = JdkMath.parseSecsToCentis(matcher.group(29));
+                    timeSys = JdkMath.parseSecsToCentis(matcher.group(30));
+                    timeReal = JdkMath.parseSecsToCentis(matcher.group(31));
                 }
                 trigger = GcTrigger.NONE;
             }
@@ -339,24 +339,24 @@ public class G1YoungPauseEvent extends G1Collector implements BlockingEvent, You
             matcher.reset();
             if (matcher.find()) {
                 if (matcher.group(13) != null && matcher.group(13).matches(JdkRegEx.TIMESTAMP)) {
-                    timestamp = JdkMath.convertSecsToMillis(matcher.group(13)).longValue();
+                    timestamp = JdkMath.parseSecsToMillis(matcher.group(13));
                 } else if (matcher.group(1).matches(JdkRegEx.TIMESTAMP)) {
-                    timestamp = JdkMath.convertSecsToMillis(matcher.group(1)).longValue();
+                    timestamp = JdkMath.parseSecsToMillis(matcher.group(1));
                 } else {
                     // Datestamp only.
                     timestamp = JdkUtil.convertDatestampToMillis(matcher.group(2));
                 }
                 trigger = GcTrigger.getTrigger(matcher.group(15));
                 // Get duration from times block
-                eventTime = JdkMath.convertSecsToMicros(matcher.group(49)).intValue();
+                eventTime = JdkMath.parseSecsToMicros(matcher.group(49));
                 combinedOccupancyInit = JdkMath.convertSizeToKilobytes(matcher.group(34), matcher.group(36).charAt(0));
                 combinedOccupancyEnd = JdkMath.convertSizeToKilobytes(matcher.group(40), matcher.group(42).charAt(0));
                 eden = JdkMath.convertSizeToKilobytes(matcher.group(16), matcher.group(18).charAt(0));
                 edenEnd = JdkMath.convertSizeToKilobytes(matcher.group(22), matcher.group(24).charAt(0));
                 combinedSpace = JdkMath.convertSizeToKilobytes(matcher.group(43), matcher.group(45).charAt(0));
-                timeUser = JdkMath.convertSecsToCentis(matcher.group(47)).intValue();
-                timeSys = JdkMath.convertSecsToCentis(matcher.group(48)).intValue();
-                timeReal = JdkMath.convertSecsToCentis(matcher.group(49)).intValue();
+                timeUser = JdkMath.parseSecsToCentis(matcher.group(47));
+                timeSys = JdkMath.parseSecsToCentis(matcher.group(48));
+                timeReal = JdkMath.parseSecsToCentis(matcher.group(49));
             }
         }
     }
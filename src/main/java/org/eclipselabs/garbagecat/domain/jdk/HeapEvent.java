@@ -122,6 +122,8 @@ public class HeapEvent implements HeaderEvent, ThrowAwayEvent {
      */
     public static final String _REGEX_HEADER = "^Heap$";
 
+    private static final Pattern PATTERN_HEADER = Pattern.compile(_REGEX_HEADER);
+
     /**
      * Regular expressions defining the logging.
      */
@@ -183,6 +185,17 @@ public class HeapEvent implements HeaderEvent, ThrowAwayEvent {
         }
     }
 
+    /**
+     * Determine if the logLine matches the logging pattern for the header of this event.
+     * 
+     * @param logLine
+     *            The log line to test.
+     * @return true if the log line matches the event header pattern, false otherwise.
+     */
+    public static final boolean matchHeader(String logLine) {
+        return PATTERN_HEADER.matcher(logLine).matches();
+    }
+
     /**
      * Determine if the logLine matches the logging pattern(s) for this event.
      * 
@@ -239,7 +252,7 @@ public class HeapEvent implements HeaderEvent, ThrowAwayEvent {
     public boolean isHeader() {
         boolean isHeader = false;
         if (this.logEntry != null) {
-            isHeader = logEntry.matches(_REGEX_HEADER);
+            isHeader = PATTERN_HEADER.matcher(logEntry).matches();
         }
         return isHeader;
     }
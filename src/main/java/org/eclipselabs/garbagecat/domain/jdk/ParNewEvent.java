@@ -225,19 +225,19 @@ public class ParNewEvent extends CmsIncrementalModeCollector
         Matcher matcher = PATTERN.matcher(logEntry);
         if (matcher.find()) {
             if (matcher.group(14) != null && matcher.group(14).matches(JdkRegEx.TIMESTAMP)) {
-                timestamp = JdkMath.convertSecsToMillis(matcher.group(14)).longValue();
+                timestamp = JdkMath.parseSecsToMillis(matcher.group(14));
             } else if (matcher.group(2) != null) {
                 if (matcher.group(2).matches(JdkRegEx.TIMESTAMP)) {
-                    timestamp = JdkMath.convertSecsToMillis(matcher.group(2)).longValue();
+                    timestamp = JdkMath.parseSecsToMillis(matcher.group(2));
                 } else {
                     // Datestamp only.
                     timestamp = JdkUtil.convertDatestampToMillis(matcher.group(2));
                 }
             } else if (matcher.group(35) != null && matcher.group(35).matches(JdkRegEx.TIMESTAMP)) {
-                timestamp = JdkMath.convertSecsToMillis(matcher.group(35)).longValue();
+                timestamp = JdkMath.parseSecsToMillis(matcher.group(35));
             } else if (matcher.group(23) != null) {
                 if (matcher.group(23).matches(JdkRegEx.TIMESTAMP)) {
-                    timestamp = JdkMath.convertSecsToMillis(matcher.group(23)).longValue();
+                    timestamp = JdkMath.parseSecsToMillis(matcher.group(23));
                 } else {
                     // Datestamp only.
                     timestamp = JdkUtil.convertDatestampToMillis(matcher.group(23));
@@ -259,16 +259,16 @@ public class ParNewEvent extends CmsIncrementalModeCollector
         oldOccupancyInit = matcher.group(71) == null ? oldOccupancyEnd
                 : memory(matcher.group(72), matcher.group(74).charAt(0)).convertTo(KILOBYTES).minus(youngOccupancyInit);
         oldSpace = memory(matcher.group(78), matcher.group(80).charAt(0)).convertTo(KILOBYTES).minus(youngSpace);
-        duration = JdkMath.convertSecsToMicros(matcher.group(82)).intValue();
+        duration = JdkMath.parseSecsToMicros(matcher.group(82));
         if (matcher.group(81) != null) {
             super.setIncrementalMode(true);
         } else {
             super.setIncrementalMode(false);
         }
         if (matcher.group(85) != null) {
-            timeUser = JdkMath.convertSecsToCentis(matcher.group(86)).intValue();
-            timeSys = JdkMath.convertSecsToCentis(matcher.group(87)).intValue();
-            timeReal = JdkMath.convertSecsToCentis(matcher.group(88)).intValue();
+            timeUser = JdkMath.parseSecsToCentis(matcher.group(86));
+            timeSys = JdkMath.parseSecsToCentis(matcher.group(87));
+            timeReal = JdkMath.parseSecsToCentis(matcher.group(88));
         }
     }
 
@@ -213,10 +213,10 @@ public class ParallelCompactingOldEvent extends ParallelCollector implements Blo
         Matcher matcher = PATTERN.matcher(logEntry);
         if (matcher.find()) {
             if (matcher.group(13) != null && matcher.group(13).matches(JdkRegEx.TIMESTAMP)) {
-                timestamp = JdkMath.convertSecsToMillis(matcher.group(13)).longValue();
+                timestamp = JdkMath.parseSecsToMillis(matcher.group(13));
             } else if (matcher.group(1) != null) {
                 if (matcher.group(1).matches(JdkRegEx.TIMESTAMP)) {
-                    timestamp = JdkMath.convertSecsToMillis(matcher.group(1)).longValue();
+                    timestamp = JdkMath.parseSecsToMillis(matcher.group(1));
                 } else {
                     // Datestamp only.
                     timestamp = JdkUtil.convertDatestampToMillis(matcher.group(2));
@@ -233,11 +233,11 @@ public class ParallelCompactingOldEvent extends ParallelCollector implements Blo
             classOccupancyInit = memory(matcher.group(46), matcher.group(48).charAt(0)).convertTo(KILOBYTES);
             classOccupancyEnd = memory(matcher.group(49), matcher.group(51).charAt(0)).convertTo(KILOBYTES);
             classSpace = memory(matcher.group(52), matcher.group(54).charAt(0)).convertTo(KILOBYTES);
-            duration = JdkMath.convertSecsToMicros(matcher.group(55)).intValue();
+            duration = JdkMath.parseSecsToMicros(matcher.group(55));
             if (matcher.group(58) != null) {
-                timeUser = JdkMath.convertSecsToCentis(matcher.group(59)).intValue();
-                timeSys = JdkMath.convertSecsToCentis(matcher.group(60)).intValue();
-                timeReal = JdkMath.convertSecsToCentis(matcher.group(61)).intValue();
+                timeUser = JdkMath.parseSecsToCentis(matcher.group(59));
+                timeSys = JdkMath.parseSecsToCentis(matcher.group(60));
+                timeReal = JdkMath.parseSecsToCentis(matcher.group(61));
             }
         }
     }
@@ -190,10 +190,10 @@ public class ParallelScavengeEvent extends ParallelCollector
         Matcher matcher = PATTERN.matcher(logEntry);
         if (matcher.find()) {
             if (matcher.group(13) != null && matcher.group(13).matches(JdkRegEx.TIMESTAMP)) {
-                timestamp = JdkMath.convertSecsToMillis(matcher.group(13)).longValue();
+                timestamp = JdkMath.parseSecsToMillis(matcher.group(13));
             } else if (matcher.group(1) != null) {
                 if (matcher.group(1).matches(JdkRegEx.TIMESTAMP)) {
-                    timestamp = JdkMath.convertSecsToMillis(matcher.group(1)).longValue();
+                    timestamp = JdkMath.parseSecsToMillis(matcher.group(1));
                 } else {
                     // Datestamp only.
                     timestamp = JdkUtil.convertDatestampToMillis(matcher.group(2));
@@ -208,11 +208,11 @@ public class ParallelScavengeEvent extends ParallelCollector
             oldOccupancyEnd = memory(matcher.group(31), matcher.group(33).charAt(0)).convertTo(KILOBYTES)
                     .minus(youngOccupancyEnd);
             oldSpace = memory(matcher.group(34), matcher.group(36).charAt(0)).convertTo(KILOBYTES).minus(youngSpace);
-            duration = JdkMath.convertSecsToMicros(matcher.group(37)).intValue();
+            duration = JdkMath.parseSecsToMicros(matcher.group(37));
             if (matcher.group(40) != null) {
-                timeUser = JdkMath.convertSecsToCentis(matcher.group(41)).intValue();
-                timeSys = JdkMath.convertSecsToCentis(matcher.group(42)).intValue();
-                timeReal = JdkMath.convertSecsToCentis(matcher.group(43)).intValue();
+                timeUser = JdkMath.parseSecsToCentis(matcher.group(41));
+                timeSys = JdkMath.parseSecsToCentis(matcher.group(42));
+                timeReal = JdkMath.parseSecsToCentis(matcher.group(43));
             }
         }
     }
@@ -193,10 +193,10 @@ public class ParallelSerialOldEvent extends SerialOldEvent {
         Matcher matcher = PATTERN.matcher(logEntry);
         if (matcher.find()) {
             if (matcher.group(13) != null && matcher.group(13).matches(JdkRegEx.TIMESTAMP)) {
-                timestamp = JdkMath.convertSecsToMillis(matcher.group(13)).longValue();
+                timestamp = JdkMath.parseSecsToMillis(matcher.group(13));
             } else if (matcher.group(1) != null) {
                 if (matcher.group(1).matches(JdkRegEx.TIMESTAMP)) {
-                    timestamp = JdkMath.convertSecsToMillis(matcher.group(1)).longValue();
+                    timestamp = JdkMath.parseSecsToMillis(matcher.group(1));
                 } else {
                     // Datestamp only.
                     timestamp = JdkUtil.convertDatestampToMillis(matcher.group(2));
@@ -214,11 +214,11 @@ public class ParallelSerialOldEvent extends SerialOldEvent {
             classOccupancyInit = memory(matcher.group(45), matcher.group(47).charAt(0)).convertTo(KILOBYTES);
             classOccupancyEnd = memory(matcher.group(48), matcher.group(50).charAt(0)).convertTo(KILOBYTES);
             classSpace = memory(matcher.group(51), matcher.group(53).charAt(0)).convertTo(KILOBYTES);
-            duration = JdkMath.convertSecsToMicros(matcher.group(54)).intValue();
+            duration = JdkMath.parseSecsToMicros(matcher.group(54));
             if (matcher.group(57) != null) {
-                timeUser = JdkMath.convertSecsToCentis(matcher.group(58)).intValue();
-                timeSys = JdkMath.convertSecsToCentis(matcher.group(59)).intValue();
-                timeReal = JdkMath.convertSecsToCentis(matcher.group(60)).intValue();
+                timeUser = JdkMath.parseSecsToCentis(matcher.group(58));
+                timeSys = JdkMath.parseSecsToCentis(matcher.group(59));
+                timeReal = JdkMath.parseSecsToCentis(matcher.group(60));
             }
         }
     }
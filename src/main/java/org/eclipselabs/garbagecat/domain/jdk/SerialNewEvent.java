@@ -185,9 +185,9 @@ public class SerialNewEvent extends SerialCollector
         Matcher matcher = PATTERN.matcher(logEntry);
         if (matcher.find()) {
             if (matcher.group(13) != null && matcher.group(13).matches(JdkRegEx.TIMESTAMP)) {
-                timestamp = JdkMath.convertSecsToMillis(matcher.group(13)).longValue();
+                timestamp = JdkMath.parseSecsToMillis(matcher.group(13));
             } else if (matcher.group(1).matches(JdkRegEx.TIMESTAMP)) {
-                timestamp = JdkMath.convertSecsToMillis(matcher.group(1)).longValue();
+                timestamp = JdkMath.parseSecsToMillis(matcher.group(1));
             } else {
                 // Datestamp only.
                 timestamp = JdkUtil.convertDatestampToMillis(matcher.group(2));
@@ -201,11 +201,11 @@ public class SerialNewEvent extends SerialCollector
             oldOccupancyEnd = memory(matcher.group(46), matcher.group(48).charAt(0)).convertTo(KILOBYTES)
                     .minus(youngOccupancyEnd);
             oldSpace = memory(matcher.group(49), matcher.group(51).charAt(0)).convertTo(KILOBYTES).minus(youngSpace);
-            duration = JdkMath.convertSecsToMicros(matcher.group(52)).intValue();
+            duration = JdkMath.parseSecsToMicros(matcher.group(52));
             if (matcher.group(55) != null) {
-                timeUser = JdkMath.convertSecsToCentis(matcher.group(56)).intValue();
-                timeSys = JdkMath.convertSecsToCentis(matcher.group(57)).intValue();
-                timeReal = JdkMath.convertSecsToCentis(matcher.group(58)).intValue();
+                timeUser = JdkMath.parseSecsToCentis(matcher.group(56));
+                timeSys = JdkMath.parseSecsToCentis(matcher.group(57));
+                timeReal = JdkMath.parseSecsToCentis(matcher.group(58));
             }
         }
     }
@@ -224,9 +224,9 @@ public class SerialOldEvent extends SerialCollector implements BlockingEvent, Cl
         Matcher matcher = PATTERN.matcher(logEntry);
         if (matcher.find()) {
             if (matcher.group(13) != null && matcher.group(13).matches(JdkRegEx.TIMESTAMP)) {
-                timestamp = JdkMath.convertSecsToMillis(matcher.group(13)).longValue();
+                timestamp = JdkMath.parseSecsToMillis(matcher.group(13));
             } else if (matcher.group(1).matches(JdkRegEx.TIMESTAMP)) {
-                timestamp = JdkMath.convertSecsToMillis(matcher.group(1)).longValue();
+                timestamp = JdkMath.parseSecsToMillis(matcher.group(1));
             } else {
                 // Datestamp only.
                 timestamp = JdkUtil.convertDatestampToMillis(matcher.group(2));
@@ -252,11 +252,11 @@ public class SerialOldEvent extends SerialCollector implements BlockingEvent, Cl
             classOccupancyInit = memory(matcher.group(82), matcher.group(84).charAt(0)).convertTo(KILOBYTES);
             classOccupancyEnd = memory(matcher.group(85), matcher.group(87).charAt(0)).convertTo(KILOBYTES);
             classSpace = memory(matcher.group(88), matcher.group(90).charAt(0)).convertTo(KILOBYTES);
-            duration = JdkMath.convertSecsToMicros(matcher.group(91)).intValue();
+            duration = JdkMath.parseSecsToMicros(matcher.group(91));
             if (matcher.group(94) != null) {
-                timeUser = JdkMath.convertSecsToCentis(matcher.group(95)).intValue();
-                timeSys = JdkMath.convertSecsToCentis(matcher.group(96)).intValue();
-                timeReal = JdkMath.convertSecsToCentis(matcher.group(97)).intValue();
+                timeUser = JdkMath.parseSecsToCentis(matcher.group(95));
+                timeSys = JdkMath.parseSecsToCentis(matcher.group(96));
+                timeReal = JdkMath.parseSecsToCentis(matcher.group(97));
             }
         }
     }
@@ -69,6 +69,8 @@ public class ShenandoahStatsEvent extends ShenandoahCollector implements HeaderE
     public static final String _REGEX_HEADER = "^All times are wall-clock times, except per-root-class counters, that "
             + "are sum over$";
 
+    private static final Pattern PATTERN_HEADER = Pattern.compile(_REGEX_HEADER);
+
     /**
      * Regular expression defining standard logging.
      */
@@ -109,6 +111,17 @@ public class ShenandoahStatsEvent extends ShenandoahCollector implements HeaderE
         }
     }
 
+    /**
+     * Determine if the logLine matches the logging pattern for the header of this event.
+     * 
+     * @param logLine
+     *            The log line to test.
+     * @return true if the log line matches the event header pattern, false otherwise.
+     */
+    public static final boolean matchHeader(String logLine) {
+        return PATTERN_HEADER.matcher(logLine).matches();
+    }
+
     /**
      * Determine if the logLine matches the logging pattern(s) for this event.
      * 
@@ -164,7 +177,7 @@ public class ShenandoahStatsEvent extends ShenandoahCollector implements HeaderE
     public boolean isHeader() {
         boolean isHeader = false;
         if (this.logEntry != null) {
-            isHeader = logEntry.matches(_REGEX_HEADER);
+            isHeader = PATTERN_HEADER.matcher(logEntry).matches();
         }
         return isHeader;
     }
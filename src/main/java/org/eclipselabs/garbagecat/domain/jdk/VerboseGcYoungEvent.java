@@ -147,9 +147,9 @@ public class VerboseGcYoungEvent extends UnknownCollector
         Matcher matcher = PATTERN.matcher(logEntry);
         if (matcher.find()) {
             if (matcher.group(13) != null && matcher.group(13).matches(JdkRegEx.TIMESTAMP)) {
-                timestamp = JdkMath.convertSecsToMillis(matcher.group(13)).longValue();
+                timestamp = JdkMath.parseSecsToMillis(matcher.group(13));
             } else if (matcher.group(1).matches(JdkRegEx.TIMESTAMP)) {
-                timestamp = JdkMath.convertSecsToMillis(matcher.group(1)).longValue();
+                timestamp = JdkMath.parseSecsToMillis(matcher.group(1));
             } else {
                 // Datestamp only.
                 timestamp = JdkUtil.convertDatestampToMillis(matcher.group(2));
@@ -163,7 +163,7 @@ public class VerboseGcYoungEvent extends UnknownCollector
                 combinedOccupancyInit = combinedOccupancyEnd;
             }
             combinedSpace = memory(matcher.group(25), matcher.group(27).charAt(0)).convertTo(KILOBYTES);
-            duration = JdkMath.convertSecsToMicros(matcher.group(28)).intValue();
+            duration = JdkMath.parseSecsToMicros(matcher.group(28));
         }
     }
 
@@ -54,6 +54,8 @@ public class OomeMetaspaceEvent implements UnifiedLogging, HeaderEvent, ThrowAwa
     public static final String _REGEX_HEADER = UnifiedRegEx.DECORATOR
             + "[ ]+Metaspace \\((class|data)\\) allocation failed for size \\d{1,}";
 
+    private static final Pattern PATTERN_HEADER = Pattern.compile(_REGEX_HEADER);
+
     /**
      * Regular expression defining the logging.
      */
@@ -69,6 +71,17 @@ public class OomeMetaspaceEvent implements UnifiedLogging, HeaderEvent, ThrowAwa
 
     private static final Pattern PATTERN = Pattern.compile(_REGEX);
 
+    /**
+     * Determine if the logLine matches the logging pattern for the header of this event.
+     * 
+     * @param logLine
+     *            The log line to test.
+     * @return true if the log line matches the event header pattern, false otherwise.
+     */
+    public static final boolean matchHeader(String logLine) {
+        return PATTERN_HEADER.matcher(logLine).matches();
+    }
+
     /**
      * Determine if the logLine matches the logging pattern(s) for this event.
      * 
@@ -121,7 +134,7 @@ public class OomeMetaspaceEvent implements UnifiedLogging, HeaderEvent, ThrowAwa
     public boolean isHeader() {
         boolean isHeader = false;
         if (this.logEntry != null) {
-            isHeader = logEntry.matches(_REGEX_HEADER);
+            isHeader = PATTERN_HEADER.matcher(logEntry).matches();
         }
         return isHeader;
     }
@@ -24,6 +24,7 @@ import org.eclipselabs.garbagecat.util.jdk.JdkRegEx;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil.EventType;
 import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedRegEx;
+import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedUtil;
 import org.github.joa.domain.GarbageCollector;
 
 /**
@@ -83,6 +84,18 @@ public class UnifiedCmsInitialMarkEvent extends CmsCollector
         return PATTERN.matcher(logLine).matches();
     }
 
+    /**
+     * Match the logLine against the logging pattern(s) for this event.
+     * 
+     * @param logLine
+     *            The log line to match.
+     * @return The <code>Matcher</code> if the log line matches the event pattern, null otherwise.
+     */
+    public static final Matcher matcher(String logLine) {
+        Matcher matcher = PATTERN.matcher(logLine);
+        return matcher.matches() ? matcher : null;
+    }
+
     /**
      * The elapsed clock time for the GC event in microseconds (rounded).
      */
@@ -118,33 +131,44 @@ public class UnifiedCmsInitialMarkEvent extends CmsCollector
      *            The log entry for the event.
      */
     public UnifiedCmsInitialMarkEvent(String logEntry) {
+        this(logEntry, matcher(logEntry));
+    }
+
+    /**
+     * Create event from a log entry and the <code>Matcher</code> returned by {@link #matcher(String)}, so the log
+     * entry is only matched once when it is identified and parsed.
+     * 
+     * @param logEntry
+     *            The log entry for the event.
+     * @param matcher
+     *            The log entry <code>Matcher</code>, or null if the log entry does not match the event pattern.
+     */
+    public UnifiedCmsInitialMarkEvent(String logEntry, Matcher matcher) {
         this.logEntry = logEntry;
-        Matcher matcher = PATTERN.matcher(logEntry);
-        if (matcher.find()) {
+        if (matcher != null) {
             long endTimestamp;
-            if (matcher.group(2).matches(UnifiedRegEx.UPTIMEMILLIS)) {
+            if (UnifiedUtil.isUptimeMillis(matcher.group(2))) {
                 endTimestamp = Long.parseLong(matcher.group(JdkUtil.DECORATOR_SIZE));
-            } else if (matcher.group(2).matches(UnifiedRegEx.UPTIME)) {
-                endTimestamp = JdkMath.convertSecsToMillis(matcher.group(12)).longValue();
+            } else if (UnifiedUtil.isUptime(matcher.group(2))) {
+                endTimestamp = JdkMath.parseSecsToMillis(matcher.group(12));
             } else {
                 if (matcher.group(JdkUtil.DECORATOR_SIZE + 1) != null) {
-                    if (matcher.group(JdkUtil.DECORATOR_SIZE + 2).matches(UnifiedRegEx.UPTIMEMILLIS)) {
+                    if (UnifiedUtil.isUptimeMillis(matcher.group(JdkUtil.DECORATOR_SIZE + 2))) {
                         endTimestamp = Long.parseLong(matcher.group(JdkUtil.DECORATOR_SIZE + 4));
                     } else {
-                        endTimestamp = JdkMath.convertSecsToMillis(matcher.group(JdkUtil.DECORATOR_SIZE + 3))
-                                .longValue();
+                        endTimestamp = JdkMath.parseSecsToMillis(matcher.group(JdkUtil.DECORATOR_SIZE + 3));
                     }
                 } else {
                     // Datestamp only.
                     endTimestamp = JdkUtil.convertDatestampToMillis(matcher.group(2));
                 }
             }
-            duration = JdkMath.convertMillisToMicros(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 10)).intValue();
-            timestamp = endTimestamp - JdkMath.convertMicrosToMillis(duration).longValue();
+            duration = JdkMath.parseMillisToMicros(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 10));
+            timestamp = endTimestamp - duration / 1000;
             if (matcher.group(UnifiedRegEx.DECORATOR_SIZE + 11) != null) {
-                timeUser = JdkMath.convertSecsToCentis(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 12)).intValue();
-                timeSys = JdkMath.convertSecsToCentis(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 13)).intValue();
-                timeReal = JdkMath.convertSecsToCentis(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 14)).intValue();
+                timeUser = JdkMath.parseSecsToCentis(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 12));
+                timeSys = JdkMath.parseSecsToCentis(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 13));
+                timeReal = JdkMath.parseSecsToCentis(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 14));
             }
         }
     }
@@ -29,6 +29,7 @@ import org.eclipselabs.garbagecat.util.jdk.JdkRegEx;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil.EventType;
 import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedRegEx;
+import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedUtil;
 
 /**
  * <p>
@@ -246,6 +247,18 @@ public class UnifiedConcurrentEvent extends UnknownCollector
         return PATTERN.matcher(logLine).matches();
     }
 
+    /**
+     * Match the logLine against the logging pattern(s) for this event.
+     * 
+     * @param logLine
+     *            The log line to match.
+     * @return The <code>Matcher</code> if the log line matches the event pattern, null otherwise.
+     */
+    public static final Matcher matcher(String logLine) {
+        Matcher matcher = PATTERN.matcher(logLine);
+        return matcher.matches() ? matcher : null;
+    }
+
     /**
      * Permanent generation or metaspace occupancy at end of GC event.
      */
@@ -298,30 +311,42 @@ public class UnifiedConcurrentEvent extends UnknownCollector
      *            The log entry for the event.
      */
     public UnifiedConcurrentEvent(String logEntry) {
+        this(logEntry, matcher(logEntry));
+    }
+
+    /**
+     * Create event from a log entry and the <code>Matcher</code> returned by {@link #matcher(String)}, so the log
+     * entry is only matched once when it is identified and parsed.
+     * 
+     * @param logEntry
+     *            The log entry for the event.
+     * @param matcher
+     *            The log entry <code>Matcher</code>, or null if the log entry does not match the event pattern.
+     */
+    public UnifiedConcurrentEvent(String logEntry, Matcher matcher) {
         this.logEntry = logEntry;
-        Matcher matcher = PATTERN.matcher(logEntry);
-        if (matcher.find()) {
+        if (matcher != null) {
             if (matcher.group(UnifiedRegEx.DECORATOR_SIZE + 19) != null) {
-                duration = JdkMath.convertMillisToMicros(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 19)).intValue();
+                duration = JdkMath.parseMillisToMicros(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 19));
             }
             long endTimestamp;
-            if (matcher.group(2).matches(UnifiedRegEx.UPTIMEMILLIS)) {
+            if (UnifiedUtil.isUptimeMillis(matcher.group(2))) {
                 endTimestamp = Long.parseLong(matcher.group(13));
-            } else if (matcher.group(2).matches(UnifiedRegEx.UPTIME)) {
-                endTimestamp = JdkMath.convertSecsToMillis(matcher.group(12)).longValue();
+            } else if (UnifiedUtil.isUptime(matcher.group(2))) {
+                endTimestamp = JdkMath.parseSecsToMillis(matcher.group(12));
             } else {
                 if (matcher.group(14) != null) {
-                    if (matcher.group(15).matches(UnifiedRegEx.UPTIMEMILLIS)) {
+                    if (UnifiedUtil.isUptimeMillis(matcher.group(15))) {
                         endTimestamp = Long.parseLong(matcher.group(17));
                     } else {
-                        endTimestamp = JdkMath.convertSecsToMillis(matcher.group(16)).longValue();
+                        endTimestamp = JdkMath.parseSecsToMillis(matcher.group(16));
                     }
                 } else {
                     // Datestamp only.
                     endTimestamp = JdkUtil.convertDatestampToMillis(matcher.group(2));
                 }
             }
-            timestamp = endTimestamp - JdkMath.convertMicrosToMillis(duration).longValue();
+            timestamp = endTimestamp - duration / 1000;
             if (matcher.group(UnifiedRegEx.DECORATOR_SIZE + 8) != null) {
                 combinedOccupancyInit = memory(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 9),
                         matcher.group(UnifiedRegEx.DECORATOR_SIZE + 11).charAt(0)).convertTo(KILOBYTES);
@@ -166,6 +166,8 @@ public class UnifiedFooterStatsEvent implements UnifiedLogging, HeaderEvent, Thr
      * Regular expression for the header.
      */
     public static final String _REGEX_HEADER = "^" + UnifiedRegEx.DECORATOR + " GC STATISTICS:$";
+
+    private static final Pattern PATTERN_HEADER = Pattern.compile(_REGEX_HEADER);
     /**
      * Regular expression defining standard logging.
      */
@@ -315,6 +317,17 @@ public class UnifiedFooterStatsEvent implements UnifiedLogging, HeaderEvent, Thr
         }
     }
 
+    /**
+     * Determine if the logLine matches the logging pattern for the header of this event.
+     * 
+     * @param logLine
+     *            The log line to test.
+     * @return true if the log line matches the event header pattern, false otherwise.
+     */
+    public static final boolean matchHeader(String logLine) {
+        return PATTERN_HEADER.matcher(logLine).matches();
+    }
+
     /**
      * Determine if the logLine matches the logging pattern(s) for this event.
      * 
@@ -381,7 +394,7 @@ public class UnifiedFooterStatsEvent implements UnifiedLogging, HeaderEvent, Thr
     public boolean isHeader() {
         boolean isHeader = false;
         if (this.logEntry != null) {
-            isHeader = logEntry.matches(_REGEX_HEADER);
+            isHeader = PATTERN_HEADER.matcher(logEntry).matches();
         }
         return isHeader;
     }
@@ -29,6 +29,7 @@ import org.eclipselabs.garbagecat.util.jdk.JdkRegEx;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil.EventType;
 import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedRegEx;
+import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedUtil;
 
 /**
  * <p>
@@ -88,6 +89,22 @@ public class UnifiedG1CleanupEvent extends G1Collector
         return REGEX_PATTERN.matcher(logLine).matches() || REGEX_PREPROCESSED_PATTERN.matcher(logLine).matches();
     }
 
+    /**
+     * Match the logLine against the logging pattern(s) for this event.
+     * 
+     * @param logLine
+     *            The log line to match.
+     * @return The <code>Matcher</code> if the log line matches the event pattern, null otherwise.
+     */
+    public static final Matcher matcher(String logLine) {
+        Matcher matcher;
+        if ((matcher = REGEX_PATTERN.matcher(logLine)).matches()
+                || (matcher = REGEX_PREPROCESSED_PATTERN.matcher(logLine)).matches()) {
+            return matcher;
+        }
+        return null;
+    }
+
     /**
      * Combined young + old generation size at end of GC event.
      */
@@ -140,79 +157,82 @@ public class UnifiedG1CleanupEvent extends G1Collector
      *            The log entry for the event.
      */
     public UnifiedG1CleanupEvent(String logEntry) {
-        this.logEntry = logEntry;
-
-        Matcher matcher;
+        this(logEntry, matcher(logEntry));
+    }
 
-        if ((matcher = REGEX_PATTERN.matcher(logEntry)).matches()) {
-            matcher.reset();
-            if (matcher.find()) {
-                long endTimestamp;
-                if (matcher.group(2).matches(UnifiedRegEx.UPTIMEMILLIS)) {
-                    endTimestamp = Long.parseLong(matcher.group(JdkUtil.DECORATOR_SIZE));
-                } else if (matcher.group(2).matches(UnifiedRegEx.UPTIME)) {
-                    endTimestamp = JdkMath.convertSecsToMillis(matcher.group(12)).longValue();
-                } else {
-                    if (matcher.group(JdkUtil.DECORATOR_SIZE + 1) != null) {
-                        if (matcher.group(JdkUtil.DECORATOR_SIZE + 2).matches(UnifiedRegEx.UPTIMEMILLIS)) {
-                            endTimestamp = Long.parseLong(matcher.group(JdkUtil.DECORATOR_SIZE + 4));
-                        } else {
-                            endTimestamp = JdkMath.convertSecsToMillis(matcher.group(JdkUtil.DECORATOR_SIZE + 3))
-                                    .longValue();
-                        }
+    /**
+     * Create event from a log entry and the <code>Matcher</code> returned by {@link #matcher(String)}, so the log
+     * entry is only matched once when it is identified and parsed.
+     * 
+     * @param logEntry
+     *            The log entry for the event.
+     * @param matcher
+     *            The log entry <code>Matcher</code>, or null if the log entry does not match the event pattern.
+     */
+    public UnifiedG1CleanupEvent(String logEntry, Matcher matcher) {
+        this.logEntry = logEntry;
+        if (matcher != null && matcher.pattern() == REGEX_PATTERN) {
+            long endTimestamp;
+            if (UnifiedUtil.isUptimeMillis(matcher.group(2))) {
+                endTimestamp = Long.parseLong(matcher.group(JdkUtil.DECORATOR_SIZE));
+            } else if (UnifiedUtil.isUptime(matcher.group(2))) {
+                endTimestamp = JdkMath.parseSecsToMillis(matcher.group(12));
+            } else {
+                if (matcher.group(JdkUtil.DECORATOR_SIZE + 1) != null) {
+                    if (UnifiedUtil.isUptimeMillis(matcher.group(JdkUtil.DECORATOR_SIZE + 2))) {
+                        endTimestamp = Long.parseLong(matcher.group(JdkUtil.DECORATOR_SIZE + 4));
                     } else {
-                        // Datestamp only.
-                        endTimestamp = JdkUtil.convertDatestampToMillis(matcher.group(2));
+                        endTimestamp = JdkMath.parseSecsToMillis(matcher.group(JdkUtil.DECORATOR_SIZE + 3));
                     }
+                } else {
+                    // Datestamp only.
+                    endTimestamp = JdkUtil.convertDatestampToMillis(matcher.group(2));
                 }
-                combinedOccupancyInit = memory(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 1),
-                        matcher.group(UnifiedRegEx.DECORATOR_SIZE + 3).charAt(0)).convertTo(KILOBYTES);
-                combinedOccupancyEnd = memory(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 4),
-                        matcher.group(UnifiedRegEx.DECORATOR_SIZE + 6).charAt(0)).convertTo(KILOBYTES);
-                combinedSpace = memory(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 7),
-                        matcher.group(UnifiedRegEx.DECORATOR_SIZE + 9).charAt(0)).convertTo(KILOBYTES);
-                duration = JdkMath.roundMillis(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 10)).intValue();
-                timestamp = endTimestamp - JdkMath.convertMicrosToMillis(duration).longValue();
-                timeUser = TimesData.NO_DATA;
-                timeReal = TimesData.NO_DATA;
             }
-        } else if ((matcher = REGEX_PREPROCESSED_PATTERN.matcher(logEntry)).matches()) {
-            matcher.reset();
-            if (matcher.find()) {
-                // Preparsed logging has a true timestamp in gc+start, but not gc. is logging (it outputs the beginning
-                // logging before the safepoint).
-                if (matcher.group(2).matches(UnifiedRegEx.UPTIMEMILLIS)) {
-                    timestamp = Long.parseLong(matcher.group(13));
-                } else if (matcher.group(2).matches(UnifiedRegEx.UPTIME)) {
-                    timestamp = JdkMath.convertSecsToMillis(matcher.group(12)).longValue();
-                } else {
-                    if (matcher.group(15) != null) {
-                        if (matcher.group(15).matches(UnifiedRegEx.UPTIMEMILLIS)) {
-                            timestamp = Long.parseLong(matcher.group(17));
-                        } else {
-                            timestamp = JdkMath.convertSecsToMillis(matcher.group(16)).longValue();
-                        }
+            combinedOccupancyInit = memory(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 1),
+                    matcher.group(UnifiedRegEx.DECORATOR_SIZE + 3).charAt(0)).convertTo(KILOBYTES);
+            combinedOccupancyEnd = memory(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 4),
+                    matcher.group(UnifiedRegEx.DECORATOR_SIZE + 6).charAt(0)).convertTo(KILOBYTES);
+            combinedSpace = memory(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 7),
+                    matcher.group(UnifiedRegEx.DECORATOR_SIZE + 9).charAt(0)).convertTo(KILOBYTES);
+            duration = JdkMath.roundMillis(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 10)).intValue();
+            timestamp = endTimestamp - duration / 1000;
+            timeUser = TimesData.NO_DATA;
+            timeReal = TimesData.NO_DATA;
+        } else if (matcher != null) {
+            // Preparsed logging has a true timestamp in gc+start, but not gc. is logging (it outputs the beginning
+            // logging before the safepoint).
+            if (UnifiedUtil.isUptimeMillis(matcher.group(2))) {
+                timestamp = Long.parseLong(matcher.group(13));
+            } else if (UnifiedUtil.isUptime(matcher.group(2))) {
+                timestamp = JdkMath.parseSecsToMillis(matcher.group(12));
+            } else {
+                if (matcher.group(15) != null) {
+                    if (UnifiedUtil.isUptimeMillis(matcher.group(15))) {
+                        timestamp = Long.parseLong(matcher.group(17));
                     } else {
-                        // Datestamp only.
-                        timestamp = JdkUtil.convertDatestampToMillis(matcher.group(2));
+                        timestamp = JdkMath.parseSecsToMillis(matcher.group(16));
                     }
-                }
-                combinedOccupancyInit = memory(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 1),
-                        matcher.group(UnifiedRegEx.DECORATOR_SIZE + 3).charAt(0)).convertTo(KILOBYTES);
-                combinedOccupancyEnd = memory(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 4),
-                        matcher.group(UnifiedRegEx.DECORATOR_SIZE + 6).charAt(0)).convertTo(KILOBYTES);
-                combinedSpace = memory(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 7),
-                        matcher.group(UnifiedRegEx.DECORATOR_SIZE + 9).charAt(0)).convertTo(KILOBYTES);
-                duration = JdkMath.roundMillis(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 10)).intValue();
-                if (matcher.group(UnifiedRegEx.DECORATOR_SIZE + 11) != null) {
-                    timeUser = JdkMath.convertSecsToCentis(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 12)).intValue();
-                    timeSys = JdkMath.convertSecsToCentis(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 13)).intValue();
-                    timeReal = JdkMath.convertSecsToCentis(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 14)).intValue();
                 } else {
-                    timeUser = TimesData.NO_DATA;
-                    timeReal = TimesData.NO_DATA;
+                    // Datestamp only.
+                    timestamp = JdkUtil.convertDatestampToMillis(matcher.group(2));
                 }
             }
+            combinedOccupancyInit = memory(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 1),
+                    matcher.group(UnifiedRegEx.DECORATOR_SIZE + 3).charAt(0)).convertTo(KILOBYTES);
+            combinedOccupancyEnd = memory(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 4),
+                    matcher.group(UnifiedRegEx.DECORATOR_SIZE + 6).charAt(0)).convertTo(KILOBYTES);
+            combinedSpace = memory(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 7),
+                    matcher.group(UnifiedRegEx.DECORATOR_SIZE + 9).charAt(0)).convertTo(KILOBYTES);
+            duration = JdkMath.roundMillis(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 10)).intValue();
+            if (matcher.group(UnifiedRegEx.DECORATOR_SIZE + 11) != null) {
+                timeUser = JdkMath.parseSecsToCentis(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 12));
+                timeSys = JdkMath.parseSecsToCentis(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 13));
+                timeReal = JdkMath.parseSecsToCentis(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 14));
+            } else {
+                timeUser = TimesData.NO_DATA;
+                timeReal = TimesData.NO_DATA;
+            }
         }
     }
 
@@ -97,6 +97,17 @@ public class UnifiedG1FullGcEvent extends G1Collector implements UnifiedLogging,
      * @return true if the log line matches the event pattern, false otherwise.
      */
     public static final boolean match(String logLine) {
+        return matcher(logLine) != null;
+    }
+
+    /**
+     * Match the logLine against the logging pattern(s) for this event.
+     * 
+     * @param logLine
+     *            The log line to match.
+     * @return The <code>Matcher</code> if the log line matches the event pattern, null otherwise.
+     */
+    public static final Matcher matcher(String logLine) {
         boolean match = false;
         Matcher matcher = PATTERN.matcher(logLine);
         if (matcher.find()) {
@@ -118,7 +129,7 @@ public class UnifiedG1FullGcEvent extends G1Collector implements UnifiedLogging,
                 match = true;
             }
         }
-        return match;
+        return match ? matcher : null;
     }
 
     /**
@@ -192,15 +203,27 @@ public class UnifiedG1FullGcEvent extends G1Collector implements UnifiedLogging,
      *            The log entry for the event.
      */
     public UnifiedG1FullGcEvent(String logEntry) {
+        this(logEntry, matcher(logEntry));
+    }
+
+    /**
+     * Create event from a log entry and the <code>Matcher</code> returned by {@link #matcher(String)}, so the log
+     * entry is only matched once when it is identified and parsed.
+     * 
+     * @param logEntry
+     *            The log entry for the event.
+     * @param matcher
+     *            The log entry <code>Matcher</code>, or null if the log entry does not match the event pattern.
+     */
+    public UnifiedG1FullGcEvent(String logEntry, Matcher matcher) {
         this.logEntry = logEntry;
-        Matcher matcher = PATTERN.matcher(logEntry);
-        if (matcher.find()) {
-            eventTime = JdkMath.convertMillisToMicros(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 27)).intValue();
+        if (matcher != null) {
+            eventTime = JdkMath.parseMillisToMicros(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 27));
             long time = UnifiedUtil.calculateTime(matcher);
             if (!isEndstamp()) {
                 timestamp = time;
             } else {
-                timestamp = time - JdkMath.convertMicrosToMillis(eventTime).longValue();
+                timestamp = time - eventTime / 1000;
             }
             trigger = GcTrigger.getTrigger(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 1));
             if (matcher.group(UnifiedRegEx.DECORATOR_SIZE + 4) != null) {
@@ -218,9 +241,9 @@ public class UnifiedG1FullGcEvent extends G1Collector implements UnifiedLogging,
             combinedSpace = memory(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 24),
                     matcher.group(UnifiedRegEx.DECORATOR_SIZE + 26).charAt(0)).convertTo(KILOBYTES);
             if (matcher.group(UnifiedRegEx.DECORATOR_SIZE + 28) != null) {
-                timeUser = JdkMath.convertSecsToCentis(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 29)).intValue();
-                timeSys = JdkMath.convertSecsToCentis(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 30)).intValue();
-                timeReal = JdkMath.convertSecsToCentis(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 31)).intValue();
+                timeUser = JdkMath.parseSecsToCentis(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 29));
+                timeSys = JdkMath.parseSecsToCentis(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 30));
+                timeReal = JdkMath.parseSecsToCentis(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 31));
             } else {
                 timeUser = TimesData.NO_DATA;
                 timeReal = TimesData.NO_DATA;
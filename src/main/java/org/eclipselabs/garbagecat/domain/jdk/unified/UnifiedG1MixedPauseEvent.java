@@ -96,6 +96,18 @@ public class UnifiedG1MixedPauseEvent extends G1Collector implements UnifiedLogg
         return PATTERN.matcher(logLine).matches();
     }
 
+    /**
+     * Match the logLine against the logging pattern(s) for this event.
+     * 
+     * @param logLine
+     *            The log line to match.
+     * @return The <code>Matcher</code> if the log line matches the event pattern, null otherwise.
+     */
+    public static final Matcher matcher(String logLine) {
+        Matcher matcher = PATTERN.matcher(logLine);
+        return matcher.matches() ? matcher : null;
+    }
+
     /**
      * Permanent generation or metaspace occupancy at end of GC event.
      */
@@ -176,25 +188,36 @@ public class UnifiedG1MixedPauseEvent extends G1Collector implements UnifiedLogg
      *            The log entry for the event.
      */
     public UnifiedG1MixedPauseEvent(String logEntry) {
+        this(logEntry, matcher(logEntry));
+    }
+
+    /**
+     * Create event from a log entry and the <code>Matcher</code> returned by {@link #matcher(String)}, so the log
+     * entry is only matched once when it is identified and parsed.
+     * 
+     * @param logEntry
+     *            The log entry for the event.
+     * @param matcher
+     *            The log entry <code>Matcher</code>, or null if the log entry does not match the event pattern.
+     */
+    public UnifiedG1MixedPauseEvent(String logEntry, Matcher matcher) {
         this.logEntry = logEntry;
-        Matcher matcher = PATTERN.matcher(logEntry);
-        if (matcher.find()) {
-            eventTime = JdkMath.convertMillisToMicros(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 31)).intValue();
+        if (matcher != null) {
+            eventTime = JdkMath.parseMillisToMicros(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 31));
             long time = UnifiedUtil.calculateTime(matcher);
             if (!isEndstamp()) {
                 timestamp = time;
             } else {
-                timestamp = time - JdkMath.convertMicrosToMillis(eventTime).longValue();
+                timestamp = time - eventTime / 1000;
             }
             trigger = GcTrigger.getTrigger(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 1));
             if (matcher.group(UnifiedRegEx.DECORATOR_SIZE + 5) != null) {
-                extRootScanningTime = JdkMath.convertMillisToMicros(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 6))
-                        .intValue();
+                extRootScanningTime = JdkMath.parseMillisToMicros(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 6));
             } else {
                 extRootScanningTime = G1ExtRootScanningData.NO_DATA;
             }
             if (matcher.group(UnifiedRegEx.DECORATOR_SIZE + 6) != null) {
-                otherTime = JdkMath.convertMillisToMicros(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 6)).intValue();
+                otherTime = JdkMath.parseMillisToMicros(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 6));
             } else {
                 otherTime = OtherTime.NO_DATA;
             }
@@ -212,11 +235,11 @@ public class UnifiedG1MixedPauseEvent extends G1Collector implements UnifiedLogg
                     matcher.group(UnifiedRegEx.DECORATOR_SIZE + 27).charAt(0)).convertTo(KILOBYTES);
             combinedSpace = memory(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 28),
                     matcher.group(UnifiedRegEx.DECORATOR_SIZE + 30).charAt(0)).convertTo(KILOBYTES);
-            eventTime = JdkMath.convertMillisToMicros(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 31)).intValue();
+            eventTime = JdkMath.parseMillisToMicros(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 31));
             if (matcher.group(UnifiedRegEx.DECORATOR_SIZE + 32) != null) {
-                timeUser = JdkMath.convertSecsToCentis(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 33)).intValue();
-                timeSys = JdkMath.convertSecsToCentis(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 34)).intValue();
-                timeReal = JdkMath.convertSecsToCentis(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 35)).intValue();
+                timeUser = JdkMath.parseSecsToCentis(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 33));
+                timeSys = JdkMath.parseSecsToCentis(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 34));
+                timeReal = JdkMath.parseSecsToCentis(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 35));
             } else {
                 timeUser = TimesData.NO_DATA;
                 timeReal = TimesData.NO_DATA;
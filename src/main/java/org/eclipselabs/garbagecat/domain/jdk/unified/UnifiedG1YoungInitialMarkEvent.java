@@ -32,6 +32,7 @@ import org.eclipselabs.garbagecat.util.jdk.JdkRegEx;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil.EventType;
 import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedRegEx;
+import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedUtil;
 
 /**
  * <p>
@@ -82,6 +83,18 @@ public class UnifiedG1YoungInitialMarkEvent extends G1Collector
         return PATTERN.matcher(logLine).matches();
     }
 
+    /**
+     * Match the logLine against the logging pattern(s) for this event.
+     * 
+     * @param logLine
+     *            The log line to match.
+     * @return The <code>Matcher</code> if the log line matches the event pattern, null otherwise.
+     */
+    public static final Matcher matcher(String logLine) {
+        Matcher matcher = PATTERN.matcher(logLine);
+        return matcher.matches() ? matcher : null;
+    }
+
     /**
      * Combined young + old generation size at end of GC event.
      */
@@ -137,42 +150,51 @@ public class UnifiedG1YoungInitialMarkEvent extends G1Collector
      *            The log entry for the event.
      */
     public UnifiedG1YoungInitialMarkEvent(String logEntry) {
+        this(logEntry, matcher(logEntry));
+    }
+
+    /**
+     * Create event from a log entry and the <code>Matcher</code> returned by {@link #matcher(String)}, so the log
+     * entry is only matched once when it is identified and parsed.
+     * 
+     * @param logEntry
+     *            The log entry for the event.
+     * @param matcher
+     *            The log entry <code>Matcher</code>, or null if the log entry does not match the event pattern.
+     */
+    public UnifiedG1YoungInitialMarkEvent(String logEntry, Matcher matcher) {
         this.logEntry = logEntry;
-        Matcher matcher;
-        if ((matcher = PATTERN.matcher(logEntry)).matches()) {
-            matcher.reset();
-            if (matcher.find()) {
-                long endTimestamp;
-                if (matcher.group(2).matches(UnifiedRegEx.UPTIMEMILLIS)) {
-                    endTimestamp = Long.parseLong(matcher.group(JdkUtil.DECORATOR_SIZE));
-                } else if (matcher.group(2).matches(UnifiedRegEx.UPTIME)) {
-                    endTimestamp = JdkMath.convertSecsToMillis(matcher.group(12)).longValue();
-                } else {
-                    if (matcher.group(JdkUtil.DECORATOR_SIZE + 1) != null) {
-                        if (matcher.group(JdkUtil.DECORATOR_SIZE + 2).matches(UnifiedRegEx.UPTIMEMILLIS)) {
-                            endTimestamp = Long.parseLong(matcher.group(JdkUtil.DECORATOR_SIZE + 4));
-                        } else {
-                            endTimestamp = JdkMath.convertSecsToMillis(matcher.group(JdkUtil.DECORATOR_SIZE + 3))
-                                    .longValue();
-                        }
+        if (matcher != null) {
+            long endTimestamp;
+            if (UnifiedUtil.isUptimeMillis(matcher.group(2))) {
+                endTimestamp = Long.parseLong(matcher.group(JdkUtil.DECORATOR_SIZE));
+            } else if (UnifiedUtil.isUptime(matcher.group(2))) {
+                endTimestamp = JdkMath.parseSecsToMillis(matcher.group(12));
+            } else {
+                if (matcher.group(JdkUtil.DECORATOR_SIZE + 1) != null) {
+                    if (UnifiedUtil.isUptimeMillis(matcher.group(JdkUtil.DECORATOR_SIZE + 2))) {
+                        endTimestamp = Long.parseLong(matcher.group(JdkUtil.DECORATOR_SIZE + 4));
                     } else {
-                        // Datestamp only.
-                        endTimestamp = JdkUtil.convertDatestampToMillis(matcher.group(2));
+                        endTimestamp = JdkMath.parseSecsToMillis(matcher.group(JdkUtil.DECORATOR_SIZE + 3));
                     }
+                } else {
+                    // Datestamp only.
+                    endTimestamp = JdkUtil.convertDatestampToMillis(matcher.group(2));
                 }
-                trigger = GcTrigger.getTrigger(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 1));
-                combinedOccupancyInit = memory(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 2),
-                        matcher.group(UnifiedRegEx.DECORATOR_SIZE + 4).charAt(0)).convertTo(KILOBYTES);
-                combinedOccupancyEnd = memory(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 5),
-                        matcher.group(UnifiedRegEx.DECORATOR_SIZE + 7).charAt(0)).convertTo(KILOBYTES);
-                combinedSpace = memory(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 8),
-                        matcher.group(UnifiedRegEx.DECORATOR_SIZE + 10).charAt(0)).convertTo(KILOBYTES);
-                duration = JdkMath.convertMillisToMicros(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 11)).intValue();
-                timestamp = endTimestamp - JdkMath.convertMicrosToMillis(duration).longValue();
-                timeUser = JdkMath.convertSecsToCentis(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 13)).intValue();
-                timeSys = JdkMath.convertSecsToCentis(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 14)).intValue();
-                timeReal = JdkMath.convertSecsToCentis(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 15)).intValue();
             }
+            trigger = GcTrigger.getTrigger(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 1));
+            combinedOccupancyInit = memory(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 2),
+                    matcher.group(UnifiedRegEx.DECORATOR_SIZE + 4).charAt(0)).convertTo(KILOBYTES);
+            combinedOccupancyEnd = memory(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 5),
+                    matcher.group(UnifiedRegEx.DECORATOR_SIZE + 7).charAt(0)).convertTo(KILOBYTES);
+            combinedSpace = memory(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 8),
+                    matcher.group(UnifiedRegEx.DECORATOR_SIZE + 10).charAt(0)).convertTo(KILOBYTES);
+            duration = JdkMath.parseMillisToMicros(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 11));
+            timestamp = endTimestamp - duration / 1000;
+            timeUser = JdkMath.parseSecsToCentis(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 13));
+            timeSys = JdkMath.parseSecsToCentis(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 14));
+            timeReal = JdkMath.parseSecsToCentis(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 15));
+
         }
     }
 
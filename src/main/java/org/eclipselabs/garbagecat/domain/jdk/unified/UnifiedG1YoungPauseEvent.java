@@ -124,6 +124,18 @@ public class UnifiedG1YoungPauseEvent extends G1Collector implements UnifiedLogg
         return PATTERN.matcher(logLine).matches();
     }
 
+    /**
+     * Match the logLine against the logging pattern(s) for this event.
+     * 
+     * @param logLine
+     *            The log line to match.
+     * @return The <code>Matcher</code> if the log line matches the event pattern, null otherwise.
+     */
+    public static final Matcher matcher(String logLine) {
+        Matcher matcher = PATTERN.matcher(logLine);
+        return matcher.matches() ? matcher : null;
+    }
+
     /**
      * Permanent generation or metaspace occupancy at end of GC event.
      */
@@ -204,25 +216,36 @@ public class UnifiedG1YoungPauseEvent extends G1Collector implements UnifiedLogg
      *            The log entry for the event.
      */
     public UnifiedG1YoungPauseEvent(String logEntry) {
+        this(logEntry, matcher(logEntry));
+    }
+
+    /**
+     * Create event from a log entry and the <code>Matcher</code> returned by {@link #matcher(String)}, so the log
+     * entry is only matched once when it is identified and parsed.
+     * 
+     * @param logEntry
+     *            The log entry for the event.
+     * @param matcher
+     *            The log entry <code>Matcher</code>, or null if the log entry does not match the event pattern.
+     */
+    public UnifiedG1YoungPauseEvent(String logEntry, Matcher matcher) {
         this.logEntry = logEntry;
-        Matcher matcher = PATTERN.matcher(logEntry);
-        if (matcher.find()) {
-            eventTime = JdkMath.convertMillisToMicros(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 33)).intValue();
+        if (matcher != null) {
+            eventTime = JdkMath.parseMillisToMicros(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 33));
             long time = UnifiedUtil.calculateTime(matcher);
             if (!isEndstamp()) {
                 timestamp = time;
             } else {
-                timestamp = time - JdkMath.convertMicrosToMillis(eventTime).longValue();
+                timestamp = time - eventTime / 1000;
             }
             trigger = GcTrigger.getTrigger(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 3));
             if (matcher.group(UnifiedRegEx.DECORATOR_SIZE + 4) != null) {
-                extRootScanningTime = JdkMath.convertMillisToMicros(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 5))
-                        .intValue();
+                extRootScanningTime = JdkMath.parseMillisToMicros(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 5));
             } else {
                 extRootScanningTime = G1ExtRootScanningData.NO_DATA;
             }
             if (matcher.group(UnifiedRegEx.DECORATOR_SIZE + 7) != null) {
-                otherTime = JdkMath.convertMillisToMicros(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 8)).intValue();
+                otherTime = JdkMath.parseMillisToMicros(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 8));
             } else {
                 otherTime = OtherTime.NO_DATA;
             }
@@ -241,9 +264,9 @@ public class UnifiedG1YoungPauseEvent extends G1Collector implements UnifiedLogg
             combinedSpace = memory(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 30),
                     matcher.group(UnifiedRegEx.DECORATOR_SIZE + 32).charAt(0)).convertTo(KILOBYTES);
             if (matcher.group(UnifiedRegEx.DECORATOR_SIZE + 34) != null) {
-                timeUser = JdkMath.convertSecsToCentis(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 35)).intValue();
-                timeSys = JdkMath.convertSecsToCentis(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 36)).intValue();
-                timeReal = JdkMath.convertSecsToCentis(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 37)).intValue();
+                timeUser = JdkMath.parseSecsToCentis(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 35));
+                timeSys = JdkMath.parseSecsToCentis(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 36));
+                timeReal = JdkMath.parseSecsToCentis(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 37));
             } else {
                 timeUser = TimesData.NO_DATA;
                 timeReal = TimesData.NO_DATA;
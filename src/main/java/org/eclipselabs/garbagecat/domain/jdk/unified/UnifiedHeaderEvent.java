@@ -25,6 +25,7 @@ import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil.CollectorFamily;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil.EventType;
 import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedRegEx;
+import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedUtil;
 
 /**
  * <p>
@@ -252,16 +253,16 @@ public class UnifiedHeaderEvent implements LogEvent, UnifiedLogging {
         this.logEntry = logEntry;
         Matcher matcher = PATTERN.matcher(logEntry);
         if (matcher.find()) {
-            if (matcher.group(2).matches(UnifiedRegEx.UPTIMEMILLIS)) {
+            if (UnifiedUtil.isUptimeMillis(matcher.group(2))) {
                 timestamp = Long.parseLong(matcher.group(13));
-            } else if (matcher.group(2).matches(UnifiedRegEx.UPTIME)) {
-                timestamp = JdkMath.convertSecsToMillis(matcher.group(12)).longValue();
+            } else if (UnifiedUtil.isUptime(matcher.group(2))) {
+                timestamp = JdkMath.parseSecsToMillis(matcher.group(12));
             } else {
                 if (matcher.group(15) != null) {
-                    if (matcher.group(15).matches(UnifiedRegEx.UPTIMEMILLIS)) {
+                    if (UnifiedUtil.isUptimeMillis(matcher.group(15))) {
                         timestamp = Long.parseLong(matcher.group(17));
                     } else {
-                        timestamp = JdkMath.convertSecsToMillis(matcher.group(16)).longValue();
+                        timestamp = JdkMath.parseSecsToMillis(matcher.group(16));
                     }
                 } else {
                     // Datestamp only.
@@ -34,6 +34,7 @@ import org.eclipselabs.garbagecat.util.jdk.JdkRegEx;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil.EventType;
 import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedRegEx;
+import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedUtil;
 import org.github.joa.domain.GarbageCollector;
 
 /**
@@ -112,6 +113,18 @@ public class UnifiedParallelScavengeEvent extends ParallelCollector implements U
         return REGEX_PREPROCESSED_PATTERN.matcher(logLine).matches();
     }
 
+    /**
+     * Match the logLine against the logging pattern(s) for this event.
+     * 
+     * @param logLine
+     *            The log line to match.
+     * @return The <code>Matcher</code> if the log line matches the event pattern, null otherwise.
+     */
+    public static final Matcher matcher(String logLine) {
+        Matcher matcher = REGEX_PREPROCESSED_PATTERN.matcher(logLine);
+        return matcher.matches() ? matcher : null;
+    }
+
     /**
      * Permanent generation or metaspace occupancy at end of GC event.
      */
@@ -193,20 +206,32 @@ public class UnifiedParallelScavengeEvent extends ParallelCollector implements U
      *            The log entry for the event.
      */
     public UnifiedParallelScavengeEvent(String logEntry) {
+        this(logEntry, matcher(logEntry));
+    }
+
+    /**
+     * Create event from a log entry and the <code>Matcher</code> returned by {@link #matcher(String)}, so the log
+     * entry is only matched once when it is identified and parsed.
+     * 
+     * @param logEntry
+     *            The log entry for the event.
+     * @param matcher
+     *            The log entry <code>Matcher</code>, or null if the log entry does not match the event pattern.
+     */
+    public UnifiedParallelScavengeEvent(String logEntry, Matcher matcher) {
         this.logEntry = logEntry;
-        Matcher matcher = REGEX_PREPROCESSED_PATTERN.matcher(logEntry);
-        if (matcher.find()) {
+        if (matcher != null) {
             // Preparsed logging has a true timestamp (it outputs the beginning logging before the safepoint).
-            if (matcher.group(2).matches(UnifiedRegEx.UPTIMEMILLIS)) {
+            if (UnifiedUtil.isUptimeMillis(matcher.group(2))) {
                 timestamp = Long.parseLong(matcher.group(13));
-            } else if (matcher.group(2).matches(UnifiedRegEx.UPTIME)) {
-                timestamp = JdkMath.convertSecsToMillis(matcher.group(12)).longValue();
+            } else if (UnifiedUtil.isUptime(matcher.group(2))) {
+                timestamp = JdkMath.parseSecsToMillis(matcher.group(12));
             } else {
                 if (matcher.group(15) != null) {
-                    if (matcher.group(15).matches(UnifiedRegEx.UPTIMEMILLIS)) {
+                    if (UnifiedUtil.isUptimeMillis(matcher.group(15))) {
                         timestamp = Long.parseLong(matcher.group(17));
                     } else {
-                        timestamp = JdkMath.convertSecsToMillis(matcher.group(16)).longValue();
+                        timestamp = JdkMath.parseSecsToMillis(matcher.group(16));
                     }
                 } else {
                     // Datestamp only.
@@ -232,10 +257,10 @@ public class UnifiedParallelScavengeEvent extends ParallelCollector implements U
                     matcher.group(UnifiedRegEx.DECORATOR_SIZE + 39).charAt(0)).convertTo(KILOBYTES);
             classSpace = memory(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 40),
                     matcher.group(UnifiedRegEx.DECORATOR_SIZE + 42).charAt(0)).convertTo(KILOBYTES);
-            duration = JdkMath.convertMillisToMicros(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 52)).intValue();
-            timeUser = JdkMath.convertSecsToCentis(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 54)).intValue();
-            timeSys = JdkMath.convertSecsToCentis(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 55)).intValue();
-            timeReal = JdkMath.convertSecsToCentis(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 56)).intValue();
+            duration = JdkMath.parseMillisToMicros(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 52));
+            timeUser = JdkMath.parseSecsToCentis(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 54));
+            timeSys = JdkMath.parseSecsToCentis(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 55));
+            timeReal = JdkMath.parseSecsToCentis(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 56));
         }
     }
 
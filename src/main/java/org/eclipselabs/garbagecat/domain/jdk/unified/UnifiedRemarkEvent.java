@@ -24,6 +24,7 @@ import org.eclipselabs.garbagecat.util.jdk.JdkRegEx;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil.EventType;
 import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedRegEx;
+import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedUtil;
 
 /**
  * <p>
@@ -85,6 +86,22 @@ public class UnifiedRemarkEvent extends UnknownCollector
         return REGEX_PATTERN.matcher(logLine).matches() || REGEX_PREPROCESSED_PATTERN.matcher(logLine).matches();
     }
 
+    /**
+     * Match the logLine against the logging pattern(s) for this event.
+     * 
+     * @param logLine
+     *            The log line to match.
+     * @return The <code>Matcher</code> if the log line matches the event pattern, null otherwise.
+     */
+    public static final Matcher matcher(String logLine) {
+        Matcher matcher;
+        if ((matcher = REGEX_PATTERN.matcher(logLine)).matches()
+                || (matcher = REGEX_PREPROCESSED_PATTERN.matcher(logLine)).matches()) {
+            return matcher;
+        }
+        return null;
+    }
+
     /**
      * The elapsed clock time for the GC event in microseconds (rounded).
      */
@@ -122,64 +139,69 @@ public class UnifiedRemarkEvent extends UnknownCollector
      *            The log entry for the event.
      */
     public UnifiedRemarkEvent(String logEntry) {
+        this(logEntry, matcher(logEntry));
+    }
+
+    /**
+     * Create event from a log entry and the <code>Matcher</code> returned by {@link #matcher(String)}, so the log
+     * entry is only matched once when it is identified and parsed.
+     * 
+     * @param logEntry
+     *            The log entry for the event.
+     * @param matcher
+     *            The log entry <code>Matcher</code>, or null if the log entry does not match the event pattern.
+     */
+    public UnifiedRemarkEvent(String logEntry, Matcher matcher) {
         this.logEntry = logEntry;
-        Matcher matcher;
-        if ((matcher = REGEX_PATTERN.matcher(logEntry)).matches()) {
-            matcher.reset();
-            if (matcher.find()) {
-                long endTimestamp;
-                if (matcher.group(2).matches(UnifiedRegEx.UPTIMEMILLIS)) {
-                    endTimestamp = Long.parseLong(matcher.group(JdkUtil.DECORATOR_SIZE));
-                } else if (matcher.group(2).matches(UnifiedRegEx.UPTIME)) {
-                    endTimestamp = JdkMath.convertSecsToMillis(matcher.group(12)).longValue();
-                } else {
-                    if (matcher.group(JdkUtil.DECORATOR_SIZE + 1) != null) {
-                        if (matcher.group(JdkUtil.DECORATOR_SIZE + 2).matches(UnifiedRegEx.UPTIMEMILLIS)) {
-                            endTimestamp = Long.parseLong(matcher.group(JdkUtil.DECORATOR_SIZE + 4));
-                        } else {
-                            endTimestamp = JdkMath.convertSecsToMillis(matcher.group(JdkUtil.DECORATOR_SIZE + 3))
-                                    .longValue();
-                        }
+        if (matcher != null && matcher.pattern() == REGEX_PATTERN) {
+            long endTimestamp;
+            if (UnifiedUtil.isUptimeMillis(matcher.group(2))) {
+                endTimestamp = Long.parseLong(matcher.group(JdkUtil.DECORATOR_SIZE));
+            } else if (UnifiedUtil.isUptime(matcher.group(2))) {
+                endTimestamp = JdkMath.parseSecsToMillis(matcher.group(12));
+            } else {
+                if (matcher.group(JdkUtil.DECORATOR_SIZE + 1) != null) {
+                    if (UnifiedUtil.isUptimeMillis(matcher.group(JdkUtil.DECORATOR_SIZE + 2))) {
+                        endTimestamp = Long.parseLong(matcher.group(JdkUtil.DECORATOR_SIZE + 4));
                     } else {
-                        // Datestamp only.
-                        endTimestamp = JdkUtil.convertDatestampToMillis(matcher.group(2));
+                        endTimestamp = JdkMath.parseSecsToMillis(matcher.group(JdkUtil.DECORATOR_SIZE + 3));
                     }
+                } else {
+                    // Datestamp only.
+                    endTimestamp = JdkUtil.convertDatestampToMillis(matcher.group(2));
                 }
-                duration = JdkMath.convertMillisToMicros(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 10)).intValue();
-                timestamp = endTimestamp - JdkMath.convertMicrosToMillis(duration).longValue();
-                timeUser = TimesData.NO_DATA;
-                timeReal = TimesData.NO_DATA;
             }
-        } else if ((matcher = REGEX_PREPROCESSED_PATTERN.matcher(logEntry)).matches()) {
-            matcher.reset();
-            if (matcher.find()) {
-                // Preparsed logging has a true timestamp (it outputs the beginning logging before the safepoint).
-                if (matcher.group(2).matches(UnifiedRegEx.UPTIMEMILLIS)) {
-                    timestamp = Long.parseLong(matcher.group(13));
-                } else if (matcher.group(2).matches(UnifiedRegEx.UPTIME)) {
-                    timestamp = JdkMath.convertSecsToMillis(matcher.group(12)).longValue();
-                } else {
-                    if (matcher.group(15) != null) {
-                        if (matcher.group(15).matches(UnifiedRegEx.UPTIMEMILLIS)) {
-                            timestamp = Long.parseLong(matcher.group(17));
-                        } else {
-                            timestamp = JdkMath.convertSecsToMillis(matcher.group(16)).longValue();
-                        }
+            duration = JdkMath.parseMillisToMicros(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 10));
+            timestamp = endTimestamp - duration / 1000;
+            timeUser = TimesData.NO_DATA;
+            timeReal = TimesData.NO_DATA;
+        } else if (matcher != null) {
+            // Preparsed logging has a true timestamp (it outputs the beginning logging before the safepoint).
+            if (UnifiedUtil.isUptimeMillis(matcher.group(2))) {
+                timestamp = Long.parseLong(matcher.group(13));
+            } else if (UnifiedUtil.isUptime(matcher.group(2))) {
+                timestamp = JdkMath.parseSecsToMillis(matcher.group(12));
+            } else {
+                if (matcher.group(15) != null) {
+                    if (UnifiedUtil.isUptimeMillis(matcher.group(15))) {
+                        timestamp = Long.parseLong(matcher.group(17));
                     } else {
-                        // Datestamp only.
-                        timestamp = JdkUtil.convertDatestampToMillis(matcher.group(2));
+                        timestamp = JdkMath.parseSecsToMillis(matcher.group(16));
                     }
-                }
-                duration = JdkMath.convertMillisToMicros(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 10)).intValue();
-                if (matcher.group(UnifiedRegEx.DECORATOR_SIZE + 11) != null) {
-                    timeUser = JdkMath.convertSecsToCentis(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 12)).intValue();
-                    timeSys = JdkMath.convertSecsToCentis(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 13)).intValue();
-                    timeReal = JdkMath.convertSecsToCentis(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 14)).intValue();
                 } else {
-                    timeUser = TimesData.NO_DATA;
-                    timeReal = TimesData.NO_DATA;
+                    // Datestamp only.
+                    timestamp = JdkUtil.convertDatestampToMillis(matcher.group(2));
                 }
             }
+            duration = JdkMath.parseMillisToMicros(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 10));
+            if (matcher.group(UnifiedRegEx.DECORATOR_SIZE + 11) != null) {
+                timeUser = JdkMath.parseSecsToCentis(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 12));
+                timeSys = JdkMath.parseSecsToCentis(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 13));
+                timeReal = JdkMath.parseSecsToCentis(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 14));
+            } else {
+                timeUser = TimesData.NO_DATA;
+                timeReal = TimesData.NO_DATA;
+            }
         }
     }
 
@@ -185,6 +185,26 @@ public class UnifiedSafepointEvent implements SafepointEvent, UnifiedLogging {
         return PATTERN.matcher(logLine).matches() || PATTERN_JDK17.matcher(logLine).matches();
     }
 
+    /**
+     * Match the logLine against the logging pattern(s) for this event.
+     * 
+     * @param logLine
+     *            The log line to match.
+     * @return The <code>Matcher</code> if the log line matches the event pattern, null otherwise.
+     */
+    public static final Matcher matcher(String logLine) {
+        Matcher matcher;
+        if ((matcher = PATTERN.matcher(logLine)).matches() || (matcher = PATTERN_JDK17.matcher(logLine)).matches()) {
+            return matcher;
+        }
+        return null;
+    }
+
+    /**
+     * The safepoint duration in nanoseconds, computed once when the log entry is parsed.
+     */
+    private long durationNanos;
+
     /**
      * The log entry for the event. Can be used for debugging purposes.
      */
@@ -225,51 +245,61 @@ public class UnifiedSafepointEvent implements SafepointEvent, UnifiedLogging {
      *            The log entry for the event.
      */
     public UnifiedSafepointEvent(String logEntry) {
+        this(logEntry, matcher(logEntry));
+    }
+
+    /**
+     * Create event from a log entry and the <code>Matcher</code> returned by {@link #matcher(String)}, so the log
+     * entry is only matched once when it is identified and parsed.
+     * 
+     * @param logEntry
+     *            The log entry for the event.
+     * @param matcher
+     *            The log entry <code>Matcher</code>, or null if the log entry does not match the event pattern.
+     */
+    public UnifiedSafepointEvent(String logEntry, Matcher matcher) {
         this.logEntry = logEntry;
-        Matcher matcher;
-        if ((matcher = PATTERN.matcher(logEntry)).matches()) {
-            matcher.reset();
-            if (matcher.find()) {
-                trigger = UnifiedSafepoint.getTrigger(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 1));
-                // Has a true timestamp (it outputs the beginning logging before the safepoint).
-                if (matcher.group(2).matches(UnifiedRegEx.UPTIMEMILLIS)) {
-                    timestamp = Long.parseLong(matcher.group(13));
-                } else if (matcher.group(2).matches(UnifiedRegEx.UPTIME)) {
-                    timestamp = JdkMath.convertSecsToMillis(matcher.group(12)).longValue();
-                } else {
-                    if (matcher.group(15) != null) {
-                        if (matcher.group(15).matches(UnifiedRegEx.UPTIMEMILLIS)) {
-                            timestamp = Long.parseLong(matcher.group(17));
-                        } else {
-                            timestamp = JdkMath.convertSecsToMillis(matcher.group(16)).longValue();
-                        }
+        if (matcher != null && matcher.pattern() == PATTERN) {
+            trigger = UnifiedSafepoint.getTrigger(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 1));
+            // Has a true timestamp (it outputs the beginning logging before the safepoint).
+            if (UnifiedUtil.isUptimeMillis(matcher.group(2))) {
+                timestamp = Long.parseLong(matcher.group(13));
+            } else if (UnifiedUtil.isUptime(matcher.group(2))) {
+                timestamp = JdkMath.parseSecsToMillis(matcher.group(12));
+            } else {
+                if (matcher.group(15) != null) {
+                    if (UnifiedUtil.isUptimeMillis(matcher.group(15))) {
+                        timestamp = Long.parseLong(matcher.group(17));
                     } else {
-                        // Datestamp only.
-                        timestamp = JdkUtil.convertDatestampToMillis(matcher.group(2));
+                        timestamp = JdkMath.parseSecsToMillis(matcher.group(16));
                     }
+                } else {
+                    // Datestamp only.
+                    timestamp = JdkUtil.convertDatestampToMillis(matcher.group(2));
                 }
-                timeThreadsStopped = JdkMath.convertSecsToNanos(matcher.group(3 * UnifiedRegEx.DECORATOR_SIZE + 2))
-                        .longValue();
-                timeToStopThreads = JdkMath.convertSecsToNanos(matcher.group(3 * UnifiedRegEx.DECORATOR_SIZE + 3))
-                        .longValue();
             }
-        } else if ((matcher = PATTERN_JDK17.matcher(logEntry)).matches()) {
-            matcher.reset();
-            if (matcher.find()) {
-                trigger = UnifiedSafepoint.getTrigger(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 3));
-                timeToStopThreads = Long.parseLong(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 4));
-                if (matcher.group(UnifiedRegEx.DECORATOR_SIZE + 5) != null) {
-                    timeCleanup = Long.parseLong(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 6));
-                }
-                timeThreadsStopped = Long.parseLong(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 7));
-                long time = UnifiedUtil.calculateTime(matcher);
-                timestamp = time - JdkMath.convertNanosToMillis(getDurationNanos()).longValue();
+            timeThreadsStopped = JdkMath.parseSecsToNanos(matcher.group(3 * UnifiedRegEx.DECORATOR_SIZE + 2));
+            timeToStopThreads = JdkMath.parseSecsToNanos(matcher.group(3 * UnifiedRegEx.DECORATOR_SIZE + 3));
+            durationNanos = timeThreadsStopped + timeToStopThreads;
+        } else if (matcher != null) {
+            trigger = UnifiedSafepoint.getTrigger(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 3));
+            timeToStopThreads = Long.parseLong(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 4));
+            if (matcher.group(UnifiedRegEx.DECORATOR_SIZE + 5) != null) {
+                timeCleanup = Long.parseLong(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 6));
             }
+            timeThreadsStopped = Long.parseLong(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 7));
+            // Prior to JDK17u8 "Reaching safepoint" includes the cleanup time.
+            durationNanos = timeThreadsStopped + timeToStopThreads;
+            if (matcher.group(UnifiedRegEx.DECORATOR_SIZE + 2) != null) {
+                durationNanos += timeCleanup;
+            }
+            long time = UnifiedUtil.calculateTime(matcher);
+            timestamp = time - durationNanos / 1000000;
         }
     }
 
     public long getDurationMicros() {
-        return JdkMath.convertNanosToMicros(getDurationNanos()).longValue();
+        return getDurationNanos() / 1000;
     }
 
     /**
@@ -279,17 +309,6 @@ public class UnifiedSafepointEvent implements SafepointEvent, UnifiedLogging {
      * @return The safepoint duration in nanoseconds.
      */
     public long getDurationNanos() {
-        long durationNanos;
-        Matcher matcher = PATTERN_JDK17.matcher(logEntry);
-        if (matcher.matches()) {
-            if (matcher.group(UnifiedRegEx.DECORATOR_SIZE + 2) != null) {
-                durationNanos = timeThreadsStopped + timeToStopThreads + timeCleanup;
-            } else {
-                durationNanos = timeThreadsStopped + timeToStopThreads;
-            }
-        } else {
-            durationNanos = timeThreadsStopped + timeToStopThreads;
-        }
         return durationNanos;
     }
 
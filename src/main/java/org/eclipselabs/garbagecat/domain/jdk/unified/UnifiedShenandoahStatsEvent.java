@@ -111,6 +111,8 @@ public class UnifiedShenandoahStatsEvent extends ShenandoahCollector
      */
     public static final String _REGEX_HEADER = "^" + UnifiedRegEx.DECORATOR
             + " All times are wall-clock times, except per-root-class counters, that are sum over$";
+
+    private static final Pattern PATTERN_HEADER = Pattern.compile(_REGEX_HEADER);
     /**
      * Regular expression defining standard logging.
      */
@@ -166,6 +168,17 @@ public class UnifiedShenandoahStatsEvent extends ShenandoahCollector
         }
     }
 
+    /**
+     * Determine if the logLine matches the logging pattern for the header of this event.
+     * 
+     * @param logLine
+     *            The log line to test.
+     * @return true if the log line matches the event header pattern, false otherwise.
+     */
+    public static final boolean matchHeader(String logLine) {
+        return PATTERN_HEADER.matcher(logLine).matches();
+    }
+
     /**
      * Determine if the logLine matches the logging pattern(s) for this event.
      * 
@@ -231,7 +244,7 @@ public class UnifiedShenandoahStatsEvent extends ShenandoahCollector
     public boolean isHeader() {
         boolean isHeader = false;
         if (this.logEntry != null) {
-            isHeader = logEntry.matches(_REGEX_HEADER);
+            isHeader = PATTERN_HEADER.matcher(logEntry).matches();
         }
         return isHeader;
     }
@@ -97,6 +97,18 @@ public class ZConcurrentEvent extends UnknownCollector implements UnifiedLogging
         return PATTERN.matcher(logLine).matches();
     }
 
+    /**
+     * Match the logLine against the logging pattern(s) for this event.
+     * 
+     * @param logLine
+     *            The log line to match.
+     * @return The <code>Matcher</code> if the log line matches the event pattern, null otherwise.
+     */
+    public static final Matcher matcher(String logLine) {
+        Matcher matcher = PATTERN.matcher(logLine);
+        return matcher.matches() ? matcher : null;
+    }
+
     /**
      * Permanent generation or metaspace occupancy at end of GC event.
      */
@@ -149,9 +161,21 @@ public class ZConcurrentEvent extends UnknownCollector implements UnifiedLogging
      *            The log entry for the event.
      */
     public ZConcurrentEvent(String logEntry) {
+        this(logEntry, matcher(logEntry));
+    }
+
+    /**
+     * Create event from a log entry and the <code>Matcher</code> returned by {@link #matcher(String)}, so the log
+     * entry is only matched once when it is identified and parsed.
+     * 
+     * @param logEntry
+     *            The log entry for the event.
+     * @param matcher
+     *            The log entry <code>Matcher</code>, or null if the log entry does not match the event pattern.
+     */
+    public ZConcurrentEvent(String logEntry, Matcher matcher) {
         this.logEntry = logEntry;
-        Matcher matcher = PATTERN.matcher(logEntry);
-        if (matcher.find()) {
+        if (matcher != null) {
             if (matcher.group(UnifiedRegEx.DECORATOR_SIZE + 1).matches(_REGEX_METASPACE)) {
                 timestamp = UnifiedUtil.calculateTime(matcher);
                 classOccupancyInit = Memory.ZERO;
@@ -161,13 +185,13 @@ public class ZConcurrentEvent extends UnknownCollector implements UnifiedLogging
                         matcher.group(UnifiedRegEx.DECORATOR_SIZE + 8).charAt(0)).convertTo(KILOBYTES);
             } else if (matcher.group(UnifiedRegEx.DECORATOR_SIZE + 1).matches(_REGEX_HEAP)) {
                 if (matcher.group(UnifiedRegEx.DECORATOR_SIZE + 21) != null) {
-                    eventTime = JdkMath.convertSecsToMicros(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 22)).intValue();
+                    eventTime = JdkMath.parseSecsToMicros(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 22));
                 }
                 long time = UnifiedUtil.calculateTime(matcher);
                 if (!isEndstamp()) {
                     timestamp = time;
                 } else {
-                    timestamp = time - JdkMath.convertMicrosToMillis(eventTime).longValue();
+                    timestamp = time - eventTime / 1000;
                 }
                 combinedOccupancyInit = memory(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 14),
                         matcher.group(UnifiedRegEx.DECORATOR_SIZE + 16).charAt(0)).convertTo(KILOBYTES);
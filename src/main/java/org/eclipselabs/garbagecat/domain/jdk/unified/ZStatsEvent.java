@@ -189,6 +189,8 @@ public class ZStatsEvent extends UnknownCollector implements UnifiedLogging, Hea
      */
     public static final String _REGEX_HEADER = "^(" + UnifiedRegEx.DECORATOR
             + ") ={3} Garbage Collection Statistics ={119}$";
+
+    private static final Pattern PATTERN_HEADER = Pattern.compile(_REGEX_HEADER);
     /**
      * Regular expression defining standard logging.
      */
@@ -216,6 +218,17 @@ public class ZStatsEvent extends UnknownCollector implements UnifiedLogging, Hea
         }
     }
 
+    /**
+     * Determine if the logLine matches the logging pattern for the header of this event.
+     * 
+     * @param logLine
+     *            The log line to test.
+     * @return true if the log line matches the event header pattern, false otherwise.
+     */
+    public static final boolean matchHeader(String logLine) {
+        return PATTERN_HEADER.matcher(logLine).matches();
+    }
+
     /**
      * Determine if the logLine matches the logging pattern(s) for this event.
      * 
@@ -276,7 +289,7 @@ public class ZStatsEvent extends UnknownCollector implements UnifiedLogging, Hea
     public boolean isHeader() {
         boolean isHeader = false;
         if (this.logEntry != null) {
-            isHeader = logEntry.matches(_REGEX_HEADER);
+            isHeader = PATTERN_HEADER.matcher(logEntry).matches();
         }
         return isHeader;
     }
@@ -826,6 +826,20 @@ public class CmsPreprocessAction implements PreprocessAction {
      * @return true if the log line matches the event pattern, false otherwise.
      */
     public static final boolean match(String logLine, LogEvent priorLogEvent) {
+        return match(logLine, priorLogEvent, null);
+    }
+
+    /**
+     * @param logLine
+     *            The log line to test.
+     * @param priorLogEvent
+     *            The previous log line event.
+     * @param event
+     *            The log line already parsed with the previous log line event and an unknown collector family, or null
+     *            if not parsed.
+     * @return true if the log line matches the event pattern, false otherwise.
+     */
+    public static final boolean match(String logLine, LogEvent priorLogEvent, LogEvent event) {
         boolean match = false;
         if (REGEX_RETAIN_BEGINNING_PARNEW_CONCURRENT_PATTERN.matcher(logLine).matches()
                 || REGEX_RETAIN_BEGINNING_PARNEW_FLS_STATISTICS_PATTERN.matcher(logLine).matches()
@@ -855,7 +869,9 @@ public class CmsPreprocessAction implements PreprocessAction {
         } else if (isThrowaway(logLine)) {
             match = true;
         } else {
-            LogEvent event = JdkUtil.parseLogLine(logLine, priorLogEvent, CollectorFamily.UNKNOWN);
+            if (event == null) {
+                event = JdkUtil.parseLogLine(logLine, priorLogEvent, CollectorFamily.UNKNOWN);
+            }
             if (event instanceof ThrowAwayEvent) {
                 match = true;
             }
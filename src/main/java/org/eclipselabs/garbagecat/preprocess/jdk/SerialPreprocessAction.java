@@ -100,11 +100,27 @@ public class SerialPreprocessAction implements PreprocessAction {
      * @return true if the log line matches the event pattern, false otherwise.
      */
     public static final boolean match(String logLine, LogEvent priorLogEvent) {
+        return match(logLine, priorLogEvent, null);
+    }
+
+    /**
+     * @param logLine
+     *            The log line to test.
+     * @param priorLogEvent
+     *            The previous log line event.
+     * @param event
+     *            The log line already parsed with the previous log line event and an unknown collector family, or null
+     *            if not parsed.
+     * @return true if the log line matches the event pattern, false otherwise.
+     */
+    public static final boolean match(String logLine, LogEvent priorLogEvent, LogEvent event) {
         boolean match = false;
         if (logLine.matches(REGEX_RETAIN_BEGINNING) || logLine.matches(REGEX_RETAIN_END)) {
             match = true;
         } else {
-            LogEvent event = JdkUtil.parseLogLine(logLine, priorLogEvent, CollectorFamily.UNKNOWN);
+            if (event == null) {
+                event = JdkUtil.parseLogLine(logLine, priorLogEvent, CollectorFamily.UNKNOWN);
+            }
             if (event instanceof ThrowAwayEvent) {
                 match = true;
             }
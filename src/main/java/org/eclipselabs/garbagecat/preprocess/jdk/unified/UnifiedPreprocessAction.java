@@ -13,6 +13,7 @@
 package org.eclipselabs.garbagecat.preprocess.jdk.unified;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 import java.util.regex.Matcher;
@@ -35,6 +36,7 @@ import org.eclipselabs.garbagecat.domain.jdk.unified.ZMarkStartYoungAndOldEvent;
 import org.eclipselabs.garbagecat.domain.jdk.unified.ZStatsEvent;
 import org.eclipselabs.garbagecat.preprocess.PreprocessAction;
 import org.eclipselabs.garbagecat.util.Constants;
+import org.eclipselabs.garbagecat.util.MultiPatternMatcher;
 import org.eclipselabs.garbagecat.util.jdk.GcTrigger;
 import org.eclipselabs.garbagecat.util.jdk.JdkRegEx;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
@@ -1229,7 +1231,16 @@ public class UnifiedPreprocessAction implements PreprocessAction {
 
     private static final Pattern REGEX_TO_SPACE_EXHAUSTED_PATTERN = Pattern.compile(REGEX_TO_SPACE_EXHAUSTED);
 
-    private static final List<Pattern> THROWAWAY_PATTERN_LIST = new ArrayList<>(REGEX_THROWAWAY.length);
+    /**
+     * The retain patterns (in the order tried by the constructor) followed by the throwaway patterns, combined to only
+     * try the patterns that can possibly match a log line.
+     */
+    private static final MultiPatternMatcher PATTERNS;
+
+    /**
+     * The index of the first throwaway pattern in {@link #PATTERNS}.
+     */
+    private static final int THROWAWAY_INDEX;
 
     /**
      * Log entry in the entangle log list used to indicate the current high level preprocessor (e.g. CMS, G1). This
@@ -1277,9 +1288,23 @@ public class UnifiedPreprocessAction implements PreprocessAction {
     private static final String TOKEN_BEGINNING_OF_UNIFIED_SHENANDOAH = "TOKEN_BEGINNING_OF_UNIFIED_SHENANDOAH";
 
     static {
+        List<Pattern> patterns = new ArrayList<Pattern>(Arrays.asList(UnifiedSafepointEvent.PATTERN_JDK17,
+                REGEX_RETAIN_BEGINNING_CMS_INITIAL_MARK_PATTERN, REGEX_RETAIN_BEGINNING_G1_CLEANUP_PATTERN,
+                REGEX_RETAIN_BEGINNING_G1_FULL_GC_PATTERN, REGEX_RETAIN_BEGINNING_OLD_PATTERN,
+                REGEX_RETAIN_BEGINNING_PAUSE_YOUNG_PATTERN, REGEX_RETAIN_BEGINNING_REMARK_PATTERN,
+                REGEX_RETAIN_BEGINNING_SAFEPOINT_PATTERN, REGEX_RETAIN_BEGINNING_SHENANDOAH_PATTERN,
+                REGEX_RETAIN_BEGINNING_YOUNG_PATTERN, REGEX_RETAIN_MIDDLE_EXT_ROOT_SCANNING_PATTERN,
+                REGEX_RETAIN_MIDDLE_G1_HUMONGOUS_PATTERN, REGEX_RETAIN_MIDDLE_PAUSE_YOUNG_DATA_PATTERN,
+                REGEX_RETAIN_MIDDLE_METASPACE_DATA_PATTERN, REGEX_RETAIN_MIDDLE_OTHER_TIME_PATTERN,
+                REGEX_RETAIN_MIDDLE_PROMOTION_FAILED_PATTERN, REGEX_RETAIN_MIDDLE_PAUSE_FULL_DATA_PATTERN,
+                REGEX_RETAIN_MIDDLE_SAFEPOINT_PATTERN, REGEX_RETAIN_MIDDLE_SPACE_DATA_PATTERN,
+                REGEX_RETAIN_MIDDLE_SHENANDOAH_DATA_PATTERN, REGEX_RETAIN_END_SAFEPOINT_PATTERN,
+                REGEX_RETAIN_END_TIMES_DATA_PATTERN, REGEX_TO_SPACE_EXHAUSTED_PATTERN));
+        THROWAWAY_INDEX = patterns.size();
         for (String regex : REGEX_THROWAWAY) {
-            THROWAWAY_PATTERN_LIST.add(Pattern.compile(regex));
+            patterns.add(Pattern.compile(regex));
         }
+        PATTERNS = new MultiPatternMatcher(patterns);
     }
 
     /**
@@ -1288,15 +1313,7 @@ public class UnifiedPreprocessAction implements PreprocessAction {
      * @return true if the log line matches a throwaway pattern, false otherwise.
      */
     private static final boolean isThrowaway(String logLine) {
-        boolean throwaway = false;
-        for (int i = 0; i < THROWAWAY_PATTERN_LIST.size(); i++) {
-            Pattern pattern = THROWAWAY_PATTERN_LIST.get(i);
-            if (pattern.matcher(logLine).matches()) {
-                throwaway = true;
-                break;
-            }
-        }
-        return throwaway;
+        return PATTERNS.match(logLine, THROWAWAY_INDEX, PATTERNS.size()) >= 0;
     }
 
     /**
@@ -1307,35 +1324,28 @@ public class UnifiedPreprocessAction implements PreprocessAction {
      * @return true if the log line matches the event pattern, false otherwise.
      */
     public static final boolean match(String logLine, LogEvent priorLogEvent) {
+        return match(logLine, priorLogEvent, null);
+    }
+
+    /**
+     * @param logLine
+     *            The log line to test.
+     * @param priorLogEvent
+     *            The previous log line event.
+     * @param event
+     *            The log line already parsed with the previous log line event and an unknown collector family, or null
+     *            if not parsed.
+     * @return true if the log line matches the event pattern, false otherwise.
+     */
+    public static final boolean match(String logLine, LogEvent priorLogEvent, LogEvent event) {
         boolean match = false;
-        if (UnifiedSafepointEvent.PATTERN_JDK17.matcher(logLine).matches()
-                || REGEX_RETAIN_BEGINNING_CMS_INITIAL_MARK_PATTERN.matcher(logLine).matches()
-                || REGEX_RETAIN_BEGINNING_G1_CLEANUP_PATTERN.matcher(logLine).matches()
-                || REGEX_RETAIN_BEGINNING_G1_FULL_GC_PATTERN.matcher(logLine).matches()
-                || REGEX_RETAIN_BEGINNING_OLD_PATTERN.matcher(logLine).matches()
-                || REGEX_RETAIN_BEGINNING_PAUSE_YOUNG_PATTERN.matcher(logLine).matches()
-                || REGEX_RETAIN_BEGINNING_REMARK_PATTERN.matcher(logLine).matches()
-                || REGEX_RETAIN_BEGINNING_SAFEPOINT_PATTERN.matcher(logLine).matches()
-                || REGEX_RETAIN_BEGINNING_SHENANDOAH_PATTERN.matcher(logLine).matches()
-                || REGEX_RETAIN_BEGINNING_YOUNG_PATTERN.matcher(logLine).matches()
-                || REGEX_RETAIN_MIDDLE_EXT_ROOT_SCANNING_PATTERN.matcher(logLine).matches()
-                || REGEX_RETAIN_MIDDLE_G1_HUMONGOUS_PATTERN.matcher(logLine).matches()
-                || REGEX_RETAIN_MIDDLE_PAUSE_YOUNG_DATA_PATTERN.matcher(logLine).matches()
-                || REGEX_RETAIN_MIDDLE_METASPACE_DATA_PATTERN.matcher(logLine).matches()
-                || REGEX_RETAIN_MIDDLE_OTHER_TIME_PATTERN.matcher(logLine).matches()
-                || REGEX_RETAIN_MIDDLE_PROMOTION_FAILED_PATTERN.matcher(logLine).matches()
-                || REGEX_RETAIN_MIDDLE_PAUSE_FULL_DATA_PATTERN.matcher(logLine).matches()
-                || REGEX_RETAIN_MIDDLE_SAFEPOINT_PATTERN.matcher(logLine).matches()
-                || REGEX_RETAIN_MIDDLE_SPACE_DATA_PATTERN.matcher(logLine).matches()
-                || REGEX_RETAIN_MIDDLE_SHENANDOAH_DATA_PATTERN.matcher(logLine).matches()
-                || REGEX_RETAIN_END_SAFEPOINT_PATTERN.matcher(logLine).matches()
-                || REGEX_RETAIN_END_TIMES_DATA_PATTERN.matcher(logLine).matches()
-                || REGEX_TO_SPACE_EXHAUSTED_PATTERN.matcher(logLine).matches()) {
-            match = true;
-        } else if (isThrowaway(logLine)) {
+        // retain or throwaway
+        if (PATTERNS.match(logLine) >= 0) {
             match = true;
         } else {
-            LogEvent event = JdkUtil.parseLogLine(logLine, priorLogEvent, CollectorFamily.UNKNOWN);
+            if (event == null) {
+                event = JdkUtil.parseLogLine(logLine, priorLogEvent, CollectorFamily.UNKNOWN);
+            }
             if ((event instanceof ThrowAwayEvent && event instanceof UnifiedLogging)
                     || event instanceof UnifiedConcurrentEvent || event instanceof UnifiedShenandoahFinalRootsEvent
                     || event instanceof UnifiedHeapDumpAfterFullGcEvent
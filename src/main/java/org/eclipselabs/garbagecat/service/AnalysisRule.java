@@ -0,0 +1,93 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.service;
+
+import java.util.function.Predicate;
+
+import org.eclipselabs.garbagecat.domain.LogEvent;
+import org.eclipselabs.garbagecat.util.jdk.Analysis;
+
+/**
+ * <p>
+ * An {@link Analysis} reported the first time a blocking event of a given class or interface (e.g.
+ * {@link org.eclipselabs.garbagecat.domain.TriggerData}) meets a condition.
+ * </p>
+ * 
+ * <p>
+ * Rules are registered with the {@link AnalysisRuleEngine}, which only tests a rule against events that are instances
+ * of the rule event class, and stops testing it once the analysis is reported.
+ * </p>
+ * 
+ * @param <T>
+ *            The event class or interface.
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class AnalysisRule<T> {
+
+    /**
+     * The analysis reported when the condition is met.
+     */
+    private final Analysis analysis;
+
+    /**
+     * The condition tested against each event of the event class.
+     */
+    private final Predicate<? super T> condition;
+
+    /**
+     * The event class or interface the rule applies to.
+     */
+    private final Class<T> eventClass;
+
+    /**
+     * @param analysis
+     *            The analysis reported when the condition is met.
+     * @param eventClass
+     *            The event class or interface the rule applies to.
+     * @param condition
+     *            The condition tested against each event of the event class.
+     */
+    public AnalysisRule(Analysis analysis, Class<T> eventClass, Predicate<? super T> condition) {
+        this.analysis = analysis;
+        this.eventClass = eventClass;
+        this.condition = condition;
+    }
+
+    /**
+     * @param eventClass
+     *            A concrete event class.
+     * @return true if the rule applies to events of the class, false otherwise.
+     */
+    public boolean appliesTo(Class<?> eventClass) {
+        return this.eventClass.isAssignableFrom(eventClass);
+    }
+
+    public Analysis getAnalysis() {
+        return analysis;
+    }
+
+    public Class<T> getEventClass() {
+        return eventClass;
+    }
+
+    /**
+     * @param event
+     *            An event the rule applies to.
+     * @return true if the event meets the condition, false otherwise.
+     */
+    public boolean test(LogEvent event) {
+        return condition.test(eventClass.cast(event));
+    }
+}
@@ -0,0 +1,265 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.service;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipselabs.garbagecat.dao.JvmDao;
+import org.eclipselabs.garbagecat.domain.BlockingEvent;
+import org.eclipselabs.garbagecat.domain.ClassData;
+import org.eclipselabs.garbagecat.domain.LogEvent;
+import org.eclipselabs.garbagecat.domain.SerialCollection;
+import org.eclipselabs.garbagecat.domain.TimesData;
+import org.eclipselabs.garbagecat.domain.TriggerData;
+import org.eclipselabs.garbagecat.domain.jdk.CmsInitialMarkEvent;
+import org.eclipselabs.garbagecat.domain.jdk.CmsRemarkEvent;
+import org.eclipselabs.garbagecat.domain.jdk.CmsSerialOldEvent;
+import org.eclipselabs.garbagecat.domain.jdk.G1Collector;
+import org.eclipselabs.garbagecat.domain.jdk.G1FullGcEvent;
+import org.eclipselabs.garbagecat.domain.jdk.G1YoungInitialMarkEvent;
+import org.eclipselabs.garbagecat.domain.jdk.GcEvent;
+import org.eclipselabs.garbagecat.domain.jdk.ShenandoahFullGcEvent;
+import org.eclipselabs.garbagecat.domain.jdk.unified.UnifiedG1YoungPauseEvent;
+import org.eclipselabs.garbagecat.domain.jdk.unified.UnifiedG1YoungPrepareMixedEvent;
+import org.eclipselabs.garbagecat.util.jdk.Analysis;
+import org.eclipselabs.garbagecat.util.jdk.GcTrigger;
+import org.eclipselabs.garbagecat.util.jdk.JdkMath;
+import org.eclipselabs.garbagecat.util.jdk.JdkUtil.EventType;
+import org.github.joa.domain.GarbageCollector;
+
+/**
+ * <p>
+ * Applies {@link AnalysisRule}s to blocking events as they are stored.
+ * </p>
+ * 
+ * <p>
+ * The rules that apply to a concrete event class are resolved once per class, in registration order, so an event is
+ * only tested against the rules for the interfaces it implements. Once a rule reports its analysis, the analysis is
+ * added to the fired set and every rule for it is dropped from dispatch.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class AnalysisRuleEngine {
+
+    /**
+     * Triggers that cause a serial collection by design, not because of a collector issue.
+     */
+    private static final EnumSet<GcTrigger> SERIAL_EXPECTED_TRIGGERS = EnumSet.of(GcTrigger.SYSTEM_GC,
+            GcTrigger.CLASS_HISTOGRAM, GcTrigger.HEAP_INSPECTION_INITIATED_GC, GcTrigger.HEAP_DUMP_INITIATED_GC);
+
+    /**
+     * The rules that apply to each concrete event class, less the rules for analysis that has been reported.
+     */
+    private final Map<Class<?>, List<AnalysisRule<?>>> dispatch = new HashMap<Class<?>, List<AnalysisRule<?>>>();
+
+    /**
+     * The analysis reported by rules.
+     */
+    private final EnumSet<Analysis> fired = EnumSet.noneOf(Analysis.class);
+
+    /**
+     * The registered rules, in reporting order.
+     */
+    private final List<AnalysisRule<?>> rules = new ArrayList<AnalysisRule<?>>();
+
+    /**
+     * Default constructor. Registers the standard rules.
+     */
+    public AnalysisRuleEngine() {
+        rules.addAll(getDefaultRules());
+    }
+
+    /**
+     * Register a rule. Rules are tested in registration order, after the standard rules.
+     * 
+     * @param rule
+     *            The rule.
+     */
+    public void addRule(AnalysisRule<?> rule) {
+        rules.add(rule);
+        dispatch.clear();
+    }
+
+    /**
+     * Test a blocking event against the rules that apply to it, and add the analysis of the rules it meets.
+     * 
+     * @param event
+     *            The blocking event.
+     * @param jvmDao
+     *            The JVM data store the analysis is added to.
+     */
+    public void apply(LogEvent event, JvmDao jvmDao) {
+        List<AnalysisRule<?>> eventRules = dispatch.get(event.getClass());
+        if (eventRules == null) {
+            eventRules = new ArrayList<AnalysisRule<?>>();
+            for (AnalysisRule<?> rule : rules) {
+                if (!fired.contains(rule.getAnalysis()) && rule.appliesTo(event.getClass())) {
+                    eventRules.add(rule);
+                }
+            }
+            dispatch.put(event.getClass(), eventRules);
+        }
+        boolean firing = false;
+        for (int i = 0; i < eventRules.size(); i++) {
+            AnalysisRule<?> rule = eventRules.get(i);
+            if (!fired.contains(rule.getAnalysis()) && rule.test(event)) {
+                fired.add(rule.getAnalysis());
+                jvmDao.addAnalysis(rule.getAnalysis());
+                firing = true;
+            }
+        }
+        if (firing) {
+            for (List<AnalysisRule<?>> classRules : dispatch.values()) {
+                classRules.removeIf(rule -> fired.contains(rule.getAnalysis()));
+            }
+        }
+    }
+
+    /**
+     * @return The standard rules, in reporting order.
+     */
+    private static List<AnalysisRule<?>> getDefaultRules() {
+        List<AnalysisRule<?>> rules = new ArrayList<AnalysisRule<?>>();
+        // 1) Explicit GC
+        rules.add(new AnalysisRule<G1FullGcEvent>(Analysis.ERROR_EXPLICIT_GC_SERIAL_G1, G1FullGcEvent.class,
+                event -> isExplicitGc(event, GarbageCollector.G1)));
+        rules.add(new AnalysisRule<G1YoungInitialMarkEvent>(Analysis.WARN_EXPLICIT_GC_G1_YOUNG_INITIAL_MARK,
+                G1YoungInitialMarkEvent.class, event -> isExplicitGc(event, GarbageCollector.G1)));
+        rules.add(new AnalysisRule<TriggerData>(Analysis.WARN_EXPLICIT_GC_PARALLEL, TriggerData.class,
+                event -> isExplicitGc(event, GarbageCollector.PARALLEL_OLD)));
+        rules.add(new AnalysisRule<TriggerData>(Analysis.WARN_EXPLICIT_GC_SERIAL_PARALLEL, TriggerData.class,
+                event -> isExplicitGc(event, GarbageCollector.PARALLEL_SERIAL_OLD)));
+        rules.add(new AnalysisRule<TriggerData>(Analysis.WARN_EXPLICIT_GC_SERIAL, TriggerData.class,
+                event -> isExplicitGc(event, GarbageCollector.SERIAL_NEW)));
+        rules.add(new AnalysisRule<CmsSerialOldEvent>(Analysis.ERROR_EXPLICIT_GC_SERIAL_CMS, CmsSerialOldEvent.class,
+                event -> isExplicitGc(event, GarbageCollector.SERIAL_OLD)));
+        rules.add(new AnalysisRule<TriggerData>(Analysis.WARN_EXPLICIT_GC_UNKNOWN, TriggerData.class,
+                event -> isExplicitGc(event, GarbageCollector.UNKNOWN)));
+        // 2) Serial collections not caused by explicit GC
+        rules.add(new AnalysisRule<SerialCollection>(Analysis.ERROR_SERIAL_GC_G1, SerialCollection.class,
+                event -> isUnexpectedSerial(event, EventType.G1_FULL_GC_SERIAL)));
+        rules.add(new AnalysisRule<SerialCollection>(Analysis.ERROR_SERIAL_GC_CMS, SerialCollection.class,
+                event -> isUnexpectedSerial(event, EventType.CMS_SERIAL_OLD)));
+        rules.add(new AnalysisRule<SerialCollection>(Analysis.ERROR_SERIAL_GC_PARALLEL, SerialCollection.class,
+                event -> isUnexpectedSerial(event, EventType.PARALLEL_SERIAL_OLD)));
+        rules.add(new AnalysisRule<SerialCollection>(Analysis.WARN_SERIAL_GC, SerialCollection.class,
+                event -> isUnexpectedSerial(event, EventType.SERIAL_OLD)));
+        // 3) CMS concurrent mode failure
+        rules.add(new AnalysisRule<CmsSerialOldEvent>(Analysis.ERROR_CMS_CONCURRENT_MODE_FAILURE,
+                CmsSerialOldEvent.class, event -> event.getTrigger() == GcTrigger.CONCURRENT_MODE_FAILURE));
+        // 4) CMS concurrent mode interrupted
+        rules.add(new AnalysisRule<CmsSerialOldEvent>(Analysis.ERROR_CMS_CONCURRENT_MODE_INTERRUPTED,
+                CmsSerialOldEvent.class, event -> event.getTrigger() == GcTrigger.CONCURRENT_MODE_INTERRUPTED));
+        // 5) Heap dump initiated gc
+        rules.add(new AnalysisRule<TriggerData>(Analysis.WARN_HEAP_DUMP_INITIATED_GC, TriggerData.class,
+                event -> event.getTrigger() == GcTrigger.HEAP_DUMP_INITIATED_GC));
+        // 6) Heap inspection initiated gc
+        rules.add(new AnalysisRule<TriggerData>(Analysis.WARN_HEAP_INSPECTION_INITIATED_GC, TriggerData.class,
+                event -> event.getTrigger() == GcTrigger.HEAP_INSPECTION_INITIATED_GC));
+        // 7) Metaspace allocation failure
+        rules.add(new AnalysisRule<TriggerData>(Analysis.ERROR_METASPACE_ALLOCATION_FAILURE, TriggerData.class,
+                event -> event.getTrigger() == GcTrigger.LAST_DITCH_COLLECTION));
+        // 8) JV TI explicit gc
+        rules.add(new AnalysisRule<TriggerData>(Analysis.WARN_EXPLICIT_GC_JVMTI, TriggerData.class,
+                event -> event.getTrigger() == GcTrigger.JVMTI_FORCED_GARBAGE_COLLECTION));
+        // 9) G1 evacuation failure
+        rules.add(new AnalysisRule<TriggerData>(Analysis.ERROR_G1_EVACUATION_FAILURE, TriggerData.class,
+                event -> event.getTrigger() == GcTrigger.TO_SPACE_EXHAUSTED
+                        || event.getTrigger() == GcTrigger.TO_SPACE_OVERFLOW
+                        || (event instanceof UnifiedG1YoungPauseEvent
+                                && ((UnifiedG1YoungPauseEvent) event).isToSpaceExhausted())
+                        || (event instanceof UnifiedG1YoungPrepareMixedEvent
+                                && ((UnifiedG1YoungPrepareMixedEvent) event).isToSpaceExhausted())));
+        // 10) CMS promotion failure
+        rules.add(new AnalysisRule<CmsSerialOldEvent>(Analysis.ERROR_CMS_PROMOTION_FAILED, CmsSerialOldEvent.class,
+                event -> event.getTrigger() == GcTrigger.PROMOTION_FAILED));
+        // 12) -XX:+PrintGCCause is essential for troubleshooting G1 full GCs
+        rules.add(new AnalysisRule<G1FullGcEvent>(Analysis.WARN_PRINT_GC_CAUSE_NOT_ENABLED, G1FullGcEvent.class,
+                event -> event.getTrigger() == GcTrigger.NONE));
+        // 13) CMS_REMARK class unloading
+        rules.add(new AnalysisRule<CmsRemarkEvent>(Analysis.WARN_CMS_CLASS_UNLOADING_NOT_ENABLED,
+                CmsRemarkEvent.class, event -> !event.isClassUnloading()));
+        // 14) Humongous allocation
+        rules.add(new AnalysisRule<G1Collector>(Analysis.INFO_G1_HUMONGOUS_ALLOCATION, G1Collector.class,
+                event -> event instanceof TriggerData
+                        && ((TriggerData) event).getTrigger() == GcTrigger.G1_HUMONGOUS_ALLOCATION));
+        // 16) CMS initial mark low parallelism
+        rules.add(new AnalysisRule<CmsInitialMarkEvent>(Analysis.WARN_CMS_INITIAL_MARK_LOW_PARALLELISM,
+                CmsInitialMarkEvent.class, event -> isLowParallelism(event)));
+        // 17) CMS remark low parallelism
+        rules.add(new AnalysisRule<CmsRemarkEvent>(Analysis.WARN_CMS_REMARK_LOW_PARALLELISM, CmsRemarkEvent.class,
+                event -> isLowParallelism(event)));
+        // 18) Old JDKs using perm gen
+        rules.add(new AnalysisRule<ClassData>(Analysis.INFO_PERM_GEN, ClassData.class,
+                event -> ((LogEvent) event).getLogEntry() != null
+                        && ((LogEvent) event).getLogEntry().matches("^.*Perm.*$")));
+        // 19) Shenandoah Full GC
+        rules.add(new AnalysisRule<ShenandoahFullGcEvent>(Analysis.ERROR_SHENANDOAH_FULL_GC,
+                ShenandoahFullGcEvent.class, event -> true));
+        // 20) Diagnostic explicit gc
+        rules.add(new AnalysisRule<TriggerData>(Analysis.WARN_EXPLICIT_GC_DIAGNOSTIC, TriggerData.class,
+                event -> event.getTrigger() == GcTrigger.DIAGNOSTIC_COMMAND));
+        return rules;
+    }
+
+    /**
+     * @param event
+     *            The event.
+     * @param garbageCollector
+     *            The garbage collector.
+     * @return true if the event is an explicit GC by the given collector, false otherwise.
+     */
+    private static boolean isExplicitGc(TriggerData event, GarbageCollector garbageCollector) {
+        return event.getTrigger() == GcTrigger.SYSTEM_GC
+                && ((GcEvent) event).getGarbageCollector() == garbageCollector;
+    }
+
+    /**
+     * @param analysis
+     *            The analysis.
+     * @return true if a rule has reported the analysis, false otherwise.
+     */
+    public boolean isFired(Analysis analysis) {
+        return fired.contains(analysis);
+    }
+
+    /**
+     * @param event
+     *            The event.
+     * @return true if the event takes 10 ms or more with low parallelism, false otherwise.
+     */
+    private static boolean isLowParallelism(TimesData event) {
+        return event.getTimeUser() > 0 && event.getTimeReal() > 0
+                && ((BlockingEvent) event).getDurationMicros() >= 10000
+                && JdkMath.isLowParallelism(event.getParallelism());
+    }
+
+    /**
+     * @param event
+     *            The event.
+     * @param eventType
+     *            The event type.
+     * @return true if the event is a serial collection of the given type not caused by an explicit GC, heap dump, or
+     *         heap inspection, false otherwise.
+     */
+    private static boolean isUnexpectedSerial(SerialCollection event, EventType eventType) {
+        return ((LogEvent) event).getEventType() == eventType && !(event instanceof TriggerData
+                && SERIAL_EXPECTED_TRIGGERS.contains(((TriggerData) event).getTrigger()));
+    }
+}
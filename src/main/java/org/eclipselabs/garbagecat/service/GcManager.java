@@ -16,16 +16,36 @@ import static org.eclipselabs.garbagecat.util.Memory.kilobytes;
 import static org.eclipselabs.garbagecat.util.Memory.Unit.BYTES;
 import static org.eclipselabs.garbagecat.util.Memory.Unit.KILOBYTES;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
 import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.Date;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
 import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.LongConsumer;
 import java.util.regex.Matcher;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
-import org.eclipselabs.garbagecat.Main;
 import org.eclipselabs.garbagecat.dao.JvmDao;
 import org.eclipselabs.garbagecat.domain.BlockingEvent;
 import org.eclipselabs.garbagecat.domain.ClassData;
@@ -44,13 +64,7 @@ import org.eclipselabs.garbagecat.domain.TriggerData;
 import org.eclipselabs.garbagecat.domain.UnknownEvent;
 import org.eclipselabs.garbagecat.domain.jdk.ApplicationStoppedTimeEvent;
 import org.eclipselabs.garbagecat.domain.jdk.CmsIncrementalModeCollector;
-import org.eclipselabs.garbagecat.domain.jdk.CmsInitialMarkEvent;
-import org.eclipselabs.garbagecat.domain.jdk.CmsRemarkEvent;
-import org.eclipselabs.garbagecat.domain.jdk.CmsSerialOldEvent;
-import org.eclipselabs.garbagecat.domain.jdk.G1Collector;
 import org.eclipselabs.garbagecat.domain.jdk.G1ExtRootScanningData;
-import org.eclipselabs.garbagecat.domain.jdk.G1FullGcEvent;
-import org.eclipselabs.garbagecat.domain.jdk.G1YoungInitialMarkEvent;
 import org.eclipselabs.garbagecat.domain.jdk.G1YoungPauseEvent;
 import org.eclipselabs.garbagecat.domain.jdk.GcEvent;
 import org.eclipselabs.garbagecat.domain.jdk.GcLockerScavengeFailedEvent;
@@ -60,11 +74,8 @@ import org.eclipselabs.garbagecat.domain.jdk.HeaderMemoryEvent;
 import org.eclipselabs.garbagecat.domain.jdk.HeaderVmInfoEvent;
 import org.eclipselabs.garbagecat.domain.jdk.LogFileEvent;
 import org.eclipselabs.garbagecat.domain.jdk.ShenandoahConcurrentEvent;
-import org.eclipselabs.garbagecat.domain.jdk.ShenandoahFullGcEvent;
 import org.eclipselabs.garbagecat.domain.jdk.ThreadDumpEvent;
 import org.eclipselabs.garbagecat.domain.jdk.unified.UnifiedConcurrentEvent;
-import org.eclipselabs.garbagecat.domain.jdk.unified.UnifiedG1YoungPauseEvent;
-import org.eclipselabs.garbagecat.domain.jdk.unified.UnifiedG1YoungPrepareMixedEvent;
 import org.eclipselabs.garbagecat.domain.jdk.unified.UnifiedHeaderEvent;
 import org.eclipselabs.garbagecat.domain.jdk.unified.UnifiedOldEvent;
 import org.eclipselabs.garbagecat.domain.jdk.unified.UnifiedSafepointEvent;
@@ -83,8 +94,9 @@ import org.eclipselabs.garbagecat.preprocess.jdk.unified.UnifiedPreprocessAction
 import org.eclipselabs.garbagecat.util.Constants;
 import org.eclipselabs.garbagecat.util.GcUtil;
 import org.eclipselabs.garbagecat.util.Memory;
+import org.eclipselabs.garbagecat.util.OverheadWindow;
+import org.eclipselabs.garbagecat.util.SnapshotUtil;
 import org.eclipselabs.garbagecat.util.jdk.Analysis;
-import org.eclipselabs.garbagecat.util.jdk.GcTrigger;
 import org.eclipselabs.garbagecat.util.jdk.JdkMath;
 import org.eclipselabs.garbagecat.util.jdk.JdkRegEx;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
@@ -94,6 +106,7 @@ import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedRegEx;
 import org.github.joa.JvmOptions;
 import org.github.joa.domain.Bit;
 import org.github.joa.domain.GarbageCollector;
+import org.github.joa.domain.JvmContext;
 
 /**
  * <p>
@@ -106,10 +119,360 @@ import org.github.joa.domain.GarbageCollector;
  */
 public class GcManager {
 
+    /**
+     * A range of consecutive bottleneck events.
+     */
+    private static class BottleneckInterval {
+
+        /**
+         * Orders intervals by pause time, and later intervals first when the pause time is the same, so the first
+         * intervals are kept.
+         */
+        private static final Comparator<BottleneckInterval> LEAST_PAUSE_FIRST = Comparator
+                .comparingLong((BottleneckInterval interval) -> interval.pauseMicros)
+                .thenComparing(Comparator.comparingInt((BottleneckInterval interval) -> interval.start).reversed());
+
+        /**
+         * The index after the last event.
+         */
+        private int end;
+
+        /**
+         * The total pause time of the events (microseconds).
+         */
+        private long pauseMicros;
+
+        /**
+         * The index of the first event.
+         */
+        private final int start;
+
+        /**
+         * @param start
+         *            The index of the first event.
+         * @param pauseMicros
+         *            The pause time of the first event (microseconds).
+         */
+        private BottleneckInterval(int start, long pauseMicros) {
+            this.start = start;
+            this.end = start + 1;
+            this.pauseMicros = pauseMicros;
+        }
+    }
+
+    /**
+     * Events where throughput since the prior event does not meet the throughput goal, found incrementally as events
+     * are added to the end of the event list. Consecutive bottleneck events are grouped into intervals, and only the
+     * {@link #BOTTLENECK_LIMIT} intervals with the most pause time are kept, as event indexes, with the log entries
+     * retrieved when the bottlenecks are reported.
+     */
+    private class Bottlenecks {
+
+        /**
+         * The number of events checked.
+         */
+        private int count;
+
+        /**
+         * The open interval, or null if the last event checked is not a bottleneck.
+         */
+        private BottleneckInterval current;
+
+        /**
+         * The events in an index range.
+         */
+        private final BiFunction<Integer, Integer, List<? extends SafepointEvent>> events;
+
+        /**
+         * The number of intervals found.
+         */
+        private int intervalCount;
+
+        /**
+         * The last event checked, or null if none.
+         */
+        private SafepointEvent priorEvent;
+
+        /**
+         * The bottleneck reporting throughput threshold.
+         */
+        private final int throughputThreshold;
+
+        /**
+         * The closed intervals with the most pause time, least first.
+         */
+        private final PriorityQueue<BottleneckInterval> worst = new PriorityQueue<BottleneckInterval>(
+                BOTTLENECK_LIMIT + 1, BottleneckInterval.LEAST_PAUSE_FIRST);
+
+        /**
+         * @param throughputThreshold
+         *            The bottleneck reporting throughput threshold.
+         * @param events
+         *            The events in an index range.
+         */
+        private Bottlenecks(int throughputThreshold,
+                BiFunction<Integer, Integer, List<? extends SafepointEvent>> events) {
+            this.throughputThreshold = throughputThreshold;
+            this.events = events;
+        }
+
+        /**
+         * Check the events added since the last check.
+         * 
+         * @param events
+         *            The events after the first {@link #count} events.
+         */
+        private void add(List<? extends SafepointEvent> events) {
+            for (SafepointEvent event : events) {
+                if (priorEvent != null && JdkUtil.isBottleneck(event, priorEvent, throughputThreshold)) {
+                    if (current == null) {
+                        current = new BottleneckInterval(count - 1, priorEvent.getDurationMicros());
+                        intervalCount++;
+                    }
+                    current.end = count + 1;
+                    current.pauseMicros += event.getDurationMicros();
+                } else if (current != null) {
+                    worst.add(current);
+                    if (worst.size() > BOTTLENECK_LIMIT) {
+                        worst.poll();
+                    }
+                    current = null;
+                }
+                priorEvent = event;
+                count++;
+            }
+        }
+
+        /**
+         * @return The bottleneck log entries of the intervals with the most pause time, in log order, separated by
+         *         "...".
+         */
+        private List<String> getBottlenecks() {
+            List<BottleneckInterval> intervals = new ArrayList<BottleneckInterval>(worst);
+            if (current != null) {
+                intervals.add(current);
+                if (intervals.size() > BOTTLENECK_LIMIT) {
+                    intervals.remove(Collections.min(intervals, BottleneckInterval.LEAST_PAUSE_FIRST));
+                }
+            }
+            intervals.sort(Comparator.comparingInt(interval -> interval.start));
+            List<String> bottlenecks = new ArrayList<String>();
+            for (BottleneckInterval interval : intervals) {
+                if (!bottlenecks.isEmpty()) {
+                    bottlenecks.add("...");
+                }
+                for (SafepointEvent event : events.apply(interval.start, interval.end)) {
+                    bottlenecks.add(event.getLogEntry());
+                }
+            }
+            if (intervalCount > intervals.size()) {
+                bottlenecks.add("... " + (intervalCount - intervals.size()) + " interval(s) with less pause time");
+            }
+            return bottlenecks;
+        }
+    }
+
+    /**
+     * The worst pause time overhead in each sliding window, found incrementally as events are added to the end of the
+     * event list.
+     */
+    private class Overheads {
+
+        /**
+         * The number of events checked.
+         */
+        private int count;
+
+        /**
+         * The windows.
+         */
+        private final List<OverheadWindow> windows = new ArrayList<OverheadWindow>();
+
+        private Overheads() {
+            for (int windowSecs : overheadWindows) {
+                windows.add(new OverheadWindow(windowSecs));
+            }
+        }
+
+        /**
+         * Check the events added since the last check.
+         * 
+         * @param events
+         *            The events after the first {@link #count} events.
+         */
+        private void add(List<? extends SafepointEvent> events) {
+            for (SafepointEvent event : events) {
+                for (OverheadWindow window : windows) {
+                    window.add(event.getTimestamp(), event.getDurationMicros());
+                }
+                count++;
+            }
+        }
+
+        /**
+         * @return A copy of the windows, so they do not change as events are added.
+         */
+        private List<OverheadWindow> copy() {
+            List<OverheadWindow> copy = new ArrayList<OverheadWindow>();
+            for (OverheadWindow window : windows) {
+                copy.add(window.copy());
+            }
+            return copy;
+        }
+    }
+
+    /**
+     * The result of parsing a log line ahead of storing it.
+     */
+    private static class ParsedLogLine {
+
+        /**
+         * The collector family the log line was parsed with.
+         */
+        private final CollectorFamily collectorFamily;
+
+        /**
+         * The <code>LogEvent</code> parsed from the log line.
+         */
+        private final LogEvent event;
+
+        /**
+         * The type of the prior <code>LogEvent</code> the log line was parsed with.
+         */
+        private final Class<? extends LogEvent> priorLogEventClass;
+
+        private ParsedLogLine(LogEvent event, Class<? extends LogEvent> priorLogEventClass,
+                CollectorFamily collectorFamily) {
+            this.event = event;
+            this.priorLogEventClass = priorLogEventClass;
+            this.collectorFamily = collectorFamily;
+        }
+    }
+
+    /**
+     * A preprocessed log line and, if the preprocessed log line is the raw log line unchanged, the result of parsing
+     * the raw log line during preprocessing.
+     */
+    private static class PreprocessedLogLine {
+
+        /**
+         * The preprocessed log line.
+         */
+        private final String logLine;
+
+        /**
+         * The result of parsing the raw log line during preprocessing, or null if the preprocessed log line was changed
+         * by preprocessing.
+         */
+        private final ParsedLogLine parsedLogLine;
+
+        /**
+         * The index of the raw log line the preprocessed log line starts with.
+         */
+        private final long rawIndex;
+
+        private PreprocessedLogLine(String logLine, ParsedLogLine parsedLogLine, long rawIndex) {
+            this.logLine = logLine;
+            this.parsedLogLine = parsedLogLine;
+            this.rawIndex = rawIndex;
+        }
+    }
+
+    /**
+     * The maximum number of bottleneck intervals reported. A throttle to limit report size.
+     */
+    public static final int BOTTLENECK_LIMIT = 100;
+
+    /**
+     * The maximum number of raw log lines read at a time when parsing in parallel. A throttle to limit memory
+     * consumption.
+     */
+    public static final int PARSE_BATCH_SIZE = 65536;
+
+    /**
+     * The number of raw log lines in each unit of work when parsing in parallel.
+     */
+    public static final int PARSE_CHUNK_SIZE = 4096;
+
+    /**
+     * The maximum number of raw log lines buffered when streaming to find JDK version information. A throttle to limit
+     * memory consumption.
+     */
+    public static final int PREPROCESS_LOOKAHEAD = 1000;
+
     private static boolean greater(Memory memory, int value) {
         return memory != null && memory.getValue(KILOBYTES) > value;
     }
 
+    /**
+     * Read a snapshot written by {@link #writeSnapshot(Path)} to resume the analysis with logging added since.
+     * 
+     * @param path
+     *            The snapshot file.
+     * @param jvmStartDate
+     *            The JVM start date.
+     * @param throughputThreshold
+     *            The bottleneck reporting throughput threshold, which must be the same as when the snapshot was
+     *            written.
+     * @return The <code>GcManager</code> with the state saved in the snapshot.
+     * @throws IOException
+     *             if the snapshot cannot be read, or was written by an incompatible version.
+     */
+    public static GcManager readSnapshot(Path path, Date jvmStartDate, int throughputThreshold) throws IOException {
+        GcManager gcManager = new GcManager(jvmStartDate);
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(new GZIPInputStream(Files.newInputStream(path))))) {
+            if (in.readInt() != SnapshotUtil.MAGIC) {
+                throw new IOException("Not a snapshot: " + path);
+            }
+            int version = in.readInt();
+            if (version != SnapshotUtil.VERSION) {
+                throw new IOException("Snapshot version " + version + " not supported: " + path);
+            }
+            gcManager.collectorFamily = SnapshotUtil.readEnum(in, CollectorFamily.class);
+            gcManager.lastLogLineUnprocessed = SnapshotUtil.readString(in);
+            int logFiles = in.readInt();
+            for (int i = 0; i < logFiles; i++) {
+                gcManager.logFileLines.put(SnapshotUtil.readString(in), in.readLong());
+            }
+            if (in.readBoolean()) {
+                gcManager.preprocessContext = new HashSet<String>(SnapshotUtil.readStrings(in));
+            }
+            gcManager.preprocessed = in.readBoolean();
+            gcManager.priorBlockingEvent = SnapshotUtil.readEvent(in, gcManager.collectorFamily, BlockingEvent.class);
+            LogEvent priorLogEvent = SnapshotUtil.readEvent(in, gcManager.collectorFamily, LogEvent.class);
+            if (priorLogEvent != null) {
+                gcManager.priorLogEvent = priorLogEvent;
+            }
+            gcManager.jvmDao = JvmDao.read(in, gcManager.collectorFamily);
+        }
+        if (gcManager.jvmDao.getCompactThroughputThreshold() != throughputThreshold) {
+            throw new IllegalArgumentException("Snapshot throughput threshold "
+                    + gcManager.jvmDao.getCompactThroughputThreshold() + " != " + throughputThreshold + ".");
+        }
+        return gcManager;
+    }
+
+    /**
+     * The rules that report analysis the first time a blocking event meets a condition.
+     */
+    private final AnalysisRuleEngine analysisRules = new AnalysisRuleEngine();
+
+    /**
+     * The collector family of the logging being stored, used to identify generic unified events.
+     */
+    private CollectorFamily collectorFamily = CollectorFamily.UNKNOWN;
+
+    /**
+     * <code>BlockingEvent</code> bottlenecks found so far, or null if not checked yet.
+     */
+    private Bottlenecks gcBottlenecks;
+
+    /**
+     * <code>BlockingEvent</code> overheads found so far, or null if not checked yet.
+     */
+    private Overheads gcOverheads;
+
     /**
      * The JVM data access object.
      */
@@ -125,11 +488,64 @@ public class GcManager {
      */
     private String lastLogLineUnprocessed;
 
+    /**
+     * The number of lines stored from each log file by the first line with a timestamp, saved in snapshots so a
+     * resumed analysis only reads the lines added since.
+     */
+    private Map<String, Long> logFileLines = new HashMap<String, Long>();
+
+    /**
+     * The sliding window lengths (seconds) for the worst GC and safepoint overhead.
+     */
+    private int[] overheadWindows = OverheadWindow.parseWindows(Constants.DEFAULT_OVERHEAD_WINDOWS);
+
+    /**
+     * The preprocessing context of the logging preprocessed so far, or null if none. Reused when more logging is
+     * preprocessed, so a resumed analysis continues with the context of the logging before it (e.g. the JDK version
+     * identified in the header).
+     */
+    private Set<String> preprocessContext;
+
     /**
      * Whether or not the JVM events are from a preprocessed file.
      */
     private boolean preprocessed;
 
+    /**
+     * The most recent <code>BlockingEvent</code> stored.
+     */
+    private BlockingEvent priorBlockingEvent;
+
+    /**
+     * The most recent <code>LogEvent</code> stored, used to provide context for parsing.
+     */
+    private LogEvent priorLogEvent = new NullEvent();
+
+    /**
+     * Whether or not logging is allowed to be reordered by timestamp.
+     */
+    private boolean reorder;
+
+    /**
+     * <code>SafepointEvent</code> bottlenecks found so far, or null if not checked yet.
+     */
+    private Bottlenecks safepointBottlenecks;
+
+    /**
+     * Whether or not <code>SafepointEvent</code> bottlenecks were found in <code>ApplicationStoppedTimeEvent</code>s.
+     */
+    private boolean safepointBottlenecksStoppedTime;
+
+    /**
+     * <code>SafepointEvent</code> overheads found so far, or null if not checked yet.
+     */
+    private Overheads safepointOverheads;
+
+    /**
+     * Whether or not <code>SafepointEvent</code> overheads were found in <code>ApplicationStoppedTimeEvent</code>s.
+     */
+    private boolean safepointOverheadsStoppedTime;
+
     /**
      * Default constructor.
      */
@@ -148,6 +564,31 @@ public class GcManager {
         this.jvmStartDate = jvmStartDate;
     }
 
+    /**
+     * Compact storage constructor. Events are stored in primitive columns, and log entries are only kept for the
+     * bottlenecks at the given throughput threshold, so the JVM run must be retrieved with the same threshold, and
+     * logging cannot be reordered.
+     * 
+     * @param jvmStartDate
+     *            The JVM start date.
+     * @param throughputThreshold
+     *            The bottleneck reporting throughput threshold.
+     */
+    public GcManager(Date jvmStartDate, int throughputThreshold) {
+        this.jvmDao = new JvmDao(throughputThreshold);
+        this.jvmStartDate = jvmStartDate;
+    }
+
+    /**
+     * Register a site-specific analysis rule, tested against blocking events after the standard rules.
+     * 
+     * @param rule
+     *            The rule.
+     */
+    public void addAnalysisRule(AnalysisRule<?> rule) {
+        analysisRules.addRule(rule);
+    }
+
     /**
      * Allocation rate in KB per second.
      */
@@ -190,7 +631,28 @@ public class GcManager {
     }
 
     /**
-     * Determine <code>BlockingEvent</code>s where throughput since last event does not meet the throughput goal.
+     * @param logLines
+     *            Raw log lines.
+     * @return The collector family identified in the unified logging header, or
+     *         <code>CollectorFamily.UNKNOWN</code> if none.
+     */
+    private CollectorFamily getCollectorFamily(List<String> logLines) {
+        CollectorFamily collectorFamily = CollectorFamily.UNKNOWN;
+        for (String logLine : logLines) {
+            if (UnifiedHeaderEvent.match(logLine)) {
+                UnifiedHeaderEvent event = new UnifiedHeaderEvent(logLine);
+                if (event.isGarbageCollector()) {
+                    collectorFamily = event.getCollectorFamily();
+                    break;
+                }
+            }
+        }
+        return collectorFamily;
+    }
+
+    /**
+     * Determine <code>BlockingEvent</code>s where throughput since last event does not meet the throughput goal. Only
+     * events added since the last call are checked, unless logging is being reordered.
      * 
      * @param throughputThreshold
      *            The bottleneck reporting throughput threshold.
@@ -198,52 +660,26 @@ public class GcManager {
      *         throughput threshold goal.
      */
     private List<String> getGcBottlenecks(int throughputThreshold) {
-        List<String> bottlenecks = new ArrayList<String>();
-        List<BlockingEvent> blockingEvents = jvmDao.getBlockingEvents();
-        BlockingEvent priorEvent = null;
-        for (BlockingEvent event : blockingEvents) {
-            if (priorEvent != null && JdkUtil.isBottleneck(event, priorEvent, throughputThreshold)) {
-                if (bottlenecks.isEmpty()) {
-                    // Add current and prior event
-                    if (jvmStartDate != null) {
-                        // Convert uptime to datetime
-                        bottlenecks.add(
-                                JdkUtil.convertLogEntryTimestampsToDateStamp(priorEvent.getLogEntry(), jvmStartDate));
-                        bottlenecks
-                                .add(JdkUtil.convertLogEntryTimestampsToDateStamp(event.getLogEntry(), jvmStartDate));
-                    } else {
-                        bottlenecks.add(priorEvent.getLogEntry());
-                        bottlenecks.add(event.getLogEntry());
-                    }
-                } else {
-                    if (jvmStartDate != null) {
-                        // Compare datetime, since bottleneck has datetime
-                        if (!JdkUtil.convertLogEntryTimestampsToDateStamp(priorEvent.getLogEntry(), jvmStartDate)
-                                .equals(bottlenecks.get(bottlenecks.size() - 1))) {
-                            bottlenecks.add("...");
-                            bottlenecks.add(JdkUtil.convertLogEntryTimestampsToDateStamp(priorEvent.getLogEntry(),
-                                    jvmStartDate));
-                            bottlenecks.add(
-                                    JdkUtil.convertLogEntryTimestampsToDateStamp(event.getLogEntry(), jvmStartDate));
-                        } else {
-                            bottlenecks.add(
-                                    JdkUtil.convertLogEntryTimestampsToDateStamp(event.getLogEntry(), jvmStartDate));
-                        }
-                    } else {
-                        // Compare timestamps, since bottleneck has timestamp
-                        if (!priorEvent.getLogEntry().equals(bottlenecks.get(bottlenecks.size() - 1))) {
-                            bottlenecks.add("...");
-                            bottlenecks.add(priorEvent.getLogEntry());
-                            bottlenecks.add(event.getLogEntry());
-                        } else {
-                            bottlenecks.add(event.getLogEntry());
-                        }
-                    }
-                }
-            }
-            priorEvent = event;
+        if (gcBottlenecks == null || gcBottlenecks.throughputThreshold != throughputThreshold || reorder) {
+            gcBottlenecks = new Bottlenecks(throughputThreshold,
+                    (fromIndex, toIndex) -> jvmDao.getBlockingEvents(fromIndex, toIndex));
+        }
+        gcBottlenecks.add(jvmDao.getBlockingEvents(gcBottlenecks.count));
+        return gcBottlenecks.getBottlenecks();
+    }
+
+    /**
+     * Determine the worst <code>BlockingEvent</code> overhead in each sliding window. Only events added since the last
+     * call are checked, unless logging is being reordered.
+     * 
+     * @return The overhead windows.
+     */
+    private List<OverheadWindow> getGcOverheads() {
+        if (gcOverheads == null || reorder) {
+            gcOverheads = new Overheads();
         }
-        return bottlenecks;
+        gcOverheads.add(jvmDao.getBlockingEvents(gcOverheads.count));
+        return gcOverheads.copy();
     }
 
     /**
@@ -256,32 +692,42 @@ public class GcManager {
      * @return The JVM run data.
      */
     public JvmRun getJvmRun(String jvmOptions, int throughputThreshold) {
+        if (jvmDao.isCompact() && throughputThreshold != jvmDao.getCompactThroughputThreshold()) {
+            throw new IllegalArgumentException("Compact storage throughput threshold "
+                    + jvmDao.getCompactThroughputThreshold() + " != " + throughputThreshold + ".");
+        }
         JvmRun jvmRun = new JvmRun(throughputThreshold, jvmStartDate);
-        // Use jvm options passed in on the command line
+        // Copy lists changed by analysis, so the JVM run can be retrieved again as logging is added
+        List<Analysis> analysis = new ArrayList<Analysis>(jvmDao.getAnalysis());
+        // Use jvm options passed in on the command line, leaving the ones found in logging in the data store
+        JvmContext jvmContext = jvmDao.getJvmContext();
         if (jvmOptions != null) {
-            if (jvmDao.getJvmContext().getOptions() != null) {
+            if (jvmContext.getOptions() != null && !analysis.contains(Analysis.WARN_JVM_OPTIONS_OVERRIDE)) {
                 // Warn users if the command line options are override ones found in logging
-                jvmDao.addAnalysis(Analysis.WARN_JVM_OPTIONS_OVERRIDE);
+                analysis.add(Analysis.WARN_JVM_OPTIONS_OVERRIDE);
             }
-            jvmDao.getJvmContext().setOptions(jvmOptions);
+            jvmContext = jvmDao.getJvmContext(jvmOptions);
         }
-        jvmRun.setJvmOptions(new JvmOptions(jvmDao.getJvmContext()));
+        jvmRun.setJvmOptions(new JvmOptions(jvmContext));
         jvmRun.setAllocationRate(getAllocationRate());
-        jvmRun.setAnalysis(jvmDao.getAnalysis());
+        jvmRun.setAnalysis(analysis);
         jvmRun.setBlockingEventCount(jvmDao.getBlockingEventCount());
-        jvmRun.setEventTypes(jvmDao.getEventTypes());
+        jvmRun.setEventTypeHistograms(jvmDao.getEventTypeHistograms());
+        jvmRun.setEventTypes(new ArrayList<EventType>(jvmDao.getEventTypes()));
         jvmRun.setExtRootScanningTimeMax(jvmDao.getExtRootScanningTimeMax());
         jvmRun.setExtRootScanningTimeTotal(jvmDao.getExtRootScanningTimeTotal());
         jvmRun.setFirstBlockingEvent(jvmDao.getFirstBlockingEvent());
         jvmRun.setFirstLogEvent(jvmDao.getFirstLogEvent());
         jvmRun.setFirstSafepointEvent(jvmDao.getFirstSafepointEvent());
         jvmRun.setGcBottlenecks(getGcBottlenecks(throughputThreshold));
+        jvmRun.setGcOverheads(getGcOverheads());
         jvmRun.setGcPauseMax(jvmDao.getDurationMax());
         jvmRun.setGcPauseTotal(jvmDao.getDurationTotal());
+        jvmRun.setGcTriggerHistograms(jvmDao.getGcTriggerHistograms());
         jvmRun.setGcTriggers(jvmDao.getGcTriggers());
         jvmRun.setInvertedParallelismCount(jvmDao.getInvertedParallelismCount());
         jvmRun.setInvertedSerialismCount(jvmDao.getInvertedSerialismCount());
-        jvmRun.setJvmContext(jvmDao.getJvmContext());
+        jvmRun.setJvmContext(jvmContext);
         jvmRun.setLogEndingUnidentified(jvmDao.isLogEndingUnidentified());
         jvmRun.setLastBlockingEvent(jvmDao.getLastBlockingEvent());
         jvmRun.setLastLogLineUnprocessed(lastLogLineUnprocessed);
@@ -307,7 +753,9 @@ public class GcManager {
         jvmRun.setParallelCount(jvmDao.getParallelCount());
         jvmRun.setPhysicalMemory(new Memory(jvmDao.getPhysicalMemory(), BYTES));
         jvmRun.setPhysicalMemoryFree(new Memory(jvmDao.getPhysicalMemoryFree(), BYTES));
-        jvmRun.setSafepointBottlenecks(getSafepointBottlenecks(jvmStartDate, throughputThreshold));
+        jvmRun.setSafepointBottlenecks(getSafepointBottlenecks(throughputThreshold));
+        jvmRun.setSafepointHistograms(jvmDao.getSafepointHistograms());
+        jvmRun.setSafepointOverheads(getSafepointOverheads());
         jvmRun.setSafepointMetrics(jvmDao.getSafepointMetrics());
         jvmRun.setSerialCount(jvmDao.getSerialCount());
         jvmRun.setStoppedTimeEventCount(jvmDao.getStoppedTimeEventCount());
@@ -316,7 +764,7 @@ public class GcManager {
         jvmRun.setSwap(new Memory(jvmDao.getSwap(), BYTES));
         jvmRun.setSwapFree(new Memory(jvmDao.getSwapFree(), BYTES));
         jvmRun.setSysGtUserCount(jvmDao.getSysGtUserCount());
-        jvmRun.setUnidentifiedLogLines(jvmDao.getUnidentifiedLogLines());
+        jvmRun.setUnidentifiedLogLines(jvmDao.getUnidentifiedLogLines().copy());
         jvmRun.setUnifiedSafepointEventCount(jvmDao.getUnifiedSafepointEventCount());
         jvmRun.setUnifiedSafepointTimeMax(jvmDao.getUnifiedSafepointTimeMax());
         jvmRun.setUnifiedSafepointTimeTotal(jvmDao.getUnifiedSafepointTimeTotal());
@@ -333,8 +781,7 @@ public class GcManager {
             // Approximate JVM start date: log file create date - first event timestamp
             jvmRun.setStartDate(
                     GcUtil.getDateMinusTimestamp(jvmRun.getLogFileDate(), jvmRun.getFirstEvent().getTimestamp()));
-            jvmDao.getAnalysis().add(0, Analysis.WARN_DATESTAMP_APPROXIMATE);
-            jvmRun.setAnalysis(jvmDao.getAnalysis());
+            analysis.add(0, Analysis.WARN_DATESTAMP_APPROXIMATE);
         }
         // Check for CMS running in incremental mode
         if (jvmDao.getJvmContext().getGarbageCollectors().contains(GarbageCollector.CMS)) {
@@ -359,6 +806,52 @@ public class GcManager {
         return lastLogLineUnprocessed;
     }
 
+    public Map<String, Long> getLogFileLines() {
+        return logFileLines;
+    }
+
+    /**
+     * Determine the initial preprocessing context. Checks if JDK version information is included in logging.
+     * 
+     * @param logLines
+     *            Raw garbage collection logging.
+     * @param consumed
+     *            The log lines read from <code>logLines</code>, or null if they do not need to be kept.
+     * @param limit
+     *            The maximum number of log lines to read.
+     * @return The initial preprocessing context.
+     */
+    private Set<String> getPreprocessContext(Iterator<String> logLines, List<String> consumed, int limit) {
+        int jdkVersionMajor = Integer.MIN_VALUE;
+        int jdkVersionMinor = Integer.MIN_VALUE;
+        LogEvent priorLogEvent = new NullEvent();
+        int count = 0;
+        while (count < limit && logLines.hasNext()) {
+            String logLine = logLines.next();
+            count++;
+            if (consumed != null) {
+                consumed.add(logLine);
+            }
+            LogEvent event = JdkUtil.parseLogLine(logLine, priorLogEvent, CollectorFamily.UNKNOWN);
+            if (event instanceof HeaderVmInfoEvent) {
+                jdkVersionMajor = ((HeaderVmInfoEvent) event).getJdkVersionMajor();
+                jdkVersionMinor = ((HeaderVmInfoEvent) event).getJdkVersionMinor();
+                break;
+            } else if (event instanceof UnifiedHeaderEvent && ((UnifiedHeaderEvent) event).isVersion()) {
+                jdkVersionMajor = ((UnifiedHeaderEvent) event).getJdkVersionMajor();
+                jdkVersionMinor = ((UnifiedHeaderEvent) event).getJdkVersionMinor();
+                break;
+            }
+            priorLogEvent = event;
+        }
+        Set<String> context = new HashSet<String>();
+        context.add(PreprocessAction.NEWLINE);
+        if ((jdkVersionMajor == 17 && jdkVersionMinor >= 8) || jdkVersionMajor >= 21) {
+            context.add(UnifiedPreprocessAction.JDK17U8);
+        }
+        return context;
+    }
+
     /**
      * Determine the preprocessed log entry.
      * 
@@ -386,6 +879,35 @@ public class GcManager {
      */
     public String getPreprocessedLogEntry(String currentLogLine, LogEvent priorLogEvent, String nextLogLine,
             Date jvmStartDate, List<String> entangledLogLines, Set<String> context) {
+        return getPreprocessedLogEntry(currentLogLine, null, priorLogEvent, nextLogLine, jvmStartDate,
+                entangledLogLines, context);
+    }
+
+    /**
+     * Determine the preprocessed log entry, reusing the <code>LogEvent</code> already parsed from the current log line
+     * so the preprocessors do not parse it again.
+     * 
+     * @param currentLogLine
+     *            The current log line.
+     * @param currentLogEvent
+     *            The current log line parsed with the previous log line event and an unknown collector family, or null
+     *            if not parsed.
+     * @param priorLogEvent
+     *            The previous log line event.
+     * @param nextLogLine
+     *            The next log line.
+     * @param jvmStartDate
+     *            The date and time the JVM was started.
+     * @param entangledLogLines
+     *            Log lines mixed in with other logging events.
+     * @param context
+     *            Information to make preprocessing decisions.
+     * @return The preprocessed log line(s), or null if it will be thrown away. Multiple lines are delimited by a
+     *         newline.
+     * @see #getPreprocessedLogEntry(String, LogEvent, String, Date, List, Set)
+     */
+    private String getPreprocessedLogEntry(String currentLogLine, LogEvent currentLogEvent, LogEvent priorLogEvent,
+            String nextLogLine, Date jvmStartDate, List<String> entangledLogLines, Set<String> context) {
 
         String preprocessedLogLine = null;
 
@@ -393,7 +915,7 @@ public class GcManager {
             if (!context.contains(SerialPreprocessAction.TOKEN) && !context.contains(CmsPreprocessAction.TOKEN)
                     && !context.contains(G1PreprocessAction.TOKEN) && !context.contains(ParallelPreprocessAction.TOKEN)
                     && !context.contains(ShenandoahPreprocessAction.TOKEN)
-                    && UnifiedPreprocessAction.match(currentLogLine, priorLogEvent)) {
+                    && UnifiedPreprocessAction.match(currentLogLine, priorLogEvent, currentLogEvent)) {
                 UnifiedPreprocessAction action = new UnifiedPreprocessAction(priorLogEvent, currentLogLine, nextLogLine,
                         entangledLogLines, context, jvmDao.getPreprocessEvents());
                 if (action.getLogEntry() != null) {
@@ -402,7 +924,7 @@ public class GcManager {
             } else if (!context.contains(SerialPreprocessAction.TOKEN) && !context.contains(CmsPreprocessAction.TOKEN)
                     && !context.contains(G1PreprocessAction.TOKEN) && !context.contains(ParallelPreprocessAction.TOKEN)
                     && !context.contains(UnifiedPreprocessAction.TOKEN)
-                    && ShenandoahPreprocessAction.match(currentLogLine, priorLogEvent)) {
+                    && ShenandoahPreprocessAction.match(currentLogLine, priorLogEvent, currentLogEvent)) {
                 ShenandoahPreprocessAction action = new ShenandoahPreprocessAction(priorLogEvent, currentLogLine,
                         nextLogLine, entangledLogLines, context, jvmDao.getPreprocessEvents());
                 if (action.getLogEntry() != null) {
@@ -412,7 +934,7 @@ public class GcManager {
                     && !context.contains(G1PreprocessAction.TOKEN)
                     && !context.contains(ShenandoahPreprocessAction.TOKEN)
                     && !context.contains(UnifiedPreprocessAction.TOKEN)
-                    && ParallelPreprocessAction.match(currentLogLine, priorLogEvent)) {
+                    && ParallelPreprocessAction.match(currentLogLine, priorLogEvent, currentLogEvent)) {
                 ParallelPreprocessAction action = new ParallelPreprocessAction(priorLogEvent, currentLogLine,
                         nextLogLine, entangledLogLines, context, jvmDao.getPreprocessEvents());
                 if (action.getLogEntry() != null) {
@@ -422,7 +944,7 @@ public class GcManager {
                     && !context.contains(ParallelPreprocessAction.TOKEN) && !context.contains(G1PreprocessAction.TOKEN)
                     && !context.contains(ShenandoahPreprocessAction.TOKEN)
                     && !context.contains(UnifiedPreprocessAction.TOKEN)
-                    && CmsPreprocessAction.match(currentLogLine, priorLogEvent)) {
+                    && CmsPreprocessAction.match(currentLogLine, priorLogEvent, currentLogEvent)) {
                 CmsPreprocessAction action = new CmsPreprocessAction(priorLogEvent, currentLogLine, nextLogLine,
                         entangledLogLines, context, jvmDao.getPreprocessEvents());
                 if (action.getLogEntry() != null) {
@@ -432,7 +954,7 @@ public class GcManager {
                     && !context.contains(ParallelPreprocessAction.TOKEN) && !context.contains(CmsPreprocessAction.TOKEN)
                     && !context.contains(ShenandoahPreprocessAction.TOKEN)
                     && !context.contains(UnifiedPreprocessAction.TOKEN)
-                    && G1PreprocessAction.match(currentLogLine, priorLogEvent)) {
+                    && G1PreprocessAction.match(currentLogLine, priorLogEvent, currentLogEvent)) {
                 G1PreprocessAction action = new G1PreprocessAction(priorLogEvent, currentLogLine, nextLogLine,
                         entangledLogLines, context, jvmDao.getPreprocessEvents());
                 if (action.getLogEntry() != null) {
@@ -442,7 +964,7 @@ public class GcManager {
                     && !context.contains(G1PreprocessAction.TOKEN)
                     && !context.contains(ShenandoahPreprocessAction.TOKEN)
                     && !context.contains(UnifiedPreprocessAction.TOKEN)
-                    && SerialPreprocessAction.match(currentLogLine, priorLogEvent)) {
+                    && SerialPreprocessAction.match(currentLogLine, priorLogEvent, currentLogEvent)) {
                 SerialPreprocessAction action = new SerialPreprocessAction(priorLogEvent, currentLogLine, nextLogLine,
                         entangledLogLines, context, jvmDao.getPreprocessEvents());
                 if (action.getLogEntry() != null) {
@@ -481,68 +1003,91 @@ public class GcManager {
     }
 
     /**
-     * Determine <code>SafepointEvent</code>s where throughput since last event does not meet the throughput goal.
+     * Determine <code>SafepointEvent</code>s where throughput since last event does not meet the throughput goal. Only
+     * events added since the last call are checked.
      * 
-     * @param jvmStartDate
-     *            The JVM start date.
      * @param throughputThreshold
      *            The bottleneck reporting throughput threshold.
      * @return A <code>List</code> of <code>SafepointEvent</code>s where the throughput between events is less than the
      *         throughput threshold goal.
      */
-    private List<String> getSafepointBottlenecks(Date jvmStartDate, int throughputThreshold) {
-        List<String> bottlenecks = new ArrayList<String>();
-        List<SafepointEvent> safepointEvents = jvmDao.getSafepointEvents();
-        SafepointEvent priorEvent = null;
-        for (SafepointEvent event : safepointEvents) {
-            if (priorEvent != null && JdkUtil.isBottleneck(event, priorEvent, throughputThreshold)) {
-                if (bottlenecks.isEmpty()) {
-                    // Add current and prior event
-                    if (jvmStartDate != null) {
-                        // Convert timestamps to date/time
-                        bottlenecks.add(
-                                JdkUtil.convertLogEntryTimestampsToDateStamp(priorEvent.getLogEntry(), jvmStartDate));
-                        bottlenecks
-                                .add(JdkUtil.convertLogEntryTimestampsToDateStamp(event.getLogEntry(), jvmStartDate));
-                    } else {
-                        bottlenecks.add(priorEvent.getLogEntry());
-                        bottlenecks.add(event.getLogEntry());
-                    }
-                } else {
-                    if (jvmStartDate != null) {
-                        // Compare datetime, since bottleneck has datetime
-                        if (!JdkUtil.convertLogEntryTimestampsToDateStamp(priorEvent.getLogEntry(), jvmStartDate)
-                                .equals(bottlenecks.get(bottlenecks.size() - 1))) {
-                            bottlenecks.add("...");
-                            bottlenecks.add(JdkUtil.convertLogEntryTimestampsToDateStamp(priorEvent.getLogEntry(),
-                                    jvmStartDate));
-                            bottlenecks.add(
-                                    JdkUtil.convertLogEntryTimestampsToDateStamp(event.getLogEntry(), jvmStartDate));
-                        } else {
-                            bottlenecks.add(
-                                    JdkUtil.convertLogEntryTimestampsToDateStamp(event.getLogEntry(), jvmStartDate));
-                        }
-                    } else {
-                        // Compare timestamps, since bottleneck has timestamp
-                        if (!priorEvent.getLogEntry().equals(bottlenecks.get(bottlenecks.size() - 1))) {
-                            bottlenecks.add("...");
-                            bottlenecks.add(priorEvent.getLogEntry());
-                            bottlenecks.add(event.getLogEntry());
-                        } else {
-                            bottlenecks.add(event.getLogEntry());
-                        }
-                    }
-                }
-            }
-            priorEvent = event;
+    private List<String> getSafepointBottlenecks(int throughputThreshold) {
+        // Safepoint events are stopped time events if there are any, otherwise unified safepoint events
+        boolean stoppedTime = jvmDao.getStoppedTimeEventCount() > 0;
+        if (safepointBottlenecks == null || safepointBottlenecks.throughputThreshold != throughputThreshold
+                || stoppedTime != safepointBottlenecksStoppedTime) {
+            safepointBottlenecks = new Bottlenecks(throughputThreshold,
+                    (fromIndex, toIndex) -> jvmDao.getSafepointEvents(fromIndex, toIndex));
+            safepointBottlenecksStoppedTime = stoppedTime;
+        }
+        safepointBottlenecks.add(jvmDao.getSafepointEvents(safepointBottlenecks.count));
+        return safepointBottlenecks.getBottlenecks();
+    }
+
+    /**
+     * Determine the worst <code>SafepointEvent</code> overhead in each sliding window. Only events added since the last
+     * call are checked.
+     * 
+     * @return The overhead windows.
+     */
+    private List<OverheadWindow> getSafepointOverheads() {
+        // Safepoint events are stopped time events if there are any, otherwise unified safepoint events
+        boolean stoppedTime = jvmDao.getStoppedTimeEventCount() > 0;
+        if (safepointOverheads == null || stoppedTime != safepointOverheadsStoppedTime) {
+            safepointOverheads = new Overheads();
+            safepointOverheadsStoppedTime = stoppedTime;
+        }
+        safepointOverheads.add(jvmDao.getSafepointEvents(safepointOverheads.count));
+        return safepointOverheads.copy();
+    }
+
+    /**
+     * Set the store options. The state carried from one stored log line to the next (the collector family and prior
+     * events) is initialized once, so it continues across calls and from a snapshot.
+     * 
+     * @param reorder
+     *            Whether or not to allow logging to be reordered by timestamp.
+     */
+    private void initStore(boolean reorder) {
+        if (reorder && jvmDao.isCompact()) {
+            throw new IllegalArgumentException("Logging cannot be reordered with compact storage.");
         }
-        return bottlenecks;
+        this.reorder = reorder;
     }
 
     public boolean isPreprocessed() {
         return preprocessed;
     }
 
+    /**
+     * Parse raw log lines in parallel, one chunk at a time. Each chunk is parsed sequentially assuming no prior event
+     * at the start of the chunk.
+     * 
+     * @param logLines
+     *            Raw log lines.
+     * @param collectorFamily
+     *            The collector family to parse with.
+     * @return The parsed log lines, in the order of the raw log lines.
+     */
+    private ParsedLogLine[] parse(List<String> logLines, CollectorFamily collectorFamily) {
+        ParsedLogLine[] parsedLogLines = new ParsedLogLine[logLines.size()];
+        int chunks = (logLines.size() + PARSE_CHUNK_SIZE - 1) / PARSE_CHUNK_SIZE;
+        IntStream.range(0, chunks).parallel().forEach(chunk -> {
+            LogEvent priorLogEvent = new NullEvent();
+            int end = Math.min((chunk + 1) * PARSE_CHUNK_SIZE, logLines.size());
+            for (int i = chunk * PARSE_CHUNK_SIZE; i < end; i++) {
+                String logLine = logLines.get(i);
+                LogEvent event = JdkUtil.parseLogLine(logLine, priorLogEvent, collectorFamily);
+                parsedLogLines[i] = new ParsedLogLine(event, priorLogEvent.getClass(), collectorFamily);
+                // throw away blank lines
+                if (!(logLine.matches(JdkRegEx.BLANK_LINE) || logLine.matches(UnifiedRegEx.BLANK_LINE))) {
+                    priorLogEvent = event;
+                }
+            }
+        });
+        return parsedLogLines;
+    }
+
     /**
      * Preprocess. Remove extraneous information (<code>ThrowAwayEvent</code>s and lines that match
      * <code>PreprocessAction</code> throwaway patterns) and format for parsing (untangle mixed logging, aggregate
@@ -560,157 +1105,113 @@ public class GcManager {
         List<String> preprocessedLogList = new ArrayList<String>();
 
         if (!logLines.isEmpty()) {
-            // Check if JDK version information is included in logging.
-            int jdkVersionMajor = Integer.MIN_VALUE;
-            int jdkVersionMinor = Integer.MIN_VALUE;
-            Iterator<String> iterator = logLines.iterator();
-            LogEvent priorLogEvent = new NullEvent();
+            if (preprocessContext == null) {
+                preprocessContext = getPreprocessContext(logLines.iterator(), null, Integer.MAX_VALUE);
+            }
+            Iterator<String> iterator = new PreprocessIterator(logLines.iterator(),
+                    Collections.<String> emptyIterator(), preprocessContext);
             while (iterator.hasNext()) {
-                String logLine = iterator.next();
-                LogEvent event = JdkUtil.parseLogLine(logLine, priorLogEvent, CollectorFamily.UNKNOWN);
-                if (event instanceof HeaderVmInfoEvent) {
-                    jdkVersionMajor = ((HeaderVmInfoEvent) event).getJdkVersionMajor();
-                    jdkVersionMinor = ((HeaderVmInfoEvent) event).getJdkVersionMinor();
-                    break;
-                } else if (event instanceof UnifiedHeaderEvent && ((UnifiedHeaderEvent) event).isVersion()) {
-                    jdkVersionMajor = ((UnifiedHeaderEvent) event).getJdkVersionMajor();
-                    jdkVersionMinor = ((UnifiedHeaderEvent) event).getJdkVersionMinor();
-                    break;
-                }
-                priorLogEvent = event;
-            }
-
-            iterator = logLines.iterator();
-            // Used for de-tangling intermingled logging events that span multiple lines
-            List<String> entangledLogLines = new ArrayList<String>();
-            // Used to provide context for preprocessing decisions
-            Set<String> context = new HashSet<String>();
-            context.add(PreprocessAction.NEWLINE);
-            if ((jdkVersionMajor == 17 && jdkVersionMinor >= 8) || jdkVersionMajor >= 21) {
-                context.add(UnifiedPreprocessAction.JDK17U8);
-            }
-
-            String priorLogEntry = Constants.LINE_SEPARATOR;
-            String currentLogLine = iterator.next();
-            priorLogEvent = new NullEvent();
-            String preprocessedLogLine = "";
-            String nextLogLine = null;
-
-            if (iterator.hasNext()) {
-                nextLogLine = iterator.next();
-            }
-
-            while (nextLogLine != null) {
-                LogEvent currentEvent = JdkUtil.parseLogLine(currentLogLine, priorLogEvent, CollectorFamily.UNKNOWN);
-                preprocessedLogLine = getPreprocessedLogEntry(currentLogLine, priorLogEvent, nextLogLine, jvmStartDate,
-                        entangledLogLines, context);
-                if (preprocessedLogLine != null) {
-                    String[] preprocessedLogLines = preprocessedLogLine.split(Constants.LINE_SEPARATOR);
-                    if (context.contains(PreprocessAction.NEWLINE)
-                            && !priorLogEntry.endsWith(Constants.LINE_SEPARATOR)) {
-                        for (int i = 0; i < preprocessedLogLines.length; i++) {
-                            if (preprocessedLogLines[i] != "") {
-                                preprocessedLogList.add(preprocessedLogLines[i]);
-                            }
-                        }
-                    } else {
-                        if (preprocessedLogList.isEmpty()) {
-                            preprocessedLogList.add(preprocessedLogLine);
-
-                        } else {
-                            if (!priorLogEntry.endsWith(Constants.LINE_SEPARATOR)) {
-                                String lastPreprocessedLogEntry = preprocessedLogList
-                                        .get(preprocessedLogList.size() - 1);
-                                preprocessedLogList.remove(preprocessedLogList.size() - 1);
-                                preprocessedLogList.add(lastPreprocessedLogEntry + preprocessedLogLines[0]);
-                                if (preprocessedLogLines.length > 1) {
-                                    for (int i = 1; i < preprocessedLogLines.length; i++) {
-                                        if (preprocessedLogLines[i] != "") {
-                                            preprocessedLogList.add(preprocessedLogLines[i]);
-                                        }
-                                    }
-                                }
-                            } else {
-                                if (preprocessedLogLines.length > 1) {
-                                    for (int i = 0; i < preprocessedLogLines.length; i++) {
-                                        if (preprocessedLogLines[i] != "") {
-                                            preprocessedLogList.add(preprocessedLogLines[i]);
-                                        }
-                                    }
-                                }
-                            }
-                        }
-                    }
-                    priorLogEntry = preprocessedLogLine;
-                }
-                // throw away blank lines
-                if (!(currentLogLine.matches(JdkRegEx.BLANK_LINE) || currentLogLine.matches(UnifiedRegEx.BLANK_LINE))) {
-                    priorLogEvent = currentEvent;
-                }
-                currentLogLine = nextLogLine;
-                if (iterator.hasNext()) {
-                    nextLogLine = iterator.next();
-                } else {
-                    nextLogLine = null;
-                }
+                preprocessedLogList.add(iterator.next());
             }
+        }
 
-            // Process last line
-            lastLogLineUnprocessed = currentLogLine;
-            preprocessedLogLine = getPreprocessedLogEntry(currentLogLine, priorLogEvent, nextLogLine, jvmStartDate,
-                    entangledLogLines, context);
-            if (preprocessedLogLine != null) {
-                String[] preprocessedLogLines = preprocessedLogLine.split(Constants.LINE_SEPARATOR);
-                if (context.contains(PreprocessAction.NEWLINE)) {
-                    // Output on new line
-                    for (int i = 0; i < preprocessedLogLines.length; i++) {
-                        if (preprocessedLogLines[i] != "") {
-                            preprocessedLogList.add(preprocessedLogLines[i]);
-                        }
-                    }
-                } else {
-                    if (preprocessedLogList.isEmpty()) {
-                        preprocessedLogList.add(preprocessedLogLine);
-                    } else {
-                        // Add to prior line if prior line does not end with LINE_SEPARATOR
-                        String lastPreprocessedLogEntry = preprocessedLogList.get(preprocessedLogList.size() - 1);
-                        if (!lastPreprocessedLogEntry.endsWith(Constants.LINE_SEPARATOR)) {
-                            preprocessedLogList.remove(preprocessedLogList.size() - 1);
-                            preprocessedLogList.add(lastPreprocessedLogEntry + preprocessedLogLines[0]);
-                            if (preprocessedLogLines.length > 1) {
-                                for (int i = 1; i < preprocessedLogLines.length; i++) {
-                                    if (preprocessedLogLines[i] != "") {
-                                        preprocessedLogList.add(preprocessedLogLines[i]);
-                                    }
-                                }
-                            }
-                        } else {
-                            if (preprocessedLogLines.length > 1) {
-                                for (int i = 0; i < preprocessedLogLines.length; i++) {
-                                    if (preprocessedLogLines[i] != "") {
-                                        preprocessedLogList.add(preprocessedLogLines[i]);
-                                    }
-                                }
-                            }
-                        }
-                    }
-                }
-            }
+        return preprocessedLogList;
 
-            // output entangled log lines
-            if (!entangledLogLines.isEmpty()) {
-                for (String logLine : entangledLogLines) {
-                    preprocessedLogList.add(logLine);
-                }
-                // Reset entangled log lines
-                entangledLogLines.clear();
-            }
+    }
 
-            preprocessed = true;
+    /**
+     * Streaming preprocess. Same as {@link #preprocess(List)}, except raw logging is consumed and preprocessed logging
+     * is produced one line at a time, so the whole log is never held in memory. Only a bounded lookahead
+     * ({@link #PREPROCESS_LOOKAHEAD}) is buffered to find JDK version information at the beginning of the logging.
+     * 
+     * @param logLines
+     *            Raw garbage collection logging.
+     * @return Preprocessed garbage collection logging.
+     */
+    public Iterator<String> preprocess(Iterator<String> logLines) {
+        if (logLines == null)
+            throw new IllegalArgumentException("logLines == null!!");
+
+        List<String> lookahead = new ArrayList<String>();
+        if (preprocessContext == null) {
+            preprocessContext = getPreprocessContext(logLines, lookahead, PREPROCESS_LOOKAHEAD);
         }
+        return new PreprocessIterator(lookahead.iterator(), logLines, preprocessContext);
+    }
 
-        return preprocessedLogList;
+    /**
+     * Preprocess the garbage collection logging for the JVM run and store the data in the data store in a single pass.
+     * Same as <code>store(preprocess(logLines), reorder)</code>, except preprocessed lines are stored as they are
+     * produced, and the <code>LogEvent</code> parsed from a raw log line during preprocessing is stored without parsing
+     * again when preprocessing does not change the log line and it was parsed with the same prior event type and
+     * collector family in effect when it is stored.
+     * 
+     * @param logLines
+     *            Raw garbage collection logging.
+     * @param reorder
+     *            Whether or not to allow logging to be reordered by timestamp.
+     */
+    public void preprocessAndStore(Iterator<String> logLines, boolean reorder) {
+        preprocessAndStore(logLines, reorder, null);
+    }
 
+    /**
+     * Same as {@link #preprocessAndStore(Iterator, boolean)}, with a checkpoint before the last preprocessed log line
+     * is stored, since it may be an event that continues in logging not written yet. The checkpoint is passed the
+     * number of raw log lines before the last preprocessed log line, the number to skip when resuming from state saved
+     * at the checkpoint, or the number of raw log lines read if there is no logging.
+     * 
+     * @param logLines
+     *            Raw garbage collection logging.
+     * @param reorder
+     *            Whether or not to allow logging to be reordered by timestamp.
+     * @param checkpoint
+     *            Called once with the number of raw log lines stored, or null for no checkpoint.
+     */
+    public void preprocessAndStore(Iterator<String> logLines, boolean reorder, LongConsumer checkpoint) {
+        if (logLines == null)
+            throw new IllegalArgumentException("logLines == null!!");
+
+        List<String> lookahead = new ArrayList<String>();
+        if (preprocessContext == null) {
+            preprocessContext = getPreprocessContext(logLines, lookahead, PREPROCESS_LOOKAHEAD);
+        }
+        PreprocessIterator iterator = new PreprocessIterator(lookahead.iterator(), logLines, preprocessContext);
+        initStore(reorder);
+        boolean checkpointed = checkpoint == null;
+        while (iterator.hasNext()) {
+            PreprocessedLogLine preprocessedLogLine = iterator.nextPreprocessed();
+            if (!checkpointed && iterator.finished && preprocessedLogLine.rawIndex >= iterator.tailIndex) {
+                checkpoint.accept(iterator.tailIndex);
+                checkpointed = true;
+            }
+            ParsedLogLine parsedLogLine = preprocessedLogLine.parsedLogLine;
+            LogEvent event;
+            if (parsedLogLine != null && parsedLogLine.priorLogEventClass == priorLogEvent.getClass()
+                    && parsedLogLine.collectorFamily == collectorFamily) {
+                event = parsedLogLine.event;
+            } else {
+                event = JdkUtil.parseLogLine(preprocessedLogLine.logLine, priorLogEvent, collectorFamily);
+            }
+            store(preprocessedLogLine.logLine, event, reorder);
+        }
+        if (!checkpointed) {
+            checkpoint.accept(iterator.rawLines);
+        }
+    }
+
+    public void setLogFileLines(Map<String, Long> logFileLines) {
+        this.logFileLines = logFileLines;
+    }
+
+    /**
+     * @param overheadWindows
+     *            The sliding window lengths (seconds) for the worst GC and safepoint overhead.
+     */
+    public void setOverheadWindows(int... overheadWindows) {
+        this.overheadWindows = overheadWindows.clone();
+        gcOverheads = null;
+        safepointOverheads = null;
     }
 
     /**
@@ -727,249 +1228,171 @@ public class GcManager {
             return;
         }
 
-        String logLine = null;
-        BlockingEvent priorBlockingEvent = null;
-        LogEvent priorLogEvent = new NullEvent();
-        CollectorFamily collectorFamily = CollectorFamily.UNKNOWN;
-        Iterator<String> iterator = logLines.iterator();
-        while (iterator.hasNext()) {
-            logLine = iterator.next();
-            // If event has no timestamp, use most recent blocking timestamp.
-            LogEvent event = JdkUtil.parseLogLine(logLine, priorLogEvent, collectorFamily);
-            if (event instanceof BlockingEvent) {
-                jvmDao.setLogEndingUnidentified(false);
-
-                // Verify logging in correct order. If overridden, logging will be stored and
-                // reordered by timestamp
-                // for analysis.
-                if (!reorder && priorBlockingEvent != null
-                        && event.getTimestamp() < priorBlockingEvent.getTimestamp()) {
-                    throw new TimeWarpException("Logging reversed: " + Constants.LINE_SEPARATOR
-                            + priorBlockingEvent.getLogEntry() + Constants.LINE_SEPARATOR + event.getLogEntry());
-                }
-
-                jvmDao.addBlockingEvent((BlockingEvent) event);
-
-                // Analysis
-
-                // 1) Explicit GC
-                if (event instanceof TriggerData) {
-                    GcTrigger trigger = ((TriggerData) event).getTrigger();
-                    if (trigger == GcTrigger.SYSTEM_GC) {
-                        GarbageCollector garbageCollector = ((GcEvent) event).getGarbageCollector();
-                        switch (garbageCollector) {
-                        case G1:
-                            if (!jvmDao.getAnalysis().contains(Analysis.ERROR_EXPLICIT_GC_SERIAL_G1)
-                                    && event instanceof G1FullGcEvent) {
-                                jvmDao.addAnalysis(Analysis.ERROR_EXPLICIT_GC_SERIAL_G1);
-                            } else if (!jvmDao.getAnalysis().contains(Analysis.WARN_EXPLICIT_GC_G1_YOUNG_INITIAL_MARK)
-                                    && event instanceof G1YoungInitialMarkEvent) {
-                                jvmDao.addAnalysis(Analysis.WARN_EXPLICIT_GC_G1_YOUNG_INITIAL_MARK);
-                            }
-                            break;
-                        case PARALLEL_OLD:
-                            if (!jvmDao.getAnalysis().contains(Analysis.WARN_EXPLICIT_GC_PARALLEL)) {
-                                jvmDao.addAnalysis(Analysis.WARN_EXPLICIT_GC_PARALLEL);
-                            }
-                            break;
-                        case PARALLEL_SERIAL_OLD:
-                            if (!jvmDao.getAnalysis().contains(Analysis.WARN_EXPLICIT_GC_SERIAL_PARALLEL)) {
-                                jvmDao.addAnalysis(Analysis.WARN_EXPLICIT_GC_SERIAL_PARALLEL);
-                            }
-                            break;
-                        case SERIAL_NEW:
-                            if (!jvmDao.getAnalysis().contains(Analysis.WARN_EXPLICIT_GC_SERIAL)) {
-                                jvmDao.addAnalysis(Analysis.WARN_EXPLICIT_GC_SERIAL);
-                            }
-                            break;
-                        case SERIAL_OLD:
-                            if (!jvmDao.getAnalysis().contains(Analysis.ERROR_EXPLICIT_GC_SERIAL_CMS)
-                                    && event instanceof CmsSerialOldEvent) {
-                                jvmDao.addAnalysis(Analysis.ERROR_EXPLICIT_GC_SERIAL_CMS);
-                            }
-                            break;
-                        case SHENANDOAH_GENERATIONAL:
-                        case SHENANDOAH_NON_GENERATIONAL:
-                            break;
-                        case UNKNOWN:
-                            if (!jvmDao.getAnalysis().contains(Analysis.WARN_EXPLICIT_GC_UNKNOWN)) {
-                                jvmDao.addAnalysis(Analysis.WARN_EXPLICIT_GC_UNKNOWN);
-                            }
-                            break;
-                        default:
-                            break;
-                        }
-                    }
-                }
-
-                // 2) Serial collections not caused by explicit GC
-                if (event instanceof SerialCollection) {
-                    GcTrigger trigger = null;
-                    if (event instanceof TriggerData) {
-                        trigger = ((TriggerData) event).getTrigger();
-                    }
-                    if (trigger == null || !(trigger == GcTrigger.SYSTEM_GC || trigger == GcTrigger.CLASS_HISTOGRAM
-                            || trigger == GcTrigger.HEAP_INSPECTION_INITIATED_GC
-                            || trigger == GcTrigger.HEAP_DUMP_INITIATED_GC)) {
-                        switch (event.getEventType()) {
-                        case G1_FULL_GC_SERIAL:
-                            if (!jvmDao.getAnalysis().contains(Analysis.ERROR_SERIAL_GC_G1)) {
-                                jvmDao.addAnalysis(Analysis.ERROR_SERIAL_GC_G1);
-                            }
-                            break;
-                        case CMS_SERIAL_OLD:
-                            if (!jvmDao.getAnalysis().contains(Analysis.ERROR_SERIAL_GC_CMS)) {
-                                jvmDao.addAnalysis(Analysis.ERROR_SERIAL_GC_CMS);
-                            }
-                            break;
-                        case PARALLEL_SERIAL_OLD:
-                            if (!jvmDao.getAnalysis().contains(Analysis.ERROR_SERIAL_GC_PARALLEL)) {
-                                jvmDao.addAnalysis(Analysis.ERROR_SERIAL_GC_PARALLEL);
-                            }
-                            break;
-                        case SERIAL_OLD:
-                            if (!jvmDao.getAnalysis().contains(Analysis.WARN_SERIAL_GC)) {
-                                jvmDao.addAnalysis(Analysis.WARN_SERIAL_GC);
-                            }
-                            break;
-                        case UNKNOWN:
-                            break;
-                        default:
-                            break;
-                        }
-                    }
-                }
-
-                // 3) CMS concurrent mode failure
-                if (!jvmDao.getAnalysis().contains(Analysis.ERROR_CMS_CONCURRENT_MODE_FAILURE)) {
-                    if (event instanceof CmsSerialOldEvent) {
-                        GcTrigger trigger = ((TriggerData) event).getTrigger();
-                        if (trigger == GcTrigger.CONCURRENT_MODE_FAILURE) {
-                            jvmDao.addAnalysis(Analysis.ERROR_CMS_CONCURRENT_MODE_FAILURE);
-                        }
-                    }
-                }
+        store(logLines.iterator(), reorder);
+    }
 
-                // 4) CMS concurrent mode interrupted
-                if (!jvmDao.getAnalysis().contains(Analysis.ERROR_CMS_CONCURRENT_MODE_INTERRUPTED)) {
-                    if (event instanceof CmsSerialOldEvent) {
-                        GcTrigger trigger = ((TriggerData) event).getTrigger();
-                        if (trigger == GcTrigger.CONCURRENT_MODE_INTERRUPTED) {
-                            jvmDao.addAnalysis(Analysis.ERROR_CMS_CONCURRENT_MODE_INTERRUPTED);
-                        }
-                    }
-                }
+    /**
+     * Parse the garbage collection logging for the JVM run and store the data in the data store.
+     * 
+     * @param logLines
+     *            The garbage collection logging.
+     * @param reorder
+     *            Whether or not to allow logging to be reordered by timestamp.
+     */
+    public void store(Iterator<String> logLines, boolean reorder) {
+        store(logLines, reorder, false);
+    }
 
-                // 5) Heap dump initiated gc
-                if (!jvmDao.getAnalysis().contains(Analysis.WARN_HEAP_DUMP_INITIATED_GC)) {
-                    if (event instanceof TriggerData) {
-                        GcTrigger trigger = ((TriggerData) event).getTrigger();
-                        if (trigger == GcTrigger.HEAP_DUMP_INITIATED_GC) {
-                            jvmDao.addAnalysis(Analysis.WARN_HEAP_DUMP_INITIATED_GC);
-                        }
-                    }
-                }
+    /**
+     * Parse the garbage collection logging for the JVM run and store the data in the data store.
+     * 
+     * <p>
+     * In parallel mode, logging is read in batches of {@link #PARSE_BATCH_SIZE} lines, and each batch is parsed in
+     * chunks of {@link #PARSE_CHUNK_SIZE} lines on the common fork-join pool. Chunks are parsed speculatively with the
+     * collector family found in the first batch header and assuming no prior event at the start of the chunk. The
+     * parsed events are then stored in log order, and any event parsed with a different prior event type or collector
+     * family than the one in effect when it is stored (e.g. the first line of a chunk, or lines before the collector
+     * header) is parsed again. Parsing only depends on the type of the prior event, so the result is the same as
+     * parsing sequentially.
+     * </p>
+     * 
+     * @param logLines
+     *            The garbage collection logging.
+     * @param reorder
+     *            Whether or not to allow logging to be reordered by timestamp.
+     * @param parallel
+     *            Whether or not to parse logging in parallel.
+     */
+    public void store(Iterator<String> logLines, boolean reorder, boolean parallel) {
 
-                // 6) Heap inspection initiated gc
-                if (!jvmDao.getAnalysis().contains(Analysis.WARN_HEAP_INSPECTION_INITIATED_GC)) {
-                    if (event instanceof TriggerData) {
-                        GcTrigger trigger = ((TriggerData) event).getTrigger();
-                        if (trigger == GcTrigger.HEAP_INSPECTION_INITIATED_GC) {
-                            jvmDao.addAnalysis(Analysis.WARN_HEAP_INSPECTION_INITIATED_GC);
-                        }
-                    }
-                }
+        if (logLines == null) {
+            return;
+        }
 
-                // 7) Metaspace allocation failure
-                if (!jvmDao.getAnalysis().contains(Analysis.ERROR_METASPACE_ALLOCATION_FAILURE)) {
-                    if (event instanceof TriggerData) {
-                        GcTrigger trigger = ((TriggerData) event).getTrigger();
-                        if (trigger == GcTrigger.LAST_DITCH_COLLECTION) {
-                            jvmDao.addAnalysis(Analysis.ERROR_METASPACE_ALLOCATION_FAILURE);
-                        }
-                    }
+        initStore(reorder);
+        if (!parallel) {
+            while (logLines.hasNext()) {
+                String logLine = logLines.next();
+                store(logLine, JdkUtil.parseLogLine(logLine, priorLogEvent, collectorFamily), reorder);
+            }
+        } else {
+            List<String> batch = new ArrayList<String>(PARSE_BATCH_SIZE);
+            while (logLines.hasNext()) {
+                batch.clear();
+                while (logLines.hasNext() && batch.size() < PARSE_BATCH_SIZE) {
+                    batch.add(logLines.next());
                 }
-
-                // 8) JV TI explicit gc
-                if (!jvmDao.getAnalysis().contains(Analysis.WARN_EXPLICIT_GC_JVMTI)) {
-                    if (event instanceof TriggerData) {
-                        GcTrigger trigger = ((TriggerData) event).getTrigger();
-                        if (trigger == GcTrigger.JVMTI_FORCED_GARBAGE_COLLECTION) {
-                            jvmDao.addAnalysis(Analysis.WARN_EXPLICIT_GC_JVMTI);
-                        }
+                ParsedLogLine[] parsedLogLines = parse(batch,
+                        collectorFamily == CollectorFamily.UNKNOWN ? getCollectorFamily(batch) : collectorFamily);
+                for (int i = 0; i < parsedLogLines.length; i++) {
+                    String logLine = batch.get(i);
+                    LogEvent event;
+                    if (parsedLogLines[i].priorLogEventClass == priorLogEvent.getClass()
+                            && parsedLogLines[i].collectorFamily == collectorFamily) {
+                        event = parsedLogLines[i].event;
+                    } else {
+                        event = JdkUtil.parseLogLine(logLine, priorLogEvent, collectorFamily);
                     }
+                    store(logLine, event, reorder);
                 }
+            }
+        }
+    }
 
-                // 9) G1 evacuation failure
-                if (event instanceof TriggerData) {
-                    GcTrigger trigger = ((TriggerData) event).getTrigger();
-                    if ((trigger == GcTrigger.TO_SPACE_EXHAUSTED || trigger == GcTrigger.TO_SPACE_OVERFLOW)
-                            || ((event instanceof UnifiedG1YoungPauseEvent
-                                    && ((UnifiedG1YoungPauseEvent) event).isToSpaceExhausted())
-                                    || (event instanceof UnifiedG1YoungPrepareMixedEvent
-                                            && ((UnifiedG1YoungPrepareMixedEvent) event).isToSpaceExhausted()))) {
-                        if (!jvmDao.getAnalysis().contains(Analysis.ERROR_G1_EVACUATION_FAILURE)) {
-                            jvmDao.addAnalysis(Analysis.ERROR_G1_EVACUATION_FAILURE);
-                        }
-                    }
-                }
+    /**
+     * Store a parsed log line in the data store.
+     * 
+     * @param logLine
+     *            The log line.
+     * @param event
+     *            The <code>LogEvent</code> parsed from the log line.
+     * @param reorder
+     *            Whether or not to allow logging to be reordered by timestamp.
+     */
+    private void store(String logLine, LogEvent event, boolean reorder) {
+        // If event has no timestamp, use most recent blocking timestamp.
+        if (event instanceof BlockingEvent) {
+            jvmDao.setLogEndingUnidentified(false);
+
+            // Verify logging in correct order. If overridden, logging will be stored and
+            // reordered by timestamp
+            // for analysis.
+            if (!reorder && priorBlockingEvent != null
+                    && event.getTimestamp() < priorBlockingEvent.getTimestamp()) {
+                throw new TimeWarpException("Logging reversed: " + Constants.LINE_SEPARATOR
+                        + priorBlockingEvent.getLogEntry() + Constants.LINE_SEPARATOR + event.getLogEntry());
+            }
 
-                // 10) CMS promotion failure
-                if (event instanceof TriggerData) {
-                    GcTrigger trigger = ((TriggerData) event).getTrigger();
-                    if (trigger == GcTrigger.PROMOTION_FAILED) {
-                        if (!jvmDao.getAnalysis().contains(Analysis.ERROR_CMS_PROMOTION_FAILED)
-                                && event instanceof CmsSerialOldEvent) {
-                            jvmDao.addAnalysis(Analysis.ERROR_CMS_PROMOTION_FAILED);
+            jvmDao.addBlockingEvent((BlockingEvent) event);
+
+            // Analysis
+
+            // 1-14, 16-20) Rules reported once
+            analysisRules.apply(event, jvmDao);
+
+            // 15) Inverted parallelism
+            if (event instanceof ParallelEvent && event instanceof TimesData) {
+                // Do not make comparisons with no data or "0" (user + sys > 0 AND real > 0)
+                if ((((TimesData) event).getTimeUser() != TimesData.NO_DATA
+                        && ((TimesData) event).getTimeSys() != TimesData.NO_DATA
+                        && ((TimesData) event).getTimeReal() != TimesData.NO_DATA)
+                        && (((((TimesData) event).getTimeUser() > 0) || ((TimesData) event).getTimeSys() > 0)
+                                && ((TimesData) event).getTimeReal() > 0)) {
+                    jvmDao.setParallelCount(jvmDao.getParallelCount() + 1);
+                    if (JdkMath.isInvertedParallelism(((TimesData) event).getParallelism())) {
+                        jvmDao.setInvertedParallelismCount(jvmDao.getInvertedParallelismCount() + 1);
+                        if (jvmDao.getWorstInvertedParallelismEvent() == null) {
+                            jvmDao.setWorstInvertedParallelismEvent(event);
+                        } else {
+                            if (((TimesData) event)
+                                    .getParallelism() < ((TimesData) jvmDao.getWorstInvertedParallelismEvent())
+                                            .getParallelism()) {
+                                // Update lowest "low"
+                                jvmDao.setWorstInvertedParallelismEvent(event);
+                            }
                         }
                     }
                 }
-
-                // 12) -XX:+PrintGCCause is essential for troubleshooting G1 full GCs
-                if (event instanceof G1FullGcEvent) {
-                    GcTrigger trigger = ((TriggerData) event).getTrigger();
-                    if (trigger == GcTrigger.NONE) {
-                        if (!jvmDao.getAnalysis().contains(Analysis.WARN_PRINT_GC_CAUSE_NOT_ENABLED)) {
-                            jvmDao.addAnalysis(Analysis.WARN_PRINT_GC_CAUSE_NOT_ENABLED);
+                // sys > user: ignore sys - user = .01 secs
+                if (((TimesData) event).getTimeSys() > 0 && ((TimesData) event).getTimeUser() > 0
+                        && ((TimesData) event).getTimeSys() > ((TimesData) event).getTimeUser() + 1) {
+                    jvmDao.setSysGtUserCount(jvmDao.getSysGtUserCount() + 1);
+                    if (jvmDao.getWorstSysGtUserEvent() == null) {
+                        jvmDao.setWorstSysGtUserEvent(event);
+                    } else {
+                        if ((((TimesData) event).getTimeSys() - ((TimesData) event)
+                                .getTimeUser()) > (((TimesData) jvmDao.getWorstSysGtUserEvent()).getTimeSys()
+                                        - ((TimesData) jvmDao.getWorstSysGtUserEvent()).getTimeUser())) {
+                            // Update greatest user - sys
+                            jvmDao.setWorstSysGtUserEvent(event);
                         }
                     }
                 }
+            }
 
-                // 13) CMS_REMARK class unloading
-                if (event instanceof CmsRemarkEvent && !((CmsRemarkEvent) event).isClassUnloading()
-                        && !jvmDao.getAnalysis().contains(Analysis.WARN_CMS_CLASS_UNLOADING_NOT_ENABLED)) {
-                    jvmDao.addAnalysis(Analysis.WARN_CMS_CLASS_UNLOADING_NOT_ENABLED);
-                }
-
-                // 14) Humongous allocation
-                if (event instanceof G1Collector && event instanceof TriggerData
-                        && !jvmDao.getAnalysis().contains(Analysis.INFO_G1_HUMONGOUS_ALLOCATION)) {
-                    GcTrigger trigger = ((TriggerData) event).getTrigger();
-                    if (trigger == GcTrigger.G1_HUMONGOUS_ALLOCATION) {
-                        jvmDao.addAnalysis(Analysis.INFO_G1_HUMONGOUS_ALLOCATION);
-                    }
-                }
-
-                // 15) Inverted parallelism
-                if (event instanceof ParallelEvent && event instanceof TimesData) {
-                    // Do not make comparisons with no data or "0" (user + sys > 0 AND real > 0)
-                    if ((((TimesData) event).getTimeUser() != TimesData.NO_DATA
-                            && ((TimesData) event).getTimeSys() != TimesData.NO_DATA
-                            && ((TimesData) event).getTimeReal() != TimesData.NO_DATA)
-                            && (((((TimesData) event).getTimeUser() > 0) || ((TimesData) event).getTimeSys() > 0)
-                                    && ((TimesData) event).getTimeReal() > 0)) {
-                        jvmDao.setParallelCount(jvmDao.getParallelCount() + 1);
-                        if (JdkMath.isInvertedParallelism(((TimesData) event).getParallelism())) {
-                            jvmDao.setInvertedParallelismCount(jvmDao.getInvertedParallelismCount() + 1);
-                            if (jvmDao.getWorstInvertedParallelismEvent() == null) {
-                                jvmDao.setWorstInvertedParallelismEvent(event);
-                            } else {
-                                if (((TimesData) event)
-                                        .getParallelism() < ((TimesData) jvmDao.getWorstInvertedParallelismEvent())
-                                                .getParallelism()) {
-                                    // Update lowest "low"
-                                    jvmDao.setWorstInvertedParallelismEvent(event);
-                                }
+            // 21) Inverted serialism
+            if (event instanceof SerialCollection && event instanceof TimesData) {
+                // Do not make comparisons with no data or "0" (user + sys > 0 AND real > 0)
+                if ((((TimesData) event).getTimeUser() != TimesData.NO_DATA
+                        && ((TimesData) event).getTimeSys() != TimesData.NO_DATA
+                        && ((TimesData) event).getTimeReal() != TimesData.NO_DATA)
+                        && (((((TimesData) event).getTimeUser() > 0) || ((TimesData) event).getTimeSys() > 0)
+                                && ((TimesData) event).getTimeReal() > 0)) {
+                    jvmDao.setSerialCount(jvmDao.getSerialCount() + 1);
+                    // Inverted serialism: Ignore real vs (user + sys) < .1 secs
+                    if (((TimesData) event).getTimeUser() > 0
+                            && JdkMath.isInvertedSerialism(((TimesData) event).getParallelism())
+                            && (((TimesData) event).getTimeReal() - ((TimesData) event).getTimeUser()
+                                    - ((TimesData) event).getTimeSys() > 10)) {
+                        jvmDao.setInvertedSerialismCount(jvmDao.getInvertedSerialismCount() + 1);
+                        if (jvmDao.getWorstInvertedSerialismEvent() == null) {
+                            jvmDao.setWorstInvertedSerialismEvent(event);
+                        } else {
+                            if (((TimesData) event)
+                                    .getParallelism() < ((TimesData) jvmDao.getWorstInvertedSerialismEvent())
+                                            .getParallelism()) {
+                                // Update lowest "low"
+                                jvmDao.setWorstInvertedSerialismEvent(event);
                             }
                         }
                     }
@@ -989,321 +1412,521 @@ public class GcManager {
                         }
                     }
                 }
+            }
 
-                // 16) Check for CMS initial mark low parallelism
-                if (event instanceof CmsInitialMarkEvent && ((TimesData) event).getTimeUser() > 0
-                        && ((TimesData) event).getTimeReal() > 0 && ((BlockingEvent) event).getDurationMicros() >= 10000
-                        && JdkMath.isLowParallelism(((TimesData) event).getParallelism())) {
-                    if (!jvmDao.getAnalysis().contains(Analysis.WARN_CMS_INITIAL_MARK_LOW_PARALLELISM)) {
-                        jvmDao.addAnalysis(Analysis.WARN_CMS_INITIAL_MARK_LOW_PARALLELISM);
-                    }
-                }
-
-                // 17) Check for CMS remark low parallelism
-                if (event instanceof CmsRemarkEvent && ((TimesData) event).getTimeUser() > 0
-                        && ((TimesData) event).getTimeReal() > 0 && ((BlockingEvent) event).getDurationMicros() >= 10000
-                        && JdkMath.isLowParallelism(((TimesData) event).getParallelism())) {
-                    if (!jvmDao.getAnalysis().contains(Analysis.WARN_CMS_REMARK_LOW_PARALLELISM)) {
-                        jvmDao.addAnalysis(Analysis.WARN_CMS_REMARK_LOW_PARALLELISM);
-                    }
-                }
-
-                // 18) Check for old JDKs using perm gen
-                if (event instanceof ClassData && event.getLogEntry() != null
-                        && event.getLogEntry().matches("^.*Perm.*$")) {
-                    if (!jvmDao.getAnalysis().contains(Analysis.INFO_PERM_GEN)) {
-                        jvmDao.addAnalysis(Analysis.INFO_PERM_GEN);
-                    }
-                }
-
-                // 19) Shenandoah Full GC
-                if (event instanceof ShenandoahFullGcEvent) {
-                    if (!jvmDao.getAnalysis().contains(Analysis.ERROR_SHENANDOAH_FULL_GC)) {
-                        jvmDao.addAnalysis(Analysis.ERROR_SHENANDOAH_FULL_GC);
-                    }
-                }
-
-                // 20) Diagnostic explicit gc
-                if (!jvmDao.getAnalysis().contains(Analysis.WARN_EXPLICIT_GC_DIAGNOSTIC)) {
-                    if (event instanceof TriggerData) {
-                        GcTrigger trigger = ((TriggerData) event).getTrigger();
-                        if (trigger == GcTrigger.DIAGNOSTIC_COMMAND) {
-                            jvmDao.addAnalysis(Analysis.WARN_EXPLICIT_GC_DIAGNOSTIC);
-                        }
-                    }
-                }
-
-                // 21) Inverted serialism
-                if (event instanceof SerialCollection && event instanceof TimesData) {
-                    // Do not make comparisons with no data or "0" (user + sys > 0 AND real > 0)
-                    if ((((TimesData) event).getTimeUser() != TimesData.NO_DATA
-                            && ((TimesData) event).getTimeSys() != TimesData.NO_DATA
-                            && ((TimesData) event).getTimeReal() != TimesData.NO_DATA)
-                            && (((((TimesData) event).getTimeUser() > 0) || ((TimesData) event).getTimeSys() > 0)
-                                    && ((TimesData) event).getTimeReal() > 0)) {
-                        jvmDao.setSerialCount(jvmDao.getSerialCount() + 1);
-                        // Inverted serialism: Ignore real vs (user + sys) < .1 secs
-                        if (((TimesData) event).getTimeUser() > 0
-                                && JdkMath.isInvertedSerialism(((TimesData) event).getParallelism())
-                                && (((TimesData) event).getTimeReal() - ((TimesData) event).getTimeUser()
-                                        - ((TimesData) event).getTimeSys() > 10)) {
-                            jvmDao.setInvertedSerialismCount(jvmDao.getInvertedSerialismCount() + 1);
-                            if (jvmDao.getWorstInvertedSerialismEvent() == null) {
-                                jvmDao.setWorstInvertedSerialismEvent(event);
-                            } else {
-                                if (((TimesData) event)
-                                        .getParallelism() < ((TimesData) jvmDao.getWorstInvertedSerialismEvent())
-                                                .getParallelism()) {
-                                    // Update lowest "low"
-                                    jvmDao.setWorstInvertedSerialismEvent(event);
-                                }
-                            }
-                        }
-                        // sys > user: ignore sys - user = .01 secs
-                        if (((TimesData) event).getTimeSys() > 0 && ((TimesData) event).getTimeUser() > 0
-                                && ((TimesData) event).getTimeSys() > ((TimesData) event).getTimeUser() + 1) {
-                            jvmDao.setSysGtUserCount(jvmDao.getSysGtUserCount() + 1);
-                            if (jvmDao.getWorstSysGtUserEvent() == null) {
-                                jvmDao.setWorstSysGtUserEvent(event);
-                            } else {
-                                if ((((TimesData) event).getTimeSys() - ((TimesData) event)
-                                        .getTimeUser()) > (((TimesData) jvmDao.getWorstSysGtUserEvent()).getTimeSys()
-                                                - ((TimesData) jvmDao.getWorstSysGtUserEvent()).getTimeUser())) {
-                                    // Update greatest user - sys
-                                    jvmDao.setWorstSysGtUserEvent(event);
-                                }
-                            }
-                        }
-                    }
-                }
-
-                // 22) <code>G1ExtRootScanningData</code>
-                if (event instanceof G1ExtRootScanningData
-                        && ((G1ExtRootScanningData) event).getExtRootScanningTime() != G1ExtRootScanningData.NO_DATA) {
-                    long extRootScanningTime = ((G1ExtRootScanningData) event).getExtRootScanningTime();
-                    if (extRootScanningTime > 0) {
-                        if (extRootScanningTime > jvmDao.getExtRootScanningTimeMax()) {
-                            jvmDao.setExtRootScanningTimeMax(extRootScanningTime);
-                        }
-                        jvmDao.setExtRootScanningTimeTotal(jvmDao.getExtRootScanningTimeTotal() + extRootScanningTime);
+            // 22) <code>G1ExtRootScanningData</code>
+            if (event instanceof G1ExtRootScanningData
+                    && ((G1ExtRootScanningData) event).getExtRootScanningTime() != G1ExtRootScanningData.NO_DATA) {
+                long extRootScanningTime = ((G1ExtRootScanningData) event).getExtRootScanningTime();
+                if (extRootScanningTime > 0) {
+                    if (extRootScanningTime > jvmDao.getExtRootScanningTimeMax()) {
+                        jvmDao.setExtRootScanningTimeMax(extRootScanningTime);
                     }
+                    jvmDao.setExtRootScanningTimeTotal(jvmDao.getExtRootScanningTimeTotal() + extRootScanningTime);
                 }
+            }
 
-                // 23) "Other" time
-                if (event instanceof OtherTime && ((OtherTime) event).getOtherTime() != OtherTime.NO_DATA) {
-                    long otherTime = ((OtherTime) event).getOtherTime();
-                    if (otherTime > 0) {
-                        if (otherTime > jvmDao.getOtherTimeMax()) {
-                            jvmDao.setOtherTimeMax(otherTime);
-                        }
-                        jvmDao.setOtherTimeTotal(jvmDao.getOtherTimeTotal() + otherTime);
+            // 23) "Other" time
+            if (event instanceof OtherTime && ((OtherTime) event).getOtherTime() != OtherTime.NO_DATA) {
+                long otherTime = ((OtherTime) event).getOtherTime();
+                if (otherTime > 0) {
+                    if (otherTime > jvmDao.getOtherTimeMax()) {
+                        jvmDao.setOtherTimeMax(otherTime);
                     }
+                    jvmDao.setOtherTimeTotal(jvmDao.getOtherTimeTotal() + otherTime);
                 }
-                priorBlockingEvent = (BlockingEvent) event;
-            } else if (event instanceof ApplicationStoppedTimeEvent) {
-                jvmDao.setLogEndingUnidentified(false);
-                jvmDao.addStoppedTimeEvent((ApplicationStoppedTimeEvent) event);
-            } else if (event instanceof UnifiedSafepointEvent) {
-                jvmDao.setLogEndingUnidentified(false);
-                jvmDao.addSafepointEvent((UnifiedSafepointEvent) event);
-            } else if (event instanceof HeaderCommandLineFlagsEvent) {
-                jvmDao.setLogEndingUnidentified(false);
-                jvmDao.getJvmContext().setOptions(((HeaderCommandLineFlagsEvent) event).getJvmOptions());
-            } else if (event instanceof HeaderMemoryEvent) {
+            }
+            priorBlockingEvent = (BlockingEvent) event;
+        } else if (event instanceof ApplicationStoppedTimeEvent) {
+            jvmDao.setLogEndingUnidentified(false);
+            jvmDao.addStoppedTimeEvent((ApplicationStoppedTimeEvent) event);
+        } else if (event instanceof UnifiedSafepointEvent) {
+            jvmDao.setLogEndingUnidentified(false);
+            jvmDao.addSafepointEvent((UnifiedSafepointEvent) event);
+        } else if (event instanceof HeaderCommandLineFlagsEvent) {
+            jvmDao.setLogEndingUnidentified(false);
+            jvmDao.getJvmContext().setOptions(((HeaderCommandLineFlagsEvent) event).getJvmOptions());
+        } else if (event instanceof HeaderMemoryEvent) {
+            jvmDao.setLogEndingUnidentified(false);
+            jvmDao.setMemory(((HeaderMemoryEvent) event).getLogEntry());
+            jvmDao.setPhysicalMemory((long) KILOBYTES.toBytes(((HeaderMemoryEvent) event).getPhysicalMemory()));
+            jvmDao.getJvmContext().setMemory(org.github.joa.util.JdkUtil.convertSize(jvmDao.getPhysicalMemory(),
+                    'B', org.github.joa.util.Constants.UNITS));
+            jvmDao.setPhysicalMemoryFree(
+                    (long) KILOBYTES.toBytes(((HeaderMemoryEvent) event).getPhysicalMemoryFree()));
+            jvmDao.setSwap((long) KILOBYTES.toBytes(((HeaderMemoryEvent) event).getSwap()));
+            jvmDao.setSwapFree((long) KILOBYTES.toBytes(((HeaderMemoryEvent) event).getSwapFree()));
+        } else if (event instanceof HeaderVmInfoEvent) {
+            jvmDao.setLogEndingUnidentified(false);
+            jvmDao.getJvmContext().setVersionMajor(((HeaderVmInfoEvent) event).getJdkVersionMajor());
+            jvmDao.getJvmContext().setVersionMinor(((HeaderVmInfoEvent) event).getJdkVersionMinor());
+            if (((HeaderVmInfoEvent) event).is32Bit()) {
+                jvmDao.getJvmContext().setBit(Bit.BIT32);
+            }
+            jvmDao.getJvmContext().setArch(((HeaderVmInfoEvent) event).getArch());
+            jvmDao.getJvmContext().setBuiltBy(((HeaderVmInfoEvent) event).getBuiltBy());
+            jvmDao.getJvmContext().setOs(((HeaderVmInfoEvent) event).getOs());
+            jvmDao.getJvmContext().setBuildDate(((HeaderVmInfoEvent) event).getBuildDate());
+            jvmDao.getJvmContext().setReleaseString(((HeaderVmInfoEvent) event).getJdkReleaseString());
+            jvmDao.setVmInfo(((HeaderVmInfoEvent) event).getLogEntry());
+        } else if (event instanceof UnifiedHeaderEvent) {
+            if (((UnifiedHeaderEvent) event).isVersion()) {
                 jvmDao.setLogEndingUnidentified(false);
-                jvmDao.setMemory(((HeaderMemoryEvent) event).getLogEntry());
-                jvmDao.setPhysicalMemory((long) KILOBYTES.toBytes(((HeaderMemoryEvent) event).getPhysicalMemory()));
+                jvmDao.getJvmContext().setVersionMajor(((UnifiedHeaderEvent) event).getJdkVersionMajor());
+                jvmDao.getJvmContext().setVersionMinor(((UnifiedHeaderEvent) event).getJdkVersionMinor());
+                jvmDao.getJvmContext().setReleaseString(((UnifiedHeaderEvent) event).getJdkReleaseString());
+                jvmDao.setVmInfo(((UnifiedHeaderEvent) event).getJdkReleaseString());
+            } else if (((UnifiedHeaderEvent) event).isGarbageCollector()) {
+                collectorFamily = ((UnifiedHeaderEvent) event).getCollectorFamily();
+            } else if (((UnifiedHeaderEvent) event).isJvmArgs()) {
+                jvmDao.getJvmContext().setOptions((((UnifiedHeaderEvent) event).getJvmArgs()));
+            } else if (((UnifiedHeaderEvent) event).isMemory()) {
+                jvmDao.setMemory(((UnifiedHeaderEvent) event).getMemoryString());
+                jvmDao.setPhysicalMemory(((UnifiedHeaderEvent) event).getMemory().getValue(BYTES));
                 jvmDao.getJvmContext().setMemory(org.github.joa.util.JdkUtil.convertSize(jvmDao.getPhysicalMemory(),
                         'B', org.github.joa.util.Constants.UNITS));
-                jvmDao.setPhysicalMemoryFree(
-                        (long) KILOBYTES.toBytes(((HeaderMemoryEvent) event).getPhysicalMemoryFree()));
-                jvmDao.setSwap((long) KILOBYTES.toBytes(((HeaderMemoryEvent) event).getSwap()));
-                jvmDao.setSwapFree((long) KILOBYTES.toBytes(((HeaderMemoryEvent) event).getSwapFree()));
-            } else if (event instanceof HeaderVmInfoEvent) {
-                jvmDao.setLogEndingUnidentified(false);
-                jvmDao.getJvmContext().setVersionMajor(((HeaderVmInfoEvent) event).getJdkVersionMajor());
-                jvmDao.getJvmContext().setVersionMinor(((HeaderVmInfoEvent) event).getJdkVersionMinor());
-                if (((HeaderVmInfoEvent) event).is32Bit()) {
-                    jvmDao.getJvmContext().setBit(Bit.BIT32);
-                }
-                jvmDao.getJvmContext().setArch(((HeaderVmInfoEvent) event).getArch());
-                jvmDao.getJvmContext().setBuiltBy(((HeaderVmInfoEvent) event).getBuiltBy());
-                jvmDao.getJvmContext().setOs(((HeaderVmInfoEvent) event).getOs());
-                jvmDao.getJvmContext().setBuildDate(((HeaderVmInfoEvent) event).getBuildDate());
-                jvmDao.getJvmContext().setReleaseString(((HeaderVmInfoEvent) event).getJdkReleaseString());
-                jvmDao.setVmInfo(((HeaderVmInfoEvent) event).getLogEntry());
-            } else if (event instanceof UnifiedHeaderEvent) {
-                if (((UnifiedHeaderEvent) event).isVersion()) {
-                    jvmDao.setLogEndingUnidentified(false);
-                    jvmDao.getJvmContext().setVersionMajor(((UnifiedHeaderEvent) event).getJdkVersionMajor());
-                    jvmDao.getJvmContext().setVersionMinor(((UnifiedHeaderEvent) event).getJdkVersionMinor());
-                    jvmDao.getJvmContext().setReleaseString(((UnifiedHeaderEvent) event).getJdkReleaseString());
-                    jvmDao.setVmInfo(((UnifiedHeaderEvent) event).getJdkReleaseString());
-                } else if (((UnifiedHeaderEvent) event).isGarbageCollector()) {
-                    collectorFamily = ((UnifiedHeaderEvent) event).getCollectorFamily();
-                } else if (((UnifiedHeaderEvent) event).isJvmArgs()) {
-                    jvmDao.getJvmContext().setOptions((((UnifiedHeaderEvent) event).getJvmArgs()));
-                } else if (((UnifiedHeaderEvent) event).isMemory()) {
-                    jvmDao.setMemory(((UnifiedHeaderEvent) event).getMemoryString());
-                    jvmDao.setPhysicalMemory(((UnifiedHeaderEvent) event).getMemory().getValue(BYTES));
-                    jvmDao.getJvmContext().setMemory(org.github.joa.util.JdkUtil.convertSize(jvmDao.getPhysicalMemory(),
-                            'B', org.github.joa.util.Constants.UNITS));
+            }
+            if (event.getLogEntry().matches(
+                    "^" + UnifiedRegEx.DECORATOR + " Min heap equals to max heap, disabling ShenandoahUncommit$")) {
+                if (!jvmDao.getAnalysis().contains(Analysis.INFO_SHENANDOAH_UNCOMMIT_DISABLED)) {
+                    jvmDao.addAnalysis(Analysis.INFO_SHENANDOAH_UNCOMMIT_DISABLED);
                 }
-                if (event.getLogEntry().matches(
-                        "^" + UnifiedRegEx.DECORATOR + " Min heap equals to max heap, disabling ShenandoahUncommit$")) {
-                    if (!jvmDao.getAnalysis().contains(Analysis.INFO_SHENANDOAH_UNCOMMIT_DISABLED)) {
-                        jvmDao.addAnalysis(Analysis.INFO_SHENANDOAH_UNCOMMIT_DISABLED);
-                    }
+            }
+        } else if (event instanceof LogFileEvent) {
+            jvmDao.setLogEndingUnidentified(false);
+            if (((LogFileEvent) event).isCreated()) {
+                Matcher matcher = LogFileEvent.PATTERN.matcher(((LogFileEvent) event).getLogEntry());
+                if (matcher.find()) {
+                    jvmDao.setLogFileDate(GcUtil.parseDatetime(logLine));
                 }
-            } else if (event instanceof LogFileEvent) {
-                jvmDao.setLogEndingUnidentified(false);
-                if (((LogFileEvent) event).isCreated()) {
-                    Matcher matcher = LogFileEvent.PATTERN.matcher(((LogFileEvent) event).getLogEntry());
-                    if (matcher.find()) {
-                        jvmDao.setLogFileDate(GcUtil.parseDatetime(logLine));
-                    }
+            }
+        } else if (event instanceof GcOverheadLimitEvent) {
+            jvmDao.setLogEndingUnidentified(false);
+            if (!jvmDao.getAnalysis().contains(Analysis.ERROR_GC_TIME_LIMIT_EXCEEEDED)) {
+                jvmDao.getAnalysis().add(Analysis.ERROR_GC_TIME_LIMIT_EXCEEEDED);
+            }
+        } else if (event instanceof GcLockerScavengeFailedEvent) {
+            jvmDao.setLogEndingUnidentified(false);
+            if (!jvmDao.getAnalysis().contains(Analysis.ERROR_CMS_PAR_NEW_GC_LOCKER_FAILED)) {
+                jvmDao.addAnalysis(Analysis.ERROR_CMS_PAR_NEW_GC_LOCKER_FAILED);
+            }
+        } else if (event instanceof ShenandoahConcurrentEvent || event instanceof UnifiedConcurrentEvent
+                || event instanceof ZConcurrentEvent) {
+            jvmDao.setLogEndingUnidentified(false);
+            // Update heap metrics
+            Memory maxHeapNonBlockingOccupancyInit = ((CombinedData) event).getCombinedOccupancyInit();
+            Memory maxHeapNonBlockingOccupancyEnd = ((CombinedData) event).getCombinedOccupancyEnd();
+            Memory maxHeapNonBlockingOccupancy;
+            if (maxHeapNonBlockingOccupancyInit != null
+                    && (maxHeapNonBlockingOccupancyInit.equals(maxHeapNonBlockingOccupancyEnd)
+                            || maxHeapNonBlockingOccupancyInit.greaterThan(maxHeapNonBlockingOccupancyEnd))) {
+                maxHeapNonBlockingOccupancy = maxHeapNonBlockingOccupancyInit;
+            } else {
+                maxHeapNonBlockingOccupancy = maxHeapNonBlockingOccupancyEnd;
+            }
+            if (greater(maxHeapNonBlockingOccupancy, jvmDao.getMaxHeapOccupancyNonBlocking())) {
+                jvmDao.setMaxHeapOccupancyNonBlocking((int) (maxHeapNonBlockingOccupancy.getValue(KILOBYTES)));
+            }
+            if (greater(maxHeapNonBlockingOccupancyEnd, jvmDao.getMaxHeapAfterGcNonBlocking())) {
+                jvmDao.setMaxHeapAfterGcNonBlocking((int) (maxHeapNonBlockingOccupancyEnd.getValue(KILOBYTES)));
+            }
+            if (greater(((CombinedData) event).getCombinedSpace(), jvmDao.getMaxHeapNonBlocking())) {
+                jvmDao.setMaxHeapNonBlocking((int) ((CombinedData) event).getCombinedSpace().getValue(KILOBYTES));
+            }
+            // Update perm/metaspace metrics
+            Memory maxClassSpaceNonBlockingOccupancyInit = ((ClassData) event).getClassOccupancyInit();
+            Memory maxClassSpaceNonBlockingOccupancyEnd = ((ClassData) event).getClassOccupancyEnd();
+            Memory maxClassSpaceNonBlockingOccupancy;
+            if (maxClassSpaceNonBlockingOccupancyInit != null && (maxClassSpaceNonBlockingOccupancyInit
+                    .equals(maxClassSpaceNonBlockingOccupancyEnd)
+                    || maxClassSpaceNonBlockingOccupancyInit.greaterThan(maxClassSpaceNonBlockingOccupancyEnd))) {
+                maxClassSpaceNonBlockingOccupancy = maxClassSpaceNonBlockingOccupancyInit;
+            } else {
+                maxClassSpaceNonBlockingOccupancy = maxClassSpaceNonBlockingOccupancyEnd;
+            }
+            if (greater(maxClassSpaceNonBlockingOccupancy, jvmDao.getMaxClassSpaceOccupancyNonBlocking())) {
+                jvmDao.setMaxClassSpaceOccupancyNonBlocking(
+                        (int) (maxClassSpaceNonBlockingOccupancy.getValue(KILOBYTES)));
+            }
+            if (greater(maxClassSpaceNonBlockingOccupancyEnd, jvmDao.getMaxClassSpaceAfterGcNonBlocking())) {
+                jvmDao.setMaxClassSpaceAfterGcNonBlocking(
+                        (int) (maxClassSpaceNonBlockingOccupancyEnd.getValue(KILOBYTES)));
+            }
+            if (greater(((ClassData) event).getClassSpace(), jvmDao.getMaxClassSpaceNonBlocking())) {
+                jvmDao.setMaxClassSpaceNonBlocking((int) ((ClassData) event).getClassSpace().getValue(KILOBYTES));
+            }
+        } else if (event instanceof VmWarningEvent) {
+            jvmDao.setLogEndingUnidentified(false);
+            if (((VmWarningEvent) event).getErrNo().equals("12")) {
+                if (!jvmDao.getAnalysis().contains(Analysis.ERROR_SHARED_MEMORY_12)) {
+                    jvmDao.addAnalysis(Analysis.ERROR_SHARED_MEMORY_12);
                 }
-            } else if (event instanceof GcOverheadLimitEvent) {
-                jvmDao.setLogEndingUnidentified(false);
-                if (!jvmDao.getAnalysis().contains(Analysis.ERROR_GC_TIME_LIMIT_EXCEEEDED)) {
-                    jvmDao.getAnalysis().add(Analysis.ERROR_GC_TIME_LIMIT_EXCEEEDED);
+            }
+        } else if (event instanceof UnknownEvent) {
+            jvmDao.setLogEndingUnidentified(true);
+            jvmDao.getUnidentifiedLogLines().add(logLine);
+        }
+        // Populate events list.
+        if (!(event instanceof ThrowAwayEvent)) {
+            JdkUtil.EventType eventType = event.getEventType();
+            // Use collectorFamily to identify generic UNIFIED_(OLD|YOUNG)
+            if (event instanceof UnifiedYoungEvent) {
+                switch (collectorFamily) {
+                case G1:
+                    eventType = EventType.UNIFIED_G1_YOUNG_PAUSE;
+                    break;
+                case PARALLEL:
+                    eventType = EventType.UNIFIED_PARALLEL_SCAVENGE;
+                    break;
+                case SERIAL:
+                    eventType = EventType.UNIFIED_SERIAL_NEW;
+                    break;
+                case CMS:
+                case SHENANDOAH:
+                case UNKNOWN:
+                case Z:
+                default:
+                    break;
                 }
-            } else if (event instanceof GcLockerScavengeFailedEvent) {
-                jvmDao.setLogEndingUnidentified(false);
-                if (!jvmDao.getAnalysis().contains(Analysis.ERROR_CMS_PAR_NEW_GC_LOCKER_FAILED)) {
-                    jvmDao.addAnalysis(Analysis.ERROR_CMS_PAR_NEW_GC_LOCKER_FAILED);
+            } else if (event instanceof UnifiedOldEvent) {
+                switch (collectorFamily) {
+                case G1:
+                    eventType = EventType.UNIFIED_G1_FULL_GC_PARALLEL;
+                    break;
+                case PARALLEL:
+                    eventType = EventType.UNIFIED_PARALLEL_COMPACTING_OLD;
+                    break;
+                case SERIAL:
+                    eventType = EventType.UNIFIED_SERIAL_OLD;
+                    break;
+                case CMS:
+                case SHENANDOAH:
+                case UNKNOWN:
+                case Z:
+                default:
+                    break;
                 }
-            } else if (event instanceof ShenandoahConcurrentEvent || event instanceof UnifiedConcurrentEvent
-                    || event instanceof ZConcurrentEvent) {
-                jvmDao.setLogEndingUnidentified(false);
-                // Update heap metrics
-                Memory maxHeapNonBlockingOccupancyInit = ((CombinedData) event).getCombinedOccupancyInit();
-                Memory maxHeapNonBlockingOccupancyEnd = ((CombinedData) event).getCombinedOccupancyEnd();
-                Memory maxHeapNonBlockingOccupancy;
-                if (maxHeapNonBlockingOccupancyInit != null
-                        && (maxHeapNonBlockingOccupancyInit.equals(maxHeapNonBlockingOccupancyEnd)
-                                || maxHeapNonBlockingOccupancyInit.greaterThan(maxHeapNonBlockingOccupancyEnd))) {
-                    maxHeapNonBlockingOccupancy = maxHeapNonBlockingOccupancyInit;
-                } else {
-                    maxHeapNonBlockingOccupancy = maxHeapNonBlockingOccupancyEnd;
+            }
+            if (!jvmDao.getEventTypes().contains(eventType)) {
+                jvmDao.getEventTypes().add(eventType);
+            }
+        } else {
+            if (event instanceof ThreadDumpEvent) {
+                jvmDao.addAnalysis(Analysis.INFO_THREAD_DUMP);
+            } else if (event instanceof ZStatsEvent) {
+                jvmDao.addAnalysis(Analysis.INFO_Z_STATISTICS_INTERVAL);
+            }
+        }
+        // Populate triggers list.
+        if (event instanceof TriggerData) {
+            if (!jvmDao.getGcTriggers().contains(((TriggerData) event).getTrigger())) {
+                jvmDao.getGcTriggers().add(((TriggerData) event).getTrigger());
+            }
+        }
+        // Populate collector list.
+        if (event instanceof GcEvent) {
+            if (!jvmDao.getJvmContext().getGarbageCollectors().contains(((GcEvent) event).getGarbageCollector())) {
+                jvmDao.getJvmContext().getGarbageCollectors().add(((GcEvent) event).getGarbageCollector());
+            }
+        }
+        // Populate first log event with a valid timestamp
+        if (event instanceof LogEvent && event.getTimestamp() > 0 && jvmDao.getFirstLogEvent() == null) {
+            jvmDao.setFirstLogEvent(event);
+        }
+        // throw away blank lines
+        if (!(logLine.matches(JdkRegEx.BLANK_LINE) || logLine.matches(UnifiedRegEx.BLANK_LINE))) {
+            priorLogEvent = event;
+        }
+    }
+
+    /**
+     * Write a snapshot of the analysis state (the data store, parsing and preprocessing context, and the lines stored
+     * from each log file), so a later run can resume the analysis with only the logging added since (see
+     * {@link #readSnapshot(Path, Date, int)}). The snapshot is written to a temporary file and then moved into place,
+     * so a failed write does not replace an existing snapshot.
+     * 
+     * @param path
+     *            The snapshot file.
+     * @throws IOException
+     *             if the snapshot cannot be written.
+     * @throws IllegalStateException
+     *             if the data store is not compact.
+     */
+    public void writeSnapshot(Path path) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        Path temp = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(new GZIPOutputStream(Files.newOutputStream(temp))))) {
+                out.writeInt(SnapshotUtil.MAGIC);
+                out.writeInt(SnapshotUtil.VERSION);
+                SnapshotUtil.writeEnum(out, collectorFamily);
+                SnapshotUtil.writeString(out, lastLogLineUnprocessed);
+                out.writeInt(logFileLines.size());
+                for (Map.Entry<String, Long> entry : logFileLines.entrySet()) {
+                    SnapshotUtil.writeString(out, entry.getKey());
+                    out.writeLong(entry.getValue());
                 }
-                if (greater(maxHeapNonBlockingOccupancy, jvmDao.getMaxHeapOccupancyNonBlocking())) {
-                    jvmDao.setMaxHeapOccupancyNonBlocking((int) (maxHeapNonBlockingOccupancy.getValue(KILOBYTES)));
+                out.writeBoolean(preprocessContext != null);
+                if (preprocessContext != null) {
+                    SnapshotUtil.writeStrings(out, new ArrayList<String>(preprocessContext));
                 }
-                if (greater(maxHeapNonBlockingOccupancyEnd, jvmDao.getMaxHeapAfterGcNonBlocking())) {
-                    jvmDao.setMaxHeapAfterGcNonBlocking((int) (maxHeapNonBlockingOccupancyEnd.getValue(KILOBYTES)));
+                out.writeBoolean(preprocessed);
+                SnapshotUtil.writeEvent(out, priorBlockingEvent);
+                SnapshotUtil.writeEvent(out, priorLogEvent instanceof NullEvent ? null : priorLogEvent);
+                jvmDao.write(out);
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Preprocesses raw logging one line at a time. Preprocessing only ever appends to the most recent preprocessed
+     * line, so all preprocessed lines except the most recent one are final and can be handed to the consumer.
+     */
+    private class PreprocessIterator implements Iterator<String> {
+
+        /**
+         * Used to provide context for preprocessing decisions.
+         */
+        private Set<String> context;
+
+        /**
+         * The current log line.
+         */
+        private String currentLogLine;
+
+        /**
+         * The index of the current log line.
+         */
+        private long currentIndex;
+
+        /**
+         * Used for de-tangling intermingled logging events that span multiple lines.
+         */
+        private List<String> entangledLogLines = new ArrayList<String>();
+
+        /**
+         * Whether or not all raw logging has been preprocessed.
+         */
+        private boolean finished;
+
+        /**
+         * Raw logging buffered before preprocessing started.
+         */
+        private Iterator<String> lookahead;
+
+        /**
+         * The next log line.
+         */
+        private String nextLogLine;
+
+        /**
+         * Preprocessed logging not yet handed to the consumer. The last entry is still subject to change.
+         */
+        private Deque<PreprocessedLogLine> preprocessedLogLines = new ArrayDeque<PreprocessedLogLine>();
+
+        /**
+         * The prior preprocessed log entry.
+         */
+        private String priorLogEntry = Constants.LINE_SEPARATOR;
+
+        /**
+         * The number of raw log lines read.
+         */
+        private long rawLines;
+
+        /**
+         * The prior log event.
+         */
+        private LogEvent priorLogEvent = new NullEvent();
+
+        /**
+         * Raw logging not yet read.
+         */
+        private Iterator<String> remaining;
+
+        /**
+         * The index of the raw log line the last preprocessed log line starts with, set when all raw logging has been
+         * preprocessed, or <code>Long.MAX_VALUE</code> if not set. The last preprocessed log line may be an incomplete
+         * event continued in logging added later.
+         */
+        private long tailIndex = Long.MAX_VALUE;
+
+        private PreprocessIterator(Iterator<String> lookahead, Iterator<String> remaining, Set<String> context) {
+            this.lookahead = lookahead;
+            this.remaining = remaining;
+            this.context = context;
+            currentLogLine = read();
+            if (currentLogLine == null) {
+                finished = true;
+            } else {
+                nextLogLine = read();
+            }
+        }
+
+        /**
+         * Add a preprocessed log entry split into lines, skipping the first <code>start</code> lines.
+         */
+        private void add(String[] logLines, int start, ParsedLogLine parsedLogLine) {
+            for (int i = start; i < logLines.length; i++) {
+                if (logLines[i] != "") {
+                    add(logLines[i], parsedLogLine);
                 }
-                if (greater(((CombinedData) event).getCombinedSpace(), jvmDao.getMaxHeapNonBlocking())) {
-                    jvmDao.setMaxHeapNonBlocking((int) ((CombinedData) event).getCombinedSpace().getValue(KILOBYTES));
+            }
+        }
+
+        /**
+         * Add a preprocessed log line.
+         * 
+         * @param logLine
+         *            The preprocessed log line.
+         * @param parsedLogLine
+         *            The result of parsing the current log line, or null if not parsed.
+         */
+        private void add(String logLine, ParsedLogLine parsedLogLine) {
+            preprocessedLogLines.add(new PreprocessedLogLine(logLine,
+                    parsedLogLine != null && logLine.equals(currentLogLine) ? parsedLogLine : null, currentIndex));
+        }
+
+        /**
+         * Append to the last preprocessed log line.
+         * 
+         * @param logLine
+         *            The logging to append.
+         */
+        private void append(String logLine) {
+            PreprocessedLogLine last = preprocessedLogLines.pollLast();
+            preprocessedLogLines.add(new PreprocessedLogLine(last.logLine + logLine, null, last.rawIndex));
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!finished && preprocessedLogLines.size() < 2) {
+                step();
+            }
+            return !preprocessedLogLines.isEmpty();
+        }
+
+        @Override
+        public String next() {
+            return nextPreprocessed().logLine;
+        }
+
+        /**
+         * @return The next preprocessed log line.
+         */
+        private PreprocessedLogLine nextPreprocessed() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return preprocessedLogLines.poll();
+        }
+
+        /**
+         * @return The next raw log line, or null if there are no more.
+         */
+        private String read() {
+            if (lookahead.hasNext()) {
+                rawLines++;
+                return lookahead.next();
+            }
+            if (remaining.hasNext()) {
+                rawLines++;
+                return remaining.next();
+            }
+            return null;
+        }
+
+        /**
+         * Preprocess the current log line.
+         */
+        private void step() {
+            if (nextLogLine == null) {
+                stepLast();
+                return;
+            }
+            LogEvent currentEvent = JdkUtil.parseLogLine(currentLogLine, priorLogEvent, CollectorFamily.UNKNOWN);
+            ParsedLogLine parsedLogLine = new ParsedLogLine(currentEvent, priorLogEvent.getClass(),
+                    CollectorFamily.UNKNOWN);
+            String preprocessedLogLine = getPreprocessedLogEntry(currentLogLine, currentEvent, priorLogEvent,
+                    nextLogLine, jvmStartDate, entangledLogLines, context);
+            if (preprocessedLogLine == currentLogLine && context.contains(PreprocessAction.NEWLINE)
+                    && !priorLogEntry.endsWith(Constants.LINE_SEPARATOR)
+                    && preprocessedLogLine.indexOf(Constants.LINE_SEPARATOR) < 0) {
+                // Raw log line unchanged on its own line (the common case)
+                if (preprocessedLogLine != "") {
+                    add(preprocessedLogLine, parsedLogLine);
                 }
-                // Update perm/metaspace metrics
-                Memory maxClassSpaceNonBlockingOccupancyInit = ((ClassData) event).getClassOccupancyInit();
-                Memory maxClassSpaceNonBlockingOccupancyEnd = ((ClassData) event).getClassOccupancyEnd();
-                Memory maxClassSpaceNonBlockingOccupancy;
-                if (maxClassSpaceNonBlockingOccupancyInit != null && (maxClassSpaceNonBlockingOccupancyInit
-                        .equals(maxClassSpaceNonBlockingOccupancyEnd)
-                        || maxClassSpaceNonBlockingOccupancyInit.greaterThan(maxClassSpaceNonBlockingOccupancyEnd))) {
-                    maxClassSpaceNonBlockingOccupancy = maxClassSpaceNonBlockingOccupancyInit;
+                priorLogEntry = preprocessedLogLine;
+            } else if (preprocessedLogLine != null) {
+                String[] logLines = preprocessedLogLine.split(Constants.LINE_SEPARATOR);
+                if (context.contains(PreprocessAction.NEWLINE) && !priorLogEntry.endsWith(Constants.LINE_SEPARATOR)) {
+                    add(logLines, 0, parsedLogLine);
                 } else {
-                    maxClassSpaceNonBlockingOccupancy = maxClassSpaceNonBlockingOccupancyEnd;
-                }
-                if (greater(maxClassSpaceNonBlockingOccupancy, jvmDao.getMaxClassSpaceOccupancyNonBlocking())) {
-                    jvmDao.setMaxClassSpaceOccupancyNonBlocking(
-                            (int) (maxClassSpaceNonBlockingOccupancy.getValue(KILOBYTES)));
-                }
-                if (greater(maxClassSpaceNonBlockingOccupancyEnd, jvmDao.getMaxClassSpaceAfterGcNonBlocking())) {
-                    jvmDao.setMaxClassSpaceAfterGcNonBlocking(
-                            (int) (maxClassSpaceNonBlockingOccupancyEnd.getValue(KILOBYTES)));
-                }
-                if (greater(((ClassData) event).getClassSpace(), jvmDao.getMaxClassSpaceNonBlocking())) {
-                    jvmDao.setMaxClassSpaceNonBlocking((int) ((ClassData) event).getClassSpace().getValue(KILOBYTES));
-                }
-            } else if (event instanceof VmWarningEvent) {
-                jvmDao.setLogEndingUnidentified(false);
-                if (((VmWarningEvent) event).getErrNo().equals("12")) {
-                    if (!jvmDao.getAnalysis().contains(Analysis.ERROR_SHARED_MEMORY_12)) {
-                        jvmDao.addAnalysis(Analysis.ERROR_SHARED_MEMORY_12);
+                    if (preprocessedLogLines.isEmpty()) {
+                        add(preprocessedLogLine, parsedLogLine);
+                    } else {
+                        if (!priorLogEntry.endsWith(Constants.LINE_SEPARATOR)) {
+                            append(logLines[0]);
+                            add(logLines, 1, parsedLogLine);
+                        } else if (logLines.length > 1) {
+                            add(logLines, 0, parsedLogLine);
+                        }
                     }
                 }
-            } else if (event instanceof UnknownEvent) {
-                jvmDao.setLogEndingUnidentified(true);
-                if (jvmDao.getUnidentifiedLogLines().size() < Main.REJECT_LIMIT) {
-                    jvmDao.getUnidentifiedLogLines().add(logLine);
-                    // jvmDao.getUnidentifiedLogLines()
-                    // .add(logLine + "::" + priorLogEvent.getName() + "::" + priorLogEvent.getLogEntry());
-                }
+                priorLogEntry = preprocessedLogLine;
             }
-            // Populate events list.
-            if (!(event instanceof ThrowAwayEvent)) {
-                JdkUtil.EventType eventType = event.getEventType();
-                // Use collectorFamily to identify generic UNIFIED_(OLD|YOUNG)
-                if (event instanceof UnifiedYoungEvent) {
-                    switch (collectorFamily) {
-                    case G1:
-                        eventType = EventType.UNIFIED_G1_YOUNG_PAUSE;
-                        break;
-                    case PARALLEL:
-                        eventType = EventType.UNIFIED_PARALLEL_SCAVENGE;
-                        break;
-                    case SERIAL:
-                        eventType = EventType.UNIFIED_SERIAL_NEW;
-                        break;
-                    case CMS:
-                    case SHENANDOAH:
-                    case UNKNOWN:
-                    case Z:
-                    default:
-                        break;
-                    }
-                } else if (event instanceof UnifiedOldEvent) {
-                    switch (collectorFamily) {
-                    case G1:
-                        eventType = EventType.UNIFIED_G1_FULL_GC_PARALLEL;
-                        break;
-                    case PARALLEL:
-                        eventType = EventType.UNIFIED_PARALLEL_COMPACTING_OLD;
-                        break;
-                    case SERIAL:
-                        eventType = EventType.UNIFIED_SERIAL_OLD;
-                        break;
-                    case CMS:
-                    case SHENANDOAH:
-                    case UNKNOWN:
-                    case Z:
-                    default:
-                        break;
-                    }
-                }
-                if (!jvmDao.getEventTypes().contains(eventType)) {
-                    jvmDao.getEventTypes().add(eventType);
-                }
-            } else {
-                if (event instanceof ThreadDumpEvent) {
-                    jvmDao.addAnalysis(Analysis.INFO_THREAD_DUMP);
-                } else if (event instanceof ZStatsEvent) {
-                    jvmDao.addAnalysis(Analysis.INFO_Z_STATISTICS_INTERVAL);
-                }
+            // throw away blank lines
+            if (!(currentLogLine.matches(JdkRegEx.BLANK_LINE) || currentLogLine.matches(UnifiedRegEx.BLANK_LINE))) {
+                priorLogEvent = currentEvent;
             }
-            // Populate triggers list.
-            if (event instanceof TriggerData) {
-                if (!jvmDao.getGcTriggers().contains(((TriggerData) event).getTrigger())) {
-                    jvmDao.getGcTriggers().add(((TriggerData) event).getTrigger());
+            currentLogLine = nextLogLine;
+            currentIndex++;
+            nextLogLine = read();
+        }
+
+        /**
+         * Preprocess the last log line and output any remaining entangled log lines.
+         */
+        private void stepLast() {
+            tailIndex = preprocessedLogLines.isEmpty() ? currentIndex : preprocessedLogLines.peekLast().rawIndex;
+            lastLogLineUnprocessed = currentLogLine;
+            String preprocessedLogLine = getPreprocessedLogEntry(currentLogLine, priorLogEvent, nextLogLine,
+                    jvmStartDate, entangledLogLines, context);
+            if (preprocessedLogLine != null) {
+                String[] logLines = preprocessedLogLine.split(Constants.LINE_SEPARATOR);
+                if (context.contains(PreprocessAction.NEWLINE)) {
+                    // Output on new line
+                    add(logLines, 0, null);
+                } else {
+                    if (preprocessedLogLines.isEmpty()) {
+                        add(preprocessedLogLine, null);
+                    } else {
+                        // Add to prior line if prior line does not end with LINE_SEPARATOR
+                        if (!preprocessedLogLines.peekLast().logLine.endsWith(Constants.LINE_SEPARATOR)) {
+                            append(logLines[0]);
+                            add(logLines, 1, null);
+                        } else if (logLines.length > 1) {
+                            add(logLines, 0, null);
+                        }
+                    }
                 }
             }
-            // Populate collector list.
-            if (event instanceof GcEvent) {
-                if (!jvmDao.getJvmContext().getGarbageCollectors().contains(((GcEvent) event).getGarbageCollector())) {
-                    jvmDao.getJvmContext().getGarbageCollectors().add(((GcEvent) event).getGarbageCollector());
+
+            // output entangled log lines
+            if (!entangledLogLines.isEmpty()) {
+                for (String logLine : entangledLogLines) {
+                    add(logLine, null);
                 }
+                // Reset entangled log lines
+                entangledLogLines.clear();
             }
-            // Populate first log event with a valid timestamp
-            if (event instanceof LogEvent && event.getTimestamp() > 0 && jvmDao.getFirstLogEvent() == null) {
-                jvmDao.setFirstLogEvent(event);
-            }
-            // throw away blank lines
-            if (!(logLine.matches(JdkRegEx.BLANK_LINE) || logLine.matches(UnifiedRegEx.BLANK_LINE))) {
-                priorLogEvent = event;
-            }
+
+            preprocessed = true;
+            finished = true;
         }
     }
 }
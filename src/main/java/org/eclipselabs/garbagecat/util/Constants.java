@@ -31,6 +31,11 @@ public class Constants {
      */
     public static final int DEFAULT_BOTTLENECK_THROUGHPUT_THRESHOLD = 90;
 
+    /**
+     * The default sliding window lengths (seconds) for the worst GC and safepoint overhead (percent of time paused).
+     */
+    public static final String DEFAULT_OVERHEAD_WINDOWS = "1,10,60";
+
     /**
      * The threshold for the time (seconds) for the first log entry for a GC log to be considered complete. First log
      * entries with timestamps below the threshold may indicate a partial GC log or GC events that were not a
@@ -53,6 +58,46 @@ public class Constants {
      */
     public static final String LINE_SEPARATOR = System.getProperty("line.separator");
 
+    /**
+     * Batch (analyze many gc logs concurrently) command line long option.
+     */
+    public static final String OPTION_BATCH_LONG = "batch";
+
+    /**
+     * Batch (analyze many gc logs concurrently) command line short option.
+     */
+    public static final String OPTION_BATCH_SHORT = "b";
+
+    /**
+     * Compact (store events in primitive columns) command line long option.
+     */
+    public static final String OPTION_COMPACT_LONG = "compact";
+
+    /**
+     * Compact (store events in primitive columns) command line short option.
+     */
+    public static final String OPTION_COMPACT_SHORT = "C";
+
+    /**
+     * Follow (keep reading a growing log file) command line long option.
+     */
+    public static final String OPTION_FOLLOW_LONG = "follow";
+
+    /**
+     * Follow (keep reading a growing log file) command line short option.
+     */
+    public static final String OPTION_FOLLOW_SHORT = "f";
+
+    /**
+     * Report format command line long option.
+     */
+    public static final String OPTION_FORMAT_LONG = "format";
+
+    /**
+     * Report format command line short option.
+     */
+    public static final String OPTION_FORMAT_SHORT = "F";
+
     /**
      * Help command line long option.
      */
@@ -63,6 +108,16 @@ public class Constants {
      */
     public static final String OPTION_HELP_SHORT = "h";
 
+    /**
+     * HTTP (run a local analysis service) command line long option.
+     */
+    public static final String OPTION_HTTP_LONG = "http";
+
+    /**
+     * HTTP (run a local analysis service) command line short option.
+     */
+    public static final String OPTION_HTTP_SHORT = "H";
+
     /**
      * JVM options command line long option.
      */
@@ -83,6 +138,16 @@ public class Constants {
      */
     public static final String OPTION_OUTPUT_SHORT = "o";
 
+    /**
+     * Parallel (parse logging in parallel) command line long option.
+     */
+    public static final String OPTION_PARALLEL_LONG = "parallel";
+
+    /**
+     * Parallel (parse logging in parallel) command line short option.
+     */
+    public static final String OPTION_PARALLEL_SHORT = "P";
+
     /**
      * Preprocess command line long option.
      */
@@ -113,6 +178,16 @@ public class Constants {
      */
     public static final String OPTION_REPORT_CONSOLE_SHORT = "c";
 
+    /**
+     * Snapshot command line long option.
+     */
+    public static final String OPTION_SNAPSHOT_LONG = "snapshot";
+
+    /**
+     * Snapshot command line short option.
+     */
+    public static final String OPTION_SNAPSHOT_SHORT = "S";
+
     /**
      * JVM start datetime command line long option.
      */
@@ -143,11 +218,36 @@ public class Constants {
      */
     public static final String OPTION_VERBOSE_SHORT = "v";
 
+    /**
+     * Overhead windows command line long option.
+     */
+    public static final String OPTION_WINDOWS_LONG = "windows";
+
+    /**
+     * Overhead windows command line short option.
+     */
+    public static final String OPTION_WINDOWS_SHORT = "w";
+
     /**
      * Default output file name.
      */
     public static final String OUTPUT_FILE_NAME = "report.txt";
 
+    /**
+     * Report format: one "section,name,value" row per metric.
+     */
+    public static final String REPORT_FORMAT_CSV = "csv";
+
+    /**
+     * Report format: a JSON object.
+     */
+    public static final String REPORT_FORMAT_JSON = "json";
+
+    /**
+     * Report format: the human readable report (default).
+     */
+    public static final String REPORT_FORMAT_TEXT = "text";
+
     /**
      * Test data directory.
      */
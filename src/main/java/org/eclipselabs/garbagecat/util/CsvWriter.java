@@ -0,0 +1,159 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.util;
+
+import static org.eclipselabs.garbagecat.util.Constants.LINE_SEPARATOR;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * <p>
+ * Streaming CSV encoder. Each value is written as a "section,name,value" row when it is added, where the section is
+ * the dotted path of the enclosing objects and arrays, and array elements are named by their index. For example:
+ * </p>
+ * 
+ * <pre>
+ * section,name,value
+ * summary,gcEvents,1234
+ * safepoints.0,trigger,G1 Evacuation Pause
+ * </pre>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class CsvWriter implements ReportEncoder {
+
+    /**
+     * An open object or array.
+     */
+    private static class Section {
+
+        /**
+         * The index of the next array element, or -1 for an object.
+         */
+        private int index;
+
+        /**
+         * The dotted path.
+         */
+        private final String path;
+
+        /**
+         * @param path
+         *            The dotted path.
+         * @param array
+         *            Whether the section is an array.
+         */
+        private Section(String path, boolean array) {
+            this.path = path;
+            this.index = array ? 0 : -1;
+        }
+    }
+
+    /**
+     * @param s
+     *            The field.
+     * @return The field, quoted if it has a comma, quote or line break (RFC 4180).
+     */
+    public static String quote(String s) {
+        if (s == null) {
+            return "";
+        }
+        if (s.indexOf(',') < 0 && s.indexOf('"') < 0 && s.indexOf('\n') < 0 && s.indexOf('\r') < 0) {
+            return s;
+        }
+        return "\"" + s.replace("\"", "\"\"") + "\"";
+    }
+
+    /**
+     * The open objects and arrays, innermost first.
+     */
+    private final Deque<Section> sections = new ArrayDeque<Section>();
+
+    /**
+     * The CSV writer.
+     */
+    private final Writer writer;
+
+    /**
+     * @param writer
+     *            The CSV writer.
+     * @throws IOException
+     *             if the header cannot be written.
+     */
+    public CsvWriter(Writer writer) throws IOException {
+        this.writer = writer;
+        writer.write("section,name,value" + LINE_SEPARATOR);
+    }
+
+    @Override
+    public void beginArray(String name) throws IOException {
+        begin(name, true);
+    }
+
+    /**
+     * @param name
+     *            The section name, or <code>null</code> for the report or an array element.
+     * @param array
+     *            Whether the section is an array.
+     */
+    private void begin(String name, boolean array) {
+        String path;
+        if (sections.isEmpty()) {
+            path = name == null ? "" : name;
+        } else {
+            String parentPath = sections.peek().path;
+            String child = name(name);
+            path = parentPath.isEmpty() ? child : parentPath + "." + child;
+        }
+        sections.push(new Section(path, array));
+    }
+
+    @Override
+    public void beginObject(String name) throws IOException {
+        begin(name, false);
+    }
+
+    @Override
+    public void endArray() throws IOException {
+        sections.pop();
+    }
+
+    @Override
+    public void endObject() throws IOException {
+        sections.pop();
+    }
+
+    /**
+     * @param name
+     *            The name, or <code>null</code> for an array element.
+     * @return The name, or the index of the array element.
+     */
+    private String name(String name) {
+        Section section = sections.peek();
+        if (name == null && section != null && section.index >= 0) {
+            return Integer.toString(section.index++);
+        }
+        return name;
+    }
+
+    @Override
+    public void value(String name, Object value) throws IOException {
+        String path = sections.isEmpty() ? "" : sections.peek().path;
+        writer.write(quote(path) + "," + quote(name(name)) + "," + quote(value == null ? null : value.toString())
+                + LINE_SEPARATOR);
+    }
+}
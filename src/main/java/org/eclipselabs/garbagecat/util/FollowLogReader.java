@@ -0,0 +1,320 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.util;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Reads the lines of a log file that is still being written (e.g. the <code>gc.log</code> of a running JVM), like
+ * <code>tail -f</code>. {@link #hasNext()} waits for the next complete line until the reader is closed.
+ * </p>
+ * 
+ * <p>
+ * Rotation is followed. When the file is renamed and a new file created in its place (e.g. <code>-Xlog</code>
+ * <code>filecount</code> and <code>filesize</code> rotation), the rest of the renamed file is read and then the new file
+ * is read from the beginning. When the file is truncated in place, it is read again from the beginning.
+ * </p>
+ * 
+ * <p>
+ * An optional refresh action is run on the consumer thread (from {@link #hasNext()}) at a fixed interval, so the
+ * consumer can report on the lines read so far between lines.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class FollowLogReader implements Iterator<String>, Closeable {
+
+    /**
+     * The time to wait for the file to grow before checking again (milliseconds).
+     */
+    public static final long POLL_INTERVAL = 200;
+
+    /**
+     * Read buffer.
+     */
+    private final ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+
+    /**
+     * The file channel, or null if the file does not exist (e.g. between rotation and creating the new file).
+     */
+    private FileChannel channel;
+
+    /**
+     * Whether or not the reader is closed.
+     */
+    private volatile boolean closed;
+
+    /**
+     * The file key of the open file, used to identify rotation, or null if not supported by the file system.
+     */
+    private Object fileKey;
+
+    /**
+     * Line buffer.
+     */
+    private byte[] line = new byte[256];
+
+    /**
+     * Whether or not the line buffer is all ASCII.
+     */
+    private boolean lineAscii = true;
+
+    /**
+     * The number of bytes in the line buffer.
+     */
+    private int lineLength;
+
+    /**
+     * The time the refresh action is next run (<code>System.nanoTime()</code>).
+     */
+    private long nextRefresh;
+
+    /**
+     * The next line, or null if not read yet.
+     */
+    private String nextLine;
+
+    /**
+     * The file path.
+     */
+    private final Path path;
+
+    /**
+     * The refresh action, or null if none.
+     */
+    private final Runnable refresh;
+
+    /**
+     * The refresh interval (nanoseconds).
+     */
+    private final long refreshInterval;
+
+    /**
+     * @param path
+     *            The file path.
+     * @throws IOException
+     *             if the file cannot be opened.
+     */
+    public FollowLogReader(Path path) throws IOException {
+        this(path, null, 0);
+    }
+
+    /**
+     * @param path
+     *            The file path.
+     * @param refresh
+     *            The action to run at the refresh interval, or null if none.
+     * @param refreshInterval
+     *            The refresh interval (milliseconds).
+     * @throws IOException
+     *             if the file cannot be opened.
+     */
+    public FollowLogReader(Path path, Runnable refresh, long refreshInterval) throws IOException {
+        this.path = path;
+        this.refresh = refresh;
+        this.refreshInterval = TimeUnit.MILLISECONDS.toNanos(refreshInterval);
+        nextRefresh = System.nanoTime() + this.refreshInterval;
+        open();
+        if (channel == null) {
+            throw new NoSuchFileException(path.toString());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        synchronized (buffer) {
+            if (channel != null) {
+                channel.close();
+                channel = null;
+            }
+        }
+    }
+
+    /**
+     * @return The file key of the file at the path, or null if there is no file or file keys are not supported.
+     */
+    private Object getFileKey() {
+        try {
+            return Files.readAttributes(path, BasicFileAttributes.class).fileKey();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        refresh();
+        while (nextLine == null && !closed) {
+            try {
+                synchronized (buffer) {
+                    if (!closed) {
+                        nextLine = readLine();
+                    }
+                }
+                if (nextLine == null && !closed) {
+                    Thread.sleep(POLL_INTERVAL);
+                    refresh();
+                }
+            } catch (IOException e) {
+                if (closed) {
+                    break;
+                }
+                throw new UncheckedIOException(e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                closed = true;
+            }
+        }
+        return nextLine != null;
+    }
+
+    /**
+     * @return The line buffer as a <code>String</code>, and clear the line buffer.
+     */
+    private String line() {
+        int length = lineLength;
+        // carriage return followed by line feed
+        if (length > 0 && line[length - 1] == '\r') {
+            length--;
+        }
+        String s = new String(line, 0, length, lineAscii ? ISO_8859_1 : UTF_8);
+        lineLength = 0;
+        lineAscii = true;
+        return s;
+    }
+
+    @Override
+    public String next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        String s = nextLine;
+        nextLine = null;
+        return s;
+    }
+
+    /**
+     * Open the file at the path from the beginning, if it exists.
+     * 
+     * @throws IOException
+     *             if the file cannot be opened.
+     */
+    private void open() throws IOException {
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.READ);
+            fileKey = getFileKey();
+        } catch (NoSuchFileException e) {
+            channel = null;
+        }
+        buffer.clear().flip();
+    }
+
+    /**
+     * @return The next complete line, or null if there is none yet.
+     * @throws IOException
+     *             if the file cannot be read.
+     */
+    private String readLine() throws IOException {
+        if (channel == null) {
+            open();
+            if (channel == null) {
+                return null;
+            }
+        }
+        boolean rotated = false;
+        while (true) {
+            while (buffer.hasRemaining()) {
+                byte b = buffer.get();
+                if (b == '\n') {
+                    return line();
+                }
+                if (lineLength == line.length) {
+                    line = Arrays.copyOf(line, line.length * 2);
+                }
+                line[lineLength++] = b;
+                lineAscii &= b >= 0;
+            }
+            buffer.clear();
+            int read = channel.read(buffer);
+            buffer.flip();
+            if (read > 0) {
+                continue;
+            }
+            // No new data: check for rotation or truncation
+            if (fileKey != null && !fileKey.equals(getFileKey())) {
+                if (!rotated) {
+                    // Read anything written to the renamed file before it was renamed
+                    rotated = true;
+                    continue;
+                }
+                String last = lineLength > 0 ? line() : null;
+                channel.close();
+                open();
+                if (last != null) {
+                    return last;
+                }
+                if (channel == null) {
+                    return null;
+                }
+                rotated = false;
+            } else if (size() < channel.position()) {
+                // Truncated
+                lineLength = 0;
+                lineAscii = true;
+                channel.position(0);
+            } else {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Run the refresh action if the refresh interval has elapsed.
+     */
+    private void refresh() {
+        if (refresh != null && System.nanoTime() - nextRefresh >= 0) {
+            refresh.run();
+            nextRefresh = System.nanoTime() + refreshInterval;
+        }
+    }
+
+    /**
+     * @return The size of the file at the path, or <code>Long.MAX_VALUE</code> if there is no file.
+     */
+    private long size() {
+        try {
+            return Files.size(path);
+        } catch (IOException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+}
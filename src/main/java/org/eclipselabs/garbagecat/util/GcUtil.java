@@ -34,6 +34,13 @@ public final class GcUtil {
      */
     public static final Date JVM_START_DATE = parseDateStamp("2000-01-01T00:00:00.000-0500");
 
+    /**
+     * The last day parsed by {@link #parseDateStampMillis(CharSequence, int)}: the date and zone offset digits as a
+     * key, and the epoch milliseconds at the start of the day in that zone. Datestamps in a log are mostly on the same
+     * day, so the date is only converted once a day.
+     */
+    private static volatile long[] lastDateStampDay = { -1, 0 };
+
     /**
      * Calculate the number of milliseconds between two dates.
      * 
@@ -236,6 +243,55 @@ public final class GcUtil {
         }
     }
 
+    /**
+     * Convert a datestamp to epoch milliseconds without allocating (e.g. no <code>SimpleDateFormat</code>).
+     * 
+     * @param datestamp
+     *            The text with a datestamp in <code>JdkRegEx.DATESTAMP</code> format (e.g.
+     *            2010-02-26T09:32:12.486-0600).
+     * @param start
+     *            The index of the datestamp in the text.
+     * @return The datestamp in epoch milliseconds, or {@link Long#MIN_VALUE} if there is no datestamp at the index.
+     */
+    public static long parseDateStampMillis(CharSequence datestamp, int start) {
+        if (datestamp.length() < start + 28 || datestamp.charAt(start + 4) != '-' || datestamp.charAt(start + 7) != '-'
+                || datestamp.charAt(start + 10) != 'T' || datestamp.charAt(start + 13) != ':'
+                || datestamp.charAt(start + 16) != ':' || datestamp.charAt(start + 19) != '.'
+                || (datestamp.charAt(start + 23) != '-' && datestamp.charAt(start + 23) != '+')) {
+            return Long.MIN_VALUE;
+        }
+        int year = parseDigits(datestamp, start, 4);
+        int month = parseDigits(datestamp, start + 5, 2);
+        int day = parseDigits(datestamp, start + 8, 2);
+        int hour = parseDigits(datestamp, start + 11, 2);
+        int minute = parseDigits(datestamp, start + 14, 2);
+        int second = parseDigits(datestamp, start + 17, 2);
+        int millis = parseDigits(datestamp, start + 20, 3);
+        int zoneHours = parseDigits(datestamp, start + 24, 2);
+        int zoneMinutes = parseDigits(datestamp, start + 26, 2);
+        if (year < 0 || month < 1 || month > 12 || day < 1 || hour < 0 || minute < 0 || second < 0 || millis < 0
+                || zoneHours < 0 || zoneMinutes < 0) {
+            return Long.MIN_VALUE;
+        }
+        boolean zoneMinus = datestamp.charAt(start + 23) == '-';
+        long key = ((year * 100L + month) * 100 + day) * 100000 + (zoneMinus ? 10000 : 0) + zoneHours * 100
+                + zoneMinutes;
+        long[] dateStampDay = lastDateStampDay;
+        if (dateStampDay[0] != key) {
+            // Days from 1970-01-01 in the proleptic Gregorian calendar
+            long y = month <= 2 ? year - 1 : year;
+            long era = y / 400;
+            long yearOfEra = y - era * 400;
+            long dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+            long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+            long epochDay = era * 146097 + dayOfEra - 719468;
+            long zoneOffset = (zoneHours * 60L + zoneMinutes) * 60000 * (zoneMinus ? -1 : 1);
+            dateStampDay = new long[] { key, epochDay * 86400000 - zoneOffset };
+            lastDateStampDay = dateStampDay;
+        }
+        return dateStampDay[1] + hour * 3600000L + minute * 60000L + second * 1000L + millis;
+    }
+
     /**
      * Convert datetime <code>String</code> to a <code>Date</code>.
      * 
@@ -251,6 +307,27 @@ public final class GcUtil {
         }
     }
 
+    /**
+     * @param text
+     *            The text.
+     * @param start
+     *            The index of the first digit.
+     * @param count
+     *            The number of digits.
+     * @return The number, or -1 if the characters are not all digits.
+     */
+    private static int parseDigits(CharSequence text, int start, int count) {
+        int number = 0;
+        for (int i = start; i < start + count; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            number = number * 10 + (c - '0');
+        }
+        return number;
+    }
+
     /**
      * Convert startdatetime <code>String</code> to a <code>Date</code>.
      * 
@@ -0,0 +1,146 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.util;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * <p>
+ * Streaming JSON encoder. Each member is written when it is added, so only whether the open objects and arrays have a
+ * member yet is kept.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class JsonWriter implements ReportEncoder {
+
+    /**
+     * @param s
+     *            The string.
+     * @return The JSON string literal, or <code>null</code>.
+     */
+    public static String quote(String s) {
+        if (s == null) {
+            return "null";
+        }
+        StringBuilder json = new StringBuilder(s.length() + 2).append('"');
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            switch (c) {
+            case '"':
+                json.append("\\\"");
+                break;
+            case '\\':
+                json.append("\\\\");
+                break;
+            case '\n':
+                json.append("\\n");
+                break;
+            case '\r':
+                json.append("\\r");
+                break;
+            case '\t':
+                json.append("\\t");
+                break;
+            default:
+                if (c < 0x20) {
+                    json.append(String.format("\\u%04x", (int) c));
+                } else {
+                    json.append(c);
+                }
+            }
+        }
+        return json.append('"').toString();
+    }
+
+    /**
+     * Whether each open object or array is still empty, innermost first.
+     */
+    private final Deque<Boolean> empty = new ArrayDeque<Boolean>();
+
+    /**
+     * The JSON writer.
+     */
+    private final Writer writer;
+
+    /**
+     * @param writer
+     *            The JSON writer.
+     */
+    public JsonWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    @Override
+    public void beginArray(String name) throws IOException {
+        member(name);
+        writer.write('[');
+        empty.push(Boolean.TRUE);
+    }
+
+    @Override
+    public void beginObject(String name) throws IOException {
+        member(name);
+        writer.write('{');
+        empty.push(Boolean.TRUE);
+    }
+
+    @Override
+    public void endArray() throws IOException {
+        empty.pop();
+        writer.write(']');
+    }
+
+    @Override
+    public void endObject() throws IOException {
+        empty.pop();
+        writer.write('}');
+    }
+
+    /**
+     * Write the separator from the previous member, and the name.
+     * 
+     * @param name
+     *            The member name, or <code>null</code> for an array element.
+     * @throws IOException
+     *             if the member cannot be written.
+     */
+    private void member(String name) throws IOException {
+        if (!empty.isEmpty()) {
+            if (empty.peek()) {
+                empty.pop();
+                empty.push(Boolean.FALSE);
+            } else {
+                writer.write(',');
+            }
+        }
+        if (name != null) {
+            writer.write(quote(name));
+            writer.write(':');
+        }
+    }
+
+    @Override
+    public void value(String name, Object value) throws IOException {
+        member(name);
+        if (value == null || value instanceof Number || value instanceof Boolean) {
+            writer.write(String.valueOf(value));
+        } else {
+            writer.write(quote(value.toString()));
+        }
+    }
+}
@@ -0,0 +1,207 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.util;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * <p>
+ * Reads the lines of a file from a memory mapped region of the file, scanning the mapped bytes for line terminators
+ * and creating each line <code>String</code> directly from the mapped bytes. Lines that are all ASCII (most GC
+ * logging) are created without character decoding.
+ * </p>
+ * 
+ * <p>
+ * Line terminators are the same as {@link java.io.BufferedReader#readLine()}: line feed, carriage return, or carriage
+ * return followed by line feed. Lines are decoded as UTF-8.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class MappedLineReader implements Iterator<String>, Closeable {
+
+    /**
+     * The default maximum size of the mapped region of the file (bytes).
+     */
+    public static final int REGION_SIZE = 64 * 1024 * 1024;
+
+    /**
+     * Line buffer.
+     */
+    private byte[] bytes = new byte[256];
+
+    /**
+     * The file channel.
+     */
+    private final FileChannel channel;
+
+    /**
+     * The next line, or null if not read yet.
+     */
+    private String nextLine;
+
+    /**
+     * The mapped region of the file.
+     */
+    private MappedByteBuffer region;
+
+    /**
+     * The position in the file of the start of the mapped region.
+     */
+    private long regionPosition;
+
+    /**
+     * The maximum size of the mapped region of the file (bytes).
+     */
+    private final int regionSize;
+
+    /**
+     * The file size (bytes).
+     */
+    private final long size;
+
+    /**
+     * @param path
+     *            The file path.
+     * @throws IOException
+     *             if the file cannot be opened.
+     */
+    public MappedLineReader(Path path) throws IOException {
+        this(path, REGION_SIZE);
+    }
+
+    /**
+     * @param path
+     *            The file path.
+     * @param regionSize
+     *            The maximum size of the mapped region of the file (bytes).
+     * @throws IOException
+     *             if the file cannot be opened.
+     */
+    MappedLineReader(Path path, int regionSize) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.size = channel.size();
+        this.regionSize = regionSize;
+    }
+
+    @Override
+    public void close() throws IOException {
+        region = null;
+        channel.close();
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (nextLine == null) {
+            try {
+                nextLine = readLine();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return nextLine != null;
+    }
+
+    /**
+     * Map the region of the file starting at the given position.
+     * 
+     * @param position
+     *            The position in the file.
+     * @throws IOException
+     *             if the file cannot be mapped.
+     */
+    private void map(long position) throws IOException {
+        regionPosition = position;
+        region = channel.map(MapMode.READ_ONLY, position, Math.min(regionSize, size - position));
+    }
+
+    @Override
+    public String next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        String line = nextLine;
+        nextLine = null;
+        return line;
+    }
+
+    /**
+     * @return The next line, or null at the end of the file.
+     * @throws IOException
+     *             if the file cannot be mapped.
+     */
+    private String readLine() throws IOException {
+        if (region == null) {
+            if (size == 0) {
+                return null;
+            }
+            map(0);
+        }
+        if (!region.hasRemaining() && regionPosition + region.limit() >= size) {
+            return null;
+        }
+        int length = 0;
+        boolean ascii = true;
+        while (true) {
+            if (!region.hasRemaining()) {
+                if (regionPosition + region.limit() >= size) {
+                    // last line without terminator
+                    break;
+                }
+                map(regionPosition + region.limit());
+            }
+            int start = region.position();
+            int limit = region.limit();
+            int i = start;
+            byte b = 0;
+            while (i < limit && (b = region.get(i)) != '\n' && b != '\r') {
+                ascii &= b >= 0;
+                i++;
+            }
+            int count = i - start;
+            if (length + count > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + count));
+            }
+            region.get(bytes, length, count);
+            length += count;
+            if (i < limit) {
+                region.get();
+                // carriage return followed by line feed
+                if (b == '\r') {
+                    if (!region.hasRemaining() && regionPosition + region.limit() < size) {
+                        map(regionPosition + region.limit());
+                    }
+                    if (region.hasRemaining() && region.get(region.position()) == '\n') {
+                        region.get();
+                    }
+                }
+                break;
+            }
+        }
+        return new String(bytes, 0, length, ascii ? ISO_8859_1 : UTF_8);
+    }
+}
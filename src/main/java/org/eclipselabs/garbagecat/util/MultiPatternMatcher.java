@@ -0,0 +1,735 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * <p>
+ * Matches input against an ordered set of patterns, only trying the patterns that can possibly match.
+ * </p>
+ * 
+ * <p>
+ * Each pattern is analyzed for literal keywords, at least one of which must be in any input the pattern matches. For
+ * example, the keywords for <code>^DECORATOR Pause (Cleanup|Init Update Refs)$</code> are <code>" Pause Cleanup"</code>
+ * and <code>" Pause Init Update Refs"</code>. The keywords of all patterns are combined into one Aho-Corasick
+ * automaton, so the input is scanned once to find the candidate patterns. Patterns without keywords (e.g. case
+ * insensitive patterns) are always candidates.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class MultiPatternMatcher {
+
+    /**
+     * The literal keywords of a regular expression element.
+     */
+    private static class Literals {
+
+        /**
+         * The literals the element always matches one of, or null if not a small set of literals.
+         */
+        private final Set<String> exact;
+
+        /**
+         * Literals, at least one of which is in any match of the element, or null if none.
+         */
+        private final Set<String> required;
+
+        private Literals(Set<String> exact, Set<String> required) {
+            this.exact = exact;
+            this.required = required;
+        }
+    }
+
+    /**
+     * A regular expression construct not analyzed for literals.
+     */
+    private static class UnsupportedException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+    }
+
+    /**
+     * The maximum number of literals an element is expanded to (e.g. <code>(Eden|Survivor|Old) regions: </code> is
+     * expanded to <code>Eden regions: </code>, <code>Survivor regions: </code>, and <code>Old regions: </code>).
+     */
+    private static final int ALTERNATIVES_MAX = 16;
+
+    /**
+     * The minimum length of a group whose literals are remembered, so a group common to many patterns (e.g. the
+     * unified logging decorator) is only analyzed once.
+     */
+    private static final int GROUP_LENGTH_MIN = 64;
+
+    /**
+     * The maximum keyword length. Any part of a required literal is also required, so longer literals are truncated to
+     * limit the automaton size.
+     */
+    private static final int KEYWORD_LENGTH_MAX = 16;
+
+    /**
+     * Regular expression characters with special meaning.
+     */
+    private static final String METACHARACTERS = "\\[](){}.*+?^$|";
+
+    /**
+     * Regular expression quantifier characters.
+     */
+    private static final String QUANTIFIERS = "*+?{";
+
+    /**
+     * The literals of an empty sequence.
+     */
+    private static final Set<String> EMPTY = Collections.singleton("");
+
+    /**
+     * Literals with no keywords.
+     */
+    private static final Literals NONE = new Literals(null, null);
+
+    /**
+     * @param literals
+     *            Candidate keyword sets.
+     * @return The candidate keyword set that is the most selective (the longest shortest keyword, then the fewest
+     *         keywords), or null if none.
+     */
+    private static Set<String> best(List<Set<String>> literals) {
+        Set<String> best = null;
+        int bestLength = 0;
+        for (Set<String> candidate : literals) {
+            int length = Integer.MAX_VALUE;
+            for (String literal : candidate) {
+                length = Math.min(length, literal.length());
+            }
+            if (length > bestLength || (length == bestLength && best != null && candidate.size() < best.size())) {
+                best = candidate;
+                bestLength = length;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * @param regex
+     *            The regular expression.
+     * @param start
+     *            The position after the opening parenthesis of a group.
+     * @return The position after the closing parenthesis of the group, or the end of the regular expression if not
+     *         closed.
+     */
+    private static int getGroupEnd(String regex, int start) {
+        int depth = 1;
+        int i = start;
+        while (i < regex.length() && depth > 0) {
+            char c = regex.charAt(i++);
+            if (c == '\\') {
+                if (i < regex.length() && regex.charAt(i) == 'Q') {
+                    int end = regex.indexOf("\\E", i);
+                    i = end < 0 ? regex.length() : end + 2;
+                } else {
+                    i++;
+                }
+            } else if (c == '[') {
+                // a closing bracket first is a literal
+                if (i < regex.length() && regex.charAt(i) == '^') {
+                    i++;
+                }
+                if (i < regex.length() && regex.charAt(i) == ']') {
+                    i++;
+                }
+                int classDepth = 1;
+                while (i < regex.length() && classDepth > 0) {
+                    char d = regex.charAt(i++);
+                    if (d == '\\') {
+                        i++;
+                    } else if (d == '[') {
+                        classDepth++;
+                    } else if (d == ']') {
+                        classDepth--;
+                    }
+                }
+            } else if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            }
+        }
+        return Math.min(i, regex.length());
+    }
+
+    /**
+     * @param regex
+     *            A regular expression.
+     * @return Literal keywords, at least one of which is in any input the regular expression matches, or an empty set
+     *         if none.
+     */
+    static Set<String> getKeywords(String regex) {
+        return getKeywords(regex, new HashMap<String, Literals>());
+    }
+
+    /**
+     * @param regex
+     *            A regular expression.
+     * @param groups
+     *            The literals of the groups already analyzed, by group.
+     * @return Literal keywords, at least one of which is in any input the regular expression matches, or an empty set
+     *         if none.
+     */
+    private static Set<String> getKeywords(String regex, Map<String, Literals> groups) {
+        Set<String> keywords = new LinkedHashSet<String>();
+        try {
+            int[] position = { 0 };
+            Literals literals = parseAlternation(regex, position, groups);
+            if (position[0] == regex.length() && literals.required != null) {
+                for (String literal : literals.required) {
+                    keywords.add(literal.length() > KEYWORD_LENGTH_MAX ? literal.substring(0, KEYWORD_LENGTH_MAX)
+                            : literal);
+                }
+            }
+        } catch (UnsupportedException | IndexOutOfBoundsException e) {
+            keywords.clear();
+        }
+        return keywords;
+    }
+
+    /**
+     * @param regex
+     *            The regular expression.
+     * @param start
+     *            A position in the regular expression.
+     * @return The position after the plain characters starting at the position, not including a character followed by
+     *         a quantifier.
+     */
+    private static int getLiteralEnd(String regex, int start) {
+        int i = start;
+        while (i < regex.length() && METACHARACTERS.indexOf(regex.charAt(i)) < 0
+                && (i + 1 == regex.length() || QUANTIFIERS.indexOf(regex.charAt(i + 1)) < 0)) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * @param regex
+     *            The regular expression.
+     * @param position
+     *            The position of the alternation, updated to the position after it.
+     * @param groups
+     *            The literals of the groups already analyzed, by group.
+     * @return The literals of the alternation.
+     */
+    private static Literals parseAlternation(String regex, int[] position, Map<String, Literals> groups) {
+        List<Literals> branches = new ArrayList<Literals>();
+        branches.add(parseSequence(regex, position, groups));
+        while (position[0] < regex.length() && regex.charAt(position[0]) == '|') {
+            position[0]++;
+            branches.add(parseSequence(regex, position, groups));
+        }
+        if (branches.size() == 1) {
+            return branches.get(0);
+        }
+        Set<String> exact = new LinkedHashSet<String>();
+        Set<String> required = new LinkedHashSet<String>();
+        for (Literals branch : branches) {
+            if (exact != null && branch.exact != null && exact.size() + branch.exact.size() <= ALTERNATIVES_MAX) {
+                exact.addAll(branch.exact);
+            } else {
+                exact = null;
+            }
+            if (required != null && branch.required != null) {
+                required.addAll(branch.required);
+            } else {
+                required = null;
+            }
+        }
+        return exact != null ? new Literals(exact, required(exact)) : new Literals(null, required);
+    }
+
+    /**
+     * @param regex
+     *            The regular expression.
+     * @param position
+     *            The position of the atom, updated to the position after it.
+     * @param groups
+     *            The literals of the groups already analyzed, by group.
+     * @return The literals of the atom.
+     */
+    private static Literals parseAtom(String regex, int[] position, Map<String, Literals> groups) {
+        char c = regex.charAt(position[0]++);
+        switch (c) {
+        case '(':
+            int end = getGroupEnd(regex, position[0]);
+            if (end - position[0] < GROUP_LENGTH_MIN) {
+                return parseGroup(regex, position, groups);
+            }
+            String group = regex.substring(position[0] - 1, end);
+            Literals literals = groups.get(group);
+            if (literals == null) {
+                literals = parseGroup(regex, position, groups);
+                groups.put(group, literals);
+            } else {
+                position[0] = end;
+            }
+            return literals;
+        case '[':
+            return parseClass(regex, position);
+        case '\\':
+            return parseEscape(regex, position);
+        case '.':
+        case '^':
+        case '$':
+            return NONE;
+        case ')':
+        case '|':
+        case '*':
+        case '+':
+        case '?':
+        case '{':
+            throw new UnsupportedException();
+        default:
+            return literal(String.valueOf(c));
+        }
+    }
+
+    /**
+     * @param regex
+     *            The regular expression.
+     * @param position
+     *            The position after the opening bracket, updated to the position after the closing bracket.
+     * @return The literals of the character class: the character if the class is a single literal character (e.g.
+     *         <code>[ ]</code>), otherwise none.
+     */
+    private static Literals parseClass(String regex, int[] position) {
+        int start = position[0];
+        int depth = 1;
+        if (regex.charAt(position[0]) == '^') {
+            position[0]++;
+        }
+        // a closing bracket first is a literal
+        if (regex.charAt(position[0]) == ']') {
+            position[0]++;
+        }
+        while (depth > 0) {
+            char c = regex.charAt(position[0]++);
+            if (c == '\\') {
+                position[0]++;
+            } else if (c == '[') {
+                depth++;
+            } else if (c == ']') {
+                depth--;
+            }
+        }
+        String content = regex.substring(start, position[0] - 1);
+        if (content.length() == 1 && content.charAt(0) != '^' && content.charAt(0) != '\\') {
+            return literal(content);
+        } else if (content.length() == 2 && content.charAt(0) == '\\'
+                && METACHARACTERS.indexOf(content.charAt(1)) >= 0) {
+            return literal(content.substring(1));
+        }
+        return NONE;
+    }
+
+    /**
+     * @param regex
+     *            The regular expression.
+     * @param position
+     *            The position after the backslash, updated to the position after the escape.
+     * @return The literals of the escape.
+     */
+    private static Literals parseEscape(String regex, int[] position) {
+        char c = regex.charAt(position[0]++);
+        if (c == 'Q') {
+            int end = regex.indexOf("\\E", position[0]);
+            if (end < 0) {
+                end = regex.length();
+            }
+            String quoted = regex.substring(position[0], end);
+            position[0] = Math.min(end + 2, regex.length());
+            return quoted.isEmpty() ? NONE : literal(quoted);
+        } else if (c == 't') {
+            return literal("\t");
+        } else if (c == 'n') {
+            return literal("\n");
+        } else if (c == 'r') {
+            return literal("\r");
+        } else if (c == 'p' || c == 'P') {
+            if (regex.charAt(position[0]) == '{') {
+                position[0] = regex.indexOf('}', position[0]) + 1;
+            } else {
+                position[0]++;
+            }
+            return NONE;
+        } else if (c == 'k' || c == 'x' || c == 'u' || c == 'c' || c == '0') {
+            throw new UnsupportedException();
+        } else if (Character.isLetterOrDigit(c)) {
+            // character classes, boundaries, back references
+            if (Character.isDigit(c)) {
+                while (position[0] < regex.length() && Character.isDigit(regex.charAt(position[0]))) {
+                    position[0]++;
+                }
+            }
+            return NONE;
+        } else {
+            return literal(String.valueOf(c));
+        }
+    }
+
+    /**
+     * @param regex
+     *            The regular expression.
+     * @param position
+     *            The position after the opening parenthesis, updated to the position after the closing parenthesis.
+     * @param groups
+     *            The literals of the groups already analyzed, by group.
+     * @return The literals of the group.
+     */
+    private static Literals parseGroup(String regex, int[] position, Map<String, Literals> groups) {
+        if (regex.charAt(position[0]) == '?') {
+            char type = regex.charAt(position[0] + 1);
+            if (type == ':') {
+                position[0] += 2;
+            } else if (type == '<' && Character.isLetter(regex.charAt(position[0] + 2))) {
+                // named group
+                position[0] = regex.indexOf('>', position[0]) + 1;
+            } else if (type == '=' || type == '!' || type == '<') {
+                // lookaround
+                position[0] += type == '<' ? 3 : 2;
+                parseAlternation(regex, position, groups);
+                expect(regex, position, ')');
+                return NONE;
+            } else {
+                // flags, atomic groups
+                throw new UnsupportedException();
+            }
+        }
+        Literals group = parseAlternation(regex, position, groups);
+        expect(regex, position, ')');
+        return group;
+    }
+
+    /**
+     * @param regex
+     *            The regular expression.
+     * @param position
+     *            The position of the quantifier, if any, updated to the position after it.
+     * @return The minimum number of repetitions, or -1 if there is no quantifier.
+     */
+    private static int parseQuantifier(String regex, int[] position) {
+        if (position[0] >= regex.length()) {
+            return -1;
+        }
+        int min;
+        char c = regex.charAt(position[0]);
+        if (c == '?' || c == '*') {
+            min = 0;
+            position[0]++;
+        } else if (c == '+') {
+            min = 1;
+            position[0]++;
+        } else if (c == '{') {
+            int end = regex.indexOf('}', position[0]);
+            String bounds = regex.substring(position[0] + 1, end);
+            int comma = bounds.indexOf(',');
+            try {
+                min = Integer.parseInt(comma < 0 ? bounds : bounds.substring(0, comma));
+            } catch (NumberFormatException e) {
+                throw new UnsupportedException();
+            }
+            position[0] = end + 1;
+        } else {
+            return -1;
+        }
+        // lazy or possessive
+        if (position[0] < regex.length() && (regex.charAt(position[0]) == '?' || regex.charAt(position[0]) == '+')) {
+            position[0]++;
+        }
+        return min;
+    }
+
+    /**
+     * @param regex
+     *            The regular expression.
+     * @param position
+     *            The position of the sequence, updated to the position after it.
+     * @param groups
+     *            The literals of the groups already analyzed, by group.
+     * @return The literals of the sequence.
+     */
+    private static Literals parseSequence(String regex, int[] position, Map<String, Literals> groups) {
+        List<Set<String>> candidates = new ArrayList<Set<String>>();
+        Set<String> run = EMPTY;
+        boolean exact = true;
+        while (position[0] < regex.length() && regex.charAt(position[0]) != '|' && regex.charAt(position[0]) != ')') {
+            Literals atom;
+            int min;
+            int literalEnd = getLiteralEnd(regex, position[0]);
+            if (literalEnd > position[0] + 1) {
+                // plain characters, the same as one character at a time
+                atom = literal(regex.substring(position[0], literalEnd));
+                min = -1;
+                position[0] = literalEnd;
+            } else {
+                atom = parseAtom(regex, position, groups);
+                min = parseQuantifier(regex, position);
+            }
+            if (atom.exact != null && min != 0 && run.size() * atom.exact.size() <= ALTERNATIVES_MAX) {
+                // the first repetition follows the run
+                Set<String> concatenated = new LinkedHashSet<String>();
+                for (String prefix : run) {
+                    for (String suffix : atom.exact) {
+                        concatenated.add(prefix + suffix);
+                    }
+                }
+                run = concatenated;
+                if (min > 0) {
+                    exact = false;
+                    addCandidate(candidates, run);
+                    run = EMPTY;
+                }
+            } else {
+                exact = false;
+                addCandidate(candidates, run);
+                run = EMPTY;
+                if (atom.required != null && min != 0) {
+                    candidates.add(atom.required);
+                }
+            }
+        }
+        if (exact) {
+            return new Literals(run, required(run));
+        }
+        addCandidate(candidates, run);
+        return new Literals(null, best(candidates));
+    }
+
+    /**
+     * @param candidates
+     *            Candidate keyword sets.
+     * @param literals
+     *            Literals, added if none are empty.
+     */
+    private static void addCandidate(List<Set<String>> candidates, Set<String> literals) {
+        Set<String> required = required(literals);
+        if (required != null) {
+            candidates.add(required);
+        }
+    }
+
+    /**
+     * @param regex
+     *            The regular expression.
+     * @param position
+     *            The position, updated to the position after the character.
+     * @param c
+     *            The expected character.
+     */
+    private static void expect(String regex, int[] position, char c) {
+        if (regex.charAt(position[0]++) != c) {
+            throw new UnsupportedException();
+        }
+    }
+
+    /**
+     * @param literal
+     *            A literal.
+     * @return The literals of an element that always matches the literal.
+     */
+    private static Literals literal(String literal) {
+        return new Literals(Collections.singleton(literal), Collections.singleton(literal));
+    }
+
+    /**
+     * @param literals
+     *            Literals.
+     * @return The literals, or null if one is empty.
+     */
+    private static Set<String> required(Set<String> literals) {
+        return literals.contains("") ? null : literals;
+    }
+
+    /**
+     * Character class (index into the transition table) by character, or 0 for characters not in any keyword.
+     */
+    private final int[] alphabet = new int[128];
+
+    /**
+     * The number of character classes.
+     */
+    private int alphabetSize = 1;
+
+    /**
+     * Patterns that are always candidates.
+     */
+    private final BitSet always = new BitSet();
+
+    /**
+     * The patterns with a keyword ending at each automaton state, or null if none.
+     */
+    private int[][] outputs;
+
+    /**
+     * The patterns, in order.
+     */
+    private final Pattern[] patterns;
+
+    /**
+     * Automaton state transitions: <code>transitions[state * alphabetSize + alphabet[c]]</code>.
+     */
+    private int[] transitions;
+
+    /**
+     * @param patterns
+     *            The patterns, in order.
+     */
+    public MultiPatternMatcher(List<Pattern> patterns) {
+        this.patterns = patterns.toArray(new Pattern[patterns.size()]);
+        // trie
+        List<Map<Integer, Integer>> children = new ArrayList<Map<Integer, Integer>>();
+        List<BitSet> keywordPatterns = new ArrayList<BitSet>();
+        children.add(new HashMap<Integer, Integer>());
+        keywordPatterns.add(new BitSet());
+        Map<String, Literals> groups = new HashMap<String, Literals>();
+        for (int i = 0; i < this.patterns.length; i++) {
+            Set<String> keywords = this.patterns[i].flags() == 0 ? getKeywords(this.patterns[i].pattern(), groups)
+                    : Collections.<String> emptySet();
+            boolean ascii = true;
+            for (String keyword : keywords) {
+                for (int j = 0; j < keyword.length(); j++) {
+                    ascii &= keyword.charAt(j) < alphabet.length;
+                }
+            }
+            if (keywords.isEmpty() || !ascii) {
+                always.set(i);
+                continue;
+            }
+            for (String keyword : keywords) {
+                int state = 0;
+                for (int j = 0; j < keyword.length(); j++) {
+                    char c = keyword.charAt(j);
+                    if (alphabet[c] == 0) {
+                        alphabet[c] = alphabetSize++;
+                    }
+                    Integer next = children.get(state).get(alphabet[c]);
+                    if (next == null) {
+                        next = children.size();
+                        children.add(new HashMap<Integer, Integer>());
+                        keywordPatterns.add(new BitSet());
+                        children.get(state).put(alphabet[c], next);
+                    }
+                    state = next;
+                }
+                keywordPatterns.get(state).set(i);
+            }
+        }
+        // automaton, breadth first so failure states are complete before they are used
+        int states = children.size();
+        transitions = new int[states * alphabetSize];
+        outputs = new int[states][];
+        int[] failures = new int[states];
+        Deque<Integer> queue = new ArrayDeque<Integer>();
+        queue.add(0);
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            if (state != 0) {
+                keywordPatterns.get(state).or(keywordPatterns.get(failures[state]));
+            }
+            BitSet output = keywordPatterns.get(state);
+            if (!output.isEmpty()) {
+                // not a stream, to not initialize stream support on startup
+                outputs[state] = new int[output.cardinality()];
+                int i = 0;
+                for (int pattern = output.nextSetBit(0); pattern >= 0; pattern = output.nextSetBit(pattern + 1)) {
+                    outputs[state][i++] = pattern;
+                }
+            }
+            for (int c = 0; c < alphabetSize; c++) {
+                Integer child = children.get(state).get(c);
+                if (child != null) {
+                    failures[child] = state == 0 ? 0 : transitions[failures[state] * alphabetSize + c];
+                    transitions[state * alphabetSize + c] = child;
+                    queue.add(child);
+                } else {
+                    transitions[state * alphabetSize + c] = state == 0 ? 0
+                            : transitions[failures[state] * alphabetSize + c];
+                }
+            }
+        }
+    }
+
+    /**
+     * @param input
+     *            The input.
+     * @return The indexes of the patterns that can possibly match the input.
+     */
+    public BitSet getCandidates(CharSequence input) {
+        BitSet candidates = (BitSet) always.clone();
+        int state = 0;
+        for (int i = 0; i < input.length(); i++) {
+            char c = input.charAt(i);
+            state = transitions[state * alphabetSize + (c < alphabet.length ? alphabet[c] : 0)];
+            if (outputs[state] != null) {
+                for (int pattern : outputs[state]) {
+                    candidates.set(pattern);
+                }
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * @param input
+     *            The input.
+     * @return The index of the first pattern that matches the entire input, or -1 if none.
+     */
+    public int match(CharSequence input) {
+        return match(input, 0, patterns.length);
+    }
+
+    /**
+     * @param input
+     *            The input.
+     * @param fromIndex
+     *            The index of the first pattern to try (inclusive).
+     * @param toIndex
+     *            The index of the last pattern to try (exclusive).
+     * @return The index of the first pattern in the range that matches the entire input, or -1 if none.
+     */
+    public int match(CharSequence input, int fromIndex, int toIndex) {
+        BitSet candidates = getCandidates(input);
+        for (int i = candidates.nextSetBit(fromIndex); i >= 0 && i < toIndex; i = candidates.nextSetBit(i + 1)) {
+            if (patterns[i].matcher(input).matches()) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return The number of patterns.
+     */
+    public int size() {
+        return patterns.length;
+    }
+}
@@ -0,0 +1,202 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.util;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import org.eclipselabs.garbagecat.util.jdk.JdkMath;
+
+/**
+ * <p>
+ * The worst pause time overhead (percent of time paused) in a sliding time window, found in one pass over pauses added
+ * in log order.
+ * </p>
+ * 
+ * <p>
+ * Only windows that start at or after the first pause are checked. The worst window can always be slid to start at
+ * the first pause or to end where a pause ends, so only those windows are checked. The pauses in the window ending at
+ * the last pause are kept in a deque: each pause is added at the tail and removed from the head once it ends before
+ * the window starts, so each pause is added and removed once (O(n)). Unlike comparing adjacent pauses, this finds
+ * bursts of many short pauses.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class OverheadWindow {
+
+    /**
+     * @param windows
+     *            Comma-separated window lengths (seconds) (e.g. "1,10,60").
+     * @return The window lengths (seconds).
+     * @throws NumberFormatException
+     *             if a window length is not a number.
+     */
+    public static int[] parseWindows(String windows) {
+        String[] values = windows.split(",");
+        int[] windowSecs = new int[values.length];
+        for (int i = 0; i < values.length; i++) {
+            windowSecs[i] = Integer.parseInt(values[i].trim());
+        }
+        return windowSecs;
+    }
+
+    /**
+     * The start (microseconds) of the first pause added, or {@link Long#MIN_VALUE} if none.
+     */
+    private long firstStart = Long.MIN_VALUE;
+
+    /**
+     * The pause time (microseconds) in the window starting at the first pause.
+     */
+    private long firstWindowPause;
+
+    /**
+     * The end (microseconds) of the last pause added.
+     */
+    private long lastEnd = Long.MIN_VALUE;
+
+    /**
+     * The pauses (start and end microseconds) that end in the window ending at the last pause added.
+     */
+    private final Deque<long[]> pauses = new ArrayDeque<long[]>();
+
+    /**
+     * The total pause time (microseconds) of the pauses in {@link #pauses}.
+     */
+    private long pauseTotal;
+
+    /**
+     * The window length (microseconds).
+     */
+    private final long window;
+
+    /**
+     * The end (microseconds) of the window with the most pause time.
+     */
+    private long worstEnd;
+
+    /**
+     * The pause time (microseconds) in the window with the most pause time.
+     */
+    private long worstPause;
+
+    /**
+     * @param windowSecs
+     *            The window length (seconds).
+     */
+    public OverheadWindow(int windowSecs) {
+        if (windowSecs <= 0) {
+            throw new IllegalArgumentException("Window must be positive: " + windowSecs);
+        }
+        this.window = windowSecs * 1000000L;
+    }
+
+    /**
+     * Add a pause. Pauses must be added in log order. A pause that overlaps the prior pause is only counted after the
+     * prior pause ends.
+     * 
+     * @param timestamp
+     *            The pause start (milliseconds).
+     * @param durationMicros
+     *            The pause duration (microseconds).
+     */
+    public void add(long timestamp, long durationMicros) {
+        long end = timestamp * 1000 + durationMicros;
+        long start = Math.max(timestamp * 1000, lastEnd);
+        if (end <= start) {
+            return;
+        }
+        if (firstStart == Long.MIN_VALUE) {
+            firstStart = start;
+        }
+        if (start < firstStart + window) {
+            firstWindowPause += Math.min(end, firstStart + window) - start;
+        }
+        lastEnd = end;
+        pauses.addLast(new long[] { start, end });
+        pauseTotal += end - start;
+        long windowStart = end - window;
+        while (pauses.peekFirst()[1] <= windowStart) {
+            long[] pause = pauses.pollFirst();
+            pauseTotal -= pause[1] - pause[0];
+        }
+        if (windowStart < firstStart) {
+            return;
+        }
+        if (firstWindowPause > worstPause) {
+            worstPause = firstWindowPause;
+            worstEnd = firstStart + window;
+        }
+        // The first pause may start before the window
+        long pause = pauseTotal - Math.max(0, windowStart - pauses.peekFirst()[0]);
+        if (pause > worstPause) {
+            worstPause = pause;
+            worstEnd = end;
+        }
+    }
+
+    /**
+     * @return A copy, so the results do not change as pauses are added.
+     */
+    public OverheadWindow copy() {
+        OverheadWindow copy = new OverheadWindow((int) (window / 1000000));
+        copy.firstStart = firstStart;
+        copy.firstWindowPause = firstWindowPause;
+        copy.lastEnd = lastEnd;
+        for (long[] pause : pauses) {
+            copy.pauses.addLast(pause.clone());
+        }
+        copy.pauseTotal = pauseTotal;
+        copy.worstEnd = worstEnd;
+        copy.worstPause = worstPause;
+        return copy;
+    }
+
+    /**
+     * @return The window length (seconds).
+     */
+    public int getWindowSecs() {
+        return (int) (window / 1000000);
+    }
+
+    /**
+     * @return The end (milliseconds) of the window with the most pause time, or 0 if no window was checked (the pauses
+     *         do not span a window).
+     */
+    public long getWorstEnd() {
+        return worstEnd / 1000;
+    }
+
+    /**
+     * @return The percent of the window with the most pause time that is paused.
+     */
+    public int getWorstOverhead() {
+        return JdkMath.calcPercent(worstPause, window);
+    }
+
+    /**
+     * @return The pause time (microseconds) in the window with the most pause time.
+     */
+    public long getWorstPause() {
+        return worstPause;
+    }
+
+    /**
+     * @return The start (milliseconds) of the window with the most pause time.
+     */
+    public long getWorstStart() {
+        return (worstEnd - window) / 1000;
+    }
+}
@@ -0,0 +1,183 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.util;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Constant memory histogram of pause times for percentiles (e.g. p99, p99.9) without retaining or sorting the pauses.
+ * </p>
+ * 
+ * <p>
+ * Buckets are log-linear, like HdrHistogram: values under {@link #SUB_BUCKET_COUNT} have a bucket each, and each
+ * higher power of 2 is split into {@link #SUB_BUCKET_COUNT} / 2 buckets, so a recorded value is off by less than 1/64
+ * (~1.6%). The bucket counts grow with the highest value recorded, to at most 3,712 buckets.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class PauseHistogram {
+
+    /**
+     * The number of low order bits of a value that are kept.
+     */
+    private static final int SUB_BUCKET_BITS = 7;
+
+    /**
+     * The number of buckets for values under 2^{@link #SUB_BUCKET_BITS}.
+     */
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * The number of buckets for each higher power of 2.
+     */
+    private static final int SUB_BUCKET_HALF_COUNT = SUB_BUCKET_COUNT / 2;
+
+    /**
+     * @param index
+     *            The bucket index.
+     * @return The highest value in the bucket.
+     */
+    static long getHighestValue(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = (index - SUB_BUCKET_COUNT) / SUB_BUCKET_HALF_COUNT + 1;
+        long subBucket = SUB_BUCKET_HALF_COUNT + (index - SUB_BUCKET_COUNT) % SUB_BUCKET_HALF_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+    /**
+     * @param value
+     *            The value.
+     * @return The index of the bucket the value is counted in.
+     */
+    static int getIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        // Shift the value so the SUB_BUCKET_BITS - 1 bits after the highest bit are kept
+        int shift = 64 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return SUB_BUCKET_COUNT + (shift - 1) * SUB_BUCKET_HALF_COUNT
+                + (int) ((value >>> shift) - SUB_BUCKET_HALF_COUNT);
+    }
+
+    /**
+     * Read a histogram from a snapshot (see {@link #write(DataOutput)}).
+     * 
+     * @param in
+     *            The snapshot input.
+     * @return The histogram.
+     * @throws IOException
+     *             if the snapshot cannot be read.
+     */
+    public static PauseHistogram read(DataInput in) throws IOException {
+        PauseHistogram histogram = new PauseHistogram();
+        histogram.count = in.readLong();
+        histogram.max = in.readLong();
+        histogram.counts = new long[in.readInt()];
+        for (int i = 0; i < histogram.counts.length; i++) {
+            histogram.counts[i] = in.readLong();
+        }
+        return histogram;
+    }
+
+    /**
+     * The number of values recorded.
+     */
+    private long count;
+
+    /**
+     * The number of values in each bucket.
+     */
+    private long[] counts = new long[SUB_BUCKET_COUNT];
+
+    /**
+     * The maximum value recorded.
+     */
+    private long max;
+
+    /**
+     * @return The number of values recorded.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * @return The maximum value recorded.
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * @param percentile
+     *            The percentile (e.g. 99.9).
+     * @return The value that the given percentile of the recorded values are at or below (the highest value of its
+     *         bucket, capped at the maximum value recorded), or 0 if no values are recorded.
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long countAtPercentile = Math.max(1, (long) Math.ceil(Math.min(percentile, 100) / 100 * count));
+        long total = 0;
+        for (int i = 0; i < counts.length; i++) {
+            total += counts[i];
+            if (total >= countAtPercentile) {
+                return Math.min(getHighestValue(i), max);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * @param value
+     *            The value to record. Negative values are recorded as 0.
+     */
+    public void record(long value) {
+        if (value < 0) {
+            value = 0;
+        }
+        int index = getIndex(value);
+        if (index >= counts.length) {
+            counts = Arrays.copyOf(counts, index + 1);
+        }
+        counts[index]++;
+        count++;
+        max = Math.max(max, value);
+    }
+
+    /**
+     * Write the histogram to a snapshot.
+     * 
+     * @param out
+     *            The snapshot output.
+     * @throws IOException
+     *             if the snapshot cannot be written.
+     */
+    public void write(DataOutput out) throws IOException {
+        out.writeLong(count);
+        out.writeLong(max);
+        out.writeInt(counts.length);
+        for (long bucketCount : counts) {
+            out.writeLong(bucketCount);
+        }
+    }
+}
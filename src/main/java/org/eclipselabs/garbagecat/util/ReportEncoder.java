@@ -0,0 +1,69 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.util;
+
+import java.io.IOException;
+
+/**
+ * <p>
+ * A streaming encoder of a structured report: nested objects and arrays of named values, written as they are added
+ * without building a document in memory.
+ * </p>
+ * 
+ * <p>
+ * Members of an object are named. Elements of an array are not (the name is <code>null</code>).
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public interface ReportEncoder {
+
+    /**
+     * @param name
+     *            The array name, or <code>null</code> for an array element.
+     * @throws IOException
+     *             if the array cannot be written.
+     */
+    void beginArray(String name) throws IOException;
+
+    /**
+     * @param name
+     *            The object name, or <code>null</code> for the report or an array element.
+     * @throws IOException
+     *             if the object cannot be written.
+     */
+    void beginObject(String name) throws IOException;
+
+    /**
+     * @throws IOException
+     *             if the array cannot be written.
+     */
+    void endArray() throws IOException;
+
+    /**
+     * @throws IOException
+     *             if the object cannot be written.
+     */
+    void endObject() throws IOException;
+
+    /**
+     * @param name
+     *            The value name, or <code>null</code> for an array element.
+     * @param value
+     *            A <code>String</code>, <code>Number</code>, <code>Boolean</code> or <code>null</code>.
+     * @throws IOException
+     *             if the value cannot be written.
+     */
+    void value(String name, Object value) throws IOException;
+}
@@ -0,0 +1,466 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.util;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import org.eclipselabs.garbagecat.domain.TimeWarpException;
+import org.eclipselabs.garbagecat.util.jdk.JdkMath;
+import org.eclipselabs.garbagecat.util.jdk.JdkRegEx;
+import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
+import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedRegEx;
+import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedUtil;
+
+/**
+ * <p>
+ * Reads the lines of a rotation set of log files (e.g. <code>gc.log</code>, <code>gc.log.0</code>,
+ * <code>gc.log.1</code>...) as one continuous stream. Files are ordered by the timestamp of the first event, and gzip
+ * compressed files (<code>.gz</code>) are decompressed.
+ * </p>
+ * 
+ * <p>
+ * When there is more than one file, or a compressed file, the files are read concurrently ahead of the consumer, each
+ * into a bounded queue.
+ * </p>
+ * 
+ * <p>
+ * The lines already read in a prior run can be skipped, to analyze only what was added since (see
+ * {@link #getLinesRead()}).
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class RotatedLogReader implements Iterator<String>, Closeable {
+
+    /**
+     * Consumes lines. Returns false to stop reading.
+     */
+    private interface LineConsumer {
+        boolean accept(String line) throws InterruptedException;
+    }
+
+    /**
+     * A file being read, ahead of the consumer if there is more than one file or a compressed file.
+     */
+    private static class Source {
+
+        /**
+         * The error reading the file, or null if none.
+         */
+        private volatile Exception error;
+
+        /**
+         * The first line with a timestamp, used to identify the file, or null if unknown.
+         */
+        private final String firstLine;
+
+        /**
+         * The number of lines consumed, including skipped lines.
+         */
+        private long lines;
+
+        /**
+         * The file path.
+         */
+        private final Path path;
+
+        /**
+         * The lines read ahead.
+         */
+        private final BlockingQueue<String> queue = new ArrayBlockingQueue<String>(QUEUE_SIZE);
+
+        /**
+         * The number of lines at the start of the file already read in a prior run, skipped.
+         */
+        private final long skip;
+
+        private Source(Path path, String firstLine, long skip) {
+            this.path = path;
+            this.firstLine = firstLine;
+            this.skip = skip;
+        }
+
+        /**
+         * @param line
+         *            The line consumed.
+         * @return The line, or null if the line was already read in a prior run.
+         */
+        private String consume(String line) {
+            return ++lines > skip ? line : null;
+        }
+    }
+
+    /**
+     * Marks the end of a file in a <code>Source</code> queue.
+     */
+    private static final String END = new String();
+
+    /**
+     * Legacy logging line starting with a datestamp and no timestamp.
+     */
+    private static final Pattern PATTERN_DATESTAMP = Pattern.compile("^" + JdkRegEx.DATESTAMP + ": .*");
+
+    /**
+     * Legacy logging line starting with a timestamp, optionally preceded by a datestamp.
+     */
+    private static final Pattern PATTERN_TIMESTAMP = Pattern
+            .compile("^(" + JdkRegEx.DATESTAMP + ": )?" + JdkRegEx.TIMESTAMP + ": .*");
+
+    /**
+     * Unified logging line.
+     */
+    private static final Pattern PATTERN_UNIFIED = Pattern.compile("^" + UnifiedRegEx.DECORATOR + ".*");
+
+    /**
+     * The maximum number of lines read ahead for each file. A throttle to limit memory consumption.
+     */
+    public static final int QUEUE_SIZE = 8192;
+
+    /**
+     * The maximum number of lines read to find the first timestamp in a file.
+     */
+    public static final int TIMESTAMP_LOOKAHEAD = 1000;
+
+    /**
+     * Read the lines of a file.
+     * 
+     * @param path
+     *            The file path.
+     * @param consumer
+     *            The line consumer.
+     * @throws IOException
+     *             if the file cannot be read.
+     * @throws InterruptedException
+     *             if interrupted.
+     */
+    private static void forEachLine(Path path, LineConsumer consumer) throws IOException, InterruptedException {
+        if (isCompressed(path)) {
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(new GZIPInputStream(Files.newInputStream(path)), UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null && consumer.accept(line)) {
+                    // keep reading
+                }
+            }
+        } else {
+            try (MappedLineReader reader = new MappedLineReader(path)) {
+                while (reader.hasNext() && consumer.accept(reader.next())) {
+                    // keep reading
+                }
+            }
+        }
+    }
+
+    /**
+     * @param logLine
+     *            The log line.
+     * @return The log line timestamp, or -1 if none.
+     */
+    static long getTimestamp(String logLine) {
+        long timestamp = -1;
+        Matcher matcher;
+        if ((matcher = PATTERN_UNIFIED.matcher(logLine)).matches()) {
+            try {
+                timestamp = UnifiedUtil.calculateTime(matcher);
+            } catch (TimeWarpException e) {
+                // no usable timestamp
+            }
+        } else if ((matcher = PATTERN_TIMESTAMP.matcher(logLine)).matches()) {
+            timestamp = JdkMath.parseSecsToMillis(matcher.group(matcher.groupCount()));
+        } else if ((matcher = PATTERN_DATESTAMP.matcher(logLine)).matches()) {
+            timestamp = JdkUtil.convertDatestampToMillis(matcher.group(1));
+        }
+        return timestamp;
+    }
+
+    /**
+     * @param path
+     *            The file path.
+     * @return The first line with a timestamp in the first {@link #TIMESTAMP_LOOKAHEAD} lines, or null if none.
+     * @throws IOException
+     *             if the file cannot be read.
+     */
+    static String getFirstTimestampLine(Path path) throws IOException {
+        String[] timestampLine = { null };
+        int[] count = { 0 };
+        try {
+            forEachLine(path, line -> {
+                if (getTimestamp(line) >= 0) {
+                    timestampLine[0] = line;
+                    return false;
+                }
+                return ++count[0] < TIMESTAMP_LOOKAHEAD;
+            });
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return timestampLine[0];
+    }
+
+    /**
+     * @param path
+     *            A log file, or a directory of rotated log files.
+     * @return The log files.
+     * @throws IOException
+     *             if the directory cannot be read.
+     */
+    public static List<Path> getPaths(Path path) throws IOException {
+        List<Path> paths;
+        if (Files.isDirectory(path)) {
+            try (Stream<Path> stream = Files.list(path)) {
+                paths = stream.filter(Files::isRegularFile).filter(p -> !p.getFileName().toString().startsWith("."))
+                        .sorted().collect(Collectors.toList());
+            }
+        } else {
+            paths = Collections.singletonList(path);
+        }
+        for (Path p : paths) {
+            if (p.getFileName().toString().endsWith(".zst")) {
+                throw new IllegalArgumentException("Zstandard compression not supported: " + p);
+            }
+        }
+        return paths;
+    }
+
+    /**
+     * @param path
+     *            The file path.
+     * @return True if the file is gzip compressed, false otherwise.
+     */
+    public static boolean isCompressed(Path path) {
+        return path.getFileName().toString().endsWith(".gz");
+    }
+
+    /**
+     * Reads the files ahead of the consumer, or null if the file is read by the consumer.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * The line reader when the file is read by the consumer.
+     */
+    private MappedLineReader reader;
+
+    /**
+     * The next line, or null if not read yet.
+     */
+    private String nextLine;
+
+    /**
+     * The index of the file being read.
+     */
+    private int source;
+
+    /**
+     * The files being read, in order.
+     */
+    private final List<Source> sources = new ArrayList<Source>();
+
+    /**
+     * @param paths
+     *            The log files.
+     * @throws IOException
+     *             if the files cannot be read.
+     */
+    public RotatedLogReader(List<Path> paths) throws IOException {
+        this(paths, null);
+    }
+
+    /**
+     * Read only the lines added since a prior run. Files are identified by the first line with a timestamp, so a file
+     * is recognized after it is rotated (renamed).
+     * 
+     * @param paths
+     *            The log files.
+     * @param linesRead
+     *            The number of lines read from each file in a prior run by the first line with a timestamp (see
+     *            {@link #getLinesRead()}), or null to read all lines.
+     * @throws IOException
+     *             if the files cannot be read.
+     */
+    public RotatedLogReader(List<Path> paths, Map<String, Long> linesRead) throws IOException {
+        Map<Path, String> firstLines = new HashMap<Path, String>();
+        if (paths.size() > 1 || linesRead != null) {
+            for (Path path : paths) {
+                firstLines.put(path, getFirstTimestampLine(path));
+            }
+        }
+        if (paths.size() == 1 && !isCompressed(paths.get(0))) {
+            executor = null;
+            reader = new MappedLineReader(paths.get(0));
+            sources.add(newSource(paths.get(0), firstLines.get(paths.get(0)), linesRead));
+        } else {
+            List<Path> ordered = new ArrayList<Path>(paths);
+            if (ordered.size() > 1) {
+                Map<Path, Long> timestamps = new HashMap<Path, Long>();
+                for (Path path : paths) {
+                    String firstLine = firstLines.get(path);
+                    timestamps.put(path, firstLine == null ? Long.MAX_VALUE : getTimestamp(firstLine));
+                }
+                ordered.sort(Comparator.comparing(timestamps::get));
+            }
+            int threads = Math.min(ordered.size(), Runtime.getRuntime().availableProcessors());
+            executor = Executors.newFixedThreadPool(threads, runnable -> {
+                Thread thread = new Thread(runnable, "garbagecat-reader");
+                thread.setDaemon(true);
+                return thread;
+            });
+            // Submitted in order, so the file being consumed is always being read or done
+            for (Path path : ordered) {
+                Source source = newSource(path, firstLines.get(path), linesRead);
+                sources.add(source);
+                executor.execute(() -> {
+                    try {
+                        forEachLine(source.path, line -> {
+                            source.queue.put(line);
+                            return true;
+                        });
+                    } catch (IOException | RuntimeException e) {
+                        source.error = e;
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    try {
+                        source.queue.put(END);
+                    } catch (InterruptedException e) {
+                        // closed
+                    }
+                });
+            }
+            executor.shutdown();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (executor != null) {
+            executor.shutdownNow();
+        } else {
+            reader.close();
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (nextLine == null) {
+            if (executor == null) {
+                while (nextLine == null && reader.hasNext()) {
+                    nextLine = sources.get(0).consume(reader.next());
+                }
+            } else {
+                while (nextLine == null && source < sources.size()) {
+                    Source current = sources.get(source);
+                    String line;
+                    try {
+                        line = current.queue.take();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new IllegalStateException("Interrupted reading " + current.path, e);
+                    }
+                    if (line == END) {
+                        if (current.error != null) {
+                            throw new UncheckedIOException(new IOException(current.path.toString(), current.error));
+                        }
+                        source++;
+                    } else {
+                        nextLine = current.consume(line);
+                    }
+                }
+            }
+        }
+        return nextLine != null;
+    }
+
+    /**
+     * @return The number of lines read from each file by the first line with a timestamp, including lines skipped
+     *         because they were read in a prior run. Files without a timestamp, or read without tracking (see
+     *         {@link #RotatedLogReader(List, Map)}), are not included.
+     */
+    public Map<String, Long> getLinesRead() {
+        return getLinesRead(Long.MAX_VALUE);
+    }
+
+    /**
+     * @param lines
+     *            The number of lines returned that were used, with the rest to be read again in the next run.
+     * @return The number of lines read from each file by the first line with a timestamp, counting only the lines
+     *         returned that were used, and including lines skipped because they were read in a prior run. Files
+     *         without a timestamp, or read without tracking (see {@link #RotatedLogReader(List, Map)}), are not
+     *         included.
+     */
+    public Map<String, Long> getLinesRead(long lines) {
+        Map<String, Long> linesRead = new HashMap<String, Long>();
+        long remaining = lines;
+        for (Source source : sources) {
+            long used = Math.min(remaining, Math.max(0, source.lines - source.skip));
+            remaining -= used;
+            if (source.firstLine != null) {
+                linesRead.put(source.firstLine, source.skip + used);
+            }
+        }
+        return linesRead;
+    }
+
+    /**
+     * @param path
+     *            The file path.
+     * @param firstLine
+     *            The first line with a timestamp, or null if unknown.
+     * @param linesRead
+     *            The number of lines read in a prior run by the first line with a timestamp, or null if none.
+     * @return The file source.
+     */
+    private Source newSource(Path path, String firstLine, Map<String, Long> linesRead) {
+        long skip = 0;
+        if (linesRead != null && firstLine != null && linesRead.containsKey(firstLine)) {
+            skip = linesRead.get(firstLine);
+        }
+        return new Source(path, firstLine, skip);
+    }
+
+    @Override
+    public String next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        String line = nextLine;
+        nextLine = null;
+        return line;
+    }
+}
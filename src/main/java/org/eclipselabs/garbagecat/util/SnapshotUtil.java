@@ -0,0 +1,256 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.util;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.eclipselabs.garbagecat.domain.LogEvent;
+import org.eclipselabs.garbagecat.domain.NullEvent;
+import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
+import org.eclipselabs.garbagecat.util.jdk.JdkUtil.CollectorFamily;
+
+/**
+ * <p>
+ * Binary snapshot utility methods. A snapshot is the analysis state saved at the end of a run, so a later run can
+ * resume the analysis with only the logging added since.
+ * </p>
+ * 
+ * <p>
+ * Enums are written by name, and events by log entry and parsed again when read.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public final class SnapshotUtil {
+
+    /**
+     * Identifies a snapshot ("GCAT").
+     */
+    public static final int MAGIC = 0x47434154;
+
+    /**
+     * The snapshot format version. Snapshots written with a different version are not read.
+     */
+    public static final int VERSION = 3;
+
+    /**
+     * @param in
+     *            The snapshot input.
+     * @return The date, or null if none.
+     * @throws IOException
+     *             if the snapshot cannot be read.
+     */
+    public static Date readDate(DataInput in) throws IOException {
+        return in.readBoolean() ? new Date(in.readLong()) : null;
+    }
+
+    /**
+     * @param in
+     *            The snapshot input.
+     * @param type
+     *            The enum class.
+     * @param <E>
+     *            The enum type.
+     * @return The enum constant, or null if none.
+     * @throws IOException
+     *             if the snapshot cannot be read, or the enum constant no longer exists.
+     */
+    public static <E extends Enum<E>> E readEnum(DataInput in, Class<E> type) throws IOException {
+        String name = readString(in);
+        if (name == null) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, name);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Snapshot " + type.getSimpleName() + " not supported: " + name, e);
+        }
+    }
+
+    /**
+     * @param in
+     *            The snapshot input.
+     * @param type
+     *            The enum class.
+     * @param <E>
+     *            The enum type.
+     * @return The enum constants.
+     * @throws IOException
+     *             if the snapshot cannot be read, or an enum constant no longer exists.
+     */
+    public static <E extends Enum<E>> List<E> readEnums(DataInput in, Class<E> type) throws IOException {
+        int size = in.readInt();
+        List<E> enums = new ArrayList<E>(size);
+        for (int i = 0; i < size; i++) {
+            enums.add(readEnum(in, type));
+        }
+        return enums;
+    }
+
+    /**
+     * @param in
+     *            The snapshot input.
+     * @param collectorFamily
+     *            The collector family to parse the event log entry with.
+     * @param type
+     *            The event class.
+     * @param <T>
+     *            The event type.
+     * @return The event parsed from the log entry, or null if none.
+     * @throws IOException
+     *             if the snapshot cannot be read, or the log entry is no longer parsed as the event type.
+     */
+    public static <T> T readEvent(DataInput in, CollectorFamily collectorFamily, Class<T> type) throws IOException {
+        String logEntry = readString(in);
+        if (logEntry == null) {
+            return null;
+        }
+        LogEvent event = JdkUtil.parseLogLine(logEntry, new NullEvent(), collectorFamily);
+        if (!type.isInstance(event)) {
+            throw new IOException("Snapshot event not parsed as " + type.getSimpleName() + ": " + logEntry);
+        }
+        return type.cast(event);
+    }
+
+    /**
+     * @param in
+     *            The snapshot input.
+     * @return The string, or null if none.
+     * @throws IOException
+     *             if the snapshot cannot be read.
+     */
+    public static String readString(DataInput in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, UTF_8);
+    }
+
+    /**
+     * @param in
+     *            The snapshot input.
+     * @return The strings.
+     * @throws IOException
+     *             if the snapshot cannot be read.
+     */
+    public static List<String> readStrings(DataInput in) throws IOException {
+        int size = in.readInt();
+        List<String> strings = new ArrayList<String>(size);
+        for (int i = 0; i < size; i++) {
+            strings.add(readString(in));
+        }
+        return strings;
+    }
+
+    /**
+     * @param out
+     *            The snapshot output.
+     * @param date
+     *            The date, or null if none.
+     * @throws IOException
+     *             if the snapshot cannot be written.
+     */
+    public static void writeDate(DataOutput out, Date date) throws IOException {
+        out.writeBoolean(date != null);
+        if (date != null) {
+            out.writeLong(date.getTime());
+        }
+    }
+
+    /**
+     * @param out
+     *            The snapshot output.
+     * @param value
+     *            The enum constant, or null if none.
+     * @throws IOException
+     *             if the snapshot cannot be written.
+     */
+    public static void writeEnum(DataOutput out, Enum<?> value) throws IOException {
+        writeString(out, value == null ? null : value.name());
+    }
+
+    /**
+     * @param out
+     *            The snapshot output.
+     * @param values
+     *            The enum constants.
+     * @throws IOException
+     *             if the snapshot cannot be written.
+     */
+    public static void writeEnums(DataOutput out, List<? extends Enum<?>> values) throws IOException {
+        out.writeInt(values.size());
+        for (Enum<?> value : values) {
+            writeEnum(out, value);
+        }
+    }
+
+    /**
+     * @param out
+     *            The snapshot output.
+     * @param event
+     *            The event, or null if none.
+     * @throws IOException
+     *             if the snapshot cannot be written.
+     */
+    public static void writeEvent(DataOutput out, LogEvent event) throws IOException {
+        writeString(out, event == null ? null : event.getLogEntry());
+    }
+
+    /**
+     * @param out
+     *            The snapshot output.
+     * @param string
+     *            The string, or null if none.
+     * @throws IOException
+     *             if the snapshot cannot be written.
+     */
+    public static void writeString(DataOutput out, String string) throws IOException {
+        if (string == null) {
+            out.writeInt(-1);
+        } else {
+            byte[] bytes = string.getBytes(UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    /**
+     * @param out
+     *            The snapshot output.
+     * @param strings
+     *            The strings.
+     * @throws IOException
+     *             if the snapshot cannot be written.
+     */
+    public static void writeStrings(DataOutput out, List<String> strings) throws IOException {
+        out.writeInt(strings.size());
+        for (String string : strings) {
+            writeString(out, string);
+        }
+    }
+
+    private SnapshotUtil() {
+        super();
+    }
+}
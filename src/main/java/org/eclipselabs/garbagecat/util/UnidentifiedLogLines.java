@@ -0,0 +1,348 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.util;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * <p>
+ * Bounded collector of log lines not identified as any event.
+ * </p>
+ * 
+ * <p>
+ * Lines are grouped by a signature with the numbers (e.g. timestamps, sizes, durations, addresses) replaced by
+ * <code>#</code>, so a new logging format repeated millions of times is a single signature with a count and a few
+ * exemplar lines. At most {@link #SIGNATURE_LIMIT} signatures are kept, in the order first seen, and lines with other
+ * signatures are only counted.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class UnidentifiedLogLines {
+
+    /**
+     * Log lines with the same signature.
+     */
+    public static class Cluster {
+
+        /**
+         * The number of log lines with the signature.
+         */
+        private long count;
+
+        /**
+         * The first log lines with the signature.
+         */
+        private final List<String> exemplars = new ArrayList<String>(EXEMPLAR_LIMIT);
+
+        /**
+         * The signature.
+         */
+        private final String signature;
+
+        /**
+         * @param signature
+         *            The signature.
+         */
+        private Cluster(String signature) {
+            this.signature = signature;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Cluster)) {
+                return false;
+            }
+            Cluster other = (Cluster) obj;
+            return count == other.count && exemplars.equals(other.exemplars) && signature.equals(other.signature);
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public List<String> getExemplars() {
+            return exemplars;
+        }
+
+        public String getSignature() {
+            return signature;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(count, exemplars, signature);
+        }
+    }
+
+    /**
+     * The maximum number of exemplar log lines kept for each signature.
+     */
+    public static final int EXEMPLAR_LIMIT = 3;
+
+    /**
+     * The maximum signature length. Log lines that only differ after the limit have the same signature.
+     */
+    public static final int SIGNATURE_LENGTH_LIMIT = 200;
+
+    /**
+     * The maximum number of signatures kept.
+     */
+    public static final int SIGNATURE_LIMIT = 100;
+
+    /**
+     * @param logLine
+     *            The log line.
+     * @return The log line with each number (digits with any embedded period or comma) replaced by <code>#</code>,
+     *         each hexadecimal number (e.g. 0x00007f3a) replaced by <code>0x#</code>, truncated to
+     *         {@link #SIGNATURE_LENGTH_LIMIT} characters.
+     */
+    public static String getSignature(String logLine) {
+        StringBuilder signature = new StringBuilder(Math.min(logLine.length(), SIGNATURE_LENGTH_LIMIT));
+        int i = 0;
+        while (i < logLine.length() && signature.length() < SIGNATURE_LENGTH_LIMIT) {
+            char c = logLine.charAt(i);
+            if (c == '0' && i + 2 < logLine.length() && (logLine.charAt(i + 1) == 'x' || logLine.charAt(i + 1) == 'X')
+                    && isHexDigit(logLine.charAt(i + 2))) {
+                i += 2;
+                while (i < logLine.length() && isHexDigit(logLine.charAt(i))) {
+                    i++;
+                }
+                signature.append("0x#");
+            } else if (c >= '0' && c <= '9') {
+                i++;
+                while (i < logLine.length() && (isDigit(logLine.charAt(i)) || ((logLine.charAt(i) == '.'
+                        || logLine.charAt(i) == ',') && i + 1 < logLine.length() && isDigit(logLine.charAt(i + 1))))) {
+                    i++;
+                }
+                signature.append('#');
+            } else {
+                signature.append(c);
+                i++;
+            }
+        }
+        return signature.toString();
+    }
+
+    /**
+     * @param c
+     *            The character.
+     * @return true if the character is an ASCII digit, false otherwise.
+     */
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * @param c
+     *            The character.
+     * @return true if the character is an ASCII hexadecimal digit, false otherwise.
+     */
+    private static boolean isHexDigit(char c) {
+        return isDigit(c) || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+    }
+
+    /**
+     * Read unidentified log lines from a snapshot (see {@link #write(DataOutput)}).
+     * 
+     * @param in
+     *            The snapshot input.
+     * @return The unidentified log lines.
+     * @throws IOException
+     *             if the snapshot cannot be read.
+     */
+    public static UnidentifiedLogLines read(DataInput in) throws IOException {
+        UnidentifiedLogLines unidentifiedLogLines = new UnidentifiedLogLines();
+        unidentifiedLogLines.count = in.readLong();
+        unidentifiedLogLines.last = SnapshotUtil.readString(in);
+        unidentifiedLogLines.lastSignature = SnapshotUtil.readString(in);
+        unidentifiedLogLines.otherCount = in.readLong();
+        int size = in.readInt();
+        for (int i = 0; i < size; i++) {
+            Cluster cluster = new Cluster(SnapshotUtil.readString(in));
+            cluster.count = in.readLong();
+            cluster.exemplars.addAll(SnapshotUtil.readStrings(in));
+            unidentifiedLogLines.clusters.put(cluster.signature, cluster);
+        }
+        return unidentifiedLogLines;
+    }
+
+    /**
+     * The log lines grouped by signature, in the order first seen.
+     */
+    private final Map<String, Cluster> clusters = new LinkedHashMap<String, Cluster>();
+
+    /**
+     * The number of log lines.
+     */
+    private long count;
+
+    /**
+     * The last log line, or null if none or removed.
+     */
+    private String last;
+
+    /**
+     * The signature of the last log line.
+     */
+    private String lastSignature;
+
+    /**
+     * The number of log lines with a signature not kept.
+     */
+    private long otherCount;
+
+    /**
+     * @param logLine
+     *            The log line.
+     */
+    public void add(String logLine) {
+        String signature = getSignature(logLine);
+        Cluster cluster = clusters.get(signature);
+        if (cluster == null && clusters.size() < SIGNATURE_LIMIT) {
+            cluster = new Cluster(signature);
+            clusters.put(signature, cluster);
+        }
+        if (cluster == null) {
+            otherCount++;
+        } else {
+            cluster.count++;
+            if (cluster.exemplars.size() < EXEMPLAR_LIMIT) {
+                cluster.exemplars.add(logLine);
+            }
+        }
+        count++;
+        last = logLine;
+        lastSignature = signature;
+    }
+
+    /**
+     * @return A copy of the unidentified log lines.
+     */
+    public UnidentifiedLogLines copy() {
+        UnidentifiedLogLines copy = new UnidentifiedLogLines();
+        for (Cluster cluster : clusters.values()) {
+            Cluster clusterCopy = new Cluster(cluster.signature);
+            clusterCopy.count = cluster.count;
+            clusterCopy.exemplars.addAll(cluster.exemplars);
+            copy.clusters.put(clusterCopy.signature, clusterCopy);
+        }
+        copy.count = count;
+        copy.last = last;
+        copy.lastSignature = lastSignature;
+        copy.otherCount = otherCount;
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof UnidentifiedLogLines)) {
+            return false;
+        }
+        UnidentifiedLogLines other = (UnidentifiedLogLines) obj;
+        return count == other.count && otherCount == other.otherCount && Objects.equals(last, other.last)
+                && new ArrayList<Cluster>(clusters.values()).equals(new ArrayList<Cluster>(other.clusters.values()));
+    }
+
+    /**
+     * @return The log lines grouped by signature, in the order first seen.
+     */
+    public Collection<Cluster> getClusters() {
+        return clusters.values();
+    }
+
+    /**
+     * @return The number of log lines.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * @return The last log line, or null if none or removed.
+     */
+    public String getLast() {
+        return last;
+    }
+
+    /**
+     * @return The number of log lines with a signature not kept.
+     */
+    public long getOtherCount() {
+        return otherCount;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(count, last, otherCount);
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * Remove the last log line (e.g. when it is identified after the fact). Only the last line added can be removed.
+     */
+    public void removeLast() {
+        if (last == null) {
+            return;
+        }
+        Cluster cluster = clusters.get(lastSignature);
+        if (cluster == null) {
+            otherCount--;
+        } else {
+            cluster.count--;
+            int index = cluster.exemplars.lastIndexOf(last);
+            if (index >= 0 && cluster.exemplars.size() > cluster.count) {
+                cluster.exemplars.remove(index);
+            }
+            if (cluster.count == 0) {
+                clusters.remove(lastSignature);
+            }
+        }
+        count--;
+        last = null;
+        lastSignature = null;
+    }
+
+    /**
+     * Write the unidentified log lines to a snapshot.
+     * 
+     * @param out
+     *            The snapshot output.
+     * @throws IOException
+     *             if the snapshot cannot be written.
+     */
+    public void write(DataOutput out) throws IOException {
+        out.writeLong(count);
+        SnapshotUtil.writeString(out, last);
+        SnapshotUtil.writeString(out, lastSignature);
+        out.writeLong(otherCount);
+        out.writeInt(clusters.size());
+        for (Cluster cluster : clusters.values()) {
+            SnapshotUtil.writeString(out, cluster.signature);
+            out.writeLong(cluster.count);
+            SnapshotUtil.writeStrings(out, cluster.exemplars);
+        }
+    }
+}
@@ -12,6 +12,13 @@
  *********************************************************************************************************************/
 package org.eclipselabs.garbagecat.util.jdk;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
 /**
  * Garbage collection triggers for OpenJDK and Oracle JDK.
  * 
@@ -319,83 +326,91 @@ public enum GcTrigger {
     UNKNOWN("UNKNOWN");
 
     /**
-     * Get <code>GcTrigger</code> from log literal.
+     * The maximum number of trigger literals resolved by regular expression to remember.
+     */
+    private static final int CACHE_SIZE = 256;
+
+    /**
+     * Trigger literals resolved by regular expression.
+     */
+    private static final Map<String, GcTrigger> CACHE = new ConcurrentHashMap<>();
+
+    /**
+     * Triggers whose regular expression is a plain literal, by literal.
+     */
+    private static final Map<String, GcTrigger> LITERALS = new HashMap<>();
+
+    /**
+     * Triggers whose regular expression is not a plain literal, in the order they are checked.
+     */
+    private static final List<GcTrigger> REGEX_TRIGGERS = new ArrayList<>();
+
+    static {
+        for (GcTrigger trigger : values()) {
+            if (trigger == NONE || trigger == UNKNOWN) {
+                continue;
+            }
+            if (isLiteral(trigger.regex)) {
+                LITERALS.put(trigger.regex, trigger);
+            } else {
+                REGEX_TRIGGERS.add(trigger);
+            }
+        }
+    }
+
+    /**
+     * Get <code>GcTrigger</code> from log literal. Literals are looked up directly, falling back to the triggers
+     * defined by a regular expression. Literals resolved by regular expression are remembered (up to
+     * {@link #CACHE_SIZE}).
      * 
      * @param literal
      *            The trigger literal.
      * @return The <code>GcTrigger</code>.
      */
     public static GcTrigger getTrigger(final String literal) {
-        if (literal != null) {
-            if (literal.matches(ALLOCATION_FAILURE.regex))
-                return ALLOCATION_FAILURE;
-            if (literal.matches(CLASS_HISTOGRAM.regex))
-                return CLASS_HISTOGRAM;
-            if (literal.matches(CMS_FINAL_REMARK.regex))
-                return CMS_FINAL_REMARK;
-            if (literal.matches(CMS_INITIAL_MARK.regex))
-                return CMS_INITIAL_MARK;
-            if (literal.matches(CODECACHE_GC_THRESHOLD.regex))
-                return CODECACHE_GC_THRESHOLD;
-            if (literal.matches(CONCURRENT_MODE_FAILURE.regex))
-                return CONCURRENT_MODE_FAILURE;
-            if (literal.matches(CONCURRENT_MODE_INTERRUPTED.regex))
-                return CONCURRENT_MODE_INTERRUPTED;
-            if (literal.matches(DIAGNOSTIC_COMMAND.regex))
-                return DIAGNOSTIC_COMMAND;
-            if (literal.matches(ERGONOMICS.regex))
-                return ERGONOMICS;
-            if (literal.matches(G1_COMPACTION_PAUSE.regex))
-                return G1_COMPACTION_PAUSE;
-            if (literal.matches(G1_EVACUATION_PAUSE.regex))
-                return G1_EVACUATION_PAUSE;
-            if (literal.matches(G1_HUMONGOUS_ALLOCATION.regex))
-                return G1_HUMONGOUS_ALLOCATION;
-            if (literal.matches(G1_PREVENTIVE_COLLECTION.regex))
-                return G1_PREVENTIVE_COLLECTION;
-            if (literal.matches(GCLOCKER_INITIATED_GC.regex))
-                return GCLOCKER_INITIATED_GC;
-            if (literal.matches(HEAP_DUMP_INITIATED_GC.regex))
-                return HEAP_DUMP_INITIATED_GC;
-            if (literal.matches(HEAP_INSPECTION_INITIATED_GC.regex))
-                return HEAP_INSPECTION_INITIATED_GC;
-            if (literal.matches(JVMTI_FORCED_GARBAGE_COLLECTION.regex))
-                return JVMTI_FORCED_GARBAGE_COLLECTION;
-            if (literal.matches(LAST_DITCH_COLLECTION.regex))
-                return LAST_DITCH_COLLECTION;
-            if (literal.matches(METADATE_GC_CLEAR_SOFT_REFERENCES.regex))
-                return METADATE_GC_CLEAR_SOFT_REFERENCES;
-            if (literal.matches(METADATA_GC_THRESHOLD.regex))
-                return METADATA_GC_THRESHOLD;
-            if (literal.matches(PROMOTION_FAILED.regex))
-                return PROMOTION_FAILED;
-            if (literal.matches(SHENANDOAH_EVACUATION.regex))
-                return SHENANDOAH_EVACUATION;
-            if (literal.matches(SHENANDOAH_MARK.regex))
-                return SHENANDOAH_MARK;
-            if (literal.matches(SHENANDOAH_OUTSIDE_OF_CYCLE.regex))
-                return SHENANDOAH_OUTSIDE_OF_CYCLE;
-            if (literal.matches(SHENANDOAH_PROCESS_WEAKREFS.regex))
-                return SHENANDOAH_PROCESS_WEAKREFS;
-            if (literal.matches(SHENANDOAH_UNLOAD_CLASSES.regex))
-                return SHENANDOAH_UNLOAD_CLASSES;
-            if (literal.matches(SHENANDOAH_UPDATE_REFS.regex))
-                return SHENANDOAH_UPDATE_REFS;
-            if (literal.matches(SYSTEM_GC.regex))
-                return SYSTEM_GC;
-            if (literal.matches(TO_SPACE_EXHAUSTED.regex))
-                return TO_SPACE_EXHAUSTED;
-            if (literal.matches(TO_SPACE_OVERFLOW.regex))
-                return TO_SPACE_OVERFLOW;
-            return UNKNOWN;
+        if (literal == null) {
+            return NONE;
+        }
+        GcTrigger trigger = LITERALS.get(literal);
+        if (trigger == null) {
+            trigger = CACHE.get(literal);
+            if (trigger == null) {
+                trigger = UNKNOWN;
+                for (GcTrigger regexTrigger : REGEX_TRIGGERS) {
+                    if (regexTrigger.pattern.matcher(literal).matches()) {
+                        trigger = regexTrigger;
+                        break;
+                    }
+                }
+                if (CACHE.size() < CACHE_SIZE) {
+                    CACHE.put(literal, trigger);
+                }
+            }
         }
-        return NONE;
+        return trigger;
     }
 
+    /**
+     * @param regex
+     *            The regular expression.
+     * @return true if the regular expression has no special characters (it only matches itself), false otherwise.
+     */
+    private static boolean isLiteral(String regex) {
+        for (int i = 0; i < regex.length(); i++) {
+            if ("\\^$.|?*+()[]{}".indexOf(regex.charAt(i)) >= 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private final Pattern pattern;
+
     private final String regex;
 
     private GcTrigger(final String regex) {
         this.regex = regex;
+        this.pattern = Pattern.compile(regex);
     }
 
     public String getRegex() {
@@ -179,10 +179,7 @@ public final class JdkMath {
      * @return Microseconds rounded to a whole number.
      */
     public static BigDecimal convertMillisToMicros(String millis) {
-        // BigDecimal does not accept decimal commas, only decimal periods
-        BigDecimal duration = new BigDecimal(millis.replace(",", ".")).movePointRight(3);
-        // Round down to avoid TimeWarpExceptions when events are spaced close together
-        return duration.setScale(0, RoundingMode.DOWN);
+        return BigDecimal.valueOf(parseFixedPoint(millis, 3));
     }
 
     /**
@@ -195,10 +192,7 @@ public final class JdkMath {
      * @return Nanoseconds rounded to a whole number.
      */
     public static BigDecimal convertMillisToNanos(String millis) {
-        // BigDecimal does not accept decimal commas, only decimal periods
-        BigDecimal duration = new BigDecimal(millis.replace(",", ".")).movePointRight(6);
-        // Round down to avoid TimeWarpExceptions when events are spaced close together
-        return duration.setScale(0, RoundingMode.DOWN);
+        return BigDecimal.valueOf(parseFixedPoint(millis, 6));
     }
 
     /**
@@ -239,9 +233,7 @@ public final class JdkMath {
      * @return Microseconds rounded down to a whole.
      */
     public static BigDecimal convertNanosToMicros(String nanos) {
-        BigDecimal micros = new BigDecimal(nanos).movePointLeft(3);
-        // Round down to avoid TimeWarpExceptions when events are spaced close together
-        return micros.setScale(0, RoundingMode.DOWN);
+        return BigDecimal.valueOf(parseFixedPoint(nanos, -3));
     }
 
     /**
@@ -282,10 +274,7 @@ public final class JdkMath {
      * @return Centoseconds.
      */
     public static BigDecimal convertSecsToCentis(String secs) {
-        // BigDecimal does not accept decimal commas, only decimal periods
-        BigDecimal duration = new BigDecimal(secs.replace(",", ".")).movePointRight(2);
-        // Round down to avoid TimeWarpExceptions when events are spaced close together
-        return duration.setScale(0, RoundingMode.DOWN);
+        return BigDecimal.valueOf(parseFixedPoint(secs, 2));
     }
 
     /**
@@ -298,10 +287,7 @@ public final class JdkMath {
      * @return Microseconds rounded to a whole number.
      */
     public static BigDecimal convertSecsToMicros(String secs) {
-        // BigDecimal does not accept decimal commas, only decimal periods
-        BigDecimal micros = new BigDecimal(secs.replace(",", ".")).movePointRight(6);
-        // Round down to avoid TimeWarpExceptions when events are spaced close together
-        return micros.setScale(0, RoundingMode.DOWN);
+        return BigDecimal.valueOf(parseFixedPoint(secs, 6));
     }
 
     /**
@@ -314,10 +300,7 @@ public final class JdkMath {
      * @return Milliseconds rounded to a whole number.
      */
     public static BigDecimal convertSecsToMillis(String secs) {
-        // BigDecimal does not accept decimal commas, only decimal periods
-        BigDecimal millis = new BigDecimal(secs.replace(",", ".")).movePointRight(3);
-        // Round down to avoid TimeWarpExceptions when events are spaced close together
-        return millis.setScale(0, RoundingMode.DOWN);
+        return BigDecimal.valueOf(parseFixedPoint(secs, 3));
     }
 
     /**
@@ -330,10 +313,7 @@ public final class JdkMath {
      * @return Nanoseconds rounded to a whole number.
      */
     public static BigDecimal convertSecsToNanos(String secs) {
-        // BigDecimal does not accept decimal commas, only decimal periods
-        BigDecimal micros = new BigDecimal(secs.replace(",", ".")).movePointRight(9);
-        // Round down to avoid TimeWarpExceptions when events are spaced close together
-        return micros.setScale(0, RoundingMode.DOWN);
+        return BigDecimal.valueOf(parseFixedPoint(secs, 9));
     }
 
     public static Memory convertSizeToKilobytes(double size, char units) {
@@ -387,6 +367,161 @@ public final class JdkMath {
         return (parallelism < 150);
     }
 
+    /**
+     * Parse a decimal number (e.g. <code>0.0123</code>, <code>12,345</code>) to a whole number of units
+     * 10<sup>-scale</sup> without creating intermediate objects. For example, seconds with a scale of 3 are parsed to
+     * milliseconds. Digits beyond the scale are dropped (rounded down) to avoid TimeWarpExceptions when events are
+     * spaced close together.
+     * 
+     * Anything other than an optional sign, digits, and a single decimal period or comma (e.g. an exponent), or a
+     * number too big for a <code>long</code>, is handled by <code>BigDecimal</code>.
+     * 
+     * @param value
+     *            A whole number or decimal.
+     * @param scale
+     *            The power of 10 to move the decimal point right (a negative scale moves it left).
+     * @return The whole number of units, rounded down.
+     */
+    private static long parseFixedPoint(CharSequence value, int scale) {
+        int length = value.length();
+        int i = 0;
+        boolean negative = false;
+        if (length > 0 && (value.charAt(0) == '-' || value.charAt(0) == '+')) {
+            negative = value.charAt(0) == '-';
+            i++;
+        }
+        int keep = Math.max(scale, 0);
+        long units = 0;
+        int digits = 0;
+        // Digits after the decimal point kept so far, or -1 before the decimal point
+        int decimals = -1;
+        for (; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (decimals < keep) {
+                    if (units > (Long.MAX_VALUE - 9) / 10) {
+                        return parseFixedPointSlow(value, scale);
+                    }
+                    units = units * 10 + (c - '0');
+                    if (decimals >= 0) {
+                        decimals++;
+                    }
+                }
+                digits++;
+            } else if ((c == '.' || c == ',') && decimals < 0) {
+                decimals = 0;
+            } else {
+                return parseFixedPointSlow(value, scale);
+            }
+        }
+        if (digits == 0) {
+            return parseFixedPointSlow(value, scale);
+        }
+        for (int j = Math.max(decimals, 0); j < keep; j++) {
+            if (units > Long.MAX_VALUE / 10) {
+                return parseFixedPointSlow(value, scale);
+            }
+            units *= 10;
+        }
+        for (int j = scale; j < 0; j++) {
+            units /= 10;
+        }
+        return negative ? -units : units;
+    }
+
+    /**
+     * {@link #parseFixedPoint(CharSequence, int)} with <code>BigDecimal</code>.
+     * 
+     * @param value
+     *            A whole number or decimal.
+     * @param scale
+     *            The power of 10 to move the decimal point right (a negative scale moves it left).
+     * @return The whole number of units, rounded down.
+     */
+    private static long parseFixedPointSlow(CharSequence value, int scale) {
+        // BigDecimal does not accept decimal commas, only decimal periods
+        BigDecimal units = new BigDecimal(value.toString().replace(",", ".")).movePointRight(scale);
+        return units.setScale(0, RoundingMode.DOWN).longValue();
+    }
+
+    /**
+     * Convert milliseconds to microseconds.
+     * 
+     * For example: Convert 0.003 to 3
+     * 
+     * @param millis
+     *            Milliseconds as a whole number or decimal.
+     * @return Microseconds rounded down to a whole number.
+     */
+    public static int parseMillisToMicros(CharSequence millis) {
+        return (int) parseFixedPoint(millis, 3);
+    }
+
+    /**
+     * Convert milliseconds to nanoseconds.
+     * 
+     * For example: Convert 0.003 to 3000
+     * 
+     * @param millis
+     *            Milliseconds as a whole number or decimal.
+     * @return Nanoseconds rounded down to a whole number.
+     */
+    public static long parseMillisToNanos(CharSequence millis) {
+        return parseFixedPoint(millis, 6);
+    }
+
+    /**
+     * Convert seconds to centiseconds.
+     * 
+     * For example: Convert 1.02 to 102.
+     * 
+     * @param secs
+     *            Seconds as a whole number or decimal.
+     * @return Centiseconds rounded down to a whole number.
+     */
+    public static int parseSecsToCentis(CharSequence secs) {
+        return (int) parseFixedPoint(secs, 2);
+    }
+
+    /**
+     * Convert seconds to microseconds.
+     * 
+     * For example: Convert 0.0225213 to 22521
+     * 
+     * @param secs
+     *            Seconds as a whole number or decimal.
+     * @return Microseconds rounded down to a whole number.
+     */
+    public static int parseSecsToMicros(CharSequence secs) {
+        return (int) parseFixedPoint(secs, 6);
+    }
+
+    /**
+     * Convert seconds to milliseconds.
+     * 
+     * For example: Convert 0.0225213 to 22.
+     * 
+     * @param secs
+     *            Seconds as a whole number or decimal.
+     * @return Milliseconds rounded down to a whole number.
+     */
+    public static long parseSecsToMillis(CharSequence secs) {
+        return parseFixedPoint(secs, 3);
+    }
+
+    /**
+     * Convert seconds to nanoseconds.
+     * 
+     * For example: Convert 0.0225213 to 22521300
+     * 
+     * @param secs
+     *            Seconds as a whole number or decimal.
+     * @return Nanoseconds rounded down to a whole number.
+     */
+    public static long parseSecsToNanos(CharSequence secs) {
+        return parseFixedPoint(secs, 9);
+    }
+
     /**
      * Round milliseconds to whole number.
      * 
@@ -397,10 +532,7 @@ public final class JdkMath {
      * @return Milliseconds rounded to a whole number.
      */
     public static BigDecimal roundMillis(String millis) {
-        // BigDecimal does not accept decimal commas, only decimal periods
-        BigDecimal rounded = new BigDecimal(millis.replace(",", "."));
-        // Round down to avoid TimeWarpExceptions when events are spaced close together
-        return rounded.setScale(0, RoundingMode.DOWN);
+        return BigDecimal.valueOf(parseFixedPoint(millis, 0));
     }
 
     /**
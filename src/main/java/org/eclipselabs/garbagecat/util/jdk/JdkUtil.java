@@ -12,9 +12,9 @@
  *********************************************************************************************************************/
 package org.eclipselabs.garbagecat.util.jdk;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
-import java.text.SimpleDateFormat;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 import java.util.Date;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -205,6 +205,17 @@ public final class JdkUtil {
     public static final int DECORATOR_SIZE = Pattern.compile(JdkRegEx.DECORATOR)
             .matcher("2020-03-10T08:03:29.311-0400: 0.373:").groupCount();
 
+    /**
+     * Format of the datestamps log entry timestamps are converted to. Thread safe.
+     */
+    private static final DateTimeFormatter LOG_ENTRY_DATESTAMP_FORMATTER = DateTimeFormatter
+            .ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
+
+    /**
+     * Log entry timestamp, with the colon and space after it so durations are not picked up.
+     */
+    private static final Pattern LOG_ENTRY_TIMESTAMP_PATTERN = Pattern.compile(JdkRegEx.TIMESTAMP + "(: )");
+
     /**
      * Convert datestamp to milliseconds from a point in time.
      * 
@@ -214,8 +225,12 @@ public final class JdkUtil {
      */
     public static long convertDatestampToMillis(String datestamp) {
         // Calculate uptimemillis from random date/time
-        Date eventDate = GcUtil.parseDateStamp(datestamp);
-        return GcUtil.dateDiff(GcUtil.JVM_START_DATE, eventDate);
+        long eventMillis = GcUtil.parseDateStampMillis(datestamp, 0);
+        if (eventMillis == Long.MIN_VALUE) {
+            Date eventDate = GcUtil.parseDateStamp(datestamp);
+            return GcUtil.dateDiff(GcUtil.JVM_START_DATE, eventDate);
+        }
+        return eventMillis - GcUtil.JVM_START_DATE.getTime();
     }
 
     /**
@@ -228,21 +243,248 @@ public final class JdkUtil {
      * @return the log entry with the timestamp converted to a datestamp.
      */
     public static final String convertLogEntryTimestampsToDateStamp(String logEntry, Date jvmStartDate) {
-        // Add the colon or space after the timestamp format so durations will
-        // not get picked up.
-        Pattern pattern = Pattern.compile(JdkRegEx.TIMESTAMP + "(: )");
-        Matcher matcher = pattern.matcher(logEntry);
+        Matcher matcher = LOG_ENTRY_TIMESTAMP_PATTERN.matcher(logEntry);
         StringBuffer sb = new StringBuffer();
         while (matcher.find()) {
             Date date = GcUtil.getDatePlusTimestamp(jvmStartDate,
-                    JdkMath.convertSecsToMillis(matcher.group(1)).longValue());
-            SimpleDateFormat formatter = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSS");
-            matcher.appendReplacement(sb, formatter.format(date) + matcher.group(2));
+                    JdkMath.parseSecsToMillis(matcher.group(1)));
+            String datestamp = LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault())
+                    .format(LOG_ENTRY_DATESTAMP_FORMATTER);
+            matcher.appendReplacement(sb, datestamp + matcher.group(2));
         }
         matcher.appendTail(sb);
         return sb.toString();
     }
 
+    /**
+     * Create the <code>LogEvent</code> for a log line that has already been identified.
+     * 
+     * @param eventType
+     *            The <code>EventType</code> of the log line.
+     * @param logLine
+     *            The log line.
+     * @return The <code>LogEvent</code> for the log line.
+     */
+    public static final LogEvent createLogEvent(EventType eventType, String logLine) {
+        switch (eventType) {
+        // Unified (order of appearance)
+        case UNIFIED_SAFEPOINT:
+            return new UnifiedSafepointEvent(logLine);
+        case UNIFIED_BLANK_LINE:
+            return new UnifiedBlankLineEvent(logLine);
+        case UNIFIED_CONCURRENT:
+            return new UnifiedConcurrentEvent(logLine);
+        case UNIFIED_CMS_INITIAL_MARK:
+            return new UnifiedCmsInitialMarkEvent(logLine);
+        case UNIFIED_FOOTER_STATS:
+            return new UnifiedFooterStatsEvent(logLine);
+        case UNIFIED_G1_CLEANUP:
+            return new UnifiedG1CleanupEvent(logLine);
+        case UNIFIED_G1_FULL_GC_PARALLEL:
+            return new UnifiedG1FullGcEvent(logLine);
+        case UNIFIED_G1_MIXED_PAUSE:
+            return new UnifiedG1MixedPauseEvent(logLine);
+        case UNIFIED_G1_YOUNG_INITIAL_MARK:
+            return new UnifiedG1YoungInitialMarkEvent(logLine);
+        case UNIFIED_G1_YOUNG_PAUSE:
+            return new UnifiedG1YoungPauseEvent(logLine);
+        case UNIFIED_G1_YOUNG_PREPARE_MIXED:
+            return new UnifiedG1YoungPrepareMixedEvent(logLine);
+        case UNIFIED_HEADER:
+            return new UnifiedHeaderEvent(logLine);
+        case UNIFIED_OLD:
+            return new UnifiedOldEvent(logLine);
+        case UNIFIED_PARALLEL_COMPACTING_OLD:
+            return new UnifiedParallelCompactingOldEvent(logLine);
+        case UNIFIED_PARALLEL_SCAVENGE:
+            return new UnifiedParallelScavengeEvent(logLine);
+        case UNIFIED_PAR_NEW:
+            return new UnifiedParNewEvent(logLine);
+        case UNIFIED_REMARK:
+            return new UnifiedRemarkEvent(logLine);
+        case UNIFIED_SERIAL_NEW:
+            return new UnifiedSerialNewEvent(logLine);
+        case UNIFIED_SERIAL_OLD:
+            return new UnifiedSerialOldEvent(logLine);
+        case UNIFIED_SHENANDOAH_DEGENERATED_GC:
+            return new UnifiedShenandoahDegeneratedGcEvent(logLine);
+        case UNIFIED_SHENANDOAH_FINAL_EVAC:
+            return new UnifiedShenandoahFinalEvacEvent(logLine);
+        case UNIFIED_SHENANDOAH_FINAL_MARK:
+            return new UnifiedShenandoahFinalMarkEvent(logLine);
+        case UNIFIED_SHENANDOAH_FINAL_UPDATE_REFS:
+            return new UnifiedShenandoahFinalUpdateRefsEvent(logLine);
+        case UNIFIED_SHENANDOAH_FULL_GC:
+            return new UnifiedShenandoahFullGcEvent(logLine);
+        case UNIFIED_SHENANDOAH_INIT_MARK:
+            return new UnifiedShenandoahInitMarkEvent(logLine);
+        case UNIFIED_SHENANDOAH_INIT_UPDATE_REFS:
+            return new UnifiedShenandoahInitUpdateRefsEvent(logLine);
+        case UNIFIED_SHENANDOAH_STATS:
+            return new UnifiedShenandoahStatsEvent(logLine);
+        case UNIFIED_SHENANDOAH_TRIGGER:
+            return new UnifiedShenandoahTriggerEvent(logLine);
+        case UNIFIED_YOUNG:
+            return new UnifiedYoungEvent(logLine);
+        case UNIFIED_GC_LOCKER_RETRY:
+            return new UnifiedGcLockerRetryEvent(logLine);
+        case UNIFIED_HEAP:
+            return new UnifiedHeapEvent(logLine);
+        case UNIFIED_HEAP_DUMP_AFTER_FULL_GC:
+            return new UnifiedHeapDumpAfterFullGcEvent(logLine);
+        case UNIFIED_HEAP_DUMP_BEFORE_FULL_GC:
+            return new UnifiedHeapDumpBeforeFullGcEvent(logLine);
+        case FOOTER_STATS:
+            return new FooterStatsEvent(logLine);
+
+        // G1
+        case G1_CLEANUP:
+            return new G1CleanupEvent(logLine);
+        case G1_CONCURRENT:
+            return new G1ConcurrentEvent(logLine);
+        case G1_FULL_GC_SERIAL:
+            return new G1FullGcEvent(logLine);
+        case G1_MIXED_PAUSE:
+            return new G1MixedPauseEvent(logLine);
+        case G1_REMARK:
+            return new G1RemarkEvent(logLine);
+        case G1_YOUNG_INITIAL_MARK:
+            return new G1YoungInitialMarkEvent(logLine);
+        case G1_YOUNG_PAUSE:
+            return new G1YoungPauseEvent(logLine);
+
+        // Shenandoah
+        case UNIFIED_SHENANDOAH_CANCELLING_GC:
+            return new UnifiedShenandoahCancellingGcEvent(logLine);
+        case SHENANDOAH_CONCURRENT:
+            return new ShenandoahConcurrentEvent(logLine);
+        case SHENANDOAH_DEGENERATED_GC:
+            return new ShenandoahDegeneratedGcEvent(logLine);
+        case SHENANDOAH_FINAL_EVAC:
+            return new ShenandoahFinalEvacEvent(logLine);
+        case SHENANDOAH_FINAL_MARK:
+            return new ShenandoahFinalMarkEvent(logLine);
+        case UNIFIED_SHENANDOAH_FINAL_ROOTS:
+            return new UnifiedShenandoahFinalRootsEvent(logLine);
+        case SHENANDOAH_FINAL_UPDATE:
+            return new ShenandoahFinalUpdateEvent(logLine);
+        case SHENANDOAH_FULL_GC:
+            return new ShenandoahFullGcEvent(logLine);
+        case SHENANDOAH_INIT_MARK:
+            return new ShenandoahInitMarkEvent(logLine);
+        case SHENANDOAH_INIT_UPDATE:
+            return new ShenandoahInitUpdateEvent(logLine);
+        case SHENANDOAH_STATS:
+            return new ShenandoahStatsEvent(logLine);
+        case SHENANDOAH_TRIGGER:
+            return new ShenandoahTriggerEvent(logLine);
+
+        // Z
+        case Z_ALLOCATION_STALL:
+            return new ZAllocationStallEvent(logLine);
+        case Z_CONCURRENT:
+            return new ZConcurrentEvent(logLine);
+        case Z_MARK_END:
+            return new ZMarkEndEvent(logLine);
+        case Z_MARK_END_OLD:
+            return new ZMarkEndOldEvent(logLine);
+        case Z_MARK_END_YOUNG:
+            return new ZMarkEndYoungEvent(logLine);
+        case Z_MARK_START:
+            return new ZMarkStartEvent(logLine);
+        case Z_MARK_START_YOUNG:
+            return new ZMarkStartYoungEvent(logLine);
+        case Z_MARK_START_YOUNG_AND_OLD:
+            return new ZMarkStartYoungAndOldEvent(logLine);
+        case Z_RELOCATE_START:
+            return new ZRelocateStartEvent(logLine);
+        case Z_RELOCATE_START_OLD:
+            return new ZRelocateStartOldEvent(logLine);
+        case Z_RELOCATE_START_YOUNG:
+            return new ZRelocateStartYoungEvent(logLine);
+        case Z_RELOCATION_STALL:
+            return new ZRelocationStallEvent(logLine);
+        case Z_STATS:
+            return new ZStatsEvent(logLine);
+
+        // CMS
+        case PAR_NEW:
+            return new ParNewEvent(logLine);
+        case CMS_CONCURRENT:
+            return new CmsConcurrentEvent(logLine);
+        case CMS_INITIAL_MARK:
+            return new CmsInitialMarkEvent(logLine);
+        case CMS_REMARK:
+            return new CmsRemarkEvent(logLine);
+        case CMS_SERIAL_OLD:
+            return new CmsSerialOldEvent(logLine);
+
+        // Parallel
+        case PARALLEL_COMPACTING_OLD:
+            return new ParallelCompactingOldEvent(logLine);
+        case PARALLEL_SCAVENGE:
+            return new ParallelScavengeEvent(logLine);
+        case PARALLEL_SERIAL_OLD:
+            return new ParallelSerialOldEvent(logLine);
+
+        // Serial
+        case SERIAL_NEW:
+            return new SerialNewEvent(logLine);
+        case SERIAL_OLD:
+            return new SerialOldEvent(logLine);
+
+        // Other
+        case APPLICATION_CONCURRENT_TIME:
+            return new ApplicationConcurrentTimeEvent(logLine);
+        case APPLICATION_LOGGING:
+            return new ApplicationLoggingEvent(logLine);
+        case APPLICATION_STOPPED_TIME:
+            return new ApplicationStoppedTimeEvent(logLine);
+        case BLANK_LINE:
+            return new BlankLineEvent(logLine);
+        case CLASS_HISTOGRAM:
+            return new ClassHistogramEvent(logLine);
+        case CLASS_UNLOADING:
+            return new ClassUnloadingEvent(logLine);
+        case FLS_STATISTICS:
+            return new FlsStatisticsEvent(logLine);
+        case GC_INFO:
+            return new GcInfoEvent(logLine);
+        case GC_LOCKER_SCAVENGE_FAILED:
+            return new GcLockerScavengeFailedEvent(logLine);
+        case GC_OVERHEAD_LIMIT:
+            return new GcOverheadLimitEvent(logLine);
+        case HEADER_COMMAND_LINE_FLAGS:
+            return new HeaderCommandLineFlagsEvent(logLine);
+        case HEADER_MEMORY:
+            return new HeaderMemoryEvent(logLine);
+        case HEADER_VM_INFO:
+            return new HeaderVmInfoEvent(logLine);
+        case HEAP:
+            return new HeapEvent(logLine);
+        case HEAP_AT_GC:
+            return new HeapAtGcEvent(logLine);
+        case LOG_FILE:
+            return new LogFileEvent(logLine);
+        case OOME_METASPACE:
+            return new OomeMetaspaceEvent(logLine);
+        case TENURING_DISTRIBUTION:
+            return new TenuringDistributionEvent(logLine);
+        case THREAD_DUMP:
+            return new ThreadDumpEvent(logLine);
+        case UNKNOWN:
+            return new UnknownEvent(logLine);
+        case VERBOSE_GC_OLD:
+            return new VerboseGcOldEvent(logLine);
+        case VERBOSE_GC_YOUNG:
+            return new VerboseGcYoungEvent(logLine);
+        case VM_WARNING:
+            return new VmWarningEvent(logLine);
+        default:
+            throw new AssertionError("Unexpected event type value: " + eventType);
+        }
+    }
+
     public static final EventType determineEventType(String eventTypeString) {
         EventType[] logEventTypes = EventType.values();
         for (EventType logEventType : logEventTypes) {
@@ -292,7 +534,7 @@ public final class JdkUtil {
                 || priorLogEvent instanceof UnknownEvent) {
             // Unknown
             logEventType = UnifiedUtil.identifyEventType(logLine, priorLogEvent, collectorFamily);
-            if (logEventType == EventType.UNKNOWN) {
+            if (logEventType == EventType.UNKNOWN && !isUnifiedDecorated(logLine)) {
                 logEventType = identifyLegacyEventType(logLine, priorLogEvent);
             }
         } else {
@@ -384,8 +626,8 @@ public final class JdkUtil {
             return EventType.SHENANDOAH_INIT_MARK;
         if (ShenandoahInitUpdateEvent.match(logLine))
             return EventType.SHENANDOAH_INIT_UPDATE;
-        if (logLine.matches(ShenandoahStatsEvent._REGEX_HEADER)
-                || (ShenandoahStatsEvent.match(logLine) && priorLogEvent instanceof ShenandoahStatsEvent))
+        if (ShenandoahStatsEvent.matchHeader(logLine)
+                || (priorLogEvent instanceof ShenandoahStatsEvent && ShenandoahStatsEvent.match(logLine)))
             return EventType.SHENANDOAH_STATS;
         if (ShenandoahTriggerEvent.match(logLine))
             return EventType.SHENANDOAH_TRIGGER;
@@ -397,13 +639,13 @@ public final class JdkUtil {
             return EventType.APPLICATION_STOPPED_TIME;
         if (ClassUnloadingEvent.match(logLine))
             return EventType.CLASS_UNLOADING;
-        if (logLine.matches(FooterStatsEvent._REGEX_HEADER)
-                || (FooterStatsEvent.match(logLine) && priorLogEvent instanceof FooterStatsEvent))
+        if (FooterStatsEvent.matchHeader(logLine)
+                || (priorLogEvent instanceof FooterStatsEvent && FooterStatsEvent.match(logLine)))
             return EventType.FOOTER_STATS;
         if (GcInfoEvent.match(logLine) && !(priorLogEvent instanceof UnifiedHeaderEvent))
             return EventType.GC_INFO;
-        if (logLine.matches(HeapEvent._REGEX_HEADER)
-                || (HeapEvent.match(logLine) && priorLogEvent instanceof HeapEvent))
+        if (HeapEvent.matchHeader(logLine)
+                || (priorLogEvent instanceof HeapEvent && HeapEvent.match(logLine)))
             return EventType.HEAP;
         if (HeapAtGcEvent.match(logLine))
             return EventType.HEAP_AT_GC;
@@ -458,17 +700,16 @@ public final class JdkUtil {
          * seems to have threading issues where sometimes logging gets mixed up under heavy load, and an event appears
          * to start before the previous event finished. They are mainly very small overlaps or a few milliseconds.
          */
-        long eventTimestampNanos = JdkMath.convertMillisToNanos(String.valueOf(event.getTimestamp())).longValue();
+        long eventTimestampNanos = event.getTimestamp() * 1000000;
         // Exclude <code>ApplicationStoppedTime</code> w/o datestamp/timestamp
         // Exclude microevents where timestamps are equal (for report readability)
         if (eventTimestampNanos > 0 && event.getTimestamp() != priorEvent.getTimestamp()) {
-            long priorEventTimestampNanos = JdkMath.convertMillisToNanos(String.valueOf(priorEvent.getTimestamp()))
-                    .longValue();
+            long priorEventTimestampNanos = priorEvent.getTimestamp() * 1000000;
             long priorEventDurationNanos;
-            if (priorEvent instanceof UnifiedSafepointEvent) {
+            if (priorEvent.getEventType() == EventType.UNIFIED_SAFEPOINT) {
                 priorEventDurationNanos = priorEvent.getDurationMicros();
             } else {
-                priorEventDurationNanos = JdkMath.convertMicrosToNanos(priorEvent.getDurationMicros()).longValue();
+                priorEventDurationNanos = priorEvent.getDurationMicros() * 1000;
             }
             if (eventTimestampNanos < priorEventTimestampNanos - 1000000L) {
                 // Only report if 2nd event > 1 millisecond before 1st event
@@ -481,10 +722,10 @@ public final class JdkUtil {
                         + Constants.LINE_SEPARATOR + event.getLogEntry());
             } else {
                 long eventDurationNanos;
-                if (event instanceof UnifiedSafepointEvent) {
+                if (event.getEventType() == EventType.UNIFIED_SAFEPOINT) {
                     eventDurationNanos = event.getDurationMicros();
                 } else {
-                    eventDurationNanos = JdkMath.convertMicrosToNanos(event.getDurationMicros()).longValue();
+                    eventDurationNanos = event.getDurationMicros() * 1000;
                 }
                 /*
                  * Timestamp is the start of an event; therefore, the interval is from the prior event timestamp to the
@@ -492,11 +733,10 @@ public final class JdkUtil {
                  */
                 long interval = eventTimestampNanos + eventDurationNanos - priorEventTimestampNanos;
                 // Determine the maximum duration for the given interval that meets the throughput goal.
-                BigDecimal durationThresholdNanos = new BigDecimal(100 - throughputThreshold);
-                durationThresholdNanos = durationThresholdNanos.movePointLeft(2);
-                durationThresholdNanos = durationThresholdNanos.multiply(new BigDecimal(interval));
-                durationThresholdNanos.setScale(0, RoundingMode.DOWN);
-                isBottleneck = (eventDurationNanos + priorEventDurationNanos) > durationThresholdNanos.longValue();
+                // Split the interval to multiply by the percent without overflow, rounding down.
+                int percent = 100 - throughputThreshold;
+                long durationThresholdNanos = interval / 100 * percent + interval % 100 * percent / 100;
+                isBottleneck = (eventDurationNanos + priorEventDurationNanos) > durationThresholdNanos;
             }
         }
         return isBottleneck;
@@ -515,6 +755,20 @@ public final class JdkUtil {
         return pattern.matcher(logLine).matches();
     }
 
+    /**
+     * Cheap check for a unified logging time decorator (e.g. [2020-02-14T15:21:55.207-0500] or [0.052s]), used to skip
+     * the legacy event checks (and loading all the legacy event classes) for unified log lines no unified event
+     * identifies. No legacy event starts with an opening bracket followed by a digit.
+     * 
+     * @param logLine
+     *            The log line.
+     * @return True if the log line starts with a unified logging time decorator, false otherwise.
+     */
+    public static final boolean isUnifiedDecorated(String logLine) {
+        return logLine != null && logLine.length() > 1 && logLine.charAt(0) == '['
+                && Character.isDigit(logLine.charAt(1));
+    }
+
     /**
      * @param logLine
      *            The log line.
@@ -525,224 +779,28 @@ public final class JdkUtil {
      * @return The <code>LogEvent</code> for the log line.
      */
     public static final LogEvent parseLogLine(String logLine, LogEvent priorLogEvent, CollectorFamily collectorFamily) {
-        EventType eventType = identifyEventType(logLine, priorLogEvent, collectorFamily);
-        switch (eventType) {
-        // Unified (order of appearance)
-        case UNIFIED_SAFEPOINT:
-            return new UnifiedSafepointEvent(logLine);
-        case UNIFIED_BLANK_LINE:
-            return new UnifiedBlankLineEvent(logLine);
-        case UNIFIED_CONCURRENT:
-            return new UnifiedConcurrentEvent(logLine);
-        case UNIFIED_CMS_INITIAL_MARK:
-            return new UnifiedCmsInitialMarkEvent(logLine);
-        case UNIFIED_FOOTER_STATS:
-            return new UnifiedFooterStatsEvent(logLine);
-        case UNIFIED_G1_CLEANUP:
-            return new UnifiedG1CleanupEvent(logLine);
-        case UNIFIED_G1_FULL_GC_PARALLEL:
-            return new UnifiedG1FullGcEvent(logLine);
-        case UNIFIED_G1_MIXED_PAUSE:
-            return new UnifiedG1MixedPauseEvent(logLine);
-        case UNIFIED_G1_YOUNG_INITIAL_MARK:
-            return new UnifiedG1YoungInitialMarkEvent(logLine);
-        case UNIFIED_G1_YOUNG_PAUSE:
-            return new UnifiedG1YoungPauseEvent(logLine);
-        case UNIFIED_G1_YOUNG_PREPARE_MIXED:
-            return new UnifiedG1YoungPrepareMixedEvent(logLine);
-        case UNIFIED_HEADER:
-            return new UnifiedHeaderEvent(logLine);
-        case UNIFIED_OLD:
-            return new UnifiedOldEvent(logLine);
-        case UNIFIED_PARALLEL_COMPACTING_OLD:
-            return new UnifiedParallelCompactingOldEvent(logLine);
-        case UNIFIED_PARALLEL_SCAVENGE:
-            return new UnifiedParallelScavengeEvent(logLine);
-        case UNIFIED_PAR_NEW:
-            return new UnifiedParNewEvent(logLine);
-        case UNIFIED_REMARK:
-            return new UnifiedRemarkEvent(logLine);
-        case UNIFIED_SERIAL_NEW:
-            return new UnifiedSerialNewEvent(logLine);
-        case UNIFIED_SERIAL_OLD:
-            return new UnifiedSerialOldEvent(logLine);
-        case UNIFIED_SHENANDOAH_DEGENERATED_GC:
-            return new UnifiedShenandoahDegeneratedGcEvent(logLine);
-        case UNIFIED_SHENANDOAH_FINAL_EVAC:
-            return new UnifiedShenandoahFinalEvacEvent(logLine);
-        case UNIFIED_SHENANDOAH_FINAL_MARK:
-            return new UnifiedShenandoahFinalMarkEvent(logLine);
-        case UNIFIED_SHENANDOAH_FINAL_UPDATE_REFS:
-            return new UnifiedShenandoahFinalUpdateRefsEvent(logLine);
-        case UNIFIED_SHENANDOAH_FULL_GC:
-            return new UnifiedShenandoahFullGcEvent(logLine);
-        case UNIFIED_SHENANDOAH_INIT_MARK:
-            return new UnifiedShenandoahInitMarkEvent(logLine);
-        case UNIFIED_SHENANDOAH_INIT_UPDATE_REFS:
-            return new UnifiedShenandoahInitUpdateRefsEvent(logLine);
-        case UNIFIED_SHENANDOAH_STATS:
-            return new UnifiedShenandoahStatsEvent(logLine);
-        case UNIFIED_SHENANDOAH_TRIGGER:
-            return new UnifiedShenandoahTriggerEvent(logLine);
-        case UNIFIED_YOUNG:
-            return new UnifiedYoungEvent(logLine);
-        case UNIFIED_GC_LOCKER_RETRY:
-            return new UnifiedGcLockerRetryEvent(logLine);
-        case UNIFIED_HEAP:
-            return new UnifiedHeapEvent(logLine);
-        case UNIFIED_HEAP_DUMP_AFTER_FULL_GC:
-            return new UnifiedHeapDumpAfterFullGcEvent(logLine);
-        case UNIFIED_HEAP_DUMP_BEFORE_FULL_GC:
-            return new UnifiedHeapDumpBeforeFullGcEvent(logLine);
-        case FOOTER_STATS:
-            return new FooterStatsEvent(logLine);
-
-        // G1
-        case G1_CLEANUP:
-            return new G1CleanupEvent(logLine);
-        case G1_CONCURRENT:
-            return new G1ConcurrentEvent(logLine);
-        case G1_FULL_GC_SERIAL:
-            return new G1FullGcEvent(logLine);
-        case G1_MIXED_PAUSE:
-            return new G1MixedPauseEvent(logLine);
-        case G1_REMARK:
-            return new G1RemarkEvent(logLine);
-        case G1_YOUNG_INITIAL_MARK:
-            return new G1YoungInitialMarkEvent(logLine);
-        case G1_YOUNG_PAUSE:
-            return new G1YoungPauseEvent(logLine);
-
-        // Shenandoah
-        case UNIFIED_SHENANDOAH_CANCELLING_GC:
-            return new UnifiedShenandoahCancellingGcEvent(logLine);
-        case SHENANDOAH_CONCURRENT:
-            return new ShenandoahConcurrentEvent(logLine);
-        case SHENANDOAH_DEGENERATED_GC:
-            return new ShenandoahDegeneratedGcEvent(logLine);
-        case SHENANDOAH_FINAL_EVAC:
-            return new ShenandoahFinalEvacEvent(logLine);
-        case SHENANDOAH_FINAL_MARK:
-            return new ShenandoahFinalMarkEvent(logLine);
-        case UNIFIED_SHENANDOAH_FINAL_ROOTS:
-            return new UnifiedShenandoahFinalRootsEvent(logLine);
-        case SHENANDOAH_FINAL_UPDATE:
-            return new ShenandoahFinalUpdateEvent(logLine);
-        case SHENANDOAH_FULL_GC:
-            return new ShenandoahFullGcEvent(logLine);
-        case SHENANDOAH_INIT_MARK:
-            return new ShenandoahInitMarkEvent(logLine);
-        case SHENANDOAH_INIT_UPDATE:
-            return new ShenandoahInitUpdateEvent(logLine);
-        case SHENANDOAH_STATS:
-            return new ShenandoahStatsEvent(logLine);
-        case SHENANDOAH_TRIGGER:
-            return new ShenandoahTriggerEvent(logLine);
-
-        // Z
-        case Z_ALLOCATION_STALL:
-            return new ZAllocationStallEvent(logLine);
-        case Z_CONCURRENT:
-            return new ZConcurrentEvent(logLine);
-        case Z_MARK_END:
-            return new ZMarkEndEvent(logLine);
-        case Z_MARK_END_OLD:
-            return new ZMarkEndOldEvent(logLine);
-        case Z_MARK_END_YOUNG:
-            return new ZMarkEndYoungEvent(logLine);
-        case Z_MARK_START:
-            return new ZMarkStartEvent(logLine);
-        case Z_MARK_START_YOUNG:
-            return new ZMarkStartYoungEvent(logLine);
-        case Z_MARK_START_YOUNG_AND_OLD:
-            return new ZMarkStartYoungAndOldEvent(logLine);
-        case Z_RELOCATE_START:
-            return new ZRelocateStartEvent(logLine);
-        case Z_RELOCATE_START_OLD:
-            return new ZRelocateStartOldEvent(logLine);
-        case Z_RELOCATE_START_YOUNG:
-            return new ZRelocateStartYoungEvent(logLine);
-        case Z_RELOCATION_STALL:
-            return new ZRelocationStallEvent(logLine);
-        case Z_STATS:
-            return new ZStatsEvent(logLine);
-
-        // CMS
-        case PAR_NEW:
-            return new ParNewEvent(logLine);
-        case CMS_CONCURRENT:
-            return new CmsConcurrentEvent(logLine);
-        case CMS_INITIAL_MARK:
-            return new CmsInitialMarkEvent(logLine);
-        case CMS_REMARK:
-            return new CmsRemarkEvent(logLine);
-        case CMS_SERIAL_OLD:
-            return new CmsSerialOldEvent(logLine);
-
-        // Parallel
-        case PARALLEL_COMPACTING_OLD:
-            return new ParallelCompactingOldEvent(logLine);
-        case PARALLEL_SCAVENGE:
-            return new ParallelScavengeEvent(logLine);
-        case PARALLEL_SERIAL_OLD:
-            return new ParallelSerialOldEvent(logLine);
-
-        // Serial
-        case SERIAL_NEW:
-            return new SerialNewEvent(logLine);
-        case SERIAL_OLD:
-            return new SerialOldEvent(logLine);
-
-        // Other
-        case APPLICATION_CONCURRENT_TIME:
-            return new ApplicationConcurrentTimeEvent(logLine);
-        case APPLICATION_LOGGING:
-            return new ApplicationLoggingEvent(logLine);
-        case APPLICATION_STOPPED_TIME:
-            return new ApplicationStoppedTimeEvent(logLine);
-        case BLANK_LINE:
-            return new BlankLineEvent(logLine);
-        case CLASS_HISTOGRAM:
-            return new ClassHistogramEvent(logLine);
-        case CLASS_UNLOADING:
-            return new ClassUnloadingEvent(logLine);
-        case FLS_STATISTICS:
-            return new FlsStatisticsEvent(logLine);
-        case GC_INFO:
-            return new GcInfoEvent(logLine);
-        case GC_LOCKER_SCAVENGE_FAILED:
-            return new GcLockerScavengeFailedEvent(logLine);
-        case GC_OVERHEAD_LIMIT:
-            return new GcOverheadLimitEvent(logLine);
-        case HEADER_COMMAND_LINE_FLAGS:
-            return new HeaderCommandLineFlagsEvent(logLine);
-        case HEADER_MEMORY:
-            return new HeaderMemoryEvent(logLine);
-        case HEADER_VM_INFO:
-            return new HeaderVmInfoEvent(logLine);
-        case HEAP:
-            return new HeapEvent(logLine);
-        case HEAP_AT_GC:
-            return new HeapAtGcEvent(logLine);
-        case LOG_FILE:
-            return new LogFileEvent(logLine);
-        case OOME_METASPACE:
-            return new OomeMetaspaceEvent(logLine);
-        case TENURING_DISTRIBUTION:
-            return new TenuringDistributionEvent(logLine);
-        case THREAD_DUMP:
-            return new ThreadDumpEvent(logLine);
-        case UNKNOWN:
-            return new UnknownEvent(logLine);
-        case VERBOSE_GC_OLD:
-            return new VerboseGcOldEvent(logLine);
-        case VERBOSE_GC_YOUNG:
-            return new VerboseGcYoungEvent(logLine);
-        case VM_WARNING:
-            return new VmWarningEvent(logLine);
-        default:
-            throw new AssertionError("Unexpected event type value: " + eventType);
+        EventType eventType;
+        if (priorLogEvent instanceof UnifiedLogging) {
+            // Unified
+            LogEvent event = UnifiedUtil.parseLogLine(logLine, priorLogEvent, collectorFamily);
+            if (event != null) {
+                return event;
+            }
+            eventType = EventType.UNKNOWN;
+        } else if (priorLogEvent == null || priorLogEvent instanceof NullEvent
+                || priorLogEvent instanceof UnknownEvent) {
+            // Unknown
+            LogEvent event = UnifiedUtil.parseLogLine(logLine, priorLogEvent, collectorFamily);
+            if (event != null) {
+                return event;
+            }
+            eventType = isUnifiedDecorated(logLine) ? EventType.UNKNOWN
+                    : identifyLegacyEventType(logLine, priorLogEvent);
+        } else {
+            // Legacy
+            eventType = identifyLegacyEventType(logLine, priorLogEvent);
         }
+        return createLogEvent(eventType, logLine);
     }
 
     /**
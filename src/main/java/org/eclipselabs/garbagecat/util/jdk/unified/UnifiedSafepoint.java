@@ -12,6 +12,9 @@
  *********************************************************************************************************************/
 package org.eclipselabs.garbagecat.util.jdk.unified;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * <p>
  * Regular expression constants for safepoint triggers.
@@ -538,6 +541,25 @@ public class UnifiedSafepoint {
      */
     public static final String Z_RELOCATE_START_YOUNG = "ZRelocateStartYoung";
 
+    /**
+     * <code>Trigger</code> lookup by log literal.
+     */
+    private static final Map<String, Trigger> TRIGGERS_BY_LITERAL = new HashMap<>();
+
+    /**
+     * <code>Trigger</code> lookup by name.
+     */
+    private static final Map<String, Trigger> TRIGGERS_BY_NAME = new HashMap<>();
+
+    static {
+        for (Trigger trigger : Trigger.values()) {
+            if (trigger != Trigger.UNKNOWN) {
+                TRIGGERS_BY_LITERAL.put(getTriggerLiteral(trigger), trigger);
+            }
+            TRIGGERS_BY_NAME.put(trigger.name(), trigger);
+        }
+    }
+
     /**
      * Get <code>Trigger</code> from log literal.
      * 
@@ -546,130 +568,8 @@ public class UnifiedSafepoint {
      * @return The <code>Trigger</code>.
      */
     public static final Trigger getTrigger(String triggerLiteral) {
-        if (BULK_REVOKE_BIAS.matches(triggerLiteral))
-            return Trigger.BULK_REVOKE_BIAS;
-        if (CGC_OPERATION.matches(triggerLiteral))
-            return Trigger.CGC_OPERATION;
-        if (CLASSLOADER_STATS_OPERATION.matches(triggerLiteral))
-            return Trigger.CLASSLOADER_STATS_OPERATION;
-        if (CLEANUP.matches(triggerLiteral))
-            return Trigger.CLEANUP;
-        if (CLEAN_CLASSLOADER_DATA_METASPACES.matches(triggerLiteral))
-            return Trigger.CLEAN_CLASSLOADER_DATA_METASPACES;
-        if (COLLECT_FOR_METADATA_ALLOCATION.matches(triggerLiteral))
-            return Trigger.COLLECT_FOR_METADATA_ALLOCATION;
-        if (CMS_FINAL_REMARK.matches(triggerLiteral))
-            return Trigger.CMS_FINAL_REMARK;
-        if (CMS_INITIAL_MARK.matches(triggerLiteral))
-            return Trigger.CMS_INITIAL_MARK;
-        if (DEOPTIMIZE.matches(triggerLiteral))
-            return Trigger.DEOPTIMIZE;
-        if (ENABLE_BIASED_LOCKING.matches(triggerLiteral))
-            return Trigger.ENABLE_BIASED_LOCKING;
-        if (EXIT.matches(triggerLiteral))
-            return Trigger.EXIT;
-        if (FIND_DEADLOCKS.matches(triggerLiteral))
-            return Trigger.FIND_DEADLOCKS;
-        if (FORCE_SAFEPOINT.matches(triggerLiteral))
-            return Trigger.FORCE_SAFEPOINT;
-        if (GC_HEAP_INSPECTION.matches(triggerLiteral))
-            return Trigger.GC_HEAP_INSPECTION;
-        if (G1_COLLECT_FOR_ALLOCATION.matches(triggerLiteral))
-            return Trigger.G1_COLLECT_FOR_ALLOCATION;
-        if (G1_COLLECT_FULL.matches(triggerLiteral))
-            return Trigger.G1_COLLECT_FULL;
-        if (G1_CONCURRENT.matches(triggerLiteral))
-            return Trigger.G1_CONCURRENT;
-        if (G1_INC_COLLECTION_PAUSE.matches(triggerLiteral))
-            return Trigger.G1_INC_COLLECTION_PAUSE;
-        if (G1_PAUSE_CLEANUP.matches(triggerLiteral))
-            return Trigger.G1_PAUSE_CLEANUP;
-        if (G1_PAUSE_REMARK.matches(triggerLiteral))
-            return Trigger.G1_PAUSE_REMARK;
-        if (G1_TRY_INITIATE_CONC_MARK.matches(triggerLiteral))
-            return Trigger.G1_TRY_INITIATE_CONC_MARK;
-        if (GEN_COLLECT_FOR_ALLOCATION.matches(triggerLiteral))
-            return Trigger.GEN_COLLECT_FOR_ALLOCATION;
-        if (GEN_COLLECT_FULL_CONCURRENT.matches(triggerLiteral))
-            return Trigger.GEN_COLLECT_FULL_CONCURRENT;
-        if (GET_ALL_STACK_TRACES.matches(triggerLiteral))
-            return Trigger.GET_ALL_STACK_TRACES;
-        if (GET_THREAD_LIST_STACK_TRACES.matches(triggerLiteral))
-            return Trigger.GET_THREAD_LIST_STACK_TRACES;
-        if (HALT.matches(triggerLiteral))
-            return Trigger.HALT;
-        if (HANDSHAKE_FALL_BACK.matches(triggerLiteral))
-            return Trigger.HANDSHAKE_FALL_BACK;
-        if (HEAP_DUMPER.matches(triggerLiteral))
-            return Trigger.HEAP_DUMPER;
-        if (IC_BUFFER_FULL.matches(triggerLiteral))
-            return Trigger.IC_BUFFER_FULL;
-        if (JFR_CHECKPOINT.matches(triggerLiteral))
-            return Trigger.JFR_CHECKPOINT;
-        if (JFR_OLD_OBJECT.matches(triggerLiteral))
-            return Trigger.JFR_OLD_OBJECT;
-        if (MARK_ACTIVE_N_METHODS.matches(triggerLiteral))
-            return Trigger.MARK_ACTIVE_N_METHODS;
-        if (NO_VM_OPERATION.matches(triggerLiteral))
-            return Trigger.NO_VM_OPERATION;
-        if (PARALLEL_COLLECT_FOR_ALLOCATION.matches(triggerLiteral))
-            return Trigger.PARALLEL_COLLECT_FOR_ALLOCATION;
-        if (PARALLEL_GC_FAILED_ALLOCATION.matches(triggerLiteral))
-            return Trigger.PARALLEL_GC_FAILED_ALLOCATION;
-        if (PARALLEL_GC_SYSTEM_GC.matches(triggerLiteral))
-            return Trigger.PARALLEL_GC_SYSTEM_GC;
-        if (PRINT_JNI.matches(triggerLiteral))
-            return Trigger.PRINT_JNI;
-        if (PRINT_THREADS.matches(triggerLiteral))
-            return Trigger.PRINT_THREADS;
-        if (REDEFINE_CLASSES.matches(triggerLiteral))
-            return Trigger.REDEFINE_CLASSES;
-        if (REPORT_JAVA_OUT_OF_MEMORY.matches(triggerLiteral))
-            return Trigger.REPORT_JAVA_OUT_OF_MEMORY;
-        if (REVOKE_BIAS.matches(triggerLiteral))
-            return Trigger.REVOKE_BIAS;
-        if (SERIAL_COLLECT_FOR_ALLOCATION.matches(triggerLiteral))
-            return Trigger.SERIAL_COLLECT_FOR_ALLOCATION;
-        if (SET_NOTIFY_JVMTI_EVENTS_MODE.matches(triggerLiteral))
-            return Trigger.SET_NOTIFY_JVMTI_EVENTS_MODE;
-        if (SHENANDOAH_DEGENERATED_GC.matches(triggerLiteral))
-            return Trigger.SHENANDOAH_DEGENERATED_GC;
-        if (SHENANDOAH_FINAL_MARK_START_EVAC.matches(triggerLiteral))
-            return Trigger.SHENANDOAH_FINAL_MARK_START_EVAC;
-        if (SHENANDOAH_FINAL_UPDATE_REFS.matches(triggerLiteral))
-            return Trigger.SHENANDOAH_FINAL_UPDATE_REFS;
-        if (SHENANDOAH_INIT_MARK.matches(triggerLiteral))
-            return Trigger.SHENANDOAH_INIT_MARK;
-        if (SHENANDOAH_INIT_UPDATE_REFS.matches(triggerLiteral))
-            return Trigger.SHENANDOAH_INIT_UPDATE_REFS;
-        if (THREAD_DUMP.matches(triggerLiteral))
-            return Trigger.THREAD_DUMP;
-        if (X_MARK_END.matches(triggerLiteral))
-            return Trigger.X_MARK_END;
-        if (X_MARK_START.matches(triggerLiteral))
-            return Trigger.X_MARK_START;
-        if (X_RELOCATE_START.matches(triggerLiteral))
-            return Trigger.X_RELOCATE_START;
-        if (Z_MARK_END.matches(triggerLiteral))
-            return Trigger.Z_MARK_END;
-        if (Z_MARK_END_OLD.matches(triggerLiteral))
-            return Trigger.Z_MARK_END_OLD;
-        if (Z_MARK_END_YOUNG.matches(triggerLiteral))
-            return Trigger.Z_MARK_END_YOUNG;
-        if (Z_MARK_START.matches(triggerLiteral))
-            return Trigger.Z_MARK_START;
-        if (Z_MARK_START_YOUNG.matches(triggerLiteral))
-            return Trigger.Z_MARK_START_YOUNG;
-        if (Z_MARK_START_YOUNG_AND_OLD.matches(triggerLiteral))
-            return Trigger.Z_MARK_START_YOUNG_AND_OLD;
-        if (Z_RELOCATE_START.matches(triggerLiteral))
-            return Trigger.Z_RELOCATE_START;
-        if (Z_RELOCATE_START_OLD.matches(triggerLiteral))
-            return Trigger.Z_RELOCATE_START_OLD;
-        if (Z_RELOCATE_START_YOUNG.matches(triggerLiteral))
-            return Trigger.Z_RELOCATE_START_YOUNG;
-
-        return Trigger.UNKNOWN;
+        Trigger trigger = TRIGGERS_BY_LITERAL.get(triggerLiteral);
+        return trigger == null ? Trigger.UNKNOWN : trigger;
     }
 
     /**
@@ -882,131 +782,9 @@ public class UnifiedSafepoint {
      * @return The <code>Trigger</code>.
      */
     public static final Trigger identifyTrigger(String trigger) {
-        if (Trigger.BULK_REVOKE_BIAS.name().matches(trigger))
-            return Trigger.BULK_REVOKE_BIAS;
-        if (Trigger.CGC_OPERATION.name().matches(trigger))
-            return Trigger.CGC_OPERATION;
-        if (Trigger.CLASSLOADER_STATS_OPERATION.name().matches(trigger))
-            return Trigger.CLASSLOADER_STATS_OPERATION;
-        if (Trigger.CLEANUP.name().matches(trigger))
-            return Trigger.CLEANUP;
-        if (Trigger.CLEAN_CLASSLOADER_DATA_METASPACES.name().matches(trigger))
-            return Trigger.CLEAN_CLASSLOADER_DATA_METASPACES;
-        if (Trigger.COLLECT_FOR_METADATA_ALLOCATION.name().matches(trigger))
-            return Trigger.COLLECT_FOR_METADATA_ALLOCATION;
-        if (Trigger.CMS_FINAL_REMARK.name().matches(trigger))
-            return Trigger.CMS_FINAL_REMARK;
-        if (Trigger.CMS_INITIAL_MARK.name().matches(trigger))
-            return Trigger.CMS_INITIAL_MARK;
-        if (Trigger.DEOPTIMIZE.name().matches(trigger))
-            return Trigger.DEOPTIMIZE;
-        if (Trigger.ENABLE_BIASED_LOCKING.name().matches(trigger))
-            return Trigger.ENABLE_BIASED_LOCKING;
-        if (Trigger.EXIT.name().matches(trigger))
-            return Trigger.EXIT;
-        if (Trigger.FIND_DEADLOCKS.name().matches(trigger))
-            return Trigger.FIND_DEADLOCKS;
-        if (Trigger.FORCE_SAFEPOINT.name().matches(trigger))
-            return Trigger.FORCE_SAFEPOINT;
-        if (Trigger.GC_HEAP_INSPECTION.name().matches(trigger))
-            return Trigger.GC_HEAP_INSPECTION;
-        if (Trigger.G1_COLLECT_FOR_ALLOCATION.name().matches(trigger))
-            return Trigger.G1_COLLECT_FOR_ALLOCATION;
-        if (Trigger.G1_COLLECT_FULL.name().matches(trigger))
-            return Trigger.G1_COLLECT_FULL;
-        if (Trigger.G1_CONCURRENT.name().matches(trigger))
-            return Trigger.G1_CONCURRENT;
-        if (Trigger.G1_INC_COLLECTION_PAUSE.name().matches(trigger))
-            return Trigger.G1_INC_COLLECTION_PAUSE;
-        if (Trigger.G1_PAUSE_CLEANUP.name().matches(trigger))
-            return Trigger.G1_PAUSE_CLEANUP;
-        if (Trigger.G1_PAUSE_REMARK.name().matches(trigger))
-            return Trigger.G1_PAUSE_REMARK;
-        if (Trigger.G1_TRY_INITIATE_CONC_MARK.name().matches(trigger))
-            return Trigger.G1_TRY_INITIATE_CONC_MARK;
-        if (Trigger.GEN_COLLECT_FOR_ALLOCATION.name().matches(trigger))
-            return Trigger.GEN_COLLECT_FOR_ALLOCATION;
-        if (Trigger.GEN_COLLECT_FULL_CONCURRENT.name().matches(trigger))
-            return Trigger.GEN_COLLECT_FULL_CONCURRENT;
-        if (Trigger.GET_ALL_STACK_TRACES.name().matches(trigger))
-            return Trigger.GET_ALL_STACK_TRACES;
-        if (Trigger.GET_THREAD_LIST_STACK_TRACES.name().matches(trigger))
-            return Trigger.GET_THREAD_LIST_STACK_TRACES;
-        if (Trigger.HALT.name().matches(trigger))
-            return Trigger.HALT;
-        if (Trigger.HANDSHAKE_FALL_BACK.name().matches(trigger))
-            return Trigger.HANDSHAKE_FALL_BACK;
-        if (Trigger.HEAP_DUMPER.name().matches(trigger))
-            return Trigger.HEAP_DUMPER;
-        if (Trigger.IC_BUFFER_FULL.name().matches(trigger))
-            return Trigger.IC_BUFFER_FULL;
-        if (Trigger.JFR_CHECKPOINT.name().matches(trigger))
-            return Trigger.JFR_CHECKPOINT;
-        if (Trigger.JFR_OLD_OBJECT.name().matches(trigger))
-            return Trigger.JFR_OLD_OBJECT;
-        if (Trigger.MARK_ACTIVE_N_METHODS.name().matches(trigger))
-            return Trigger.MARK_ACTIVE_N_METHODS;
-        if (Trigger.NO_VM_OPERATION.name().matches(trigger))
-            return Trigger.NO_VM_OPERATION;
-        if (Trigger.PARALLEL_COLLECT_FOR_ALLOCATION.name().matches(trigger))
-            return Trigger.PARALLEL_COLLECT_FOR_ALLOCATION;
-        if (Trigger.PARALLEL_GC_FAILED_ALLOCATION.name().matches(trigger))
-            return Trigger.PARALLEL_GC_FAILED_ALLOCATION;
-        if (Trigger.PARALLEL_GC_SYSTEM_GC.name().matches(trigger))
-            return Trigger.PARALLEL_GC_SYSTEM_GC;
-        if (Trigger.PRINT_JNI.name().matches(trigger))
-            return Trigger.PRINT_JNI;
-        if (Trigger.PRINT_THREADS.name().matches(trigger))
-            return Trigger.PRINT_THREADS;
-        if (Trigger.REDEFINE_CLASSES.name().matches(trigger))
-            return Trigger.REDEFINE_CLASSES;
-        if (Trigger.REPORT_JAVA_OUT_OF_MEMORY.name().matches(trigger))
-            return Trigger.REPORT_JAVA_OUT_OF_MEMORY;
-        if (Trigger.REVOKE_BIAS.name().matches(trigger))
-            return Trigger.REVOKE_BIAS;
-        if (Trigger.SERIAL_COLLECT_FOR_ALLOCATION.name().matches(trigger))
-            return Trigger.SERIAL_COLLECT_FOR_ALLOCATION;
-        if (Trigger.SET_NOTIFY_JVMTI_EVENTS_MODE.name().matches(trigger))
-            return Trigger.SET_NOTIFY_JVMTI_EVENTS_MODE;
-        if (Trigger.SHENANDOAH_DEGENERATED_GC.name().matches(trigger))
-            return Trigger.SHENANDOAH_DEGENERATED_GC;
-        if (Trigger.SHENANDOAH_FINAL_MARK_START_EVAC.name().matches(trigger))
-            return Trigger.SHENANDOAH_FINAL_MARK_START_EVAC;
-        if (Trigger.SHENANDOAH_FINAL_UPDATE_REFS.name().matches(trigger))
-            return Trigger.SHENANDOAH_FINAL_UPDATE_REFS;
-        if (Trigger.SHENANDOAH_INIT_MARK.name().matches(trigger))
-            return Trigger.SHENANDOAH_INIT_MARK;
-        if (Trigger.SHENANDOAH_INIT_UPDATE_REFS.name().matches(trigger))
-            return Trigger.SHENANDOAH_INIT_UPDATE_REFS;
-        if (Trigger.THREAD_DUMP.name().matches(trigger))
-            return Trigger.THREAD_DUMP;
-        if (Trigger.X_MARK_END.name().matches(trigger))
-            return Trigger.X_MARK_END;
-        if (Trigger.X_MARK_START.name().matches(trigger))
-            return Trigger.X_MARK_START;
-        if (Trigger.X_RELOCATE_START.name().matches(trigger))
-            return Trigger.X_RELOCATE_START;
-        if (Trigger.Z_MARK_END.name().matches(trigger))
-            return Trigger.Z_MARK_END;
-        if (Trigger.Z_MARK_END_OLD.name().matches(trigger))
-            return Trigger.Z_MARK_END_OLD;
-        if (Trigger.Z_MARK_END_YOUNG.name().matches(trigger))
-            return Trigger.Z_MARK_END_YOUNG;
-        if (Trigger.Z_MARK_START.name().matches(trigger))
-            return Trigger.Z_MARK_START;
-        if (Trigger.Z_MARK_START_YOUNG.name().matches(trigger))
-            return Trigger.Z_MARK_START_YOUNG;
-        if (Trigger.Z_MARK_START_YOUNG_AND_OLD.name().matches(trigger))
-            return Trigger.Z_MARK_START_YOUNG_AND_OLD;
-        if (Trigger.Z_RELOCATE_START.name().matches(trigger))
-            return Trigger.Z_RELOCATE_START;
-        if (Trigger.Z_RELOCATE_START_OLD.name().matches(trigger))
-            return Trigger.Z_RELOCATE_START_OLD;
-        if (Trigger.Z_RELOCATE_START_YOUNG.name().matches(trigger))
-            return Trigger.Z_RELOCATE_START_YOUNG;
-
+        Trigger identifiedTrigger = TRIGGERS_BY_NAME.get(trigger);
         // no idea what trigger is
-        return Trigger.UNKNOWN;
+        return identifiedTrigger == null ? Trigger.UNKNOWN : identifiedTrigger;
     }
 
     /**
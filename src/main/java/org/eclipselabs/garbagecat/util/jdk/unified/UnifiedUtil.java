@@ -12,7 +12,11 @@
  *********************************************************************************************************************/
 package org.eclipselabs.garbagecat.util.jdk.unified;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Matcher;
 
 import org.eclipselabs.garbagecat.domain.BlankLineEvent;
@@ -43,9 +47,11 @@ import org.eclipselabs.garbagecat.domain.jdk.unified.UnifiedRemarkEvent;
 import org.eclipselabs.garbagecat.domain.jdk.unified.UnifiedSafepointEvent;
 import org.eclipselabs.garbagecat.domain.jdk.unified.UnifiedSerialNewEvent;
 import org.eclipselabs.garbagecat.domain.jdk.unified.UnifiedSerialOldEvent;
+import org.eclipselabs.garbagecat.domain.jdk.unified.UnifiedShenandoahCancellingGcEvent;
 import org.eclipselabs.garbagecat.domain.jdk.unified.UnifiedShenandoahDegeneratedGcEvent;
 import org.eclipselabs.garbagecat.domain.jdk.unified.UnifiedShenandoahFinalEvacEvent;
 import org.eclipselabs.garbagecat.domain.jdk.unified.UnifiedShenandoahFinalMarkEvent;
+import org.eclipselabs.garbagecat.domain.jdk.unified.UnifiedShenandoahFinalRootsEvent;
 import org.eclipselabs.garbagecat.domain.jdk.unified.UnifiedShenandoahFinalUpdateRefsEvent;
 import org.eclipselabs.garbagecat.domain.jdk.unified.UnifiedShenandoahFullGcEvent;
 import org.eclipselabs.garbagecat.domain.jdk.unified.UnifiedShenandoahInitMarkEvent;
@@ -66,6 +72,7 @@ import org.eclipselabs.garbagecat.domain.jdk.unified.ZRelocateStartOldEvent;
 import org.eclipselabs.garbagecat.domain.jdk.unified.ZRelocateStartYoungEvent;
 import org.eclipselabs.garbagecat.domain.jdk.unified.ZRelocationStallEvent;
 import org.eclipselabs.garbagecat.domain.jdk.unified.ZStatsEvent;
+import org.eclipselabs.garbagecat.preprocess.jdk.unified.UnifiedPreprocessAction;
 import org.eclipselabs.garbagecat.util.jdk.JdkMath;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil.CollectorFamily;
@@ -81,6 +88,178 @@ import org.eclipselabs.garbagecat.util.jdk.JdkUtil.EventType;
  */
 public final class UnifiedUtil {
 
+    /**
+     * <p>
+     * Keywords at the beginning of a unified log line message. Used to dispatch event identification to the events
+     * that can possibly match, rather than trying every event pattern in turn.
+     * </p>
+     * 
+     * <p>
+     * For example, the <code>PAUSE_YOUNG</code> message keyword:
+     * </p>
+     * 
+     * <pre>
+     * [0.057s][info][gc,start ] GC(0) Pause Young (Normal) (G1 Evacuation Pause)
+     * </pre>
+     */
+    public enum MessageKeyword {
+        // " Concurrent "
+        CONCURRENT(EventType.UNIFIED_CONCURRENT),
+        // Anything not covered by another keyword. Any event is possible.
+        OTHER(),
+        // " Pause " other than " Pause Full " or " Pause Young "
+        PAUSE(EventType.UNIFIED_CMS_INITIAL_MARK, EventType.UNIFIED_G1_CLEANUP, EventType.UNIFIED_G1_YOUNG_INITIAL_MARK,
+                EventType.UNIFIED_REMARK, EventType.UNIFIED_SHENANDOAH_DEGENERATED_GC,
+                EventType.UNIFIED_SHENANDOAH_FINAL_EVAC, EventType.UNIFIED_SHENANDOAH_FINAL_MARK,
+                EventType.UNIFIED_SHENANDOAH_FINAL_ROOTS, EventType.UNIFIED_SHENANDOAH_FINAL_UPDATE_REFS,
+                EventType.UNIFIED_SHENANDOAH_INIT_MARK, EventType.UNIFIED_SHENANDOAH_INIT_UPDATE_REFS,
+                EventType.Z_MARK_END, EventType.Z_MARK_START, EventType.Z_RELOCATE_START),
+        // " Pause Full "
+        PAUSE_FULL(EventType.UNIFIED_G1_FULL_GC_PARALLEL, EventType.UNIFIED_OLD,
+                EventType.UNIFIED_PARALLEL_COMPACTING_OLD, EventType.UNIFIED_SERIAL_OLD,
+                EventType.UNIFIED_SHENANDOAH_FULL_GC),
+        // " Pause Young "
+        PAUSE_YOUNG(EventType.UNIFIED_G1_MIXED_PAUSE, EventType.UNIFIED_G1_YOUNG_PAUSE,
+                EventType.UNIFIED_G1_YOUNG_PREPARE_MIXED, EventType.UNIFIED_PAR_NEW,
+                EventType.UNIFIED_PARALLEL_SCAVENGE, EventType.UNIFIED_SERIAL_NEW, EventType.UNIFIED_SERIAL_OLD,
+                EventType.UNIFIED_YOUNG),
+        // " Safepoint \"", " JDK17U8 Safepoint \"", or " Entering safepoint region: "
+        SAFEPOINT(EventType.UNIFIED_SAFEPOINT);
+
+        private final List<EventType> eventTypes;
+
+        private MessageKeyword(EventType... eventTypes) {
+            this.eventTypes = Arrays.asList(eventTypes);
+        }
+
+        /**
+         * @param eventType
+         *            The <code>EventType</code>.
+         * @return true if a log line with the message keyword can be the <code>EventType</code>, false otherwise.
+         */
+        public boolean isCandidate(EventType eventType) {
+            return this == OTHER || eventTypes.contains(eventType) || EVENT_TYPES_ANY_MESSAGE.contains(eventType);
+        }
+    }
+
+    /**
+     * Events that can have any message keyword (e.g. multi-line statistics blocks or patterns with wildcards).
+     */
+    private static final List<EventType> EVENT_TYPES_ANY_MESSAGE = Arrays.asList(EventType.UNIFIED_FOOTER_STATS,
+            EventType.UNIFIED_GC_LOCKER_RETRY, EventType.UNIFIED_HEADER, EventType.UNIFIED_SHENANDOAH_STATS,
+            EventType.Z_STATS);
+
+    /**
+     * Collector specific events in the order they are checked.
+     */
+    private static final EventType[] EVENT_TYPES_CMS = { EventType.UNIFIED_CMS_INITIAL_MARK,
+            EventType.UNIFIED_PAR_NEW };
+
+    private static final EventType[] EVENT_TYPES_G1 = { EventType.UNIFIED_G1_FULL_GC_PARALLEL,
+            EventType.UNIFIED_G1_CLEANUP, EventType.UNIFIED_G1_MIXED_PAUSE, EventType.UNIFIED_G1_YOUNG_INITIAL_MARK,
+            EventType.UNIFIED_G1_YOUNG_PAUSE, EventType.UNIFIED_G1_YOUNG_PREPARE_MIXED };
+
+    private static final EventType[] EVENT_TYPES_PARALLEL = { EventType.UNIFIED_PARALLEL_COMPACTING_OLD,
+            EventType.UNIFIED_PARALLEL_SCAVENGE, EventType.UNIFIED_SERIAL_OLD };
+
+    private static final EventType[] EVENT_TYPES_SERIAL = { EventType.UNIFIED_SERIAL_NEW,
+            EventType.UNIFIED_SERIAL_OLD };
+
+    private static final EventType[] EVENT_TYPES_SHENANDOAH = { EventType.UNIFIED_SHENANDOAH_CANCELLING_GC,
+            EventType.UNIFIED_SHENANDOAH_DEGENERATED_GC, EventType.UNIFIED_SHENANDOAH_FINAL_EVAC,
+            EventType.UNIFIED_SHENANDOAH_FINAL_MARK, EventType.UNIFIED_SHENANDOAH_FINAL_ROOTS,
+            EventType.UNIFIED_SHENANDOAH_FINAL_UPDATE_REFS, EventType.UNIFIED_SHENANDOAH_FULL_GC,
+            EventType.UNIFIED_SHENANDOAH_INIT_MARK, EventType.UNIFIED_SHENANDOAH_INIT_UPDATE_REFS,
+            EventType.UNIFIED_SHENANDOAH_STATS, EventType.UNIFIED_SHENANDOAH_TRIGGER };
+
+    private static final EventType[] EVENT_TYPES_Z = { EventType.Z_ALLOCATION_STALL, EventType.Z_CONCURRENT,
+            EventType.Z_MARK_END, EventType.Z_MARK_END_OLD, EventType.Z_MARK_END_YOUNG, EventType.Z_MARK_START,
+            EventType.Z_MARK_START_YOUNG, EventType.Z_MARK_START_YOUNG_AND_OLD, EventType.Z_RELOCATE_START,
+            EventType.Z_RELOCATE_START_OLD, EventType.Z_RELOCATE_START_YOUNG, EventType.Z_RELOCATION_STALL,
+            EventType.Z_STATS };
+
+    /**
+     * Events for an unknown collector in the order they are checked.
+     */
+    private static final EventType[] EVENT_TYPES_UNKNOWN = { EventType.UNIFIED_G1_FULL_GC_PARALLEL,
+            EventType.UNIFIED_CMS_INITIAL_MARK, EventType.UNIFIED_G1_CLEANUP, EventType.UNIFIED_G1_MIXED_PAUSE,
+            EventType.UNIFIED_G1_YOUNG_INITIAL_MARK, EventType.UNIFIED_G1_YOUNG_PAUSE,
+            EventType.UNIFIED_G1_YOUNG_PREPARE_MIXED, EventType.UNIFIED_PARALLEL_COMPACTING_OLD,
+            EventType.UNIFIED_PARALLEL_SCAVENGE, EventType.UNIFIED_PAR_NEW, EventType.UNIFIED_SERIAL_NEW,
+            EventType.UNIFIED_SERIAL_OLD, EventType.UNIFIED_SHENANDOAH_CANCELLING_GC,
+            EventType.UNIFIED_SHENANDOAH_DEGENERATED_GC, EventType.UNIFIED_SHENANDOAH_FINAL_EVAC,
+            EventType.UNIFIED_SHENANDOAH_FINAL_MARK, EventType.UNIFIED_SHENANDOAH_FINAL_ROOTS,
+            EventType.UNIFIED_SHENANDOAH_FINAL_UPDATE_REFS, EventType.UNIFIED_SHENANDOAH_FULL_GC,
+            EventType.UNIFIED_SHENANDOAH_INIT_MARK, EventType.UNIFIED_SHENANDOAH_INIT_UPDATE_REFS,
+            EventType.UNIFIED_SHENANDOAH_STATS, EventType.UNIFIED_SHENANDOAH_TRIGGER, EventType.Z_ALLOCATION_STALL,
+            EventType.Z_CONCURRENT, EventType.Z_MARK_END, EventType.Z_MARK_END_OLD, EventType.Z_MARK_END_YOUNG,
+            EventType.Z_MARK_START, EventType.Z_MARK_START_YOUNG, EventType.Z_MARK_START_YOUNG_AND_OLD,
+            EventType.Z_RELOCATE_START, EventType.Z_RELOCATE_START_OLD, EventType.Z_RELOCATE_START_YOUNG,
+            EventType.Z_RELOCATION_STALL, EventType.Z_STATS };
+
+    /**
+     * Events common to all collectors in the order they are checked (after collector specific events).
+     */
+    private static final EventType[] EVENT_TYPES_COMMON = { EventType.UNIFIED_HEAP, EventType.OOME_METASPACE,
+            EventType.UNIFIED_SAFEPOINT, EventType.UNIFIED_CONCURRENT, EventType.UNIFIED_FOOTER_STATS,
+            EventType.UNIFIED_GC_LOCKER_RETRY, EventType.UNIFIED_HEAP_DUMP_AFTER_FULL_GC,
+            EventType.UNIFIED_HEAP_DUMP_BEFORE_FULL_GC, EventType.UNIFIED_HEADER, EventType.UNIFIED_OLD,
+            EventType.UNIFIED_REMARK, EventType.UNIFIED_YOUNG, EventType.UNIFIED_BLANK_LINE };
+
+    /**
+     * The events to check, in order, by collector family and message keyword.
+     */
+    private static final Map<CollectorFamily, Map<MessageKeyword, EventType[]>> DISPATCH = new EnumMap<>(
+            CollectorFamily.class);
+
+    static {
+        for (CollectorFamily collectorFamily : CollectorFamily.values()) {
+            EventType[] collectorEventTypes;
+            switch (collectorFamily) {
+            case CMS:
+                collectorEventTypes = EVENT_TYPES_CMS;
+                break;
+            case G1:
+                collectorEventTypes = EVENT_TYPES_G1;
+                break;
+            case PARALLEL:
+                collectorEventTypes = EVENT_TYPES_PARALLEL;
+                break;
+            case SERIAL:
+                collectorEventTypes = EVENT_TYPES_SERIAL;
+                break;
+            case SHENANDOAH:
+                collectorEventTypes = EVENT_TYPES_SHENANDOAH;
+                break;
+            case UNKNOWN:
+                collectorEventTypes = EVENT_TYPES_UNKNOWN;
+                break;
+            case Z:
+                collectorEventTypes = EVENT_TYPES_Z;
+                break;
+            default:
+                collectorEventTypes = new EventType[0];
+                break;
+            }
+            Map<MessageKeyword, EventType[]> dispatch = new EnumMap<>(MessageKeyword.class);
+            for (MessageKeyword keyword : MessageKeyword.values()) {
+                List<EventType> candidates = new ArrayList<EventType>();
+                for (EventType eventType : collectorEventTypes) {
+                    if (keyword.isCandidate(eventType)) {
+                        candidates.add(eventType);
+                    }
+                }
+                for (EventType eventType : EVENT_TYPES_COMMON) {
+                    if (keyword.isCandidate(eventType)) {
+                        candidates.add(eventType);
+                    }
+                }
+                dispatch.put(keyword, candidates.toArray(new EventType[candidates.size()]));
+            }
+            DISPATCH.put(collectorFamily, dispatch);
+        }
+    }
+
     /**
      * @param matcher
      *            The unified log line <code>Matcher</code>.
@@ -89,16 +268,16 @@ public final class UnifiedUtil {
      */
     public static final long calculateTime(Matcher matcher) throws TimeWarpException {
         long time = 0L;
-        if (matcher.group(2).matches(UnifiedRegEx.UPTIMEMILLIS)) {
+        if (isUptimeMillis(matcher.group(2))) {
             time = Long.parseLong(matcher.group(13));
-        } else if (matcher.group(2).matches(UnifiedRegEx.UPTIME)) {
-            time = JdkMath.convertSecsToMillis(matcher.group(12)).longValue();
+        } else if (isUptime(matcher.group(2))) {
+            time = JdkMath.parseSecsToMillis(matcher.group(12));
         } else {
             if (matcher.group(15) != null) {
-                if (matcher.group(15).matches(UnifiedRegEx.UPTIMEMILLIS)) {
+                if (isUptimeMillis(matcher.group(15))) {
                     time = Long.parseLong(matcher.group(17));
                 } else {
-                    time = JdkMath.convertSecsToMillis(matcher.group(16)).longValue();
+                    time = JdkMath.parseSecsToMillis(matcher.group(16));
                 }
             } else {
                 // Datestamp only.
@@ -112,6 +291,55 @@ public final class UnifiedUtil {
         }
     }
 
+    /**
+     * Get the keyword at the beginning of the unified log line message (the text following the decorator and the
+     * optional garbage collection event number). It is a cheap way to narrow down the events a log line can be.
+     * 
+     * @param logLine
+     *            The log line.
+     * @return The <code>MessageKeyword</code> of the log line.
+     */
+    public static final MessageKeyword getMessageKeyword(String logLine) {
+        if (logLine == null || !logLine.startsWith("[")) {
+            return MessageKeyword.OTHER;
+        }
+        // Skip decorator blocks (e.g. [2020-02-14T15:21:55.207-0500][0.052s][info][gc,start ])
+        int index = 0;
+        while (index < logLine.length() && logLine.charAt(index) == '[') {
+            index = logLine.indexOf(']', index);
+            if (index < 0) {
+                return MessageKeyword.OTHER;
+            }
+            index++;
+        }
+        // Skip GC event number (e.g. GC(6))
+        if (logLine.startsWith(" GC(", index)) {
+            int end = index + 4;
+            while (end < logLine.length() && Character.isDigit(logLine.charAt(end))) {
+                end++;
+            }
+            if (end > index + 4 && end < logLine.length() && logLine.charAt(end) == ')') {
+                index = end + 1;
+            }
+        }
+        if (logLine.startsWith(" Pause ", index)) {
+            if (logLine.startsWith("Young ", index + 7)) {
+                return MessageKeyword.PAUSE_YOUNG;
+            } else if (logLine.startsWith("Full ", index + 7)) {
+                return MessageKeyword.PAUSE_FULL;
+            } else {
+                return MessageKeyword.PAUSE;
+            }
+        } else if (logLine.startsWith(" Concurrent ", index)) {
+            return MessageKeyword.CONCURRENT;
+        } else if (logLine.startsWith(" Safepoint \"", index)
+                || logLine.startsWith(" " + UnifiedPreprocessAction.JDK17U8 + " Safepoint \"", index)
+                || logLine.startsWith(" Entering safepoint region: ", index)) {
+            return MessageKeyword.SAFEPOINT;
+        }
+        return MessageKeyword.OTHER;
+    }
+
     /**
      * Identify the unified log line.
      * 
@@ -125,209 +353,13 @@ public final class UnifiedUtil {
      */
     public static final EventType identifyEventType(String logLine, LogEvent priorLogEvent,
             CollectorFamily collectorFamily) {
-        EventType eventType = EventType.UNKNOWN;
-        switch (collectorFamily) {
-        case CMS:
-            if (UnifiedCmsInitialMarkEvent.match(logLine)) {
-                eventType = EventType.UNIFIED_CMS_INITIAL_MARK;
-            } else if (UnifiedParNewEvent.match(logLine)) {
-                eventType = EventType.UNIFIED_PAR_NEW;
+        EventType[] candidates = DISPATCH.get(collectorFamily).get(getMessageKeyword(logLine));
+        for (int i = 0; i < candidates.length; i++) {
+            if (match(candidates[i], logLine, priorLogEvent)) {
+                return candidates[i];
             }
-            break;
-        case G1:
-            if (UnifiedG1FullGcEvent.match(logLine)) {
-                eventType = EventType.UNIFIED_G1_FULL_GC_PARALLEL;
-            } else if (UnifiedG1CleanupEvent.match(logLine)) {
-                eventType = EventType.UNIFIED_G1_CLEANUP;
-            } else if (UnifiedG1MixedPauseEvent.match(logLine)) {
-                eventType = EventType.UNIFIED_G1_MIXED_PAUSE;
-            } else if (UnifiedG1YoungInitialMarkEvent.match(logLine)) {
-                eventType = EventType.UNIFIED_G1_YOUNG_INITIAL_MARK;
-            } else if (UnifiedG1YoungPauseEvent.match(logLine)) {
-                eventType = EventType.UNIFIED_G1_YOUNG_PAUSE;
-            } else if (UnifiedG1YoungPrepareMixedEvent.match(logLine)) {
-                eventType = EventType.UNIFIED_G1_YOUNG_PREPARE_MIXED;
-            }
-            break;
-        case PARALLEL:
-            if (UnifiedParallelCompactingOldEvent.match(logLine)) {
-                eventType = EventType.UNIFIED_PARALLEL_COMPACTING_OLD;
-            } else if (UnifiedParallelScavengeEvent.match(logLine)) {
-                eventType = EventType.UNIFIED_PARALLEL_SCAVENGE;
-            } else if (UnifiedSerialOldEvent.match(logLine)) {
-                eventType = EventType.UNIFIED_SERIAL_OLD;
-            }
-            break;
-        case SERIAL:
-            if (UnifiedSerialNewEvent.match(logLine)) {
-                eventType = EventType.UNIFIED_SERIAL_NEW;
-            } else if (UnifiedSerialOldEvent.match(logLine)) {
-                eventType = EventType.UNIFIED_SERIAL_OLD;
-            }
-            break;
-        case SHENANDOAH:
-            if (UnifiedShenandoahDegeneratedGcEvent.match(logLine)) {
-                eventType = EventType.UNIFIED_SHENANDOAH_DEGENERATED_GC;
-            } else if (UnifiedShenandoahFinalEvacEvent.match(logLine)) {
-                eventType = EventType.UNIFIED_SHENANDOAH_FINAL_EVAC;
-            } else if (UnifiedShenandoahFinalMarkEvent.match(logLine)) {
-                eventType = EventType.UNIFIED_SHENANDOAH_FINAL_MARK;
-            } else if (UnifiedShenandoahFinalUpdateRefsEvent.match(logLine)) {
-                eventType = EventType.UNIFIED_SHENANDOAH_FINAL_UPDATE_REFS;
-            } else if (UnifiedShenandoahFullGcEvent.match(logLine)) {
-                eventType = EventType.UNIFIED_SHENANDOAH_FULL_GC;
-            } else if (UnifiedShenandoahInitMarkEvent.match(logLine)) {
-                eventType = EventType.UNIFIED_SHENANDOAH_INIT_MARK;
-            } else if (UnifiedShenandoahInitUpdateRefsEvent.match(logLine)) {
-                eventType = EventType.UNIFIED_SHENANDOAH_INIT_UPDATE_REFS;
-            } else if (logLine.matches(UnifiedShenandoahStatsEvent._REGEX_HEADER)
-                    || (UnifiedShenandoahStatsEvent.match(logLine)
-                            && priorLogEvent instanceof UnifiedShenandoahStatsEvent)) {
-                eventType = EventType.UNIFIED_SHENANDOAH_STATS;
-            } else if (UnifiedShenandoahTriggerEvent.match(logLine)) {
-                eventType = EventType.UNIFIED_SHENANDOAH_TRIGGER;
-            }
-            break;
-        case UNKNOWN:
-            if (UnifiedG1FullGcEvent.match(logLine)) {
-                eventType = EventType.UNIFIED_G1_FULL_GC_PARALLEL;
-            } else if (UnifiedCmsInitialMarkEvent.match(logLine)) {
-                eventType = EventType.UNIFIED_CMS_INITIAL_MARK;
-            } else if (UnifiedG1CleanupEvent.match(logLine)) {
-                eventType = EventType.UNIFIED_G1_CLEANUP;
-            } else if (UnifiedG1MixedPauseEvent.match(logLine)) {
-                eventType = EventType.UNIFIED_G1_MIXED_PAUSE;
-            } else if (UnifiedG1YoungInitialMarkEvent.match(logLine)) {
-                eventType = EventType.UNIFIED_G1_YOUNG_INITIAL_MARK;
-            } else if (UnifiedG1YoungPauseEvent.match(logLine)) {
-                eventType = EventType.UNIFIED_G1_YOUNG_PAUSE;
-            } else if (UnifiedG1YoungPrepareMixedEvent.match(logLine)) {
-                eventType = EventType.UNIFIED_G1_YOUNG_PREPARE_MIXED;
-            } else if (UnifiedParallelCompactingOldEvent.match(logLine)) {
-                eventType = EventType.UNIFIED_PARALLEL_COMPACTING_OLD;
-            } else if (UnifiedParallelScavengeEvent.match(logLine)) {
-                eventType = EventType.UNIFIED_PARALLEL_SCAVENGE;
-            } else if (UnifiedParNewEvent.match(logLine)) {
-                eventType = EventType.UNIFIED_PAR_NEW;
-            } else if (UnifiedSerialNewEvent.match(logLine)) {
-                eventType = EventType.UNIFIED_SERIAL_NEW;
-            } else if (UnifiedSerialOldEvent.match(logLine)) {
-                eventType = EventType.UNIFIED_SERIAL_OLD;
-            } else if (UnifiedShenandoahDegeneratedGcEvent.match(logLine)) {
-                eventType = EventType.UNIFIED_SHENANDOAH_DEGENERATED_GC;
-            } else if (UnifiedShenandoahFinalEvacEvent.match(logLine)) {
-                eventType = EventType.UNIFIED_SHENANDOAH_FINAL_EVAC;
-            } else if (UnifiedShenandoahFinalMarkEvent.match(logLine)) {
-                eventType = EventType.UNIFIED_SHENANDOAH_FINAL_MARK;
-            } else if (UnifiedShenandoahFinalUpdateRefsEvent.match(logLine)) {
-                eventType = EventType.UNIFIED_SHENANDOAH_FINAL_UPDATE_REFS;
-            } else if (UnifiedShenandoahFullGcEvent.match(logLine)) {
-                eventType = EventType.UNIFIED_SHENANDOAH_FULL_GC;
-            } else if (UnifiedShenandoahInitMarkEvent.match(logLine)) {
-                eventType = EventType.UNIFIED_SHENANDOAH_INIT_MARK;
-            } else if (UnifiedShenandoahInitUpdateRefsEvent.match(logLine)) {
-                eventType = EventType.UNIFIED_SHENANDOAH_INIT_UPDATE_REFS;
-            } else if (logLine.matches(UnifiedShenandoahStatsEvent._REGEX_HEADER)
-                    || (UnifiedShenandoahStatsEvent.match(logLine)
-                            && priorLogEvent instanceof UnifiedShenandoahStatsEvent)) {
-                eventType = EventType.UNIFIED_SHENANDOAH_STATS;
-            } else if (UnifiedShenandoahTriggerEvent.match(logLine)) {
-                eventType = EventType.UNIFIED_SHENANDOAH_TRIGGER;
-            } else if (ZAllocationStallEvent.match(logLine)) {
-                eventType = EventType.Z_ALLOCATION_STALL;
-            } else if (ZConcurrentEvent.match(logLine)) {
-                eventType = EventType.Z_CONCURRENT;
-            } else if (ZMarkEndEvent.match(logLine)) {
-                eventType = EventType.Z_MARK_END;
-            } else if (ZMarkEndOldEvent.match(logLine)) {
-                eventType = EventType.Z_MARK_END_OLD;
-            } else if (ZMarkEndYoungEvent.match(logLine)) {
-                eventType = EventType.Z_MARK_END_YOUNG;
-            } else if (ZMarkStartEvent.match(logLine)) {
-                eventType = EventType.Z_MARK_START;
-            } else if (ZMarkStartYoungEvent.match(logLine)) {
-                eventType = EventType.Z_MARK_START_YOUNG;
-            } else if (ZMarkStartYoungAndOldEvent.match(logLine)) {
-                eventType = EventType.Z_MARK_START_YOUNG_AND_OLD;
-            } else if (ZRelocateStartEvent.match(logLine)) {
-                eventType = EventType.Z_RELOCATE_START;
-            } else if (ZRelocateStartOldEvent.match(logLine)) {
-                eventType = EventType.Z_RELOCATE_START_OLD;
-            } else if (ZRelocateStartYoungEvent.match(logLine)) {
-                eventType = EventType.Z_RELOCATE_START_YOUNG;
-            } else if (ZRelocationStallEvent.match(logLine)) {
-                eventType = EventType.Z_RELOCATION_STALL;
-            } else if (logLine.matches(ZStatsEvent._REGEX_HEADER)
-                    || (ZStatsEvent.match(logLine) && priorLogEvent instanceof ZStatsEvent)) {
-                eventType = EventType.Z_STATS;
-                break;
-            }
-        case Z:
-            if (ZAllocationStallEvent.match(logLine)) {
-                eventType = EventType.Z_ALLOCATION_STALL;
-            } else if (ZConcurrentEvent.match(logLine)) {
-                eventType = EventType.Z_CONCURRENT;
-            } else if (ZMarkEndEvent.match(logLine)) {
-                eventType = EventType.Z_MARK_END;
-            } else if (ZMarkEndOldEvent.match(logLine)) {
-                eventType = EventType.Z_MARK_END_OLD;
-            } else if (ZMarkEndYoungEvent.match(logLine)) {
-                eventType = EventType.Z_MARK_END_YOUNG;
-            } else if (ZMarkStartEvent.match(logLine)) {
-                eventType = EventType.Z_MARK_START;
-            } else if (ZMarkStartYoungEvent.match(logLine)) {
-                eventType = EventType.Z_MARK_START_YOUNG;
-            } else if (ZMarkStartYoungAndOldEvent.match(logLine)) {
-                eventType = EventType.Z_MARK_START_YOUNG_AND_OLD;
-            } else if (ZRelocateStartEvent.match(logLine)) {
-                eventType = EventType.Z_RELOCATE_START;
-            } else if (ZRelocateStartOldEvent.match(logLine)) {
-                eventType = EventType.Z_RELOCATE_START_OLD;
-            } else if (ZRelocateStartYoungEvent.match(logLine)) {
-                eventType = EventType.Z_RELOCATE_START_YOUNG;
-            } else if (ZRelocationStallEvent.match(logLine)) {
-                eventType = EventType.Z_RELOCATION_STALL;
-            } else if (logLine.matches(ZStatsEvent._REGEX_HEADER)
-                    || (ZStatsEvent.match(logLine) && priorLogEvent instanceof ZStatsEvent)) {
-                eventType = EventType.Z_STATS;
-            }
-            break;
-        default:
-            break;
         }
-        if (eventType == EventType.UNKNOWN) {
-            if (UnifiedHeapEvent.match(logLine)) {
-                eventType = EventType.UNIFIED_HEAP;
-            } else if (logLine.matches(OomeMetaspaceEvent._REGEX_HEADER)
-                    || (OomeMetaspaceEvent.match(logLine) && priorLogEvent instanceof OomeMetaspaceEvent)) {
-                eventType = EventType.OOME_METASPACE;
-            } else if (UnifiedSafepointEvent.match(logLine)) {
-                eventType = EventType.UNIFIED_SAFEPOINT;
-            } else if (UnifiedConcurrentEvent.match(logLine)) {
-                eventType = EventType.UNIFIED_CONCURRENT;
-            } else if (logLine.matches(UnifiedFooterStatsEvent._REGEX_HEADER)
-                    || (UnifiedFooterStatsEvent.match(logLine) && priorLogEvent instanceof UnifiedFooterStatsEvent)) {
-                eventType = EventType.UNIFIED_FOOTER_STATS;
-            } else if (UnifiedGcLockerRetryEvent.match(logLine)) {
-                eventType = EventType.UNIFIED_GC_LOCKER_RETRY;
-            } else if (UnifiedHeapDumpAfterFullGcEvent.match(logLine)) {
-                eventType = EventType.UNIFIED_HEAP_DUMP_AFTER_FULL_GC;
-            } else if (UnifiedHeapDumpBeforeFullGcEvent.match(logLine)) {
-                eventType = EventType.UNIFIED_HEAP_DUMP_BEFORE_FULL_GC;
-            } else if (UnifiedHeaderEvent.match(logLine)
-                    && (priorLogEvent instanceof NullEvent || priorLogEvent instanceof UnifiedHeaderEvent)) {
-                eventType = EventType.UNIFIED_HEADER;
-            } else if (UnifiedOldEvent.match(logLine)) {
-                eventType = EventType.UNIFIED_OLD;
-            } else if (UnifiedRemarkEvent.match(logLine)) {
-                eventType = EventType.UNIFIED_REMARK;
-            } else if (UnifiedYoungEvent.match(logLine)) {
-                eventType = EventType.UNIFIED_YOUNG;
-            } else if (UnifiedBlankLineEvent.match(logLine) && !BlankLineEvent.match(logLine)) {
-                eventType = EventType.UNIFIED_BLANK_LINE;
-            }
-        }
-        return eventType;
+        return EventType.UNKNOWN;
     }
 
     /**
@@ -392,6 +424,323 @@ public final class UnifiedUtil {
         return false;
     }
 
+    /**
+     * Hand-written equivalent of <code>decorator.matches(UnifiedRegEx.UPTIME)</code>, which compiles the regex on every
+     * call.
+     * 
+     * @param decorator
+     *            The decorator block text (e.g. 1.234s).
+     * @return true if the text is an uptime decorator, false otherwise.
+     */
+    public static final boolean isUptime(String decorator) {
+        int length = decorator == null ? 0 : decorator.length();
+        if (length < 5 || decorator.charAt(length - 1) != 's'
+                || (decorator.charAt(length - 5) != '.' && decorator.charAt(length - 5) != ',')) {
+            return false;
+        }
+        for (int i = 0; i < length - 1; i++) {
+            if (i != length - 5 && (decorator.charAt(i) < '0' || decorator.charAt(i) > '9')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Hand-written equivalent of <code>decorator.matches(UnifiedRegEx.UPTIMEMILLIS)</code>, which compiles the regex on
+     * every call.
+     * 
+     * @param decorator
+     *            The decorator block text (e.g. 1234ms).
+     * @return true if the text is an uptimemillis decorator, false otherwise.
+     */
+    public static final boolean isUptimeMillis(String decorator) {
+        int length = decorator == null ? 0 : decorator.length();
+        if (length < 3 || !decorator.endsWith("ms")) {
+            return false;
+        }
+        for (int i = 0; i < length - 2; i++) {
+            if (decorator.charAt(i) < '0' || decorator.charAt(i) > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Identify and parse the unified log line.
+     * 
+     * @param logLine
+     *            The log line.
+     * @param priorLogEvent
+     *            The prior log line <code>LogEvent</code>.
+     * @param collectorFamily
+     *            The <code>CollectorFamily</code>.
+     * @return The <code>LogEvent</code> for the log line, or null if it is not an identified unified log line.
+     */
+    public static final LogEvent parseLogLine(String logLine, LogEvent priorLogEvent,
+            CollectorFamily collectorFamily) {
+        EventType[] candidates = DISPATCH.get(collectorFamily).get(getMessageKeyword(logLine));
+        for (int i = 0; i < candidates.length; i++) {
+            LogEvent event = parse(candidates[i], logLine, priorLogEvent);
+            if (event != null) {
+                return event;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Determine if the log line is the given <code>EventType</code>. Conditions on the prior event are checked before
+     * the log line is matched, since they are cheap.
+     * 
+     * @param eventType
+     *            The <code>EventType</code>.
+     * @param logLine
+     *            The log line.
+     * @param priorLogEvent
+     *            The prior log line <code>LogEvent</code>.
+     * @return true if the log line is the <code>EventType</code>, false otherwise.
+     */
+    private static final boolean match(EventType eventType, String logLine, LogEvent priorLogEvent) {
+        switch (eventType) {
+        case OOME_METASPACE:
+            return OomeMetaspaceEvent.matchHeader(logLine)
+                    || (priorLogEvent instanceof OomeMetaspaceEvent && OomeMetaspaceEvent.match(logLine));
+        case UNIFIED_BLANK_LINE:
+            return UnifiedBlankLineEvent.match(logLine) && !BlankLineEvent.match(logLine);
+        case UNIFIED_CMS_INITIAL_MARK:
+            return UnifiedCmsInitialMarkEvent.match(logLine);
+        case UNIFIED_CONCURRENT:
+            return UnifiedConcurrentEvent.match(logLine);
+        case UNIFIED_FOOTER_STATS:
+            return UnifiedFooterStatsEvent.matchHeader(logLine)
+                    || (priorLogEvent instanceof UnifiedFooterStatsEvent && UnifiedFooterStatsEvent.match(logLine));
+        case UNIFIED_G1_CLEANUP:
+            return UnifiedG1CleanupEvent.match(logLine);
+        case UNIFIED_G1_FULL_GC_PARALLEL:
+            return UnifiedG1FullGcEvent.match(logLine);
+        case UNIFIED_G1_MIXED_PAUSE:
+            return UnifiedG1MixedPauseEvent.match(logLine);
+        case UNIFIED_G1_YOUNG_INITIAL_MARK:
+            return UnifiedG1YoungInitialMarkEvent.match(logLine);
+        case UNIFIED_G1_YOUNG_PAUSE:
+            return UnifiedG1YoungPauseEvent.match(logLine);
+        case UNIFIED_G1_YOUNG_PREPARE_MIXED:
+            return UnifiedG1YoungPrepareMixedEvent.match(logLine);
+        case UNIFIED_GC_LOCKER_RETRY:
+            return UnifiedGcLockerRetryEvent.match(logLine);
+        case UNIFIED_HEADER:
+            return (priorLogEvent instanceof NullEvent || priorLogEvent instanceof UnifiedHeaderEvent)
+                    && UnifiedHeaderEvent.match(logLine);
+        case UNIFIED_HEAP:
+            return UnifiedHeapEvent.match(logLine);
+        case UNIFIED_HEAP_DUMP_AFTER_FULL_GC:
+            return UnifiedHeapDumpAfterFullGcEvent.match(logLine);
+        case UNIFIED_HEAP_DUMP_BEFORE_FULL_GC:
+            return UnifiedHeapDumpBeforeFullGcEvent.match(logLine);
+        case UNIFIED_OLD:
+            return UnifiedOldEvent.match(logLine);
+        case UNIFIED_PAR_NEW:
+            return UnifiedParNewEvent.match(logLine);
+        case UNIFIED_PARALLEL_COMPACTING_OLD:
+            return UnifiedParallelCompactingOldEvent.match(logLine);
+        case UNIFIED_PARALLEL_SCAVENGE:
+            return UnifiedParallelScavengeEvent.match(logLine);
+        case UNIFIED_REMARK:
+            return UnifiedRemarkEvent.match(logLine);
+        case UNIFIED_SAFEPOINT:
+            return UnifiedSafepointEvent.match(logLine);
+        case UNIFIED_SERIAL_NEW:
+            return UnifiedSerialNewEvent.match(logLine);
+        case UNIFIED_SERIAL_OLD:
+            return UnifiedSerialOldEvent.match(logLine);
+        case UNIFIED_SHENANDOAH_CANCELLING_GC:
+            return UnifiedShenandoahCancellingGcEvent.match(logLine);
+        case UNIFIED_SHENANDOAH_DEGENERATED_GC:
+            return UnifiedShenandoahDegeneratedGcEvent.match(logLine);
+        case UNIFIED_SHENANDOAH_FINAL_EVAC:
+            return UnifiedShenandoahFinalEvacEvent.match(logLine);
+        case UNIFIED_SHENANDOAH_FINAL_MARK:
+            return UnifiedShenandoahFinalMarkEvent.match(logLine);
+        case UNIFIED_SHENANDOAH_FINAL_ROOTS:
+            return UnifiedShenandoahFinalRootsEvent.match(logLine);
+        case UNIFIED_SHENANDOAH_FINAL_UPDATE_REFS:
+            return UnifiedShenandoahFinalUpdateRefsEvent.match(logLine);
+        case UNIFIED_SHENANDOAH_FULL_GC:
+            return UnifiedShenandoahFullGcEvent.match(logLine);
+        case UNIFIED_SHENANDOAH_INIT_MARK:
+            return UnifiedShenandoahInitMarkEvent.match(logLine);
+        case UNIFIED_SHENANDOAH_INIT_UPDATE_REFS:
+            return UnifiedShenandoahInitUpdateRefsEvent.match(logLine);
+        case UNIFIED_SHENANDOAH_STATS:
+            return UnifiedShenandoahStatsEvent.matchHeader(logLine)
+                    || (priorLogEvent instanceof UnifiedShenandoahStatsEvent
+                            && UnifiedShenandoahStatsEvent.match(logLine));
+        case UNIFIED_SHENANDOAH_TRIGGER:
+            return UnifiedShenandoahTriggerEvent.match(logLine);
+        case UNIFIED_YOUNG:
+            return UnifiedYoungEvent.match(logLine);
+        case Z_ALLOCATION_STALL:
+            return ZAllocationStallEvent.match(logLine);
+        case Z_CONCURRENT:
+            return ZConcurrentEvent.match(logLine);
+        case Z_MARK_END:
+            return ZMarkEndEvent.match(logLine);
+        case Z_MARK_END_OLD:
+            return ZMarkEndOldEvent.match(logLine);
+        case Z_MARK_END_YOUNG:
+            return ZMarkEndYoungEvent.match(logLine);
+        case Z_MARK_START:
+            return ZMarkStartEvent.match(logLine);
+        case Z_MARK_START_YOUNG:
+            return ZMarkStartYoungEvent.match(logLine);
+        case Z_MARK_START_YOUNG_AND_OLD:
+            return ZMarkStartYoungAndOldEvent.match(logLine);
+        case Z_RELOCATE_START:
+            return ZRelocateStartEvent.match(logLine);
+        case Z_RELOCATE_START_OLD:
+            return ZRelocateStartOldEvent.match(logLine);
+        case Z_RELOCATE_START_YOUNG:
+            return ZRelocateStartYoungEvent.match(logLine);
+        case Z_RELOCATION_STALL:
+            return ZRelocationStallEvent.match(logLine);
+        case Z_STATS:
+            return ZStatsEvent.matchHeader(logLine)
+                    || (priorLogEvent instanceof ZStatsEvent && ZStatsEvent.match(logLine));
+        default:
+            return false;
+        }
+    }
+
+    /**
+     * Create the <code>LogEvent</code> for the log line if it is the given event type. Events that support it are
+     * created from the <code>Matcher</code> used to identify the log line, so the log line is only matched once.
+     * 
+     * @param eventType
+     *            The candidate <code>EventType</code>.
+     * @param logLine
+     *            The log line.
+     * @param priorLogEvent
+     *            The prior log line <code>LogEvent</code>.
+     * @return The <code>LogEvent</code> for the log line, or null if the log line is not the given event type.
+     */
+    private static final LogEvent parse(EventType eventType, String logLine, LogEvent priorLogEvent) {
+        Matcher matcher;
+        switch (eventType) {
+        case UNIFIED_CMS_INITIAL_MARK:
+            return (matcher = UnifiedCmsInitialMarkEvent.matcher(logLine)) == null ? null
+                    : new UnifiedCmsInitialMarkEvent(logLine, matcher);
+        case UNIFIED_CONCURRENT:
+            return (matcher = UnifiedConcurrentEvent.matcher(logLine)) == null ? null
+                    : new UnifiedConcurrentEvent(logLine, matcher);
+        case UNIFIED_G1_CLEANUP:
+            return (matcher = UnifiedG1CleanupEvent.matcher(logLine)) == null ? null
+                    : new UnifiedG1CleanupEvent(logLine, matcher);
+        case UNIFIED_G1_FULL_GC_PARALLEL:
+            return (matcher = UnifiedG1FullGcEvent.matcher(logLine)) == null ? null
+                    : new UnifiedG1FullGcEvent(logLine, matcher);
+        case UNIFIED_G1_MIXED_PAUSE:
+            return (matcher = UnifiedG1MixedPauseEvent.matcher(logLine)) == null ? null
+                    : new UnifiedG1MixedPauseEvent(logLine, matcher);
+        case UNIFIED_G1_YOUNG_INITIAL_MARK:
+            return (matcher = UnifiedG1YoungInitialMarkEvent.matcher(logLine)) == null ? null
+                    : new UnifiedG1YoungInitialMarkEvent(logLine, matcher);
+        case UNIFIED_G1_YOUNG_PAUSE:
+            return (matcher = UnifiedG1YoungPauseEvent.matcher(logLine)) == null ? null
+                    : new UnifiedG1YoungPauseEvent(logLine, matcher);
+        case UNIFIED_G1_YOUNG_PREPARE_MIXED:
+            return (matcher = UnifiedG1YoungPrepareMixedEvent.matcher(logLine)) == null ? null
+                    : new UnifiedG1YoungPrepareMixedEvent(logLine, matcher);
+        case UNIFIED_GC_LOCKER_RETRY:
+            return (matcher = UnifiedGcLockerRetryEvent.matcher(logLine)) == null ? null
+                    : new UnifiedGcLockerRetryEvent(logLine, matcher);
+        case UNIFIED_OLD:
+            return (matcher = UnifiedOldEvent.matcher(logLine)) == null ? null : new UnifiedOldEvent(logLine, matcher);
+        case UNIFIED_PAR_NEW:
+            return (matcher = UnifiedParNewEvent.matcher(logLine)) == null ? null
+                    : new UnifiedParNewEvent(logLine, matcher);
+        case UNIFIED_PARALLEL_COMPACTING_OLD:
+            return (matcher = UnifiedParallelCompactingOldEvent.matcher(logLine)) == null ? null
+                    : new UnifiedParallelCompactingOldEvent(logLine, matcher);
+        case UNIFIED_PARALLEL_SCAVENGE:
+            return (matcher = UnifiedParallelScavengeEvent.matcher(logLine)) == null ? null
+                    : new UnifiedParallelScavengeEvent(logLine, matcher);
+        case UNIFIED_REMARK:
+            return (matcher = UnifiedRemarkEvent.matcher(logLine)) == null ? null
+                    : new UnifiedRemarkEvent(logLine, matcher);
+        case UNIFIED_SAFEPOINT:
+            return (matcher = UnifiedSafepointEvent.matcher(logLine)) == null ? null
+                    : new UnifiedSafepointEvent(logLine, matcher);
+        case UNIFIED_SERIAL_NEW:
+            return (matcher = UnifiedSerialNewEvent.matcher(logLine)) == null ? null
+                    : new UnifiedSerialNewEvent(logLine, matcher);
+        case UNIFIED_SERIAL_OLD:
+            return (matcher = UnifiedSerialOldEvent.matcher(logLine)) == null ? null
+                    : new UnifiedSerialOldEvent(logLine, matcher);
+        case UNIFIED_SHENANDOAH_DEGENERATED_GC:
+            return (matcher = UnifiedShenandoahDegeneratedGcEvent.matcher(logLine)) == null ? null
+                    : new UnifiedShenandoahDegeneratedGcEvent(logLine, matcher);
+        case UNIFIED_SHENANDOAH_FINAL_EVAC:
+            return (matcher = UnifiedShenandoahFinalEvacEvent.matcher(logLine)) == null ? null
+                    : new UnifiedShenandoahFinalEvacEvent(logLine, matcher);
+        case UNIFIED_SHENANDOAH_FINAL_MARK:
+            return (matcher = UnifiedShenandoahFinalMarkEvent.matcher(logLine)) == null ? null
+                    : new UnifiedShenandoahFinalMarkEvent(logLine, matcher);
+        case UNIFIED_SHENANDOAH_FINAL_UPDATE_REFS:
+            return (matcher = UnifiedShenandoahFinalUpdateRefsEvent.matcher(logLine)) == null ? null
+                    : new UnifiedShenandoahFinalUpdateRefsEvent(logLine, matcher);
+        case UNIFIED_SHENANDOAH_FULL_GC:
+            return (matcher = UnifiedShenandoahFullGcEvent.matcher(logLine)) == null ? null
+                    : new UnifiedShenandoahFullGcEvent(logLine, matcher);
+        case UNIFIED_SHENANDOAH_INIT_MARK:
+            return (matcher = UnifiedShenandoahInitMarkEvent.matcher(logLine)) == null ? null
+                    : new UnifiedShenandoahInitMarkEvent(logLine, matcher);
+        case UNIFIED_SHENANDOAH_INIT_UPDATE_REFS:
+            return (matcher = UnifiedShenandoahInitUpdateRefsEvent.matcher(logLine)) == null ? null
+                    : new UnifiedShenandoahInitUpdateRefsEvent(logLine, matcher);
+        case UNIFIED_YOUNG:
+            return (matcher = UnifiedYoungEvent.matcher(logLine)) == null ? null
+                    : new UnifiedYoungEvent(logLine, matcher);
+        case Z_ALLOCATION_STALL:
+            return (matcher = ZAllocationStallEvent.matcher(logLine)) == null ? null
+                    : new ZAllocationStallEvent(logLine, matcher);
+        case Z_CONCURRENT:
+            return (matcher = ZConcurrentEvent.matcher(logLine)) == null ? null
+                    : new ZConcurrentEvent(logLine, matcher);
+        case Z_MARK_END:
+            return (matcher = ZMarkEndEvent.matcher(logLine)) == null ? null : new ZMarkEndEvent(logLine, matcher);
+        case Z_MARK_END_OLD:
+            return (matcher = ZMarkEndOldEvent.matcher(logLine)) == null ? null
+                    : new ZMarkEndOldEvent(logLine, matcher);
+        case Z_MARK_END_YOUNG:
+            return (matcher = ZMarkEndYoungEvent.matcher(logLine)) == null ? null
+                    : new ZMarkEndYoungEvent(logLine, matcher);
+        case Z_MARK_START:
+            return (matcher = ZMarkStartEvent.matcher(logLine)) == null ? null : new ZMarkStartEvent(logLine, matcher);
+        case Z_MARK_START_YOUNG:
+            return (matcher = ZMarkStartYoungEvent.matcher(logLine)) == null ? null
+                    : new ZMarkStartYoungEvent(logLine, matcher);
+        case Z_MARK_START_YOUNG_AND_OLD:
+            return (matcher = ZMarkStartYoungAndOldEvent.matcher(logLine)) == null ? null
+                    : new ZMarkStartYoungAndOldEvent(logLine, matcher);
+        case Z_RELOCATE_START:
+            return (matcher = ZRelocateStartEvent.matcher(logLine)) == null ? null
+                    : new ZRelocateStartEvent(logLine, matcher);
+        case Z_RELOCATE_START_OLD:
+            return (matcher = ZRelocateStartOldEvent.matcher(logLine)) == null ? null
+                    : new ZRelocateStartOldEvent(logLine, matcher);
+        case Z_RELOCATE_START_YOUNG:
+            return (matcher = ZRelocateStartYoungEvent.matcher(logLine)) == null ? null
+                    : new ZRelocateStartYoungEvent(logLine, matcher);
+        case Z_RELOCATION_STALL:
+            return (matcher = ZRelocationStallEvent.matcher(logLine)) == null ? null
+                    : new ZRelocationStallEvent(logLine, matcher);
+        default:
+            return match(eventType, logLine, priorLogEvent) ? JdkUtil.createLogEvent(eventType, logLine) : null;
+        }
+    }
+
     private UnifiedUtil() {
         super();
     }
@@ -0,0 +1,172 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import org.eclipselabs.garbagecat.domain.JvmRun;
+import org.eclipselabs.garbagecat.service.GcManager;
+import org.eclipselabs.garbagecat.util.Constants;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestAnalysisServer {
+
+    /**
+     * Send a request.
+     * 
+     * @return The response status and body.
+     */
+    private static String[] request(AnalysisServer server, String method, String query, byte[] body, boolean gzip)
+            throws IOException {
+        URL url = new URL("http://localhost:" + server.getPort() + "/" + (query == null ? "" : "?" + query));
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        connection.setRequestMethod(method);
+        if (body != null) {
+            connection.setDoOutput(true);
+            if (gzip) {
+                connection.setRequestProperty("Content-Encoding", "gzip");
+            }
+            try (OutputStream out = connection.getOutputStream()) {
+                out.write(body);
+            }
+        }
+        int status = connection.getResponseCode();
+        ByteArrayOutputStream response = new ByteArrayOutputStream();
+        try (InputStream in = status < 400 ? connection.getInputStream() : connection.getErrorStream()) {
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) > 0) {
+                response.write(buffer, 0, read);
+            }
+        }
+        return new String[] { Integer.toString(status), new String(response.toByteArray(), UTF_8) };
+    }
+
+    @Test
+    void testBadRequest() throws Exception {
+        try (AnalysisServer server = new AnalysisServer(0, 1)) {
+            server.start();
+            assertEquals("405", request(server, "GET", null, null, false)[0], "GET not rejected.");
+            assertEquals("400", request(server, "POST", "threshold=x", new byte[0], false)[0],
+                    "Invalid threshold not rejected.");
+            assertEquals("400", request(server, "POST", "windows=0", new byte[0], false)[0],
+                    "Invalid windows not rejected.");
+            assertEquals("400", request(server, "POST", "format=xml", new byte[0], false)[0],
+                    "Invalid format not rejected.");
+        }
+    }
+
+    @Test
+    void testCsv() throws Exception {
+        byte[] log = Files.readAllBytes(TestUtil.getFile("dataset57.txt").toPath());
+        try (AnalysisServer server = new AnalysisServer(0, 1)) {
+            server.start();
+            String[] response = request(server, "POST", "preprocess&format=csv&name=dataset57.txt", log, false);
+            assertEquals("200", response[0], "Status not correct.");
+            List<String> csvLines = Arrays.asList(response[1].split(Constants.LINE_SEPARATOR));
+            assertEquals("section,name,value", csvLines.get(0), "CSV header not correct.");
+            assertTrue(csvLines.contains(",name,dataset57.txt"), "CSV name not correct: " + response[1]);
+            assertTrue(csvLines.contains("summary,gcEvents,3"), "CSV GC events not correct: " + response[1]);
+        }
+    }
+
+    @Test
+    void testGetParameters() {
+        Map<String, String> parameters = AnalysisServer.getParameters("preprocess&name=gc%20log&format=json");
+        assertEquals("", parameters.get("preprocess"), "preprocess not correct.");
+        assertEquals("gc log", parameters.get("name"), "name not correct.");
+        assertEquals("json", parameters.get("format"), "format not correct.");
+        assertTrue(AnalysisServer.getParameters(null).isEmpty(), "Parameters not empty.");
+    }
+
+    @Test
+    void testJson() throws Exception {
+        byte[] log = Files.readAllBytes(TestUtil.getFile("dataset57.txt").toPath());
+        try (AnalysisServer server = new AnalysisServer(0, 1)) {
+            server.start();
+            String[] response = request(server, "POST", "preprocess&format=json&name=dataset57.txt", log, false);
+            assertEquals("200", response[0], "Status not correct.");
+            assertTrue(response[1].startsWith("{\"name\":\"dataset57.txt\",\"jvm\":{"),
+                    "JSON not correct: " + response[1]);
+            assertTrue(response[1].contains("\"gcEvents\":3,"), "JSON GC events not correct: " + response[1]);
+            assertTrue(response[1].contains("\"gcThroughput\":83,"), "JSON throughput not correct: " + response[1]);
+            assertTrue(response[1].contains("{\"key\":\"warn.print.commandline.flags\",\"literal\":"),
+                    "JSON analysis not correct: " + response[1]);
+        }
+    }
+
+    @Test
+    void testReport(@TempDir File temporaryFolder) throws Exception {
+        File logFile = TestUtil.getFile("dataset283.txt");
+        File reportFile = new File(temporaryFolder, "report.txt");
+        Main.createReport(OptionsParser
+                .parseOptions(new String[] { "-p", "-o", reportFile.getPath(), logFile.getPath() }));
+        String expected = new String(Files.readAllBytes(reportFile.toPath()), UTF_8);
+        byte[] log = Files.readAllBytes(logFile.toPath());
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(log);
+        }
+        try (AnalysisServer server = new AnalysisServer(0, 1)) {
+            server.start();
+            String[] response = request(server, "POST", "preprocess=true&name=dataset283.txt", log, false);
+            assertEquals("200", response[0], "Status not correct.");
+            assertEquals(expected, response[1], "Report not the same as the command line report.");
+            response = request(server, "POST", "preprocess=true&name=dataset283.txt", compressed.toByteArray(), true);
+            assertEquals(expected, response[1], "Report not the same when compressed.");
+        }
+    }
+
+    @Test
+    void testValidateParameters() {
+        AnalysisServer.validateParameters(AnalysisServer
+                .getParameters("preprocess&threshold=80&windows=1,60&startdatetime=2009-09-18%2000:00:08.172"));
+        AnalysisServer.validateParameters(AnalysisServer.getParameters("format=csv"));
+        assertThrows(IllegalArgumentException.class,
+                () -> AnalysisServer.validateParameters(AnalysisServer.getParameters("compact&reorder")));
+        assertThrows(IllegalArgumentException.class,
+                () -> AnalysisServer.validateParameters(AnalysisServer.getParameters("startdatetime=x")));
+    }
+
+    @Test
+    void testWarmUpLogs() {
+        for (String[] log : new String[][] { AnalysisServer.WARM_UP_UNIFIED_LOG, AnalysisServer.WARM_UP_LEGACY_LOG }) {
+            GcManager gcManager = new GcManager();
+            gcManager.store(Arrays.asList(log), false);
+            JvmRun jvmRun = gcManager.getJvmRun(null, Constants.DEFAULT_BOTTLENECK_THROUGHPUT_THRESHOLD);
+            assertTrue(jvmRun.getUnidentifiedLogLines().isEmpty(), "Warm up log line not identified.");
+            assertEquals(2, jvmRun.getBlockingEventCount(), "Warm up log blocking events not correct.");
+        }
+    }
+}
@@ -28,14 +28,27 @@ import static org.eclipselabs.garbagecat.util.Constants.OPTION_THRESHOLD_LONG;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_THRESHOLD_SHORT;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_VERBOSE_LONG;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_VERBOSE_SHORT;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
 
 import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.ParseException;
+import org.eclipselabs.garbagecat.domain.JvmRun;
+import org.eclipselabs.garbagecat.service.GcManager;
+import org.eclipselabs.garbagecat.util.Constants;
+import org.eclipselabs.garbagecat.util.jdk.JdkUtil.EventType;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.function.Executable;
 import org.junit.jupiter.api.io.TempDir;
@@ -46,6 +59,98 @@ class TestMain {
         assertTrue(cmd.hasOption(option), "'-" + option + "' is a valid option");
     }
 
+    @Test
+    void testBatch(@TempDir File temporaryFolder) throws Exception {
+        File logs = new File(temporaryFolder, "logs");
+        logs.mkdir();
+        String[] datasets = new String[] { "dataset283.txt", "dataset57.txt", "dataset282.txt" };
+        for (String dataset : datasets) {
+            Files.copy(TestUtil.getFile(dataset).toPath(), new File(logs, dataset).toPath());
+        }
+        // A rotation set in a subdirectory is one JVM run
+        File rotated = new File(logs, "rotated");
+        rotated.mkdir();
+        List<String> logLines = Files.readAllLines(TestUtil.getFile("dataset282.txt").toPath());
+        Files.write(new File(rotated, "gc.log.0").toPath(), logLines.subList(0, 18), UTF_8);
+        Files.write(new File(rotated, "gc.log").toPath(), logLines.subList(18, logLines.size()), UTF_8);
+        File summary = new File(temporaryFolder, "fleet.txt");
+        Main.createReport(
+                OptionsParser.parseOptions(new String[] { "-b", "2", "-p", "-o", summary.getPath(), logs.getPath() }));
+        List<String> summaryLines = Files.readAllLines(summary.toPath());
+        assertEquals("FLEET SUMMARY: 4 JVM RUN(S)", summaryLines.get(0), "Fleet summary header not correct.");
+        assertEquals(9, summaryLines.size(), "Fleet summary not correct.");
+        assertTrue(summaryLines.get(4).startsWith("dataset282.txt"), "Fleet summary not in log name order.");
+        assertTrue(summaryLines.get(7).startsWith("rotated"), "Fleet summary not in log name order.");
+        // The same reports as analyzing each JVM run separately
+        for (String logName : new String[] { "dataset283.txt", "dataset57.txt", "dataset282.txt", "rotated" }) {
+            File report = new File(temporaryFolder, logName + ".txt");
+            Main.createReport(OptionsParser.parseOptions(
+                    new String[] { "-p", "-o", report.getPath(), new File(logs, logName).getPath() }));
+            assertEquals(Files.readAllLines(report.toPath()),
+                    Files.readAllLines(new File(temporaryFolder, logName + Main.BATCH_REPORT_SUFFIX).toPath()),
+                    logName + " report not the same in batch mode.");
+        }
+        // Glob
+        Main.createReport(OptionsParser.parseOptions(
+                new String[] { "-b", "1", "-o", summary.getPath(), new File(logs, "dataset28*.txt").getPath() }));
+        assertEquals("FLEET SUMMARY: 2 JVM RUN(S)", Files.readAllLines(summary.toPath()).get(0),
+                "Fleet summary header not correct.");
+    }
+
+    @Test
+    void testBatchReportNotWritten(@TempDir File temporaryFolder) throws Exception {
+        File logs = new File(temporaryFolder, "logs");
+        logs.mkdir();
+        for (String dataset : new String[] { "dataset283.txt", "dataset57.txt" }) {
+            Files.copy(TestUtil.getFile(dataset).toPath(), new File(logs, dataset).toPath());
+        }
+        // A directory where the report of one JVM run is written
+        new File(temporaryFolder, "dataset57.txt" + Main.BATCH_REPORT_SUFFIX).mkdir();
+        File summary = new File(temporaryFolder, "fleet.txt");
+        Main.createReport(
+                OptionsParser.parseOptions(new String[] { "-b", "2", "-o", summary.getPath(), logs.getPath() }));
+        List<String> summaryLines = Files.readAllLines(summary.toPath());
+        assertEquals(7, summaryLines.size(), "Fleet summary not correct.");
+        assertTrue(summaryLines.get(4).startsWith("dataset283.txt"), "Fleet summary not correct.");
+        assertFalse(summaryLines.get(4).contains("error:"), "JVM run incorrectly summarized as an error.");
+        assertTrue(summaryLines.get(5).startsWith("dataset57.txt"), "Fleet summary not correct.");
+        assertTrue(summaryLines.get(5).contains("error:"), "Report not written not summarized as an error.");
+    }
+
+    @Test
+    void testFollowConsole() throws Exception {
+        File log = TestUtil.getFile("dataset283.txt");
+        assertThrows(ParseException.class,
+                () -> OptionsParser.parseOptions(new String[] { "-f", "1", "-c", log.getPath() }));
+    }
+
+    @Test
+    void testFormat(@TempDir File temporaryFolder) throws Exception {
+        File log = TestUtil.getFile("dataset283.txt");
+        File json = new File(temporaryFolder, "report.json");
+        Main.createReport(
+                OptionsParser.parseOptions(new String[] { "--format", "json", "-o", json.getPath(), log.getPath() }));
+        List<String> jsonLines = Files.readAllLines(json.toPath());
+        assertEquals(1, jsonLines.size(), "JSON report not one line.");
+        assertTrue(jsonLines.get(0).startsWith("{\"name\":\"dataset283.txt\",\"jvm\":{\"version\":\"17.0.10+7-LTS\"}"
+                + ",\"summary\":{"), "JSON report not correct.");
+        assertTrue(jsonLines.get(0).contains("\"gcEvents\":2,"), "JSON GC events not correct.");
+        assertTrue(jsonLines.get(0).contains("{\"trigger\":\"CollectForMetadataAllocation\",\"count\":1"
+                + ",\"pauseTotal\":0.009,\"pauseMax\":0.009}"), "JSON safepoint metrics not correct.");
+        assertTrue(jsonLines.get(0).endsWith(",\"safepointBottlenecks\":[],\"unidentifiedLogLines\":194}"),
+                "JSON report not correct.");
+        File csv = new File(temporaryFolder, "report.csv");
+        Main.createReport(OptionsParser.parseOptions(new String[] { "-F", "csv", "-o", csv.getPath(), log.getPath() }));
+        List<String> csvLines = Files.readAllLines(csv.toPath());
+        assertEquals("section,name,value", csvLines.get(0), "CSV header not correct.");
+        assertTrue(csvLines.contains("summary,gcEvents,2"), "CSV GC events not correct.");
+        assertTrue(csvLines.contains("safepoints.0,trigger,CollectForMetadataAllocation"),
+                "CSV safepoint metrics not correct.");
+        assertEquals(",unidentifiedLogLines,194", csvLines.get(csvLines.size() - 1), "CSV report not correct.");
+        assertThrows(ParseException.class,
+                () -> OptionsParser.parseOptions(new String[] { "-F", "xml", log.getPath() }));
+    }
+
     @Test
     void testLogFileEqualsReportFile(@TempDir File temporaryFolder) throws Exception {
         // Method arguments
@@ -147,4 +252,63 @@ class TestMain {
         assertHasOption(cmd, OPTION_VERBOSE_SHORT);
     }
 
+    @Test
+    void testSnapshot(@TempDir File temporaryFolder) throws Exception {
+        for (String dataset : new String[] { "dataset283.txt", "dataset57.txt" }) {
+            List<String> logLines = Files.readAllLines(TestUtil.getFile(dataset).toPath());
+            int rotation = logLines.size() * 2 / 3;
+            // All logging analyzed at once
+            File full = new File(temporaryFolder, dataset + ".full");
+            full.mkdir();
+            Files.write(new File(full, "gc.log.0").toPath(), logLines.subList(0, rotation), UTF_8);
+            Files.write(new File(full, "gc.log").toPath(), logLines.subList(rotation, logLines.size()), UTF_8);
+            File fullReport = new File(temporaryFolder, dataset + ".full.txt");
+            Main.createReport(OptionsParser
+                    .parseOptions(new String[] { "-C", "-p", "-o", fullReport.getPath(), full.getPath() }));
+            // Logging analyzed as it is written, resuming from a snapshot after the log file is rotated
+            File live = new File(temporaryFolder, dataset + ".live");
+            live.mkdir();
+            Path gcLog = new File(live, "gc.log").toPath();
+            String snapshot = new File(temporaryFolder, dataset + ".snapshot").getPath();
+            File liveReport = new File(temporaryFolder, dataset + ".live.txt");
+            String[] args = new String[] { "-S", snapshot, "-p", "-o", liveReport.getPath(), live.getPath() };
+            Files.write(gcLog, logLines.subList(0, rotation / 2), UTF_8);
+            Main.createReport(OptionsParser.parseOptions(args));
+            assertTrue(new File(snapshot).exists(), dataset + " snapshot not written.");
+            Files.write(gcLog, logLines.subList(0, rotation), UTF_8);
+            Files.move(gcLog, new File(live, "gc.log.0").toPath());
+            Files.write(gcLog, logLines.subList(rotation, logLines.size()), UTF_8);
+            Main.createReport(OptionsParser.parseOptions(args));
+            // Skip the first line (the log file name)
+            List<String> expected = Files.readAllLines(fullReport.toPath());
+            List<String> actual = Files.readAllLines(liveReport.toPath());
+            assertEquals(expected.subList(1, expected.size()), actual.subList(1, actual.size()),
+                    dataset + " report not the same resuming from a snapshot.");
+        }
+    }
+
+    @Test
+    void testSnapshotUnifiedHeaderRotated(@TempDir File temporaryFolder) throws Exception {
+        // The collector is only identified in the header of the first log file
+        File live = new File(temporaryFolder, "live");
+        live.mkdir();
+        Path gcLog = new File(live, "gc.log").toPath();
+        String snapshot = new File(temporaryFolder, "snapshot").getPath();
+        String[] args = new String[] { "-S", snapshot, "-o", new File(temporaryFolder, "report.txt").getPath(),
+                live.getPath() };
+        Files.write(gcLog, Arrays.asList("[0.052s][info][gc] Using Serial",
+                "[9.602s][info][gc] GC(0) Pause Young (Allocation Failure) 32M->12M(38M) 1.812ms"), UTF_8);
+        Main.createReport(OptionsParser.parseOptions(args));
+        Files.move(gcLog, new File(live, "gc.log.0").toPath());
+        Files.write(gcLog,
+                Arrays.asList("[10.602s][info][gc] GC(1) Pause Young (Allocation Failure) 32M->12M(38M) 1.812ms"),
+                UTF_8);
+        Main.createReport(OptionsParser.parseOptions(args));
+        int throughputThreshold = Constants.DEFAULT_BOTTLENECK_THROUGHPUT_THRESHOLD;
+        JvmRun jvmRun = GcManager.readSnapshot(Paths.get(snapshot), null, throughputThreshold).getJvmRun(null,
+                throughputThreshold);
+        assertEquals(2, jvmRun.getBlockingEventCount(), "Blocking event count not correct.");
+        assertEquals(Arrays.asList(EventType.UNIFIED_HEADER, EventType.UNIFIED_SERIAL_NEW), jvmRun.getEventTypes(),
+                "Event types not correct resuming from a snapshot.");
+    }
 }
@@ -14,6 +14,7 @@ package org.eclipselabs.garbagecat.dao;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
@@ -34,6 +35,7 @@ import org.eclipselabs.garbagecat.domain.jdk.SerialOldEvent;
 import org.eclipselabs.garbagecat.domain.jdk.unified.UnifiedSafepointEvent;
 import org.eclipselabs.garbagecat.service.GcManager;
 import org.eclipselabs.garbagecat.util.Constants;
+import org.eclipselabs.garbagecat.util.PauseHistogram;
 import org.eclipselabs.garbagecat.util.jdk.JdkMath;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil.EventType;
@@ -46,6 +48,102 @@ import org.junit.jupiter.api.Test;
  */
 class TestJvmDao {
 
+    @Test
+    void testBlockingEventAggregates() {
+        JvmDao jvmDao = new JvmDao();
+        ParNewEvent event1 = new ParNewEvent("3010778.296: [GC 3010778.296: [ParNew: 337824K->32173K(368640K),"
+                + " 0.0803880 secs] 806117K->500466K(1187840K), 0.0805980 secs]");
+        jvmDao.addBlockingEvent(event1);
+        ParNewEvent event2 = new ParNewEvent(
+                "3010786.012: [GC 3010786.012: [ParNew: 356703K->356703K(368640K), 0.0000190 secs]"
+                        + " 824995K->824995K(1187840K), 0.0001460 secs]");
+        jvmDao.addBlockingEvent(event2);
+        SerialOldEvent event3 = new SerialOldEvent("3010786.012: [Full GC 3010786.012:"
+                + " [Tenured: 468292K->482213K(819200K), 1.9920590 secs] 824995K->482213K(1187840K),"
+                + " [Perm : 123092K->122684K(262144K)], 1.9924510 secs]");
+        jvmDao.addBlockingEvent(event3);
+        assertEquals(1992451, jvmDao.getDurationMax(), "Duration max not correct.");
+        assertEquals(2073195, jvmDao.getDurationTotal(), "Duration total not correct.");
+        assertEquals(1187840, jvmDao.getMaxHeap(), "Max heap not correct.");
+        assertEquals(824995, jvmDao.getMaxHeapOccupancy(), "Max heap occupancy not correct.");
+        assertEquals(824995, jvmDao.getMaxHeapAfterGc(), "Max heap after GC not correct.");
+        assertEquals(819200, jvmDao.getMaxOldSpace(), "Max old space not correct.");
+        assertEquals(368640, jvmDao.getMaxYoungSpace(), "Max young space not correct.");
+        assertEquals(262144, jvmDao.getMaxClassSpace(), "Max class space not correct.");
+        assertEquals(123092, jvmDao.getMaxClassSpaceOccupancy(), "Max class space occupancy not correct.");
+        assertEquals(122684, jvmDao.getMaxClassSpaceAfterGc(), "Max class space after GC not correct.");
+    }
+
+    @Test
+    void testCompactLogEntries() {
+        JvmDao jvmDao = new JvmDao(Constants.DEFAULT_BOTTLENECK_THROUGHPUT_THRESHOLD);
+        jvmDao.addBlockingEvent(new ParNewEvent("100.000: [GC 100.000: [ParNew: 337824K->32173K(368640K),"
+                + " 0.0100000 secs] 806117K->500466K(1187840K), 0.0100000 secs]"));
+        jvmDao.addBlockingEvent(new ParNewEvent("200.000: [GC 200.000: [ParNew: 337824K->32173K(368640K),"
+                + " 0.0100000 secs] 806117K->500466K(1187840K), 0.0100000 secs]"));
+        jvmDao.addBlockingEvent(new ParNewEvent("200.100: [GC 200.100: [ParNew: 337824K->32173K(368640K),"
+                + " 0.0900000 secs] 806117K->500466K(1187840K), 0.0900000 secs]"));
+        jvmDao.addBlockingEvent(new ParNewEvent("300.000: [GC 300.000: [ParNew: 337824K->32173K(368640K),"
+                + " 0.0100000 secs] 806117K->500466K(1187840K), 0.0100000 secs]"));
+        jvmDao.addBlockingEvent(new ParNewEvent("400.000: [GC 400.000: [ParNew: 337824K->32173K(368640K),"
+                + " 0.0100000 secs] 806117K->500466K(1187840K), 0.0100000 secs]"));
+        assertTrue(jvmDao.isCompact(), "Not compact.");
+        assertEquals(5, jvmDao.getBlockingEventCount(), "Blocking event count not correct.");
+        List<BlockingEvent> events = jvmDao.getBlockingEvents();
+        assertTrue(events.get(0) instanceof ParNewEvent, "First event not kept.");
+        assertTrue(events.get(4) instanceof ParNewEvent, "Last event not kept.");
+        assertEquals(200000, events.get(1).getTimestamp(), "Timestamp not correct.");
+        assertEquals(90000, events.get(2).getDurationMicros(), "Duration not correct.");
+        assertEquals(EventType.PAR_NEW, events.get(3).getEventType(), "Event type not correct.");
+        assertTrue(events.get(1).getLogEntry() != null, "Bottleneck log entry not kept.");
+        assertTrue(events.get(2).getLogEntry() != null, "Bottleneck log entry not kept.");
+        assertEquals(null, events.get(3).getLogEntry(), "Log entry kept.");
+    }
+
+    @Test
+    void testPauseHistograms() {
+        JvmDao jvmDao = new JvmDao(Constants.DEFAULT_BOTTLENECK_THROUGHPUT_THRESHOLD);
+        jvmDao.addBlockingEvent(new ParNewEvent("100.000: [GC 100.000: [ParNew: 337824K->32173K(368640K),"
+                + " 0.0100000 secs] 806117K->500466K(1187840K), 0.0100000 secs]"));
+        jvmDao.addBlockingEvent(new ParNewEvent("200.000: [GC 200.000: [ParNew: 337824K->32173K(368640K),"
+                + " 0.0900000 secs] 806117K->500466K(1187840K), 0.0900000 secs]"));
+        jvmDao.addSafepointEvent(new UnifiedSafepointEvent(
+                "[123.192s][info][safepoint   ] Safepoint \"CleanClassLoaderDataMetaspaces\", Time since last: "
+                        + "1223019 ns, Reaching safepoint: 138450 ns, At safepoint: 10173766 ns, Total: 10212216 ns"));
+        PauseHistogram parNew = jvmDao.getEventTypeHistograms().get(EventType.PAR_NEW);
+        assertEquals(2, parNew.getCount(), EventType.PAR_NEW + " count not correct.");
+        assertEquals(90000, parNew.getMax(), EventType.PAR_NEW + " max not correct.");
+        assertEquals(90000, parNew.getValueAtPercentile(99), EventType.PAR_NEW + " p99 not correct.");
+        PauseHistogram safepoint = jvmDao.getSafepointHistograms().get(Trigger.CLEAN_CLASSLOADER_DATA_METASPACES);
+        assertEquals(1, safepoint.getCount(), Trigger.CLEAN_CLASSLOADER_DATA_METASPACES + " count not correct.");
+        assertEquals(10312, safepoint.getMax(), Trigger.CLEAN_CLASSLOADER_DATA_METASPACES + " max not correct.");
+    }
+
+    @Test
+    void testReorderSameTimestamp() {
+        JvmDao jvmDao = new JvmDao();
+        ParNewEvent event1 = new ParNewEvent("100.000: [GC 100.000: [ParNew: 337824K->32173K(368640K),"
+                + " 0.0803880 secs] 806117K->500466K(1187840K), 0.0805980 secs]");
+        jvmDao.addBlockingEvent(event1);
+        ParNewEvent event2 = new ParNewEvent("100.000: [GC 100.000: [ParNew: 337824K->32173K(368640K),"
+                + " 0.0803880 secs] 806117K->500466K(1187840K), 0.0805980 secs]");
+        jvmDao.addBlockingEvent(event2);
+        ParNewEvent event3 = new ParNewEvent("300.000: [GC 300.000: [ParNew: 337824K->32173K(368640K),"
+                + " 0.0803880 secs] 806117K->500466K(1187840K), 0.0805980 secs]");
+        jvmDao.addBlockingEvent(event3);
+        // Out of order, with the same timestamp as events already stored
+        SerialOldEvent event4 = new SerialOldEvent("100.000: [Full GC 100.000:"
+                + " [Tenured: 468292K->482213K(819200K), 1.9920590 secs] 824995K->482213K(1187840K),"
+                + " [Perm : 123092K->122684K(262144K)], 1.9924510 secs]");
+        jvmDao.addBlockingEvent(event4);
+        List<BlockingEvent> events = jvmDao.getBlockingEvents();
+        assertEquals(4, events.size(), "Event count not correct.");
+        assertSame(event1, events.get(0), "Events not in order.");
+        assertSame(event2, events.get(1), "Events not in order.");
+        assertSame(event4, events.get(2), "Reordered event not after the events with the same timestamp.");
+        assertSame(event3, events.get(3), "Events not in order.");
+    }
+
     @Test
     void testSafepointSummary() {
         JvmDao jvmDao = new JvmDao();
@@ -413,7 +413,7 @@ class TestJvmRun {
         assertFalse(jvmRun.getEventTypes().contains(EventType.UNKNOWN),
                 JdkUtil.EventType.UNKNOWN.toString() + " event identified.");
         assertEquals(2, jvmRun.getEventTypes().size(), "Event count not correct.");
-        assertEquals(0, jvmRun.getUnidentifiedLogLines().size(), "Should not be any unidentified log lines.");
+        assertEquals(0, jvmRun.getUnidentifiedLogLines().getCount(), "Should not be any unidentified log lines.");
         assertTrue(jvmRun.getEventTypes().contains(JdkUtil.EventType.PAR_NEW),
                 "Log line not recognized as " + JdkUtil.EventType.PAR_NEW.toString() + ".");
         assertTrue(jvmRun.getEventTypes().contains(JdkUtil.EventType.APPLICATION_STOPPED_TIME),
@@ -15,6 +15,8 @@ package org.eclipselabs.garbagecat.domain.jdk.unified;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
@@ -24,6 +26,7 @@ import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.regex.Matcher;
 
 import org.eclipselabs.garbagecat.TestUtil;
 import org.eclipselabs.garbagecat.domain.JvmRun;
@@ -215,6 +218,39 @@ class TestUnifiedSafepointEvent {
         assertEquals(454600, event.getTimeThreadsStopped(), "Time threads stopped not parsed correctly.");
     }
 
+    @Test
+    void testMatcherJdk11() {
+        String logLine = "[2021-09-14T11:40:53.379-0500][144035ms][info][safepoint     ] Entering safepoint region: "
+                + "CollectForMetadataAllocation[2021-09-14T11:40:53.379-0500][144036ms][info][safepoint     ] "
+                + "Leaving safepoint region[2021-09-14T11:40:53.379-0500][144036ms][info][safepoint     ] Total time "
+                + "for which application threads were stopped: 0.0004546 seconds, Stopping threads took: 0.0002048 "
+                + "seconds";
+        Matcher matcher = UnifiedSafepointEvent.matcher(logLine);
+        assertNotNull(matcher,
+                "Log line not recognized as " + JdkUtil.EventType.UNIFIED_SAFEPOINT.toString() + ".");
+        UnifiedSafepointEvent event = new UnifiedSafepointEvent(logLine, matcher);
+        assertEquals(Trigger.COLLECT_FOR_METADATA_ALLOCATION, event.getTrigger(), "Trigger not parsed correctly.");
+        assertEquals(144035, event.getTimestamp(), "Time stamp not parsed correctly.");
+        assertEquals(204800, event.getTimeToStopThreads(), "Time to stop threads not parsed correctly.");
+        assertEquals(454600, event.getTimeThreadsStopped(), "Time threads stopped not parsed correctly.");
+    }
+
+    @Test
+    void testMatcherJdk17() {
+        String logLine = "[1.708s] JDK17U8 Safepoint \"G1CollectForAllocation\", Time since last: 11990384 ns, "
+                + "Reaching safepoint: 2496 ns, Cleanup: 11042 ns, At safepoint: 623787 ns, Total: 637325 ns";
+        Matcher matcher = UnifiedSafepointEvent.matcher(logLine);
+        assertNotNull(matcher,
+                "Log line not recognized as " + JdkUtil.EventType.UNIFIED_SAFEPOINT.toString() + ".");
+        UnifiedSafepointEvent event = new UnifiedSafepointEvent(logLine, matcher);
+        assertEquals(Trigger.G1_COLLECT_FOR_ALLOCATION, event.getTrigger(), "Trigger not parsed correctly.");
+        assertEquals(1708, event.getTimestamp(), "Time stamp not parsed correctly.");
+        assertEquals(2496, event.getTimeToStopThreads(), "Time to stop threads not parsed correctly.");
+        assertEquals(11042, event.getTimeCleanup(), "Time cleanup not parsed correctly.");
+        assertEquals(623787, event.getTimeThreadsStopped(), "Time threads stopped not parsed correctly.");
+        assertNull(UnifiedSafepointEvent.matcher("[1.708s] JDK17U8 Safepoint"), "Log line incorrectly matched.");
+    }
+
     @Test
     void testParseLogLine() {
         String logLine = "[2021-09-14T11:40:53.379-0500][144.035s][info][safepoint     ] Entering safepoint region: "
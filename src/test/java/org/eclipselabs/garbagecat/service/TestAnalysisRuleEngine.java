@@ -0,0 +1,73 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipselabs.garbagecat.dao.JvmDao;
+import org.eclipselabs.garbagecat.domain.jdk.CmsRemarkEvent;
+import org.eclipselabs.garbagecat.domain.jdk.SerialNewEvent;
+import org.eclipselabs.garbagecat.util.jdk.Analysis;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestAnalysisRuleEngine {
+
+    @Test
+    void testCustomRule() {
+        AtomicInteger tested = new AtomicInteger();
+        AnalysisRuleEngine engine = new AnalysisRuleEngine();
+        engine.addRule(new AnalysisRule<CmsRemarkEvent>(Analysis.INFO_THREAD_DUMP, CmsRemarkEvent.class,
+                event -> tested.incrementAndGet() > 1));
+        JvmDao jvmDao = new JvmDao();
+        SerialNewEvent serialNewEvent = new SerialNewEvent("2.218: [GC (Allocation Failure) 2.218: [DefNew: "
+                + "209792K->15933K(235968K), 0.0848369 secs] 209792K->15933K(760256K), 0.0849244 secs] "
+                + "[Times: user=0.03 sys=0.06, real=0.08 secs]");
+        engine.apply(serialNewEvent, jvmDao);
+        assertEquals(0, tested.get(), "Rule tested against other event class.");
+        CmsRemarkEvent remarkEvent = new CmsRemarkEvent("253.103: [GC[YG occupancy: 16172 K (149120 K)]253.103: "
+                + "[Rescan (parallel) , 0.0226730 secs]253.126: [weak refs processing, 0.0624566 secs] "
+                + "[1 CMS-remark: 4173470K(8218240K)] 4189643K(8367360K), 0.0857010 secs]");
+        engine.apply(remarkEvent, jvmDao);
+        assertFalse(engine.isFired(Analysis.INFO_THREAD_DUMP), "Rule fired before condition met.");
+        engine.apply(remarkEvent, jvmDao);
+        assertTrue(engine.isFired(Analysis.INFO_THREAD_DUMP), "Rule not fired.");
+        assertTrue(jvmDao.getAnalysis().contains(Analysis.INFO_THREAD_DUMP), "Rule analysis not added.");
+        engine.apply(remarkEvent, jvmDao);
+        assertEquals(2, tested.get(), "Rule tested after firing.");
+        assertTrue(jvmDao.getAnalysis().indexOf(Analysis.WARN_CMS_CLASS_UNLOADING_NOT_ENABLED) < jvmDao
+                .getAnalysis().indexOf(Analysis.INFO_THREAD_DUMP), "Custom rule not tested after standard rules.");
+    }
+
+    @Test
+    void testStandardRule() {
+        AnalysisRuleEngine engine = new AnalysisRuleEngine();
+        JvmDao jvmDao = new JvmDao();
+        engine.apply(new CmsRemarkEvent("253.103: [GC[YG occupancy: 16172 K (149120 K)]253.103: "
+                + "[Rescan (parallel) , 0.0226730 secs]253.126: [weak refs processing, 0.0624566 secs] "
+                + "[1 CMS-remark: 4173470K(8218240K)] 4189643K(8367360K), 0.0857010 secs]"), jvmDao);
+        assertTrue(engine.isFired(Analysis.WARN_CMS_CLASS_UNLOADING_NOT_ENABLED),
+                Analysis.WARN_CMS_CLASS_UNLOADING_NOT_ENABLED + " analysis not fired.");
+        assertTrue(jvmDao.getAnalysis().contains(Analysis.WARN_CMS_CLASS_UNLOADING_NOT_ENABLED),
+                Analysis.WARN_CMS_CLASS_UNLOADING_NOT_ENABLED + " analysis not identified.");
+        assertFalse(engine.isFired(Analysis.WARN_CMS_REMARK_LOW_PARALLELISM),
+                Analysis.WARN_CMS_REMARK_LOW_PARALLELISM + " analysis fired.");
+    }
+}
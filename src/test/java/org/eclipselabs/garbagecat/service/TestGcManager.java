@@ -12,21 +12,30 @@
  *********************************************************************************************************************/
 package org.eclipselabs.garbagecat.service;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
 import java.io.IOException;
 import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Date;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 
 import org.eclipselabs.garbagecat.TestUtil;
+import org.eclipselabs.garbagecat.domain.JvmRun;
 import org.eclipselabs.garbagecat.domain.LogEvent;
 import org.eclipselabs.garbagecat.domain.jdk.CmsConcurrentEvent;
 import org.eclipselabs.garbagecat.util.Constants;
+import org.eclipselabs.garbagecat.util.jdk.Analysis;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -35,6 +44,48 @@ import org.junit.jupiter.api.Test;
  */
 class TestGcManager {
 
+    @Test
+    void testBottleneckLimit() {
+        List<String> logLines = new ArrayList<String>();
+        int intervals = GcManager.BOTTLENECK_LIMIT + 50;
+        for (int i = 0; i < intervals; i++) {
+            // Two pauses 1 sec apart, with more pause time in each later interval
+            for (int j = 0; j < 2; j++) {
+                String timestamp = (i * 100 + j) + ".000";
+                String duration = "0." + (100 + i) + "0000";
+                logLines.add(timestamp + ": [GC (Allocation Failure) " + timestamp + ": [DefNew: "
+                        + "209792K->15933K(235968K), " + duration + " secs] 209792K->15933K(760256K), " + duration
+                        + " secs]");
+            }
+        }
+        GcManager gcManager = new GcManager();
+        gcManager.store(logLines, false);
+        JvmRun jvmRun = gcManager.getJvmRun(null, Constants.DEFAULT_BOTTLENECK_THROUGHPUT_THRESHOLD);
+        List<String> bottlenecks = jvmRun.getGcBottlenecks();
+        assertEquals(GcManager.BOTTLENECK_LIMIT * 3, bottlenecks.size(), "Bottleneck count not correct.");
+        assertEquals(logLines.get(100), bottlenecks.get(0), "First bottleneck not correct.");
+        assertEquals(logLines.get(logLines.size() - 1), bottlenecks.get(bottlenecks.size() - 2),
+                "Last bottleneck not correct.");
+        assertEquals("... 50 interval(s) with less pause time", bottlenecks.get(bottlenecks.size() - 1),
+                "Bottlenecks not shown not correct.");
+    }
+
+    /**
+     * Test bottleneck timestamps are not converted to date/time when stored, only when reported.
+     */
+    @Test
+    void testBottleneckStartDate() {
+        List<String> logLines = new ArrayList<String>();
+        logLines.add("1.000: [GC (Allocation Failure) 1.000: [DefNew: 209792K->15933K(235968K), 0.5000000 secs] "
+                + "209792K->15933K(760256K), 0.5000000 secs]");
+        logLines.add("2.000: [GC (Allocation Failure) 2.000: [DefNew: 209792K->15933K(235968K), 0.5000000 secs] "
+                + "209792K->15933K(760256K), 0.5000000 secs]");
+        GcManager gcManager = new GcManager(new Date(0L));
+        gcManager.store(logLines, false);
+        JvmRun jvmRun = gcManager.getJvmRun(null, Constants.DEFAULT_BOTTLENECK_THROUGHPUT_THRESHOLD);
+        assertEquals(logLines, jvmRun.getGcBottlenecks(), "Bottlenecks not correct.");
+    }
+
     /**
      * Test for NullPointerException caused by Issue 17:
      * http://code.google.com/a/eclipselabs.org/p/garbagecat/issues/detail?id=17
@@ -78,6 +129,121 @@ class TestGcManager {
         assertEquals(currentLogLine, preprocessedLogLine, "Preprocessing incorrectly changed log line.");
     }
 
+    /**
+     * Test compact storage gives the same result as storing event objects.
+     * 
+     * @throws IOException
+     */
+    @Test
+    void testCompactStore() throws IOException {
+        for (String dataset : new String[] { "dataset259.txt", "dataset280.txt" }) {
+            File testFile = TestUtil.getFile(dataset);
+            List<String> logLines = Files.readAllLines(Paths.get(testFile.toURI()));
+            GcManager gcManager = new GcManager();
+            gcManager.store(gcManager.preprocess(logLines.iterator()), false);
+            JvmRun jvmRun = gcManager.getJvmRun(null, Constants.DEFAULT_BOTTLENECK_THROUGHPUT_THRESHOLD);
+            GcManager gcManagerCompact = new GcManager(null, Constants.DEFAULT_BOTTLENECK_THROUGHPUT_THRESHOLD);
+            gcManagerCompact.store(gcManagerCompact.preprocess(logLines.iterator()), false);
+            JvmRun jvmRunCompact = gcManagerCompact.getJvmRun(null, Constants.DEFAULT_BOTTLENECK_THROUGHPUT_THRESHOLD);
+            assertEquals(jvmRun.getBlockingEventCount(), jvmRunCompact.getBlockingEventCount(),
+                    dataset + " blocking event count not the same.");
+            assertEquals(jvmRun.getDurationTotal(), jvmRunCompact.getDurationTotal(),
+                    dataset + " duration total not the same.");
+            assertEquals(jvmRun.getGcBottlenecks(), jvmRunCompact.getGcBottlenecks(),
+                    dataset + " GC bottlenecks not the same.");
+            assertEquals(jvmRun.getSafepointBottlenecks(), jvmRunCompact.getSafepointBottlenecks(),
+                    dataset + " safepoint bottlenecks not the same.");
+            assertEquals(jvmRun.getSafepointMetrics().toString(), jvmRunCompact.getSafepointMetrics().toString(),
+                    dataset + " safepoint metrics not the same.");
+            assertEquals(jvmRun.getLastSafepointEvent().getLogEntry(),
+                    jvmRunCompact.getLastSafepointEvent().getLogEntry(), dataset + " last safepoint not the same.");
+        }
+    }
+
+    /**
+     * Test the JVM run can be created repeatedly while storing (follow mode) with the same result as storing the whole
+     * log first.
+     * 
+     * @throws IOException
+     */
+    @Test
+    void testJvmRunIncremental() throws IOException {
+        for (String dataset : new String[] { "dataset57.txt", "dataset223.txt", "dataset283.txt" }) {
+            File testFile = TestUtil.getFile(dataset);
+            List<String> logLines = Files.readAllLines(Paths.get(testFile.toURI()));
+            GcManager gcManager = new GcManager();
+            gcManager.preprocessAndStore(logLines.iterator(), false);
+            JvmRun jvmRun = gcManager.getJvmRun(null, Constants.DEFAULT_BOTTLENECK_THROUGHPUT_THRESHOLD);
+            GcManager gcManagerIncremental = new GcManager();
+            Iterator<String> iterator = logLines.iterator();
+            // Create the JVM run every 10 lines, as follow mode does between lines
+            gcManagerIncremental.preprocessAndStore(new Iterator<String>() {
+                private int count;
+
+                @Override
+                public boolean hasNext() {
+                    if (++count % 10 == 0) {
+                        gcManagerIncremental.getJvmRun(null, Constants.DEFAULT_BOTTLENECK_THROUGHPUT_THRESHOLD);
+                    }
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public String next() {
+                    return iterator.next();
+                }
+            }, false);
+            JvmRun jvmRunIncremental = gcManagerIncremental.getJvmRun(null,
+                    Constants.DEFAULT_BOTTLENECK_THROUGHPUT_THRESHOLD);
+            assertEquals(jvmRun.getBlockingEventCount(), jvmRunIncremental.getBlockingEventCount(),
+                    dataset + " blocking event count not the same.");
+            assertEquals(jvmRun.getEventTypes(), jvmRunIncremental.getEventTypes(),
+                    dataset + " event types not the same.");
+            assertEquals(jvmRun.getGcBottlenecks(), jvmRunIncremental.getGcBottlenecks(),
+                    dataset + " gc bottlenecks not the same.");
+            assertEquals(jvmRun.getSafepointBottlenecks(), jvmRunIncremental.getSafepointBottlenecks(),
+                    dataset + " safepoint bottlenecks not the same.");
+            assertEquals(jvmRun.getAnalysis().size(), jvmRunIncremental.getAnalysis().size(),
+                    dataset + " analysis not the same.");
+            for (int i = 0; i < jvmRun.getAnalysis().size(); i++) {
+                assertArrayEquals(jvmRun.getAnalysis().get(i), jvmRunIncremental.getAnalysis().get(i),
+                        dataset + " analysis not the same.");
+            }
+        }
+    }
+
+    /**
+     * Test the JVM options passed in do not change the data store, so the JVM run can be retrieved again (e.g. on
+     * each follow mode refresh).
+     * 
+     * @throws IOException
+     */
+    @Test
+    void testJvmRunJvmOptionsRepeated() throws IOException {
+        // No JVM options in the logging
+        GcManager gcManager = new GcManager();
+        gcManager.store(Files.readAllLines(TestUtil.getFile("dataset283.txt").toPath()), false);
+        for (int i = 0; i < 2; i++) {
+            JvmRun jvmRun = gcManager.getJvmRun("-Xmx1g", Constants.DEFAULT_BOTTLENECK_THROUGHPUT_THRESHOLD);
+            assertEquals("-Xmx1g", jvmRun.getJvmOptions().getJvmContext().getOptions(), "JVM options not correct.");
+            assertFalse(jvmRun.hasAnalysis(Analysis.WARN_JVM_OPTIONS_OVERRIDE.getKey()),
+                    Analysis.WARN_JVM_OPTIONS_OVERRIDE + " analysis incorrectly identified.");
+        }
+        assertNull(gcManager.getJvmRun(null, Constants.DEFAULT_BOTTLENECK_THROUGHPUT_THRESHOLD).getJvmOptions()
+                .getJvmContext().getOptions(), "JVM options changed in the data store.");
+        // JVM options in the logging
+        gcManager = new GcManager();
+        gcManager.store(Files.readAllLines(TestUtil.getFile("dataset294.txt").toPath()), false);
+        for (int i = 0; i < 2; i++) {
+            JvmRun jvmRun = gcManager.getJvmRun("-Xmx2g", Constants.DEFAULT_BOTTLENECK_THROUGHPUT_THRESHOLD);
+            assertTrue(jvmRun.hasAnalysis(Analysis.WARN_JVM_OPTIONS_OVERRIDE.getKey()),
+                    Analysis.WARN_JVM_OPTIONS_OVERRIDE + " analysis not identified.");
+        }
+        assertFalse(gcManager.getJvmRun(null, Constants.DEFAULT_BOTTLENECK_THROUGHPUT_THRESHOLD)
+                .hasAnalysis(Analysis.WARN_JVM_OPTIONS_OVERRIDE.getKey()),
+                Analysis.WARN_JVM_OPTIONS_OVERRIDE + " analysis added to the data store.");
+    }
+
     /**
      * Test for NullPointerException.
      * 
@@ -91,4 +257,93 @@ class TestGcManager {
         List<String> logLines = Files.readAllLines(Paths.get(logFileUri));
         logLines = gcManager.preprocess(logLines);
     }
+
+    /**
+     * Test parallel parsing gives the same result as sequential parsing across multiple chunks.
+     * 
+     * @throws IOException
+     */
+    @Test
+    void testParallelStore() throws IOException {
+        File testFile = TestUtil.getFile("dataset282.txt");
+        List<String> logLines = new ArrayList<String>();
+        while (logLines.size() <= GcManager.PARSE_CHUNK_SIZE * 2) {
+            logLines.addAll(Files.readAllLines(Paths.get(testFile.toURI())));
+        }
+        GcManager gcManager = new GcManager();
+        gcManager.store(gcManager.preprocess(logLines.iterator()), true);
+        JvmRun jvmRun = gcManager.getJvmRun(null, Constants.DEFAULT_BOTTLENECK_THROUGHPUT_THRESHOLD);
+        GcManager gcManagerParallel = new GcManager();
+        gcManagerParallel.store(gcManagerParallel.preprocess(logLines.iterator()), true, true);
+        JvmRun jvmRunParallel = gcManagerParallel.getJvmRun(null, Constants.DEFAULT_BOTTLENECK_THROUGHPUT_THRESHOLD);
+        assertTrue(jvmRun.getBlockingEventCount() > 0, "No blocking events.");
+        assertEquals(jvmRun.getBlockingEventCount(), jvmRunParallel.getBlockingEventCount(),
+                "Blocking event count not the same.");
+        assertEquals(jvmRun.getStoppedTimeEventCount(), jvmRunParallel.getStoppedTimeEventCount(),
+                "Stopped time event count not the same.");
+        assertEquals(jvmRun.getEventTypes(), jvmRunParallel.getEventTypes(), "Event types not the same.");
+        assertEquals(jvmRun.getUnidentifiedLogLines(), jvmRunParallel.getUnidentifiedLogLines(),
+                "Unidentified log lines not the same.");
+    }
+
+    /**
+     * Test preprocessing and storing in one pass gives the same result as preprocessing and then storing.
+     * 
+     * @throws IOException
+     */
+    @Test
+    void testPreprocessAndStore() throws IOException {
+        for (String dataset : new String[] { "dataset17.txt", "dataset57.txt", "dataset141.txt", "dataset209.txt",
+                "dataset223.txt", "dataset259.txt", "dataset283.txt" }) {
+            File testFile = TestUtil.getFile(dataset);
+            List<String> logLines = Files.readAllLines(Paths.get(testFile.toURI()));
+            GcManager gcManager = new GcManager();
+            gcManager.store(gcManager.preprocess(logLines.iterator()), false);
+            JvmRun jvmRun = gcManager.getJvmRun(null, Constants.DEFAULT_BOTTLENECK_THROUGHPUT_THRESHOLD);
+            GcManager gcManagerFused = new GcManager();
+            gcManagerFused.preprocessAndStore(logLines.iterator(), false);
+            JvmRun jvmRunFused = gcManagerFused.getJvmRun(null, Constants.DEFAULT_BOTTLENECK_THROUGHPUT_THRESHOLD);
+            assertTrue(jvmRun.getEventTypes().size() > 0, dataset + " no events.");
+            assertEquals(jvmRun.getBlockingEventCount(), jvmRunFused.getBlockingEventCount(),
+                    dataset + " blocking event count not the same.");
+            assertEquals(jvmRun.getStoppedTimeEventCount(), jvmRunFused.getStoppedTimeEventCount(),
+                    dataset + " stopped time event count not the same.");
+            assertEquals(jvmRun.getUnifiedSafepointEventCount(), jvmRunFused.getUnifiedSafepointEventCount(),
+                    dataset + " safepoint event count not the same.");
+            assertEquals(jvmRun.getEventTypes(), jvmRunFused.getEventTypes(), dataset + " event types not the same.");
+            assertEquals(jvmRun.getAnalysis().size(), jvmRunFused.getAnalysis().size(),
+                    dataset + " analysis not the same.");
+            for (int i = 0; i < jvmRun.getAnalysis().size(); i++) {
+                assertArrayEquals(jvmRun.getAnalysis().get(i), jvmRunFused.getAnalysis().get(i),
+                        dataset + " analysis not the same.");
+            }
+            assertEquals(jvmRun.getUnidentifiedLogLines(), jvmRunFused.getUnidentifiedLogLines(),
+                    dataset + " unidentified log lines not the same.");
+            assertEquals(jvmRun.getLastLogLineUnprocessed(), jvmRunFused.getLastLogLineUnprocessed(),
+                    dataset + " last log line unprocessed not the same.");
+        }
+    }
+
+    /**
+     * Test streaming preprocessing gives the same result as preprocessing the whole log.
+     * 
+     * @throws IOException
+     */
+    @Test
+    void testPreprocessStreaming() throws IOException {
+        File testFile = TestUtil.getFile("dataset31.txt");
+        List<String> logLines = Files.readAllLines(Paths.get(testFile.toURI()));
+        GcManager gcManager = new GcManager();
+        List<String> preprocessedLogLines = gcManager.preprocess(logLines);
+        GcManager gcManagerStreaming = new GcManager();
+        Iterator<String> iterator = gcManagerStreaming.preprocess(logLines.iterator());
+        List<String> preprocessedLogLinesStreaming = new ArrayList<String>();
+        while (iterator.hasNext()) {
+            preprocessedLogLinesStreaming.add(iterator.next());
+        }
+        assertEquals(preprocessedLogLines, preprocessedLogLinesStreaming, "Streaming preprocessing not the same.");
+        assertEquals(gcManager.getLastLogLineUnprocessed(), gcManagerStreaming.getLastLogLineUnprocessed(),
+                "Last log line unprocessed not the same.");
+        assertTrue(gcManagerStreaming.isPreprocessed(), "Streaming preprocessing not complete.");
+    }
 }
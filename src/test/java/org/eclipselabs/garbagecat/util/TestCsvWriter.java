@@ -0,0 +1,69 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.util;
+
+import static org.eclipselabs.garbagecat.util.Constants.LINE_SEPARATOR;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.StringWriter;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestCsvWriter {
+
+    @Test
+    void testNested() throws Exception {
+        StringWriter csv = new StringWriter();
+        CsvWriter writer = new CsvWriter(csv);
+        writer.beginObject(null);
+        writer.value("name", "gc.log");
+        writer.beginObject("summary");
+        writer.value("gcEvents", 2);
+        writer.beginArray("eventTypes");
+        writer.value(null, "G1_YOUNG_PAUSE");
+        writer.value(null, "G1_FULL_GC_SERIAL");
+        writer.endArray();
+        writer.endObject();
+        writer.beginArray("safepoints");
+        writer.beginObject(null);
+        writer.value("trigger", "G1 Evacuation Pause");
+        writer.endObject();
+        writer.beginObject(null);
+        writer.value("trigger", "Cleanup");
+        writer.endObject();
+        writer.endArray();
+        writer.value("datestampFirst", null);
+        writer.endObject();
+        assertEquals("section,name,value" + LINE_SEPARATOR //
+                + ",name,gc.log" + LINE_SEPARATOR //
+                + "summary,gcEvents,2" + LINE_SEPARATOR //
+                + "summary.eventTypes,0,G1_YOUNG_PAUSE" + LINE_SEPARATOR //
+                + "summary.eventTypes,1,G1_FULL_GC_SERIAL" + LINE_SEPARATOR //
+                + "safepoints.0,trigger,G1 Evacuation Pause" + LINE_SEPARATOR //
+                + "safepoints.1,trigger,Cleanup" + LINE_SEPARATOR //
+                + ",datestampFirst," + LINE_SEPARATOR, csv.toString(), "CSV not correct.");
+    }
+
+    @Test
+    void testQuote() {
+        assertEquals("plain", CsvWriter.quote("plain"), "CSV not correct.");
+        assertEquals("\"a,b\"", CsvWriter.quote("a,b"), "CSV not correct.");
+        assertEquals("\"say \"\"hi\"\"\"", CsvWriter.quote("say \"hi\""), "CSV not correct.");
+        assertEquals("\"a\nb\"", CsvWriter.quote("a\nb"), "CSV not correct.");
+        assertEquals("", CsvWriter.quote(null), "CSV not correct.");
+    }
+}
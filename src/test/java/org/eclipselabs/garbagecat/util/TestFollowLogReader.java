@@ -0,0 +1,144 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.util;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestFollowLogReader {
+
+    private static void append(Path path, String text) throws IOException {
+        Files.write(path, text.getBytes(UTF_8), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    @Test
+    void testAppended(@TempDir File tempDir) throws IOException {
+        Path path = new File(tempDir, "gc.log").toPath();
+        append(path, "line1\nline2\r\n");
+        try (FollowLogReader reader = new FollowLogReader(path)) {
+            assertEquals("line1", reader.next(), "Line not correct.");
+            assertEquals("line2", reader.next(), "Line not correct.");
+            append(path, "line3\n");
+            assertEquals("line3", reader.next(), "Appended line not correct.");
+        }
+    }
+
+    @Test
+    void testClose(@TempDir File tempDir) throws Exception {
+        Path path = new File(tempDir, "gc.log").toPath();
+        append(path, "");
+        FollowLogReader reader = new FollowLogReader(path);
+        Thread closer = new Thread(() -> {
+            try {
+                Thread.sleep(FollowLogReader.POLL_INTERVAL);
+                reader.close();
+            } catch (IOException | InterruptedException e) {
+                // test fails on timeout
+            }
+        });
+        closer.start();
+        assertFalse(reader.hasNext(), "Closed reader has next line.");
+        closer.join();
+    }
+
+    @Test
+    void testNoSuchFile(@TempDir File tempDir) {
+        Path path = new File(tempDir, "gc.log").toPath();
+        assertThrows(NoSuchFileException.class, () -> new FollowLogReader(path));
+    }
+
+    @Test
+    void testPartialLine(@TempDir File tempDir) throws IOException {
+        Path path = new File(tempDir, "gc.log").toPath();
+        append(path, "line1\nli");
+        try (FollowLogReader reader = new FollowLogReader(path)) {
+            assertEquals("line1", reader.next(), "Line not correct.");
+            Thread writer = new Thread(() -> {
+                try {
+                    Thread.sleep(FollowLogReader.POLL_INTERVAL * 2);
+                    append(path, "ne2\n");
+                } catch (IOException | InterruptedException e) {
+                    // test fails on line
+                }
+            });
+            writer.start();
+            assertEquals("line2", reader.next(), "Partial line not held until terminated.");
+        }
+    }
+
+    @Test
+    void testRefresh(@TempDir File tempDir) throws IOException {
+        Path path = new File(tempDir, "gc.log").toPath();
+        append(path, "line1\n");
+        AtomicInteger refreshes = new AtomicInteger();
+        try (FollowLogReader reader = new FollowLogReader(path, refreshes::incrementAndGet, 1)) {
+            assertEquals("line1", reader.next(), "Line not correct.");
+            Thread writer = new Thread(() -> {
+                try {
+                    Thread.sleep(FollowLogReader.POLL_INTERVAL * 2);
+                    append(path, "line2\n");
+                } catch (IOException | InterruptedException e) {
+                    // test fails on line
+                }
+            });
+            writer.start();
+            assertEquals("line2", reader.next(), "Line not correct.");
+            assertTrue(refreshes.get() > 0, "Refresh not run while waiting.");
+        }
+    }
+
+    @Test
+    void testRotation(@TempDir File tempDir) throws IOException {
+        Path path = new File(tempDir, "gc.log").toPath();
+        append(path, "line1\n");
+        try (FollowLogReader reader = new FollowLogReader(path)) {
+            assertEquals("line1", reader.next(), "Line not correct.");
+            append(path, "line2\nline3");
+            Files.move(path, new File(tempDir, "gc.log.0").toPath());
+            append(path, "line4\n");
+            assertEquals("line2", reader.next(), "Line before rotation not correct.");
+            assertEquals("line3", reader.next(), "Unterminated line before rotation not correct.");
+            assertEquals("line4", reader.next(), "Line after rotation not correct.");
+        }
+    }
+
+    @Test
+    void testTruncation(@TempDir File tempDir) throws IOException {
+        Path path = new File(tempDir, "gc.log").toPath();
+        append(path, "line1\nline2\n");
+        try (FollowLogReader reader = new FollowLogReader(path)) {
+            assertEquals("line1", reader.next(), "Line not correct.");
+            assertEquals("line2", reader.next(), "Line not correct.");
+            Files.write(path, "line3\n".getBytes(UTF_8), StandardOpenOption.TRUNCATE_EXISTING);
+            assertEquals("line3", reader.next(), "Line after truncation not correct.");
+        }
+    }
+}
@@ -12,6 +12,7 @@
  *********************************************************************************************************************/
 package org.eclipselabs.garbagecat.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -24,6 +25,23 @@ import org.junit.jupiter.api.Test;
  */
 class TestGcUtil {
 
+    @Test
+    void testParseDateStampMillis() {
+        String[] datestamps = { "2016-11-22T09:07:01.358+0100", "2020-02-29T23:59:59.999-0500",
+                "1999-12-31T00:00:00.000+0000", "2021-03-09T14:45:02.441+0530", "2021-03-10T14:45:02.441+0530" };
+        for (String datestamp : datestamps) {
+            assertEquals(GcUtil.parseDateStamp(datestamp).getTime(), GcUtil.parseDateStampMillis(datestamp, 0),
+                    "Datestamp millis not correct: " + datestamp);
+        }
+        assertEquals(GcUtil.parseDateStamp(datestamps[0]).getTime(),
+                GcUtil.parseDateStampMillis("[" + datestamps[0] + "]", 1), "Offset datestamp millis not correct.");
+        assertEquals(Long.MIN_VALUE, GcUtil.parseDateStampMillis("2016-11-22 09:07:01.358+0100", 0),
+                "Invalid datestamp parsed.");
+        assertEquals(Long.MIN_VALUE, GcUtil.parseDateStampMillis("2016-11-22T09:07", 0), "Short datestamp parsed.");
+        assertEquals(Long.MIN_VALUE, GcUtil.parseDateStampMillis("2016-11-00T09:07:01.358+0100", 0),
+                "Day 0 datestamp parsed.");
+    }
+
     @Test
     void testPartialLogDatestamp() {
         String logLine = "2016-11-22T09:07:01.358+0100: [GC 2016-11-22T09:07:01.358+0100: "
@@ -0,0 +1,74 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.StringWriter;
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestJsonWriter {
+
+    @Test
+    void testEscape() throws Exception {
+        StringWriter json = new StringWriter();
+        JsonWriter writer = new JsonWriter(json);
+        writer.beginObject(null);
+        writer.value("literal", "a\"b\\c\n\u0001");
+        writer.endObject();
+        assertEquals("{\"literal\":\"a\\\"b\\\\c\\n\\u0001\"}", json.toString(), "JSON not correct.");
+    }
+
+    @Test
+    void testNested() throws Exception {
+        StringWriter json = new StringWriter();
+        JsonWriter writer = new JsonWriter(json);
+        writer.beginObject(null);
+        writer.value("name", "gc.log");
+        writer.beginObject("summary");
+        writer.value("gcEvents", 2);
+        writer.value("gcPauseMax", new BigDecimal("0.003"));
+        writer.value("datestampFirst", null);
+        writer.endObject();
+        writer.beginArray("analysis");
+        writer.beginObject(null);
+        writer.value("key", "a");
+        writer.endObject();
+        writer.beginObject(null);
+        writer.value("key", "b");
+        writer.endObject();
+        writer.endArray();
+        writer.beginArray("gcBottlenecks");
+        writer.endArray();
+        writer.beginArray("eventTypes");
+        writer.value(null, "G1_YOUNG_PAUSE");
+        writer.value(null, Boolean.TRUE);
+        writer.endArray();
+        writer.endObject();
+        assertEquals("{\"name\":\"gc.log\",\"summary\":{\"gcEvents\":2,\"gcPauseMax\":0.003,\"datestampFirst\":null},"
+                + "\"analysis\":[{\"key\":\"a\"},{\"key\":\"b\"}],\"gcBottlenecks\":[],"
+                + "\"eventTypes\":[\"G1_YOUNG_PAUSE\",true]}", json.toString(), "JSON not correct.");
+    }
+
+    @Test
+    void testQuote() {
+        assertEquals("\"a\\\"b\\\\c\\n\\r\\t\\u0001\"", JsonWriter.quote("a\"b\\c\n\r\t\u0001"), "JSON not correct.");
+        assertEquals("null", JsonWriter.quote(null), "JSON not correct.");
+    }
+}
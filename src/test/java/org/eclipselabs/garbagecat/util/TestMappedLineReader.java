@@ -0,0 +1,70 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.util;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipselabs.garbagecat.TestUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestMappedLineReader {
+
+    private static List<String> readLines(Path path, int regionSize) throws IOException {
+        List<String> lines = new ArrayList<String>();
+        try (MappedLineReader reader = new MappedLineReader(path, regionSize)) {
+            while (reader.hasNext()) {
+                lines.add(reader.next());
+            }
+        }
+        return lines;
+    }
+
+    @Test
+    void testDataset() throws IOException {
+        Path path = TestUtil.getFile("dataset31.txt").toPath();
+        assertEquals(Files.readAllLines(path), readLines(path, MappedLineReader.REGION_SIZE), "Lines not the same.");
+        assertEquals(Files.readAllLines(path), readLines(path, 7), "Lines not the same across regions.");
+    }
+
+    @Test
+    void testEmptyFile(@TempDir File tempDir) throws IOException {
+        Path path = new File(tempDir, "empty.txt").toPath();
+        Files.write(path, new byte[0]);
+        assertEquals(0, readLines(path, MappedLineReader.REGION_SIZE).size(), "Lines found.");
+    }
+
+    @Test
+    void testLineTerminators(@TempDir File tempDir) throws IOException {
+        Path path = new File(tempDir, "terminators.txt").toPath();
+        Files.write(path, "a\r\nbb\rccc\n\ndé\r\n\r\nlast".getBytes(UTF_8));
+        List<String> expected = Arrays.asList("a", "bb", "ccc", "", "dé", "", "last");
+        assertEquals(Files.readAllLines(path), expected, "Unexpected test data.");
+        for (int regionSize = 1; regionSize <= 8; regionSize++) {
+            assertEquals(expected, readLines(path, regionSize), "Lines not the same for region size " + regionSize);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.eclipselabs.garbagecat.TestUtil;
+import org.eclipselabs.garbagecat.util.jdk.JdkRegEx;
+import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedRegEx;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestMultiPatternMatcher {
+
+    private static final List<String> REGEXES = Arrays.asList(
+            "^" + UnifiedRegEx.DECORATOR + " Using \\d{1,} workers of \\d{1,} for (evacuation|full compaction|"
+                    + "marking)$",
+            "^" + UnifiedRegEx.DECORATOR + " (Eden|Survivor|Old) regions: \\d{1,}->\\d{1,}(\\(\\d{1,}\\))?$",
+            "^" + UnifiedRegEx.DECORATOR + " Pause (Cleanup|Init Update Refs)$",
+            "^" + UnifiedRegEx.DECORATOR + "[ ]{1,}Using \\d{1,} of \\d{1,} workers for "
+                    + "concurrent class unloading$",
+            "^" + UnifiedRegEx.DECORATOR + "         [BCDFHLPRSTW].*$",
+            "^" + UnifiedRegEx.DECORATOR + " Old: " + JdkRegEx.SIZE + "->" + JdkRegEx.SIZE + "\\(" + JdkRegEx.SIZE
+                    + "\\)$",
+            "^" + UnifiedRegEx.DECORATOR + " Pacer for Idle. Initial: " + JdkRegEx.SIZE
+                    + ", Alloc Tax Rate: \\d{1,3}\\.\\dx$",
+            "^" + JdkRegEx.DECORATOR + " \\[GC \\(Allocation Failure\\).*$", "^.*$");
+
+    @Test
+    void testKeywords() {
+        assertEquals(new LinkedHashSet<String>(Arrays.asList(" Eden regions: ", " Survivor region", " Old regions: ")),
+                MultiPatternMatcher.getKeywords(REGEXES.get(1)), "Alternation keywords not correct.");
+        assertEquals(new LinkedHashSet<String>(Arrays.asList(" Pause Cleanup", " Pause Init Upda")),
+                MultiPatternMatcher.getKeywords(REGEXES.get(2)), "Group keywords not correct.");
+        assertEquals(new LinkedHashSet<String>(Arrays.asList(" workers for con")),
+                MultiPatternMatcher.getKeywords(REGEXES.get(3)), "Truncated keywords not correct.");
+        assertEquals(new LinkedHashSet<String>(Arrays.asList(" [GC (Allocation")),
+                MultiPatternMatcher.getKeywords(REGEXES.get(7)), "Escaped keywords not correct.");
+        assertTrue(MultiPatternMatcher.getKeywords(REGEXES.get(8)).isEmpty(), "Keywords not empty.");
+        assertTrue(MultiPatternMatcher.getKeywords("(?i)^abc$").isEmpty(), "Flags keywords not empty.");
+        assertTrue(MultiPatternMatcher.getKeywords("^(abc|)$").isEmpty(), "Empty branch keywords not empty.");
+        assertTrue(MultiPatternMatcher.getKeywords("^(abc)?def$").contains("def"), "Optional group not skipped.");
+        assertEquals(new LinkedHashSet<String>(Arrays.asList("abcdefgh")),
+                MultiPatternMatcher.getKeywords("^abcdefgh{2}$"), "Quantified literal keywords not correct.");
+        String group = "(abcdefghijklmnopqrstuvwxyz0123456789abcdefghijklmnopqrstuvwxyz0123456789|zz)";
+        assertEquals(new LinkedHashSet<String>(Arrays.asList("xabcdefghijklmno", "xzzy")),
+                MultiPatternMatcher.getKeywords("^x" + group + "y$"), "Long group keywords not correct.");
+        assertEquals(new LinkedHashSet<String>(Arrays.asList("zabcdefghijklmno", "zzz")),
+                MultiPatternMatcher.getKeywords("^z" + group + "$"), "Repeated long group keywords not correct.");
+    }
+
+    @Test
+    void testCandidates() {
+        List<Pattern> patterns = new ArrayList<Pattern>();
+        for (String regex : REGEXES) {
+            patterns.add(Pattern.compile(regex));
+        }
+        MultiPatternMatcher matcher = new MultiPatternMatcher(patterns);
+        String logLine = "[2.640s][info][gc,phases] GC(0) Pause Cleanup";
+        BitSet candidates = matcher.getCandidates(logLine);
+        assertTrue(candidates.get(2), "Matching pattern not a candidate.");
+        assertFalse(candidates.get(1), "Pattern without keyword a candidate.");
+        assertTrue(candidates.get(8), "Pattern without keywords not a candidate.");
+        assertEquals(2, matcher.match(logLine), "First match not correct.");
+        assertEquals(8, matcher.match(logLine, 3, matcher.size()), "First match in range not correct.");
+        assertEquals(-1, matcher.match(logLine, 3, 8), "Match outside range.");
+    }
+
+    @Test
+    void testSameAsSequential() throws IOException {
+        List<Pattern> patterns = new ArrayList<Pattern>();
+        for (String regex : REGEXES.subList(0, REGEXES.size() - 1)) {
+            patterns.add(Pattern.compile(regex));
+        }
+        MultiPatternMatcher matcher = new MultiPatternMatcher(patterns);
+        for (String dataset : new String[] { "dataset1.txt", "dataset250.txt", "dataset283.txt" }) {
+            for (String logLine : Files.readAllLines(TestUtil.getFile(dataset).toPath())) {
+                int expected = -1;
+                for (int i = 0; i < patterns.size() && expected < 0; i++) {
+                    if (patterns.get(i).matcher(logLine).matches()) {
+                        expected = i;
+                    }
+                }
+                assertEquals(expected, matcher.match(logLine), "Match not correct: " + logLine);
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestOverheadWindow {
+
+    @Test
+    void testBurst() {
+        OverheadWindow window = new OverheadWindow(10);
+        // 1 pause a minute
+        for (int i = 0; i < 5; i++) {
+            window.add(i * 60000, 100000);
+        }
+        // Burst of 40 100ms pauses in 10 seconds, where consecutive pauses meet the throughput goal
+        for (int i = 0; i < 40; i++) {
+            window.add(300000 + i * 250, 100000);
+        }
+        window.add(400000, 100000);
+        assertEquals(4000000, window.getWorstPause(), "Worst pause not correct.");
+        assertEquals(40, window.getWorstOverhead(), "Worst overhead not correct.");
+        assertEquals(309850, window.getWorstEnd(), "Worst end not correct.");
+        assertEquals(299850, window.getWorstStart(), "Worst start not correct.");
+    }
+
+    @Test
+    void testCopy() {
+        OverheadWindow window = new OverheadWindow(1);
+        window.add(0, 100000);
+        window.add(2000, 300000);
+        OverheadWindow copy = window.copy();
+        window.add(2500, 400000);
+        assertEquals(300000, copy.getWorstPause(), "Copy changed.");
+        assertEquals(700000, window.getWorstPause(), "Worst pause not correct.");
+    }
+
+    @Test
+    void testFirstWindow() {
+        OverheadWindow window = new OverheadWindow(1);
+        window.add(0, 500000);
+        assertEquals(0, window.getWorstPause(), "Partial window checked.");
+        window.add(900, 200000);
+        assertEquals(600000, window.getWorstPause(), "Worst pause not correct.");
+        assertEquals(0, window.getWorstStart(), "Worst start not correct.");
+    }
+
+    @Test
+    void testOverlap() {
+        OverheadWindow window = new OverheadWindow(1);
+        window.add(0, 100000);
+        window.add(50, 100000);
+        window.add(1000, 100000);
+        assertEquals(150000, window.getWorstPause(), "Overlapping pause counted twice.");
+    }
+
+    @Test
+    void testParseWindows() {
+        assertArrayEquals(new int[] { 1, 10, 60 }, OverheadWindow.parseWindows(Constants.DEFAULT_OVERHEAD_WINDOWS),
+                "Windows not correct.");
+    }
+}
@@ -0,0 +1,78 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestPauseHistogram {
+
+    @Test
+    void testBuckets() {
+        for (long value : new long[] { 0, 1, 127, 128, 129, 255, 256, 1000, 123456789, Long.MAX_VALUE }) {
+            int index = PauseHistogram.getIndex(value);
+            assertTrue(PauseHistogram.getHighestValue(index) >= value, "Bucket too low for " + value + ".");
+            assertTrue(index == 0 || PauseHistogram.getHighestValue(index - 1) < value,
+                    "Bucket too high for " + value + ".");
+        }
+        assertEquals(3711, PauseHistogram.getIndex(Long.MAX_VALUE), "Last bucket not correct.");
+    }
+
+    @Test
+    void testEmpty() {
+        PauseHistogram histogram = new PauseHistogram();
+        assertEquals(0, histogram.getCount(), "Count not correct.");
+        assertEquals(0, histogram.getValueAtPercentile(99), "p99 not correct.");
+    }
+
+    @Test
+    void testPercentiles() {
+        PauseHistogram histogram = new PauseHistogram();
+        for (int i = 1; i <= 100000; i++) {
+            histogram.record(i);
+        }
+        assertEquals(100000, histogram.getCount(), "Count not correct.");
+        assertEquals(100000, histogram.getMax(), "Max not correct.");
+        assertEquals(50000, histogram.getValueAtPercentile(50), 50000 / 64, "p50 not correct.");
+        assertEquals(99000, histogram.getValueAtPercentile(99), 99000 / 64, "p99 not correct.");
+        assertEquals(99900, histogram.getValueAtPercentile(99.9), 99900 / 64, "p99.9 not correct.");
+        assertEquals(100000, histogram.getValueAtPercentile(100), "p100 not correct.");
+        assertEquals(1, histogram.getValueAtPercentile(0), "p0 not correct.");
+    }
+
+    @Test
+    void testSnapshot() throws IOException {
+        PauseHistogram histogram = new PauseHistogram();
+        histogram.record(10);
+        histogram.record(2000);
+        histogram.record(3000000);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        histogram.write(new DataOutputStream(bytes));
+        PauseHistogram read = PauseHistogram.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+        assertEquals(3, read.getCount(), "Count not correct.");
+        assertEquals(3000000, read.getMax(), "Max not correct.");
+        assertEquals(histogram.getValueAtPercentile(50), read.getValueAtPercentile(50), "p50 not correct.");
+    }
+}
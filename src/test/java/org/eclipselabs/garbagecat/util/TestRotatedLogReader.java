@@ -0,0 +1,123 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.util;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import org.eclipselabs.garbagecat.TestUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestRotatedLogReader {
+
+    private static List<String> readLines(Path path) throws IOException {
+        List<String> lines = new ArrayList<String>();
+        try (RotatedLogReader reader = new RotatedLogReader(RotatedLogReader.getPaths(path))) {
+            while (reader.hasNext()) {
+                lines.add(reader.next());
+            }
+        }
+        return lines;
+    }
+
+    private static List<String> readLines(RotatedLogReader reader) {
+        List<String> lines = new ArrayList<String>();
+        while (reader.hasNext()) {
+            lines.add(reader.next());
+        }
+        return lines;
+    }
+
+    private static void writeGzip(Path path, List<String> lines) throws IOException {
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(path));
+                Writer writer = new OutputStreamWriter(out, UTF_8)) {
+            for (String line : lines) {
+                writer.write(line);
+                writer.write('\n');
+            }
+        }
+    }
+
+    @Test
+    void testCompressed(@TempDir File tempDir) throws IOException {
+        List<String> lines = Files.readAllLines(TestUtil.getFile("dataset282.txt").toPath());
+        Path path = new File(tempDir, "gc.log.gz").toPath();
+        writeGzip(path, lines);
+        assertEquals(lines, readLines(path), "Lines not the same.");
+    }
+
+    @Test
+    void testLinesRead(@TempDir File tempDir) throws IOException {
+        List<String> lines = Files.readAllLines(TestUtil.getFile("dataset282.txt").toPath());
+        Path gcLog = new File(tempDir, "gc.log").toPath();
+        Files.write(gcLog, lines.subList(0, 10), UTF_8);
+        Map<String, Long> linesRead;
+        try (RotatedLogReader reader = new RotatedLogReader(RotatedLogReader.getPaths(tempDir.toPath()),
+                new HashMap<String, Long>())) {
+            assertEquals(lines.subList(0, 10), readLines(reader), "Lines not the same.");
+            assertEquals(Collections.singletonMap(lines.get(0), 10L), reader.getLinesRead(),
+                    "Lines read not correct.");
+            // The last 2 lines to be read again
+            linesRead = reader.getLinesRead(8);
+        }
+        // Logging added, then rotated
+        Files.write(gcLog, lines.subList(0, 18), UTF_8);
+        Files.move(gcLog, new File(tempDir, "gc.log.0").toPath());
+        Files.write(gcLog, lines.subList(18, lines.size()), UTF_8);
+        try (RotatedLogReader reader = new RotatedLogReader(RotatedLogReader.getPaths(tempDir.toPath()),
+                linesRead)) {
+            assertEquals(lines.subList(8, lines.size()), readLines(reader), "Lines not the same.");
+            Map<String, Long> expected = new HashMap<String, Long>();
+            expected.put(lines.get(0), 18L);
+            expected.put(lines.get(18), (long) (lines.size() - 18));
+            assertEquals(expected, reader.getLinesRead(), "Lines read not correct.");
+        }
+    }
+
+    @Test
+    void testRotationSet(@TempDir File tempDir) throws IOException {
+        List<String> lines = Files.readAllLines(TestUtil.getFile("dataset282.txt").toPath());
+        // Oldest rotation sorts last by name
+        Files.write(new File(tempDir, "gc.log").toPath(), lines.subList(18, lines.size()), UTF_8);
+        Files.write(new File(tempDir, "gc.log.0").toPath(), lines.subList(2, 18), UTF_8);
+        writeGzip(new File(tempDir, "gc.log.1.gz").toPath(), lines.subList(0, 2));
+        assertEquals(lines, readLines(tempDir.toPath()), "Lines not the same.");
+    }
+
+    @Test
+    void testZstandardNotSupported(@TempDir File tempDir) throws IOException {
+        Path path = new File(tempDir, "gc.log.zst").toPath();
+        Files.write(path, new byte[0]);
+        assertThrows(IllegalArgumentException.class, () -> RotatedLogReader.getPaths(path));
+    }
+}
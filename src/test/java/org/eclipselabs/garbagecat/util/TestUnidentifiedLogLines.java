@@ -0,0 +1,106 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Iterator;
+
+import org.eclipselabs.garbagecat.util.UnidentifiedLogLines.Cluster;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestUnidentifiedLogLines {
+
+    @Test
+    void testBounded() {
+        UnidentifiedLogLines unidentifiedLogLines = new UnidentifiedLogLines();
+        for (int i = 0; i < 100000; i++) {
+            unidentifiedLogLines.add("[" + i + ".123s] unknown " + (i % 2 == 0 ? "even" : "odd") + " 0x7f" + i);
+            unidentifiedLogLines.add("line " + (char) ('a' + i % 26) + (char) ('a' + i / 26 % 26));
+        }
+        assertEquals(200000, unidentifiedLogLines.getCount(), "Count not correct.");
+        assertEquals(UnidentifiedLogLines.SIGNATURE_LIMIT, unidentifiedLogLines.getClusters().size(),
+                "Signatures not bounded.");
+        // 676 "line" signatures, the first 98 kept: 147 * 98 + 98 lines counted in a kept signature
+        assertEquals(100000 - 14504, unidentifiedLogLines.getOtherCount(), "Other count not correct.");
+        Iterator<Cluster> clusters = unidentifiedLogLines.getClusters().iterator();
+        Cluster even = clusters.next();
+        assertEquals("[#s] unknown even 0x#", even.getSignature(), "Signature not correct.");
+        assertEquals(50000, even.getCount(), "Signature count not correct.");
+        assertEquals(Arrays.asList("[0.123s] unknown even 0x7f0", "[2.123s] unknown even 0x7f2",
+                "[4.123s] unknown even 0x7f4"), even.getExemplars(), "Exemplars not correct.");
+        assertEquals("line aa", clusters.next().getSignature(), "Second signature not correct.");
+        assertEquals("[#s] unknown odd 0x#", clusters.next().getSignature(), "Third signature not correct.");
+    }
+
+    @Test
+    void testRemoveLast() {
+        UnidentifiedLogLines unidentifiedLogLines = new UnidentifiedLogLines();
+        unidentifiedLogLines.add("[0.052s][info][gc] unknown 1");
+        unidentifiedLogLines.add("[0.053s][info][gc] unknown 2");
+        assertEquals("[0.053s][info][gc] unknown 2", unidentifiedLogLines.getLast(), "Last not correct.");
+        unidentifiedLogLines.removeLast();
+        assertNull(unidentifiedLogLines.getLast(), "Last not removed.");
+        assertEquals(1, unidentifiedLogLines.getCount(), "Count not correct.");
+        Cluster cluster = unidentifiedLogLines.getClusters().iterator().next();
+        assertEquals(1, cluster.getCount(), "Signature count not correct.");
+        assertEquals(Arrays.asList("[0.052s][info][gc] unknown 1"), cluster.getExemplars(),
+                "Exemplars not correct.");
+        unidentifiedLogLines.removeLast();
+        assertEquals(1, unidentifiedLogLines.getCount(), "Line other than last removed.");
+    }
+
+    @Test
+    void testSignature() {
+        assertEquals("[#-#-#T#:#:#-#][#ms] GC(#) Pause Young #M->#M(#M) #ms",
+                UnidentifiedLogLines.getSignature(
+                        "[2021-03-09T14:45:02.441-0300][12082ms] GC(0) Pause Young 25M->4M(254M) 3,523ms"),
+                "Signature not correct.");
+        assertEquals("thread 0x# at #.", UnidentifiedLogLines.getSignature("thread 0x00007F3Aab at 10."),
+                "Hexadecimal signature not correct.");
+        StringBuilder logLine = new StringBuilder();
+        for (int i = 0; i < UnidentifiedLogLines.SIGNATURE_LENGTH_LIMIT * 2; i++) {
+            logLine.append('x');
+        }
+        assertEquals(UnidentifiedLogLines.SIGNATURE_LENGTH_LIMIT,
+                UnidentifiedLogLines.getSignature(logLine.toString()).length(), "Signature not truncated.");
+    }
+
+    @Test
+    void testSnapshot() throws IOException {
+        UnidentifiedLogLines unidentifiedLogLines = new UnidentifiedLogLines();
+        unidentifiedLogLines.add("unknown 1");
+        unidentifiedLogLines.add("other 2");
+        unidentifiedLogLines.add("unknown 3");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        unidentifiedLogLines.write(new DataOutputStream(bytes));
+        UnidentifiedLogLines read = UnidentifiedLogLines
+                .read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+        assertEquals(unidentifiedLogLines, read, "Snapshot not read correctly.");
+        read.removeLast();
+        assertEquals(1, read.getClusters().iterator().next().getCount(), "Last not removed after read.");
+        assertTrue(!read.equals(unidentifiedLogLines), "Copy not independent.");
+    }
+}
@@ -0,0 +1,58 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.util.jdk;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestGcTrigger {
+
+    @Test
+    void testLiteral() {
+        GcTrigger[] triggers = GcTrigger.values();
+        for (int i = 0; i < triggers.length; i++) {
+            if (triggers[i] != GcTrigger.NONE && triggers[i] != GcTrigger.UNKNOWN
+                    && triggers[i] != GcTrigger.SHENANDOAH_UPDATE_REFS && triggers[i] != GcTrigger.SYSTEM_GC) {
+                assertEquals(triggers[i], GcTrigger.getTrigger(triggers[i].getRegex()),
+                        triggers[i].name() + " not identified from literal.");
+            }
+        }
+    }
+
+    @Test
+    void testNone() {
+        assertEquals(GcTrigger.NONE, GcTrigger.getTrigger(null), "Missing trigger not identified.");
+    }
+
+    @Test
+    void testRegex() {
+        assertEquals(GcTrigger.SYSTEM_GC, GcTrigger.getTrigger("System.gc()"), "Trigger not identified.");
+        assertEquals(GcTrigger.SYSTEM_GC, GcTrigger.getTrigger("System"), "Trigger not identified.");
+        assertEquals(GcTrigger.SHENANDOAH_UPDATE_REFS, GcTrigger.getTrigger("Update Refs"), "Trigger not identified.");
+        assertEquals(GcTrigger.SHENANDOAH_UPDATE_REFS, GcTrigger.getTrigger("update refs"), "Trigger not identified.");
+        // Cached
+        assertEquals(GcTrigger.SYSTEM_GC, GcTrigger.getTrigger("System.gc()"), "Trigger not identified.");
+    }
+
+    @Test
+    void testUnknown() {
+        assertEquals(GcTrigger.UNKNOWN, GcTrigger.getTrigger("Not A Trigger"), "Unknown trigger not identified.");
+        assertEquals(GcTrigger.UNKNOWN, GcTrigger.getTrigger("Not A Trigger"), "Unknown trigger not identified.");
+        assertEquals(GcTrigger.UNKNOWN, GcTrigger.getTrigger("NONE"), "Unknown trigger not identified.");
+    }
+}
@@ -19,6 +19,9 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
 import org.eclipselabs.garbagecat.domain.TimesData;
 import org.eclipselabs.garbagecat.util.Memory;
 import org.junit.jupiter.api.Test;
@@ -217,6 +220,40 @@ class TestJdkMath {
         assertFalse(JdkMath.isInvertedSerialism(90), "Inverted serialism not calculated correctly.");
     }
 
+    @Test
+    void testParseDecimalComma() {
+        assertEquals(1025, JdkMath.parseSecsToMillis("1,0256"), "Secs not converted to milliseconds.");
+        assertEquals(12345, JdkMath.parseMillisToMicros("12,345"), "Millis not converted to microseconds.");
+    }
+
+    @Test
+    void testParseExponent() {
+        assertEquals(1500, JdkMath.parseSecsToMillis("1.5E0"), "Secs not converted to milliseconds.");
+    }
+
+    @Test
+    void testParseRoundDown() {
+        assertEquals(102, JdkMath.parseSecsToCentis("1.029"), "Secs not converted to centiseconds.");
+        assertEquals(22521, JdkMath.parseSecsToMicros("0.0225219"), "Secs not converted to microseconds.");
+        assertEquals(-22521, JdkMath.parseSecsToMicros("-0.0225219"), "Secs not converted to microseconds.");
+        assertEquals(98, JdkMath.convertNanosToMicros("98765").longValue(), "Nanos not converted to microseconds.");
+    }
+
+    @Test
+    void testParseSameAsBigDecimal() {
+        for (String secs : new String[] { "0", "0.0", "7", "0.0123", ".5", "5.", "12.3456789012", "+3.25",
+                "123456789.123456789", "92233720368.54775807" }) {
+            assertEquals(new BigDecimal(secs).movePointRight(9).setScale(0, RoundingMode.DOWN).longValue(),
+                    JdkMath.parseSecsToNanos(secs), secs + " not converted to nanoseconds.");
+        }
+    }
+
+    @Test
+    void testParseWholeNumber() {
+        assertEquals(3000000, JdkMath.parseMillisToNanos("3"), "Millis not converted to nanoseconds.");
+        assertEquals(23521300, JdkMath.parseSecsToNanos("0.0235213"), "Secs not converted to nanoseconds.");
+    }
+
     @Test
     void testRoundMillis() {
         String millis = "2.169";
@@ -34,6 +34,7 @@ import org.eclipselabs.garbagecat.domain.jdk.unified.UnifiedG1YoungPauseEvent;
 import org.eclipselabs.garbagecat.domain.jdk.unified.UnifiedSafepointEvent;
 import org.eclipselabs.garbagecat.util.Memory;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil.CollectorFamily;
+import org.eclipselabs.garbagecat.util.jdk.JdkUtil.EventType;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.function.Executable;
 
@@ -390,6 +391,21 @@ class TestJdkUtil {
                 "Decorator not parsed correctly.");
     }
 
+    @Test
+    void testIsUnifiedDecorated() {
+        assertTrue(JdkUtil.isUnifiedDecorated("[0.052s][info][gc] Something unexpected"),
+                "Uptime decorator not identified.");
+        assertTrue(JdkUtil.isUnifiedDecorated("[2020-02-14T15:21:55.207-0500][info][gc] Something unexpected"),
+                "Datestamp decorator not identified.");
+        assertFalse(JdkUtil.isUnifiedDecorated("[GC (Allocation Failure) 1234K->567K(8192K), 0.0012345 secs]"),
+                "Legacy log line identified as unified.");
+        assertFalse(JdkUtil.isUnifiedDecorated("123.456: [GC remark, 0.0010683 secs]"),
+                "Legacy log line identified as unified.");
+        assertEquals(EventType.UNKNOWN,
+                JdkUtil.identifyEventType("[0.052s][info][gc] Something unexpected", null, CollectorFamily.UNKNOWN),
+                "Unified log line not identified as unknown.");
+    }
+
     /**
      * Test small overlap of .001 is not reported.
      */
@@ -12,6 +12,7 @@
  *********************************************************************************************************************/
 package org.eclipselabs.garbagecat.util.jdk.unified;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -23,6 +24,21 @@ import org.junit.jupiter.api.Test;
  */
 public class TestUnifiedSafepoint {
 
+    @Test
+    public void testTriggerFromLiteral() {
+        UnifiedSafepoint.Trigger[] triggers = UnifiedSafepoint.Trigger.values();
+        for (int i = 0; i < triggers.length; i++) {
+            if (!triggers[i].equals(UnifiedSafepoint.Trigger.UNKNOWN)) {
+                assertEquals(triggers[i], UnifiedSafepoint.getTrigger(UnifiedSafepoint.getTriggerLiteral(triggers[i])),
+                        triggers[i].name() + " not identified from literal.");
+            }
+        }
+        assertEquals(UnifiedSafepoint.Trigger.UNKNOWN, UnifiedSafepoint.getTrigger("NotATrigger"),
+                "Unknown literal not identified.");
+        assertEquals(UnifiedSafepoint.Trigger.UNKNOWN, UnifiedSafepoint.identifyTrigger("NOT_A_TRIGGER"),
+                "Unknown trigger not identified.");
+    }
+
     @Test
     public void testTriggerIdentity() {
         UnifiedSafepoint.Trigger[] triggers = UnifiedSafepoint.Trigger.values();
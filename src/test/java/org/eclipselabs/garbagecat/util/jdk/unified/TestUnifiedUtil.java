@@ -12,14 +12,20 @@
  *********************************************************************************************************************/
 package org.eclipselabs.garbagecat.util.jdk.unified;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
 import java.util.List;
 
+import org.eclipselabs.garbagecat.domain.LogEvent;
+import org.eclipselabs.garbagecat.domain.jdk.unified.UnifiedYoungEvent;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
+import org.eclipselabs.garbagecat.util.jdk.JdkUtil.CollectorFamily;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil.EventType;
+import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedUtil.MessageKeyword;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -28,6 +34,85 @@ import org.junit.jupiter.api.Test;
  */
 class TestUnifiedUtil {
 
+    @Test
+    void testIdentifyEventTypeCollectorFamily() {
+        String logLine = "[9.602s][info][gc] GC(569) Pause Young (Allocation Failure) 32M->12M(38M) 1.812ms";
+        assertEquals(EventType.UNIFIED_YOUNG, UnifiedUtil.identifyEventType(logLine, null, CollectorFamily.UNKNOWN),
+                JdkUtil.EventType.UNIFIED_YOUNG.toString() + " not identified.");
+        assertEquals(EventType.UNIFIED_YOUNG, UnifiedUtil.identifyEventType(logLine, null, CollectorFamily.G1),
+                JdkUtil.EventType.UNIFIED_YOUNG.toString() + " not identified.");
+    }
+
+    @Test
+    void testIdentifyEventTypeConcurrent() {
+        String logLine = "[0.082s][info][gc] GC(1) Concurrent Mark 1.972ms";
+        assertEquals(EventType.UNIFIED_CONCURRENT, UnifiedUtil.identifyEventType(logLine, null, CollectorFamily.CMS),
+                JdkUtil.EventType.UNIFIED_CONCURRENT.toString() + " not identified.");
+    }
+
+    @Test
+    void testMessageKeywordConcurrent() {
+        String logLine = "[0.082s][info][gc] GC(1) Concurrent Mark 1.972ms";
+        assertEquals(MessageKeyword.CONCURRENT, UnifiedUtil.getMessageKeyword(logLine),
+                "Message keyword not identified.");
+    }
+
+    @Test
+    void testMessageKeywordDatestamp() {
+        String logLine = "[2020-02-14T15:21:55.207-0500][0.052s][info][gc,start    ] GC(0) Pause Full (System.gc())";
+        assertEquals(MessageKeyword.PAUSE_FULL, UnifiedUtil.getMessageKeyword(logLine),
+                "Message keyword not identified.");
+    }
+
+    @Test
+    void testMessageKeywordNoGcNumber() {
+        String logLine = "[0.004s][info][gc,init] Version: 17.0.1+12-LTS (release)";
+        assertEquals(MessageKeyword.OTHER, UnifiedUtil.getMessageKeyword(logLine), "Message keyword not identified.");
+    }
+
+    @Test
+    void testMessageKeywordNotUnified() {
+        String logLine = "Pause Young (Normal) (G1 Evacuation Pause)";
+        assertEquals(MessageKeyword.OTHER, UnifiedUtil.getMessageKeyword(logLine), "Message keyword not identified.");
+        assertEquals(MessageKeyword.OTHER, UnifiedUtil.getMessageKeyword(null), "Message keyword not identified.");
+    }
+
+    @Test
+    void testMessageKeywordPause() {
+        String logLine = "[0.101s][info][gc] GC(2) Pause Remark 7M->7M(10M) 0.617ms";
+        assertEquals(MessageKeyword.PAUSE, UnifiedUtil.getMessageKeyword(logLine), "Message keyword not identified.");
+    }
+
+    @Test
+    void testMessageKeywordPauseYoung() {
+        String logLine = "[0.112s][info][gc,start       ] GC(3) Pause Young (Normal) (G1 Evacuation Pause)";
+        assertEquals(MessageKeyword.PAUSE_YOUNG, UnifiedUtil.getMessageKeyword(logLine),
+                "Message keyword not identified.");
+    }
+
+    @Test
+    void testMessageKeywordSafepoint() {
+        String logLine = "[2021-09-14T11:40:53.379-0500][144.035s][info][safepoint   ] Entering safepoint region: "
+                + "CollectForMetadataAllocation";
+        assertEquals(MessageKeyword.SAFEPOINT, UnifiedUtil.getMessageKeyword(logLine),
+                "Message keyword not identified.");
+        logLine = "[1.708s] JDK17U8 Safepoint \"G1CollectForAllocation\", Time since last: 11990384 ns";
+        assertEquals(MessageKeyword.SAFEPOINT, UnifiedUtil.getMessageKeyword(logLine),
+                "Message keyword not identified.");
+    }
+
+    @Test
+    void testParseLogLine() {
+        String logLine = "[9.602s][info][gc] GC(569) Pause Young (Allocation Failure) 32M->12M(38M) 1.812ms";
+        LogEvent event = UnifiedUtil.parseLogLine(logLine, null, CollectorFamily.UNKNOWN);
+        assertTrue(event instanceof UnifiedYoungEvent,
+                JdkUtil.EventType.UNIFIED_YOUNG.toString() + " not parsed.");
+        assertEquals(9601, event.getTimestamp(), "Time stamp not parsed correctly.");
+        assertEquals(1812, ((UnifiedYoungEvent) event).getDurationMicros(), "Duration not parsed correctly.");
+        assertNull(UnifiedUtil.parseLogLine("Pause Young", null, CollectorFamily.UNKNOWN),
+                "Log line incorrectly parsed.");
+    }
+
     @Test
     void testUnifiedCmsConcurrentIsUnifiedLogging() {
         List<EventType> eventTypes = new ArrayList<EventType>();